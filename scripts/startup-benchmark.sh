@@ -0,0 +1,67 @@
+#!/usr/bin/env bash
+# 启动时间对比：默认配置 / fast-start 配置 / fast-start + AppCDS
+# 统计从进程启动到 /api/students/1 首次返回 200 的时间，每种方式运行多次取中位数。
+#
+# 用法：mvn -B package -Pcds -DskipTests && scripts/startup-benchmark.sh [次数]
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${PORT:-18080}"
+CDS_DIR="$(cd "$(dirname "$0")/.." && pwd)/target/cds"
+# AppCDS 校验类路径时按训练时的写法比较，必须和训练运行一样在 target/cds 下以相对路径启动
+JAR="$(cd "$CDS_DIR" 2>/dev/null && ls *-cds.jar 2>/dev/null | head -n 1 || true)"
+
+if [[ -z "$JAR" || ! -f "$CDS_DIR/app.jsa" ]]; then
+    echo "未找到 $CDS_DIR 下的 jar 或 app.jsa，请先执行 mvn -B package -Pcds -DskipTests" >&2
+    exit 1
+fi
+
+WORK_DIR="$(mktemp -d)"
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+now_ms() {
+    date +%s%3N
+}
+
+# 启动一次应用，输出到首个 200 响应的毫秒数；参数格式：[JVM参数...] -- [应用参数...]
+measure_once() {
+    local start pid jvm_args=() app_args=()
+    while [[ $# -gt 0 && "$1" != "--" ]]; do
+        jvm_args+=("$1")
+        shift
+    done
+    [[ $# -gt 0 ]] && shift
+    app_args=("$@")
+    start="$(now_ms)"
+    (cd "$CDS_DIR" && exec java ${jvm_args[@]+"${jvm_args[@]}"} -Dfile.encoding=UTF-8 -jar "$JAR" \
+        --server.port="$PORT" ${app_args[@]+"${app_args[@]}"} > "$WORK_DIR/app.out" 2>&1) &
+    pid=$!
+    until curl -sf -o /dev/null "http://localhost:$PORT/api/students/1"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "应用启动失败：" >&2
+            cat "$WORK_DIR/app.out" >&2
+            exit 1
+        fi
+        sleep 0.02
+    done
+    echo $(( $(now_ms) - start ))
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+}
+
+run_mode() {
+    local name="$1"
+    shift
+    local samples=()
+    for ((i = 0; i < RUNS; i++)); do
+        samples+=("$(measure_once "$@")")
+    done
+    local sorted
+    sorted="$(printf '%s\n' "${samples[@]}" | sort -n)"
+    printf '%-28s 中位数 %6s ms   (%s)\n' "$name" \
+        "$(echo "$sorted" | sed -n "$(( (RUNS + 1) / 2 ))p")" "$(echo "$sorted" | tr '\n' ' ')"
+}
+
+run_mode "默认配置"
+run_mode "fast-start" -- --spring.profiles.active=fast-start
+run_mode "fast-start + AppCDS" -XX:SharedArchiveFile=app.jsa -Xshare:on -Xlog:cds=off -- --spring.profiles.active=fast-start
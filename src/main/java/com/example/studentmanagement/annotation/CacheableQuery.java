@@ -0,0 +1,27 @@
+package com.example.studentmanagement.annotation;
+
+import com.example.studentmanagement.entity.Student;
+import org.hibernate.annotations.QueryHints;
+
+import javax.persistence.QueryHint;
+import java.lang.annotation.*;
+
+/**
+ * 查询缓存注解
+ * 
+ * 标注在只读的仓库查询方法上，查询结果（实体ID列表或标量结果）缓存到学生查询缓存区域，
+ * 相同参数的再次查询不访问数据库；students 表有写入时由 Hibernate 判定失效。
+ * 分页查询的 COUNT 语句同样缓存。
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@org.springframework.data.jpa.repository.QueryHints({
+        @QueryHint(name = QueryHints.CACHEABLE, value = "true"),
+        @QueryHint(name = QueryHints.CACHE_REGION, value = Student.QUERY_CACHE_REGION)
+})
+public @interface CacheableQuery {
+}
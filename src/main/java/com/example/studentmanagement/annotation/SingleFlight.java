@@ -0,0 +1,19 @@
+package com.example.studentmanagement.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 请求合并注解
+ * 
+ * 标注在只读方法上，参数相同的并发调用只会真正执行一次，
+ * 其余调用等待并共享同一个执行结果（或异常）。
+ * 返回值会被多个调用方共享，调用方不应修改返回的对象。
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SingleFlight {
+}
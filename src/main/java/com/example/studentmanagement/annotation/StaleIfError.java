@@ -0,0 +1,21 @@
+package com.example.studentmanagement.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 过期数据兜底注解（语义同 HTTP 的 stale-if-error）
+ * 
+ * 标注在只读方法上，每次成功调用后按"方法签名 + 参数"保存结果；
+ * 只有数据库故障或熔断器打开时才返回最近一次成功的结果，响应带 Warning 和 Age 头标明数据已过期。
+ * 正常情况下每次调用都查询数据库，不会先返回旧结果再在后台刷新；
+ * 数据库恢复后的下一次调用重新查询并刷新保存的结果。
+ * 返回值会被多个调用方共享，调用方不应修改返回的对象。
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface StaleIfError {
+}
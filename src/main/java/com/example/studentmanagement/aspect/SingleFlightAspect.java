@@ -0,0 +1,137 @@
+package com.example.studentmanagement.aspect;
+
+import com.example.studentmanagement.annotation.SingleFlight;
+import com.example.studentmanagement.config.ReadWriteRoutingDataSource;
+import com.example.studentmanagement.resilience.QueryTimeouts;
+import com.example.studentmanagement.util.SingleFlightGroup;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionAttributeSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 请求合并切面
+ * 
+ * 拦截 {@link SingleFlight} 标注的方法，以"方法签名 + 参数"为键合并并发的相同调用。
+ * 切面优先级高于事务切面，被合并的调用不会各自开启事务、占用数据库连接。
+ * 
+ * 合并发生在事务和读写路由之外，因此以下调用不参与合并、直接执行：
+ * 已在事务内的调用（可能读到本事务未提交的修改），以及处于读己之写窗口内的请求
+ * （需要走主库，不能复用其他请求从副本读到的结果）。
+ * 等待者最多等待该方法的事务超时（见 {@link QueryTimeouts}），超时抛出 {@link QueryTimeoutException}。
+ * 合并情况通过指标 student.singleflight.calls（result=executed/shared/bypassed）暴露。
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(prefix = "app.single-flight", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SingleFlightAspect {
+
+    private static final String METRIC_NAME = "student.singleflight.calls";
+
+    private final SingleFlightGroup group = new SingleFlightGroup();
+    private final MeterRegistry meterRegistry;
+    private final TransactionAttributeSource transactionAttributeSource;
+    private final ObjectProvider<DataSource> dataSources;
+    private final long defaultTimeoutMillis;
+    private final Map<String, Counter[]> counters = new ConcurrentHashMap<>();
+    private final Map<Method, Long> timeouts = new ConcurrentHashMap<>();
+    private volatile ReadWriteRoutingDataSource routingDataSource;
+    private volatile boolean routingResolved;
+
+    public SingleFlightAspect(MeterRegistry meterRegistry, TransactionAttributeSource transactionAttributeSource,
+                              ObjectProvider<DataSource> dataSources,
+                              @Value(QueryTimeouts.SCAN) int defaultTimeoutSeconds) {
+        this.meterRegistry = meterRegistry;
+        this.transactionAttributeSource = transactionAttributeSource;
+        this.dataSources = dataSources;
+        this.defaultTimeoutMillis = TimeUnit.SECONDS.toMillis(defaultTimeoutSeconds);
+        Gauge.builder("student.singleflight.inflight", group, SingleFlightGroup::inFlightCount)
+                .description("正在执行中的合并调用数")
+                .register(meterRegistry);
+    }
+
+    @Around("@annotation(singleFlight)")
+    public Object coalesce(ProceedingJoinPoint joinPoint, SingleFlight singleFlight) throws Throwable {
+        String method = joinPoint.getSignature().toShortString();
+        if (TransactionSynchronizationManager.isActualTransactionActive() || readsOwnWrites()) {
+            countersFor(method)[2].increment();
+            return joinPoint.proceed();
+        }
+        Object key = Arrays.asList(method, Arrays.asList(joinPoint.getArgs()));
+
+        SingleFlightGroup.Result<Object> result;
+        try {
+            result = group.execute(key, joinPoint::proceed,
+                    timeoutOf(((MethodSignature) joinPoint.getSignature()).getMethod(), joinPoint.getTarget()));
+        } catch (TimeoutException ex) {
+            throw new QueryTimeoutException("等待合并调用的结果超时: " + method, ex);
+        }
+        countersFor(method)[result.isShared() ? 1 : 0].increment();
+        return result.getValue();
+    }
+
+    /**
+     * 等待者的超时（毫秒），取方法的事务超时，未设置时取扫描类查询的超时
+     */
+    private long timeoutOf(Method method, Object target) {
+        return timeouts.computeIfAbsent(method, m -> {
+            TransactionAttribute attribute = transactionAttributeSource.getTransactionAttribute(m, target.getClass());
+            return attribute != null && attribute.getTimeout() > 0
+                    ? TimeUnit.SECONDS.toMillis(attribute.getTimeout())
+                    : defaultTimeoutMillis;
+        });
+    }
+
+    /**
+     * 当前请求是否处于读写分离的读己之写窗口内；未启用读写分离时返回false
+     */
+    private boolean readsOwnWrites() {
+        if (!routingResolved) {
+            DataSource dataSource = dataSources.getIfUnique();
+            if (dataSource instanceof LazyConnectionDataSourceProxy) {
+                dataSource = ((LazyConnectionDataSourceProxy) dataSource).getTargetDataSource();
+            }
+            routingDataSource = dataSource instanceof ReadWriteRoutingDataSource
+                    ? (ReadWriteRoutingDataSource) dataSource : null;
+            routingResolved = true;
+        }
+        return routingDataSource != null && routingDataSource.withinReadYourWritesWindow();
+    }
+
+    private Counter[] countersFor(String method) {
+        return counters.computeIfAbsent(method, name -> new Counter[]{
+                Counter.builder(METRIC_NAME).tag("method", name).tag("result", "executed")
+                        .description("实际执行的调用数").register(meterRegistry),
+                Counter.builder(METRIC_NAME).tag("method", name).tag("result", "shared")
+                        .description("复用其他调用结果而被合并掉的调用数").register(meterRegistry),
+                Counter.builder(METRIC_NAME).tag("method", name).tag("result", "bypassed")
+                        .description("在事务内或读己之写窗口内而未参与合并的调用数").register(meterRegistry)
+        });
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.studentmanagement.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.List;
+
+/**
+ * AppCDS 训练运行器
+ * 
+ * 设置 app.cds.training=true 后生效（由 mvn package -Pcds 的训练运行传入）：应用启动完成后
+ * 依次请求 app.cds.warmup-paths 中的接口，使首个请求用到的类（Tomcat、Spring MVC、Jackson、
+ * Hibernate 查询等）也被加载，然后正常退出，JVM 退出时把已加载的类写入 CDS 归档。
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.cds", name = "training", havingValue = "true")
+public class CdsTrainingRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(CdsTrainingRunner.class);
+
+    private final ConfigurableApplicationContext context;
+    private final Environment environment;
+    private final List<String> warmupPaths;
+
+    public CdsTrainingRunner(ConfigurableApplicationContext context,
+                             Environment environment,
+                             @Value("${app.cds.warmup-paths:/api/students/1}") List<String> warmupPaths) {
+        this.context = context;
+        this.environment = environment;
+        this.warmupPaths = warmupPaths;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String port = environment.getProperty("local.server.port", "8080");
+        for (String path : warmupPaths) {
+            try {
+                HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + path)
+                        .openConnection();
+                int status = connection.getResponseCode();
+                try (InputStream body = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+                    if (body != null) {
+                        body.readAllBytes();
+                    }
+                }
+                log.info("CDS训练请求: {} -> {}", path, status);
+            } catch (IOException ex) {
+                log.warn("CDS训练请求失败: {}", path, ex);
+            }
+        }
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.studentmanagement.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.boot.web.servlet.MultipartConfigFactory;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+
+/**
+ * CSV导入上传大小配置
+ * 
+ * 文件上传大小限制按Servlet生效：主 DispatcherServlet 使用 spring.servlet.multipart 的全局限制，
+ * CSV导入接口单独注册一个共用同一应用上下文的 DispatcherServlet，上传限制为 app.csv.max-upload-size。
+ * 其他接口收到超过全局限制的上传请求时直接返回413，不会把请求体写入临时文件。
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class CsvImportServletConfig {
+
+    /** CSV导入接口路径 */
+    public static final String IMPORT_PATH = "/api/students/import";
+
+    @Bean
+    public ServletRegistrationBean<DispatcherServlet> csvImportServlet(
+            WebApplicationContext applicationContext,
+            MultipartProperties multipartProperties,
+            @Value("${app.csv.max-upload-size:1GB}") DataSize maxUploadSize) {
+        ServletRegistrationBean<DispatcherServlet> registration =
+                new ServletRegistrationBean<>(new DispatcherServlet(applicationContext), IMPORT_PATH);
+        registration.setName("csvImportDispatcherServlet");
+        registration.setLoadOnStartup(1);
+
+        MultipartConfigFactory factory = new MultipartConfigFactory();
+        factory.setLocation(multipartProperties.getLocation());
+        factory.setFileSizeThreshold(multipartProperties.getFileSizeThreshold());
+        factory.setMaxFileSize(maxUploadSize);
+        factory.setMaxRequestSize(maxUploadSize);
+        registration.setMultipartConfig(factory.createMultipartConfig());
+        return registration;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.studentmanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 读写分离数据源配置
+ * 
+ * 设置 app.datasource.routing.enabled=true 后生效：主库沿用 spring.datasource 配置，
+ * 副本来自 app.datasource.replicas。未启用时使用 Spring Boot 自动配置的单一数据源。
+ * 启用读己之写窗口时，写事务提交后经过一个窗口再次失效缓存（见 {@link ReplicaLagCacheEvictor}）。
+ * 设置 app.datasource.local-sync-interval 后，副本（须为H2）由 {@link H2ReplicaSynchronizer} 从主库定期同步。
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 DataSourceProperties primaryProperties,
+                                 RoutingDataSourceProperties routingProperties) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReadWriteRoutingDataSource.PRIMARY, primaryDataSource);
+
+        List<String> replicaKeys = new ArrayList<>();
+        List<RoutingDataSourceProperties.Replica> replicas = routingProperties.getReplicas();
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = "replica-" + i;
+            targets.put(key, createReplica(key, replicas.get(i), primaryProperties));
+            replicaKeys.add(key);
+        }
+
+        ReadWriteRoutingDataSource routingDataSource =
+                new ReadWriteRoutingDataSource(replicaKeys, routingProperties.getReadYourWritesWindow());
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnExpression("${app.datasource.read-your-writes-window:0} > 0")
+    public ReplicaLagCacheEvictor replicaLagCacheEvictor(EntityManagerFactory entityManagerFactory,
+                                                         ApplicationEventPublisher eventPublisher,
+                                                         RoutingDataSourceProperties routingProperties) {
+        return new ReplicaLagCacheEvictor(entityManagerFactory.unwrap(SessionFactory.class), eventPublisher,
+                routingProperties.getReadYourWritesWindow());
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnExpression("${app.datasource.local-sync-interval:0} > 0")
+    public H2ReplicaSynchronizer h2ReplicaSynchronizer(DataSourceProperties primaryProperties,
+                                                       RoutingDataSourceProperties routingProperties) {
+        for (RoutingDataSourceProperties.Replica replica : routingProperties.getReplicas()) {
+            if (replica.getUrl() == null || !replica.getUrl().startsWith("jdbc:h2:")) {
+                throw new IllegalStateException("本地副本同步只支持H2副本: " + replica.getUrl());
+            }
+        }
+        DataSource primary = new DriverManagerDataSource(primaryProperties.determineUrl(),
+                primaryProperties.determineUsername(), primaryProperties.determinePassword());
+        List<DataSource> replicas = routingProperties.getReplicas().stream()
+                .map(replica -> new DriverManagerDataSource(replica.getUrl(),
+                        replica.getUsername() != null ? replica.getUsername() : primaryProperties.determineUsername(),
+                        replica.getPassword() != null ? replica.getPassword() : primaryProperties.determinePassword()))
+                .collect(Collectors.toList());
+        return new H2ReplicaSynchronizer(primary, replicas, routingProperties.getLocalSyncInterval());
+    }
+
+    private HikariDataSource createReplica(String key, RoutingDataSourceProperties.Replica replica,
+                                           DataSourceProperties primaryProperties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(key);
+        dataSource.setDriverClassName(primaryProperties.determineDriverClassName());
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername() != null
+                ? replica.getUsername() : primaryProperties.determineUsername());
+        dataSource.setPassword(replica.getPassword() != null
+                ? replica.getPassword() : primaryProperties.determinePassword());
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
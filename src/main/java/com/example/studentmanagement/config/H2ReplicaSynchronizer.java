@@ -0,0 +1,177 @@
+package com.example.studentmanagement.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 本地H2副本同步器（仅用于本地调试读写分离）
+ *
+ * 应用启动完成后把主库的表结构复制到各副本，之后按固定间隔整表复制数据，模拟带延迟的异步复制。
+ * 每张表在副本的一个事务内先清空再写入，副本上的只读事务看到的始终是某次同步提交后的完整数据。
+ * 副本关闭外键检查，表的写入顺序不受约束。读写两端都使用独立的非池化连接，不改动连接池中连接的会话设置。
+ * 生产环境的副本由数据库自身的复制机制维护，不应开启。
+ *
+ * @author System
+ * @version 1.0
+ */
+public class H2ReplicaSynchronizer implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(H2ReplicaSynchronizer.class);
+
+    private static final String LIST_TABLES_SQL = "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+            + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE' ORDER BY TABLE_NAME";
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final long intervalMillis;
+    private final ScheduledExecutorService scheduler;
+
+    public H2ReplicaSynchronizer(DataSource primary, List<DataSource> replicas, long intervalMillis) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.intervalMillis = intervalMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "h2-replica-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 主库建表和初始化数据在启动阶段完成，此时复制表结构并开始定时同步
+     */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        try {
+            copySchema();
+            sync();
+        } catch (SQLException e) {
+            throw new IllegalStateException("初始化本地H2副本失败", e);
+        }
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                sync();
+            } catch (Exception e) {
+                log.warn("同步本地H2副本失败: {}", e.toString());
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("本地H2副本同步已启动，副本数: {}，间隔: {}ms", replicas.size(), intervalMillis);
+    }
+
+    /**
+     * 把主库当前已提交的全部数据复制到各副本
+     *
+     * @throws SQLException 读取主库或写入副本失败
+     */
+    public synchronized void sync() throws SQLException {
+        try (Connection source = primary.getConnection()) {
+            // 快照隔离：各表读到的是同一时刻的数据
+            try (Statement statement = source.createStatement()) {
+                statement.execute("SET SESSION CHARACTERISTICS AS TRANSACTION ISOLATION LEVEL SNAPSHOT");
+            }
+            source.setAutoCommit(false);
+            try {
+                List<String> tables = listTables(source);
+                for (DataSource replica : replicas) {
+                    try (Connection target = replica.getConnection()) {
+                        copyData(source, target, tables);
+                    }
+                }
+            } finally {
+                source.rollback();
+                source.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * 停止定时同步
+     */
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void copySchema() throws SQLException {
+        List<String> ddl = new ArrayList<>();
+        try (Connection source = primary.getConnection();
+             Statement statement = source.createStatement();
+             ResultSet rs = statement.executeQuery("SCRIPT NODATA NOSETTINGS")) {
+            while (rs.next()) {
+                String sql = rs.getString(1);
+                if (!sql.startsWith("--") && !sql.startsWith("CREATE USER")) {
+                    ddl.add(sql);
+                }
+            }
+        }
+        for (DataSource replica : replicas) {
+            try (Connection target = replica.getConnection();
+                 Statement statement = target.createStatement()) {
+                statement.execute("DROP ALL OBJECTS");
+                for (String sql : ddl) {
+                    statement.execute(sql);
+                }
+                statement.execute("SET REFERENTIAL_INTEGRITY FALSE");
+            }
+        }
+    }
+
+    private static List<String> listTables(Connection source) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (Statement statement = source.createStatement();
+             ResultSet rs = statement.executeQuery(LIST_TABLES_SQL)) {
+            while (rs.next()) {
+                tables.add(rs.getString(1));
+            }
+        }
+        return tables;
+    }
+
+    private static void copyData(Connection source, Connection target, List<String> tables) throws SQLException {
+        target.setAutoCommit(false);
+        try {
+            for (String table : tables) {
+                String quoted = "\"" + table + "\"";
+                try (Statement delete = target.createStatement()) {
+                    delete.executeUpdate("DELETE FROM " + quoted);
+                }
+                try (Statement select = source.createStatement();
+                     ResultSet rs = select.executeQuery("SELECT * FROM " + quoted)) {
+                    int columns = rs.getMetaData().getColumnCount();
+                    StringBuilder insert = new StringBuilder("INSERT INTO ").append(quoted).append(" VALUES (");
+                    for (int i = 0; i < columns; i++) {
+                        insert.append(i == 0 ? "?" : ", ?");
+                    }
+                    try (PreparedStatement ps = target.prepareStatement(insert.append(')').toString())) {
+                        while (rs.next()) {
+                            for (int i = 1; i <= columns; i++) {
+                                ps.setObject(i, rs.getObject(i));
+                            }
+                            ps.addBatch();
+                        }
+                        ps.executeBatch();
+                    }
+                }
+            }
+            target.commit();
+        } catch (SQLException e) {
+            target.rollback();
+            throw e;
+        } finally {
+            target.setAutoCommit(true);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.studentmanagement.config;
+
+import javax.persistence.EntityManagerFactory;
+
+import com.example.studentmanagement.invalidation.CacheInvalidationBus;
+import com.example.studentmanagement.invalidation.InvalidationTransport;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.sql.init.AbstractScriptDatabaseInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 延迟初始化配置
+ * 
+ * 开启 spring.main.lazy-initialization（fast-start 配置）时，没有被其他Bean依赖的初始化类Bean不会被创建。
+ * 此处列出仍需在启动阶段创建的Bean：EntityManagerFactory 和初始化数据脚本。
+ * data.sql 依赖 Hibernate 先建表（defer-datasource-initialization），两者都必须在启动阶段完成。
+ * 跨实例缓存失效总线也必须在启动阶段开始接收，否则本实例首次发布消息之前其他实例的失效消息都会丢失。
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+public class LazyInitializationConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerDatabaseInitialization() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                AbstractScriptDatabaseInitializer.class, EntityManagerFactory.class,
+                CacheInvalidationBus.class, InvalidationTransport.class);
+    }
+}
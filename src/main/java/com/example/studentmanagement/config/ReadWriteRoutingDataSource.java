@@ -0,0 +1,155 @@
+package com.example.studentmanagement.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 读写分离路由数据源
+ * 
+ * 只读事务（{@code @Transactional(readOnly = true)}）在各副本间轮询，其余连接全部走主库。
+ * 事务开启时事务管理器就会获取连接，此时只读标记尚未设置，
+ * 因此必须包装在 LazyConnectionDataSourceProxy 中，推迟到第一条语句执行时再路由。
+ * 
+ * 启用读己之写窗口后，Web请求内的写事务提交时在响应上设置Cookie {@value #LAST_WRITE_COOKIE}（提交时间，毫秒），
+ * 有效期为窗口长度。客户端在窗口期内带着该Cookie发出的请求（以及写入所在请求本身）的只读事务也走主库，
+ * 避免刚创建或修改的学生因复制延迟在副本上读不到；其他客户端的读请求不受影响，仍走副本。
+ * 不使用浏览器的客户端需自行回传该Cookie。不在Web请求内的写事务（如后台任务）不记录窗口。
+ * 各实例按本机时钟判断窗口，实例间的时钟偏差应远小于窗口长度。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    /** 最近一次写事务提交时间（毫秒）的Cookie名 */
+    public static final String LAST_WRITE_COOKIE = "LAST_WRITE";
+
+    private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    private static final Object WRITE_TRACKED_KEY = new Object();
+
+    /** 当前请求内最近一次写事务提交时间（毫秒），请求属性 */
+    static final String LAST_WRITE_COMMIT_ATTRIBUTE = ReadWriteRoutingDataSource.class.getName() + ".LAST_WRITE_COMMIT";
+
+    private final List<String> replicaKeys;
+    private final long readYourWritesWindowMillis;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(List<String> replicaKeys, long readYourWritesWindowMillis) {
+        this.replicaKeys = replicaKeys;
+        this.readYourWritesWindowMillis = readYourWritesWindowMillis;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (replicaKeys.isEmpty() || withinReadYourWritesWindow()) {
+                return PRIMARY;
+            }
+            String replica = replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+            log.trace("只读事务路由到副本: {}", replica);
+            return replica;
+        }
+
+        trackWriteCommit();
+        return PRIMARY;
+    }
+
+    /**
+     * 当前请求是否处于读己之写窗口内（只读事务需要走主库）
+     * 
+     * @return 窗口内返回true；未启用窗口或不在Web请求内返回false
+     */
+    public boolean withinReadYourWritesWindow() {
+        if (readYourWritesWindowMillis <= 0) {
+            return false;
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return false;
+        }
+        Long lastWriteCommitMillis = (Long) attributes.getAttribute(LAST_WRITE_COMMIT_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        if (lastWriteCommitMillis == null && attributes instanceof ServletRequestAttributes) {
+            lastWriteCommitMillis = lastWriteFromCookie(((ServletRequestAttributes) attributes).getRequest());
+        }
+        if (lastWriteCommitMillis == null) {
+            return false;
+        }
+        long elapsed = System.currentTimeMillis() - lastWriteCommitMillis;
+        // 允许少量负值（实例间时钟偏差），伪造的远期时间不延长窗口
+        return elapsed < readYourWritesWindowMillis && elapsed > -readYourWritesWindowMillis;
+    }
+
+    /**
+     * 在当前写事务上注册提交回调，把提交时间记在当前请求上并通过Cookie返回给客户端
+     */
+    private void trackWriteCommit() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (readYourWritesWindowMillis <= 0
+                || attributes == null
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_TRACKED_KEY)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WRITE_TRACKED_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                long committedAt = System.currentTimeMillis();
+                attributes.setAttribute(LAST_WRITE_COMMIT_ATTRIBUTE, committedAt, RequestAttributes.SCOPE_REQUEST);
+                if (attributes instanceof ServletRequestAttributes) {
+                    addLastWriteCookie(((ServletRequestAttributes) attributes).getResponse(), committedAt);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_TRACKED_KEY);
+            }
+        });
+    }
+
+    private void addLastWriteCookie(HttpServletResponse response, long committedAt) {
+        if (response == null || response.isCommitted()) {
+            return;
+        }
+        Cookie cookie = new Cookie(LAST_WRITE_COOKIE, Long.toString(committedAt));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(readYourWritesWindowMillis + 999)));
+        response.addCookie(cookie);
+    }
+
+    private static Long lastWriteFromCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (LAST_WRITE_COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException ex) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+}
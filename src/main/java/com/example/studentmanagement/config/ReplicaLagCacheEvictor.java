@@ -0,0 +1,68 @@
+package com.example.studentmanagement.config;
+
+import com.example.studentmanagement.entity.Student;
+import com.example.studentmanagement.event.StudentCacheInvalidationEvent;
+import com.example.studentmanagement.event.StudentsChangedEvent;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 副本复制延迟期间的缓存延迟二次失效
+ *
+ * 写事务提交时Hibernate已使查询缓存失效，但其他会话的只读事务仍可能在副本追上之前读到旧数据
+ * （例如刚创建的学生查不到），并把旧结果重新写入查询缓存和实体缓存，副本追上后也不会再失效。
+ * 因此写事务提交后等待一个读己之写窗口（不小于复制延迟），再次失效涉及的缓存，
+ * 并发布 {@link StudentsChangedEvent} 让搜索建议等派生数据重新同步。
+ *
+ * @author System
+ * @version 1.0
+ */
+public class ReplicaLagCacheEvictor implements AutoCloseable {
+
+    private final SessionFactory sessionFactory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long delayMillis;
+    private final ScheduledExecutorService scheduler;
+
+    public ReplicaLagCacheEvictor(SessionFactory sessionFactory, ApplicationEventPublisher eventPublisher,
+                                  long delayMillis) {
+        this.sessionFactory = sessionFactory;
+        this.eventPublisher = eventPublisher;
+        this.delayMillis = delayMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-evict");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 写事务提交后安排二次失效
+     *
+     * @param event 缓存失效事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentCacheInvalidation(StudentCacheInvalidationEvent event) {
+        List<Long> studentIds = event.getStudentIds();
+        scheduler.schedule(() -> evict(studentIds), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void evict(List<Long> studentIds) {
+        Cache cache = sessionFactory.getCache();
+        studentIds.forEach(id -> cache.evictEntityData(Student.class, id));
+        cache.evictQueryRegions();
+        eventPublisher.publishEvent(StudentsChangedEvent.INSTANCE);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.studentmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 读写分离数据源配置
+ * 
+ * @author System
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "app.datasource")
+public class RoutingDataSourceProperties {
+
+    /** 只读副本列表，只读事务在其间轮询 */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * 写事务提交后的读己之写窗口（毫秒），窗口内同一请求以及带 LAST_WRITE Cookie 的后续请求的只读事务仍走主库，
+     * 应不小于副本的复制延迟；0 表示不启用
+     */
+    private long readYourWritesWindow = 0;
+
+    /**
+     * 本地H2副本的同步间隔（毫秒），开启后由 {@link H2ReplicaSynchronizer} 定期把主库数据复制到各副本，
+     * 仅用于本地调试；0 表示不同步（副本由数据库自身的复制机制维护）
+     */
+    private long localSyncInterval = 0;
+
+    /**
+     * 只读副本连接信息
+     */
+    public static class Replica {
+
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(List<Replica> replicas) {
+        this.replicas = replicas;
+    }
+
+    public long getReadYourWritesWindow() {
+        return readYourWritesWindow;
+    }
+
+    public void setReadYourWritesWindow(long readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    public long getLocalSyncInterval() {
+        return localSyncInterval;
+    }
+
+    public void setLocalSyncInterval(long localSyncInterval) {
+        this.localSyncInterval = localSyncInterval;
+    }
+}
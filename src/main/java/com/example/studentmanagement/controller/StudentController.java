@@ -1,12 +1,25 @@
 package com.example.studentmanagement.controller;
 
 import com.example.studentmanagement.dto.ApiResponse;
+import com.example.studentmanagement.dto.CrossTabDimension;
+import com.example.studentmanagement.dto.StudentBulkUpdateRequest;
+import com.example.studentmanagement.dto.PageResponse;
+import com.example.studentmanagement.dto.StudentCrossTabDTO;
 import com.example.studentmanagement.dto.StudentDTO;
+import com.example.studentmanagement.dto.StudentField;
+import com.example.studentmanagement.dto.StudentFuzzyMatchDTO;
+import com.example.studentmanagement.dto.StudentLookupRequest;
+import com.example.studentmanagement.dto.StudentLookupResult;
+import com.example.studentmanagement.dto.StudentSuggestDTO;
+import com.example.studentmanagement.dto.StudentSyncDTO;
+import com.example.studentmanagement.exception.StudentException;
+import com.example.studentmanagement.exception.StudentValidationException;
 import com.example.studentmanagement.service.StudentService;
+import com.example.studentmanagement.service.StudentSuggestService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -14,8 +27,11 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotEmpty;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -32,9 +48,15 @@ import java.util.Optional;
 @CrossOrigin(origins = "*")
 public class StudentController {
 
+    /** 交叉统计单次请求的最大分组数 */
+    private static final int MAX_GROUPING_SETS = 16;
+
     @Autowired
     private StudentService studentService;
 
+    @Autowired
+    private StudentSuggestService studentSuggestService;
+
     /**
      * 创建学生
      * 
@@ -47,9 +69,9 @@ public class StudentController {
             StudentDTO createdStudent = studentService.createStudent(studentDTO);
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body(ApiResponse.success("学生创建成功", createdStudent));
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.CONFLICT)
-                    .body(ApiResponse.conflict(e.getMessage()));
+        } catch (StudentException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ApiResponse.error(e.getStatus().value(), e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("创建学生失败: " + e.getMessage()));
@@ -72,6 +94,9 @@ public class StudentController {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body(ApiResponse.notFound("学生不存在，ID: " + id));
             }
+        } catch (StudentException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ApiResponse.error(e.getStatus().value(), e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("获取学生信息失败: " + e.getMessage()));
@@ -94,22 +119,61 @@ public class StudentController {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body(ApiResponse.notFound("学生不存在，学号: " + studentNumber));
             }
+        } catch (StudentException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ApiResponse.error(e.getStatus().value(), e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("获取学生信息失败: " + e.getMessage()));
         }
     }
 
+    /**
+     * 批量获取学生信息
+     * 
+     * @param request ID列表或学号列表（二选一）
+     * @return 按请求顺序排列的学生信息，未找到的位置为 null，并列出未找到的ID或学号
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<ApiResponse<StudentLookupResult<?>>> lookupStudents(@RequestBody StudentLookupRequest request) {
+        try {
+            boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+            boolean byNumbers = request.getStudentNumbers() != null && !request.getStudentNumbers().isEmpty();
+            if (byIds == byNumbers) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(ApiResponse.badRequest("ids 和 studentNumbers 必须且只能提供一个"));
+            }
+            StudentLookupResult<?> result = byIds
+                    ? studentService.lookupStudentsByIds(request.getIds())
+                    : studentService.lookupStudentsByStudentNumbers(request.getStudentNumbers());
+            return ResponseEntity.ok(ApiResponse.success(
+                    "批量获取学生信息成功，未找到 " + result.getMissing().size() + " 个", result));
+        } catch (StudentException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ApiResponse.error(e.getStatus().value(), e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("批量获取学生信息失败: " + e.getMessage()));
+        }
+    }
+
     /**
      * 获取所有学生信息
      * 
+     * @param fields 只返回的字段，逗号分隔（如 id,name,studentNumber,major），不传时返回全部字段
      * @return 学生列表
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<StudentDTO>>> getAllStudents() {
+    public ResponseEntity<ApiResponse<List<StudentDTO>>> getAllStudents(
+            @RequestParam(required = false) String fields) {
         try {
-            List<StudentDTO> students = studentService.getAllStudents();
+            List<StudentDTO> students = fields == null
+                    ? studentService.getAllStudents()
+                    : studentService.getAllStudentFields(parseFields(fields));
             return ResponseEntity.ok(ApiResponse.success("获取学生列表成功", students));
+        } catch (StudentException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ApiResponse.error(e.getStatus().value(), e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("获取学生列表失败: " + e.getMessage()));
@@ -123,19 +187,35 @@ public class StudentController {
      * @param size    每页大小
      * @param sortBy  排序字段
      * @param sortDir 排序方向
+     * @param withTotal 是否统计总数（不统计时省去COUNT查询）
+     * @param fields  只返回的字段，逗号分隔，不传时返回全部字段
      * @return 分页结果
      */
     @GetMapping("/page")
-    public ResponseEntity<ApiResponse<Page<StudentDTO>>> getStudentsWithPagination(
+    public ResponseEntity<ApiResponse<PageResponse<StudentDTO>>> getStudentsWithPagination(
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "10") @Min(1) int size,
             @RequestParam(defaultValue = "id") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDir) {
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            @RequestParam(required = false) String fields) {
         try {
             Sort sort = sortDir.equalsIgnoreCase("desc") ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
             Pageable pageable = PageRequest.of(page, size, sort);
-            Page<StudentDTO> students = studentService.getStudentsWithPagination(pageable);
-            return ResponseEntity.ok(ApiResponse.success("获取学生分页数据成功", students));
+            Slice<StudentDTO> students;
+            if (fields != null) {
+                students = withTotal
+                        ? studentService.searchStudentFields(parseFields(fields), null, null, null, pageable)
+                        : studentService.searchStudentFieldsSlice(parseFields(fields), null, null, null, pageable);
+            } else {
+                students = withTotal
+                        ? studentService.getStudentsWithPagination(pageable)
+                        : studentService.getStudentsSlice(pageable);
+            }
+            return ResponseEntity.ok(ApiResponse.success("获取学生分页数据成功", PageResponse.of(students)));
+        } catch (StudentException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ApiResponse.error(e.getStatus().value(), e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("获取学生分页数据失败: " + e.getMessage()));
@@ -152,28 +232,90 @@ public class StudentController {
      * @param size    每页大小
      * @param sortBy  排序字段
      * @param sortDir 排序方向
+     * @param withTotal 是否统计总数（不统计时省去COUNT查询）
+     * @param fields  只返回的字段，逗号分隔，不传时返回全部字段
      * @return 搜索结果
      */
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<Page<StudentDTO>>> searchStudents(
+    public ResponseEntity<ApiResponse<PageResponse<StudentDTO>>> searchStudents(
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String major,
             @RequestParam(required = false) String gender,
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "10") @Min(1) int size,
             @RequestParam(defaultValue = "id") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDir) {
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            @RequestParam(required = false) String fields) {
         try {
             Sort sort = sortDir.equalsIgnoreCase("desc") ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
             Pageable pageable = PageRequest.of(page, size, sort);
-            Page<StudentDTO> students = studentService.searchStudents(name, major, gender, pageable);
-            return ResponseEntity.ok(ApiResponse.success("搜索学生成功", students));
+            Slice<StudentDTO> students;
+            if (fields != null) {
+                students = withTotal
+                        ? studentService.searchStudentFields(parseFields(fields), name, major, gender, pageable)
+                        : studentService.searchStudentFieldsSlice(parseFields(fields), name, major, gender, pageable);
+            } else {
+                students = withTotal
+                        ? studentService.searchStudents(name, major, gender, pageable)
+                        : studentService.searchStudentsSlice(name, major, gender, pageable);
+            }
+            return ResponseEntity.ok(ApiResponse.success("搜索学生成功", PageResponse.of(students)));
+        } catch (StudentException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ApiResponse.error(e.getStatus().value(), e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("搜索学生失败: " + e.getMessage()));
         }
     }
 
+    /**
+     * 容错搜索学生姓名
+     * 
+     * 返回与输入姓名编辑距离不超过 maxDistance 的学生（如输入“张山”可找到“张三”），按距离升序，结果来自内存索引
+     * 
+     * @param name        姓名
+     * @param maxDistance 最大编辑距离（错字、漏字、多字各计1）
+     * @param limit       最多返回的学生数
+     * @return 匹配的学生
+     */
+    @GetMapping("/search/fuzzy")
+    public ResponseEntity<ApiResponse<List<StudentFuzzyMatchDTO>>> fuzzySearchStudents(
+            @RequestParam @NotBlank String name,
+            @RequestParam(defaultValue = "1") @Min(0) @Max(2) int maxDistance,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit) {
+        try {
+            List<StudentFuzzyMatchDTO> students = studentSuggestService.fuzzySearch(name, maxDistance, limit);
+            return ResponseEntity.ok(ApiResponse.success("容错搜索学生成功", students));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("容错搜索学生失败: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 搜索联想
+     * 
+     * 按前缀匹配学生姓名（汉字、全拼或首字母，如 zs、zhangs）、学号和专业名称，结果来自内存索引
+     * 
+     * @param q     用户输入
+     * @param limit 学生和专业各自最多返回的数量
+     * @return 联想结果
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<StudentSuggestDTO>> suggestStudents(
+            @RequestParam @NotBlank String q,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit) {
+        try {
+            StudentSuggestDTO suggestions = studentSuggestService.suggest(q, limit);
+            return ResponseEntity.ok(ApiResponse.success("获取搜索联想成功", suggestions));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("获取搜索联想失败: " + e.getMessage()));
+        }
+    }
+
     /**
      * 更新学生信息
      * 
@@ -188,20 +330,37 @@ public class StudentController {
         try {
             StudentDTO updatedStudent = studentService.updateStudent(id, studentDTO);
             return ResponseEntity.ok(ApiResponse.success("学生信息更新成功", updatedStudent));
-        } catch (RuntimeException e) {
-            if (e.getMessage().contains("不存在")) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body(ApiResponse.notFound(e.getMessage()));
-            } else {
-                return ResponseEntity.status(HttpStatus.CONFLICT)
-                        .body(ApiResponse.conflict(e.getMessage()));
-            }
+        } catch (StudentException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ApiResponse.error(e.getStatus().value(), e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("更新学生信息失败: " + e.getMessage()));
         }
     }
 
+    /**
+     * 批量更新学生信息
+     * 
+     * 例如专业更名：{"where": {"major": "旧专业"}, "set": {"major": "新专业"}}
+     * 
+     * @param request 更新条件（major、enrollmentYearFrom、enrollmentYearTo、ids）和更新内容
+     * @return 更新的学生数量
+     */
+    @PatchMapping("/bulk")
+    public ResponseEntity<ApiResponse<Integer>> bulkUpdateStudents(@Valid @RequestBody StudentBulkUpdateRequest request) {
+        try {
+            int updatedCount = studentService.bulkUpdateStudents(request);
+            return ResponseEntity.ok(ApiResponse.success("批量更新成功，共更新 " + updatedCount + " 个学生", updatedCount));
+        } catch (StudentException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ApiResponse.error(e.getStatus().value(), e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("批量更新学生失败: " + e.getMessage()));
+        }
+    }
+
     /**
      * 删除学生
      * 
@@ -218,9 +377,9 @@ public class StudentController {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body(ApiResponse.notFound("学生不存在，ID: " + id));
             }
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.notFound(e.getMessage()));
+        } catch (StudentException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ApiResponse.error(e.getStatus().value(), e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("删除学生失败: " + e.getMessage()));
@@ -238,6 +397,9 @@ public class StudentController {
         try {
             int deletedCount = studentService.deleteStudentsBatch(ids);
             return ResponseEntity.ok(ApiResponse.success("批量删除成功，共删除 " + deletedCount + " 个学生"));
+        } catch (StudentException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ApiResponse.error(e.getStatus().value(), e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("批量删除学生失败: " + e.getMessage()));
@@ -262,6 +424,9 @@ public class StudentController {
             }
             List<StudentDTO> students = studentService.getStudentsByAgeRange(minAge, maxAge);
             return ResponseEntity.ok(ApiResponse.success("根据年龄范围查询成功", students));
+        } catch (StudentException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ApiResponse.error(e.getStatus().value(), e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("根据年龄范围查询失败: " + e.getMessage()));
@@ -279,6 +444,9 @@ public class StudentController {
         try {
             boolean exists = studentService.existsByStudentNumber(studentNumber);
             return ResponseEntity.ok(ApiResponse.success("检查学号完成", exists));
+        } catch (StudentException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ApiResponse.error(e.getStatus().value(), e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("检查学号失败: " + e.getMessage()));
@@ -298,9 +466,112 @@ public class StudentController {
                     "countByMajor", studentService.getStudentCountByMajor(),
                     "countByGender", studentService.getStudentCountByGender());
             return ResponseEntity.ok(ApiResponse.success("获取统计信息成功", statistics));
+        } catch (StudentException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ApiResponse.error(e.getStatus().value(), e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("获取统计信息失败: " + e.getMessage()));
         }
     }
+
+    /**
+     * 交叉统计学生人数
+     * 
+     * 一次请求返回多个分组的统计结果，例如 sets=major,gender;enrollmentYear,major;age
+     * 
+     * @param sets   分组集合，集合之间用分号分隔，集合内的维度用逗号分隔；
+     *               可用维度：major、gender、age、enrollmentYear
+     * @param rollup 是否为每个分组追加各级小计（如 major,gender 追加按 major 的小计）
+     * @return 交叉统计结果
+     */
+    @GetMapping("/statistics/crosstab")
+    public ResponseEntity<ApiResponse<StudentCrossTabDTO>> getCrossTabStatistics(
+            @RequestParam String sets,
+            @RequestParam(defaultValue = "true") boolean rollup) {
+        try {
+            StudentCrossTabDTO crossTab = studentService.getCrossTab(parseGroupingSets(sets), rollup);
+            return ResponseEntity.ok(ApiResponse.success("获取交叉统计成功", crossTab));
+        } catch (StudentException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ApiResponse.error(e.getStatus().value(), e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("获取交叉统计失败: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 增量同步学生数据
+     * 
+     * @param since 上次同步返回的版本令牌（首次同步传0）
+     * @param sinceChangeId 上次同步返回的版本内位置 nextChangeId（首次同步传0）
+     * @param limit 本次最多处理的变更记录数（大事务的变更会拆到多次同步中，hasMore 为true时继续同步）
+     * @return 自该位置以来变更的学生、被删除的学生ID以及新的版本令牌和版本内位置
+     */
+    @GetMapping("/sync")
+    public ResponseEntity<ApiResponse<StudentSyncDTO>> syncStudents(
+            @RequestParam(defaultValue = "0") @Min(0) long since,
+            @RequestParam(defaultValue = "0") @Min(0) long sinceChangeId,
+            @RequestParam(defaultValue = "500") @Min(1) @Max(5000) int limit) {
+        try {
+            StudentSyncDTO sync = studentService.getChangesSince(since, sinceChangeId, limit);
+            return ResponseEntity.ok(ApiResponse.success("增量同步成功", sync));
+        } catch (StudentException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ApiResponse.error(e.getStatus().value(), e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("增量同步失败: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 解析返回字段参数
+     * 
+     * @param fields 字段名，逗号分隔
+     * @return 字段列表（按参数顺序）
+     */
+    private static List<StudentField> parseFields(String fields) {
+        List<StudentField> result = new ArrayList<>();
+        for (String name : fields.split(",")) {
+            StudentField field = StudentField.fromParamName(name.trim());
+            if (field == null) {
+                throw new StudentValidationException("未知的字段: " + name.trim());
+            }
+            if (result.contains(field)) {
+                throw new StudentValidationException("字段重复: " + name.trim());
+            }
+            result.add(field);
+        }
+        return result;
+    }
+
+    /**
+     * 解析交叉统计的分组集合参数
+     * 
+     * @param sets 分组集合参数
+     * @return 分组集合
+     */
+    private static List<List<CrossTabDimension>> parseGroupingSets(String sets) {
+        List<List<CrossTabDimension>> groupingSets = new ArrayList<>();
+        for (String set : sets.split(";")) {
+            List<CrossTabDimension> dimensions = new ArrayList<>();
+            for (String name : set.split(",")) {
+                CrossTabDimension dimension = CrossTabDimension.fromParamName(name.trim());
+                if (dimension == null) {
+                    throw new StudentValidationException("未知的统计维度: " + name.trim());
+                }
+                if (dimensions.contains(dimension)) {
+                    throw new StudentValidationException("分组内维度重复: " + name.trim());
+                }
+                dimensions.add(dimension);
+            }
+            groupingSets.add(dimensions);
+        }
+        if (groupingSets.size() > MAX_GROUPING_SETS) {
+            throw new StudentValidationException("单次最多统计 " + MAX_GROUPING_SETS + " 个分组");
+        }
+        return groupingSets;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.example.studentmanagement.controller;
+
+import com.example.studentmanagement.dto.ApiResponse;
+import com.example.studentmanagement.dto.CsvImportResult;
+import com.example.studentmanagement.service.StudentCsvService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 学生CSV导入导出控制器
+ * 
+ * @author System
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/students")
+@CrossOrigin(origins = "*")
+public class StudentCsvController {
+
+    @Autowired
+    private StudentCsvService studentCsvService;
+
+    /**
+     * 从CSV文件批量导入学生
+     * 
+     * @param file CSV文件
+     * @return 导入结果（含每秒处理行数）
+     */
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse<CsvImportResult>> importCsv(@RequestParam("file") MultipartFile file) {
+        if (file.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.badRequest("上传的CSV文件为空"));
+        }
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile("student-import-", ".csv");
+            file.transferTo(tempFile);
+            CsvImportResult result = studentCsvService.importCsv(tempFile);
+            return ResponseEntity.ok(ApiResponse.success("CSV导入完成", result));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.badRequest(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("CSV导入失败: " + e.getMessage()));
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    /**
+     * 将全部学生导出为CSV（流式输出）
+     * 
+     * @return CSV文件
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCsv() {
+        StreamingResponseBody body = studentCsvService::exportCsv;
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"students.csv\"")
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(body);
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // 临时文件删除失败不影响导入结果
+        }
+    }
+}
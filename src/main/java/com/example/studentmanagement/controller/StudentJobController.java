@@ -0,0 +1,201 @@
+package com.example.studentmanagement.controller;
+
+import com.example.studentmanagement.dto.ApiResponse;
+import com.example.studentmanagement.dto.StudentJobDTO;
+import com.example.studentmanagement.exception.StudentException;
+import com.example.studentmanagement.service.StudentJobService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotEmpty;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 后台任务控制器
+ *
+ * 长时间运行的批量操作提交后立即返回 202 和任务ID，通过 GET /api/jobs/{id} 轮询进度。
+ *
+ * @author System
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/jobs")
+@Validated
+@CrossOrigin(origins = "*")
+public class StudentJobController {
+
+    @Autowired
+    private StudentJobService studentJobService;
+
+    /**
+     * 提交CSV导入任务
+     *
+     * @param file CSV文件
+     * @return 任务状态
+     */
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse<StudentJobDTO>> submitImport(@RequestParam("file") MultipartFile file) {
+        if (file.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.badRequest("上传的CSV文件为空"));
+        }
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile("student-import-", ".csv");
+            file.transferTo(tempFile);
+            StudentJobDTO job = studentJobService.submitImport(tempFile);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success("导入任务已提交", job));
+        } catch (StudentException e) {
+            deleteQuietly(tempFile);
+            return ResponseEntity.status(e.getStatus())
+                    .body(ApiResponse.error(e.getStatus().value(), e.getMessage()));
+        } catch (Exception e) {
+            deleteQuietly(tempFile);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("提交导入任务失败: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 提交CSV导出任务，完成后通过 GET /api/jobs/{id}/result 下载
+     *
+     * @return 任务状态
+     */
+    @PostMapping("/export")
+    public ResponseEntity<ApiResponse<StudentJobDTO>> submitExport() {
+        try {
+            StudentJobDTO job = studentJobService.submitExport();
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success("导出任务已提交", job));
+        } catch (StudentException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ApiResponse.error(e.getStatus().value(), e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("提交导出任务失败: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 提交批量删除任务
+     *
+     * @param ids 学生ID列表
+     * @return 任务状态
+     */
+    @PostMapping("/batch-delete")
+    public ResponseEntity<ApiResponse<StudentJobDTO>> submitBatchDelete(@RequestBody @NotEmpty List<Long> ids) {
+        try {
+            StudentJobDTO job = studentJobService.submitBatchDelete(ids);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success("批量删除任务已提交", job));
+        } catch (StudentException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ApiResponse.error(e.getStatus().value(), e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("提交批量删除任务失败: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 查询任务状态和进度
+     *
+     * @param id 任务ID
+     * @return 任务状态
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<StudentJobDTO>> getJob(@PathVariable @Min(1) Long id) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(studentJobService.getJob(id)));
+        } catch (StudentException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ApiResponse.error(e.getStatus().value(), e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("获取任务状态失败: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 获取最近提交的任务
+     *
+     * @param limit 最多返回的任务数
+     * @return 任务状态列表
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<StudentJobDTO>>> getRecentJobs(
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(studentJobService.getRecentJobs(limit)));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("获取任务列表失败: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 取消任务，执行中的任务在当前块提交后停止
+     *
+     * @param id 任务ID
+     * @return 任务状态
+     */
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<ApiResponse<StudentJobDTO>> cancelJob(@PathVariable @Min(1) Long id) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success("已请求取消任务", studentJobService.cancelJob(id)));
+        } catch (StudentException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ApiResponse.error(e.getStatus().value(), e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("取消任务失败: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 下载导出任务的结果文件
+     *
+     * @param id 任务ID
+     * @return CSV文件
+     */
+    @GetMapping("/{id}/result")
+    public ResponseEntity<?> downloadResult(@PathVariable @Min(1) Long id) {
+        try {
+            Path file = studentJobService.getExportFile(id);
+            Resource body = new FileSystemResource(file);
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"students.csv\"")
+                    .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                    .body(body);
+        } catch (StudentException e) {
+            return ResponseEntity.status(e.getStatus())
+                    .body(ApiResponse.error(e.getStatus().value(), e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("下载导出结果失败: " + e.getMessage()));
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // 临时文件删除失败不影响提交结果
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.studentmanagement.dto;
+
+/**
+ * 交叉统计维度
+ * 
+ * @author System
+ * @version 1.0
+ */
+public enum CrossTabDimension {
+    /** 专业 */
+    MAJOR("major"),
+    /** 性别 */
+    GENDER("gender"),
+    /** 年龄 */
+    AGE("age"),
+    /** 入学年份 */
+    ENROLLMENT_YEAR("enrollmentYear");
+
+    private final String paramName;
+
+    CrossTabDimension(String paramName) {
+        this.paramName = paramName;
+    }
+
+    /**
+     * 获取接口参数和返回结果中使用的维度名
+     * 
+     * @return 维度名
+     */
+    public String getParamName() {
+        return paramName;
+    }
+
+    /**
+     * 根据维度名查找维度
+     * 
+     * @param paramName 维度名
+     * @return 维度，不存在时返回 null
+     */
+    public static CrossTabDimension fromParamName(String paramName) {
+        for (CrossTabDimension dimension : values()) {
+            if (dimension.paramName.equals(paramName)) {
+                return dimension;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.studentmanagement.dto;
+
+/**
+ * CSV分块导出结果
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class CsvExportChunk {
+
+    /** 本块导出的行数 */
+    private final long rows;
+
+    /** 本块最后一个学生的ID，下一块从该ID之后开始 */
+    private final long lastId;
+
+    /** 是否已导出全部学生 */
+    private final boolean finished;
+
+    // 构造函数
+    public CsvExportChunk(long rows, long lastId, boolean finished) {
+        this.rows = rows;
+        this.lastId = lastId;
+        this.finished = finished;
+    }
+
+    // Getter方法
+    public long getRows() {
+        return rows;
+    }
+
+    public long getLastId() {
+        return lastId;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+}
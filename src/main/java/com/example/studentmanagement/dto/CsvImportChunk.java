@@ -0,0 +1,39 @@
+package com.example.studentmanagement.dto;
+
+/**
+ * CSV分块导入结果
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class CsvImportChunk {
+
+    /** 本块的导入结果 */
+    private final CsvImportResult result;
+
+    /** 本块最后一行之后的文件字节偏移，下一块从此处开始 */
+    private final long nextOffset;
+
+    /** 是否已读到文件末尾 */
+    private final boolean finished;
+
+    // 构造函数
+    public CsvImportChunk(CsvImportResult result, long nextOffset, boolean finished) {
+        this.result = result;
+        this.nextOffset = nextOffset;
+        this.finished = finished;
+    }
+
+    // Getter方法
+    public CsvImportResult getResult() {
+        return result;
+    }
+
+    public long getNextOffset() {
+        return nextOffset;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.studentmanagement.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV导入结果
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class CsvImportResult {
+
+    /** 最多保留的错误明细条数 */
+    public static final int MAX_ERRORS = 100;
+
+    private long totalRows;
+    private long importedRows;
+    private long duplicateRows;
+    private long invalidRows;
+    private long elapsedMillis;
+    private long rowsPerSecond;
+    private List<String> errors = new ArrayList<>();
+
+    /**
+     * 记录一条错误明细，超过上限后只计数
+     * 
+     * @param error 错误信息
+     */
+    public void addError(String error) {
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(error);
+        }
+    }
+
+    // Getter和Setter方法
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public long getImportedRows() {
+        return importedRows;
+    }
+
+    public void setImportedRows(long importedRows) {
+        this.importedRows = importedRows;
+    }
+
+    public long getDuplicateRows() {
+        return duplicateRows;
+    }
+
+    public void setDuplicateRows(long duplicateRows) {
+        this.duplicateRows = duplicateRows;
+    }
+
+    public long getInvalidRows() {
+        return invalidRows;
+    }
+
+    public void setInvalidRows(long invalidRows) {
+        this.invalidRows = invalidRows;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public long getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public void setRowsPerSecond(long rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+
+    @Override
+    public String toString() {
+        return "CsvImportResult{" +
+                "totalRows=" + totalRows +
+                ", importedRows=" + importedRows +
+                ", duplicateRows=" + duplicateRows +
+                ", invalidRows=" + invalidRows +
+                ", elapsedMillis=" + elapsedMillis +
+                ", rowsPerSecond=" + rowsPerSecond +
+                '}';
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.studentmanagement.dto;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 分页响应结果
+ * 
+ * 只保留前端翻页需要的数据：当前页内容、页码、下一页页码（没有下一页时省略）以及可选的总数，
+ * 代替直接序列化 Spring 的 PageImpl（pageable、sort、first、last、empty 等冗余字段）。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class PageResponse<T> {
+
+    /** 当前页内容 */
+    private List<T> items;
+
+    /** 当前页码（从0开始） */
+    private int page;
+
+    /** 每页大小 */
+    private int size;
+
+    /** 下一页页码，没有下一页时为null */
+    private Integer nextPage;
+
+    /** 总记录数，未统计总数时为null */
+    private Long total;
+
+    // 构造函数
+    public PageResponse() {
+    }
+
+    public PageResponse(List<T> items, int page, int size, Integer nextPage, Long total) {
+        this.items = items;
+        this.page = page;
+        this.size = size;
+        this.nextPage = nextPage;
+        this.total = total;
+    }
+
+    /**
+     * 由分页查询结果构建；传入 Page 时带上总数，传入 Slice 时不带
+     * 
+     * @param slice 分页查询结果
+     * @return 分页响应结果
+     */
+    public static <T> PageResponse<T> of(Slice<T> slice) {
+        Long total = slice instanceof Page ? ((Page<T>) slice).getTotalElements() : null;
+        Integer nextPage = slice.hasNext() ? slice.getNumber() + 1 : null;
+        return new PageResponse<>(slice.getContent(), slice.getNumber(), slice.getSize(), nextPage, total);
+    }
+
+    // Getter和Setter方法
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public Integer getNextPage() {
+        return nextPage;
+    }
+
+    public void setNextPage(Integer nextPage) {
+        this.nextPage = nextPage;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public void setTotal(Long total) {
+        this.total = total;
+    }
+
+    @Override
+    public String toString() {
+        return "PageResponse{" +
+                "items=" + items +
+                ", page=" + page +
+                ", size=" + size +
+                ", nextPage=" + nextPage +
+                ", total=" + total +
+                '}';
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.studentmanagement.dto;
+
+import javax.validation.Valid;
+import javax.validation.constraints.*;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 学生批量更新请求
+ *
+ * where 中的条件同时满足的学生，按 set 中非空的字段更新
+ *
+ * @author System
+ * @version 1.0
+ */
+public class StudentBulkUpdateRequest {
+
+    @NotNull(message = "更新条件不能为空")
+    @Valid
+    private Criteria where;
+
+    @NotNull(message = "更新内容不能为空")
+    @Valid
+    private Assignments set;
+
+    // 构造函数
+    public StudentBulkUpdateRequest() {
+    }
+
+    public StudentBulkUpdateRequest(Criteria where, Assignments set) {
+        this.where = where;
+        this.set = set;
+    }
+
+    // Getter和Setter方法
+    public Criteria getWhere() {
+        return where;
+    }
+
+    public void setWhere(Criteria where) {
+        this.where = where;
+    }
+
+    public Assignments getSet() {
+        return set;
+    }
+
+    public void setSet(Assignments set) {
+        this.set = set;
+    }
+
+    @Override
+    public String toString() {
+        return "StudentBulkUpdateRequest{" +
+                "where=" + where +
+                ", set=" + set +
+                '}';
+    }
+
+    /**
+     * 批量更新条件（至少提供一项）
+     */
+    public static class Criteria {
+
+        /** 当前专业 */
+        private String major;
+
+        /** 入学年份下限（含） */
+        private Integer enrollmentYearFrom;
+
+        /** 入学年份上限（含） */
+        private Integer enrollmentYearTo;
+
+        /** 学生ID列表 */
+        private List<Long> ids;
+
+        // 构造函数
+        public Criteria() {
+        }
+
+        // Getter和Setter方法
+        public String getMajor() {
+            return major;
+        }
+
+        public void setMajor(String major) {
+            this.major = major;
+        }
+
+        public Integer getEnrollmentYearFrom() {
+            return enrollmentYearFrom;
+        }
+
+        public void setEnrollmentYearFrom(Integer enrollmentYearFrom) {
+            this.enrollmentYearFrom = enrollmentYearFrom;
+        }
+
+        public Integer getEnrollmentYearTo() {
+            return enrollmentYearTo;
+        }
+
+        public void setEnrollmentYearTo(Integer enrollmentYearTo) {
+            this.enrollmentYearTo = enrollmentYearTo;
+        }
+
+        public List<Long> getIds() {
+            return ids;
+        }
+
+        public void setIds(List<Long> ids) {
+            this.ids = ids;
+        }
+
+        /**
+         * 是否提供了至少一项条件
+         *
+         * @return 有条件时返回 true
+         */
+        public boolean hasAnyCondition() {
+            return major != null || enrollmentYearFrom != null || enrollmentYearTo != null || ids != null;
+        }
+
+        @Override
+        public String toString() {
+            return "Criteria{" +
+                    "major='" + major + '\'' +
+                    ", enrollmentYearFrom=" + enrollmentYearFrom +
+                    ", enrollmentYearTo=" + enrollmentYearTo +
+                    ", ids=" + ids +
+                    '}';
+        }
+    }
+
+    /**
+     * 批量更新内容（至少提供一项，校验规则与 {@link StudentDTO} 相同）
+     */
+    public static class Assignments {
+
+        @Size(min = 2, max = 50, message = "专业名称长度必须在2-50个字符之间")
+        private String major;
+
+        @Min(value = 16, message = "年龄不能小于16岁")
+        @Max(value = 30, message = "年龄不能大于30岁")
+        private Integer age;
+
+        @Pattern(regexp = "^(男|女)$", message = "性别只能是男或女")
+        private String gender;
+
+        private LocalDate enrollmentDate;
+
+        // 构造函数
+        public Assignments() {
+        }
+
+        // Getter和Setter方法
+        public String getMajor() {
+            return major;
+        }
+
+        public void setMajor(String major) {
+            this.major = major;
+        }
+
+        public Integer getAge() {
+            return age;
+        }
+
+        public void setAge(Integer age) {
+            this.age = age;
+        }
+
+        public String getGender() {
+            return gender;
+        }
+
+        public void setGender(String gender) {
+            this.gender = gender;
+        }
+
+        public LocalDate getEnrollmentDate() {
+            return enrollmentDate;
+        }
+
+        public void setEnrollmentDate(LocalDate enrollmentDate) {
+            this.enrollmentDate = enrollmentDate;
+        }
+
+        /**
+         * 是否提供了至少一项更新内容
+         *
+         * @return 有更新内容时返回 true
+         */
+        public boolean hasAnyAssignment() {
+            return major != null || age != null || gender != null || enrollmentDate != null;
+        }
+
+        @Override
+        public String toString() {
+            return "Assignments{" +
+                    "major='" + major + '\'' +
+                    ", age=" + age +
+                    ", gender='" + gender + '\'' +
+                    ", enrollmentDate=" + enrollmentDate +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.studentmanagement.dto;
+
+import java.util.List;
+
+/**
+ * 学生交叉统计结果
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class StudentCrossTabDTO {
+
+    /** 学生总数 */
+    private long total;
+
+    /** 各分组集合的统计结果（按请求顺序，开启小计时每个分组后紧跟其各级小计） */
+    private List<GroupingSet> groupingSets;
+
+    // 构造函数
+    public StudentCrossTabDTO() {
+    }
+
+    public StudentCrossTabDTO(long total, List<GroupingSet> groupingSets) {
+        this.total = total;
+        this.groupingSets = groupingSets;
+    }
+
+    // Getter和Setter方法
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public List<GroupingSet> getGroupingSets() {
+        return groupingSets;
+    }
+
+    public void setGroupingSets(List<GroupingSet> groupingSets) {
+        this.groupingSets = groupingSets;
+    }
+
+    @Override
+    public String toString() {
+        return "StudentCrossTabDTO{" +
+                "total=" + total +
+                ", groupingSets=" + groupingSets +
+                '}';
+    }
+
+    /**
+     * 一个分组集合的统计结果
+     */
+    public static class GroupingSet {
+
+        /** 分组维度 */
+        private List<String> dimensions;
+
+        /** 各分组的人数，按维度值升序排列 */
+        private List<Cell> cells;
+
+        // 构造函数
+        public GroupingSet() {
+        }
+
+        public GroupingSet(List<String> dimensions, List<Cell> cells) {
+            this.dimensions = dimensions;
+            this.cells = cells;
+        }
+
+        // Getter和Setter方法
+        public List<String> getDimensions() {
+            return dimensions;
+        }
+
+        public void setDimensions(List<String> dimensions) {
+            this.dimensions = dimensions;
+        }
+
+        public List<Cell> getCells() {
+            return cells;
+        }
+
+        public void setCells(List<Cell> cells) {
+            this.cells = cells;
+        }
+
+        @Override
+        public String toString() {
+            return "GroupingSet{" +
+                    "dimensions=" + dimensions +
+                    ", cells=" + cells +
+                    '}';
+        }
+    }
+
+    /**
+     * 一个分组的人数
+     */
+    public static class Cell {
+
+        /** 与 dimensions 一一对应的维度值 */
+        private List<Object> values;
+
+        /** 人数 */
+        private long count;
+
+        // 构造函数
+        public Cell() {
+        }
+
+        public Cell(List<Object> values, long count) {
+            this.values = values;
+            this.count = count;
+        }
+
+        // Getter和Setter方法
+        public List<Object> getValues() {
+            return values;
+        }
+
+        public void setValues(List<Object> values) {
+            this.values = values;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+
+        @Override
+        public String toString() {
+            return "Cell{" +
+                    "values=" + values +
+                    ", count=" + count +
+                    '}';
+        }
+    }
+}
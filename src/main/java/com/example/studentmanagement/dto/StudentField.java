@@ -0,0 +1,78 @@
+package com.example.studentmanagement.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.BiConsumer;
+
+/**
+ * 学生字段（列表接口 fields 参数可选的字段）
+ *
+ * @author System
+ * @version 1.0
+ */
+public enum StudentField {
+    /** 学生ID */
+    ID("id", (student, value) -> student.setId((Long) value)),
+    /** 姓名 */
+    NAME("name", (student, value) -> student.setName((String) value)),
+    /** 学号 */
+    STUDENT_NUMBER("studentNumber", (student, value) -> student.setStudentNumber((String) value)),
+    /** 年龄 */
+    AGE("age", (student, value) -> student.setAge((Integer) value)),
+    /** 性别 */
+    GENDER("gender", (student, value) -> student.setGender((String) value)),
+    /** 专业 */
+    MAJOR("major", (student, value) -> student.setMajor((String) value)),
+    /** 邮箱 */
+    EMAIL("email", (student, value) -> student.setEmail((String) value)),
+    /** 手机号 */
+    PHONE("phone", (student, value) -> student.setPhone((String) value)),
+    /** 入学日期 */
+    ENROLLMENT_DATE("enrollmentDate", (student, value) -> student.setEnrollmentDate((LocalDate) value)),
+    /** 创建时间 */
+    CREATED_TIME("createdTime", (student, value) -> student.setCreatedTime((LocalDateTime) value)),
+    /** 更新时间 */
+    UPDATED_TIME("updatedTime", (student, value) -> student.setUpdatedTime((LocalDateTime) value));
+
+    private final String paramName;
+    private final BiConsumer<StudentDTO, Object> setter;
+
+    StudentField(String paramName, BiConsumer<StudentDTO, Object> setter) {
+        this.paramName = paramName;
+        this.setter = setter;
+    }
+
+    /**
+     * 获取接口参数和返回结果中使用的字段名（与实体属性名相同）
+     *
+     * @return 字段名
+     */
+    public String getParamName() {
+        return paramName;
+    }
+
+    /**
+     * 将查询出的列值写入DTO
+     *
+     * @param student 学生DTO
+     * @param value 列值
+     */
+    public void apply(StudentDTO student, Object value) {
+        setter.accept(student, value);
+    }
+
+    /**
+     * 根据字段名查找字段
+     *
+     * @param paramName 字段名
+     * @return 字段，不存在时返回 null
+     */
+    public static StudentField fromParamName(String paramName) {
+        for (StudentField field : values()) {
+            if (field.paramName.equals(paramName)) {
+                return field;
+            }
+        }
+        return null;
+    }
+}
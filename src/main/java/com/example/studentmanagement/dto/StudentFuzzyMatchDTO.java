@@ -0,0 +1,82 @@
+package com.example.studentmanagement.dto;
+
+/**
+ * 学生姓名容错搜索结果
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class StudentFuzzyMatchDTO {
+
+    private Long id;
+    private String name;
+    private String studentNumber;
+    private String major;
+
+    /** 与查询姓名的编辑距离 */
+    private int distance;
+
+    // 构造函数
+    public StudentFuzzyMatchDTO() {
+    }
+
+    public StudentFuzzyMatchDTO(Long id, String name, String studentNumber, String major, int distance) {
+        this.id = id;
+        this.name = name;
+        this.studentNumber = studentNumber;
+        this.major = major;
+        this.distance = distance;
+    }
+
+    // Getter和Setter方法
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getStudentNumber() {
+        return studentNumber;
+    }
+
+    public void setStudentNumber(String studentNumber) {
+        this.studentNumber = studentNumber;
+    }
+
+    public String getMajor() {
+        return major;
+    }
+
+    public void setMajor(String major) {
+        this.major = major;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public void setDistance(int distance) {
+        this.distance = distance;
+    }
+
+    @Override
+    public String toString() {
+        return "StudentFuzzyMatchDTO{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                ", studentNumber='" + studentNumber + '\'' +
+                ", major='" + major + '\'' +
+                ", distance=" + distance +
+                '}';
+    }
+}
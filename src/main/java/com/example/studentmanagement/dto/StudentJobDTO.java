@@ -0,0 +1,161 @@
+package com.example.studentmanagement.dto;
+
+import com.example.studentmanagement.entity.StudentJob.JobStatus;
+import com.example.studentmanagement.entity.StudentJob.JobType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 后台任务状态
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class StudentJobDTO {
+
+    private Long id;
+    private JobType type;
+    private JobStatus status;
+
+    /** 已处理的条数 */
+    private long processed;
+
+    /** 总条数，事先无法确定时为空 */
+    private Long total;
+
+    /** 进度百分比（0-100） */
+    private int progress;
+
+    /** 已请求取消、尚未在块边界生效 */
+    private boolean cancelRequested;
+
+    /** 任务结果，结构由任务类型决定 */
+    private Object result;
+
+    private String errorMessage;
+    private LocalDateTime createdTime;
+    private LocalDateTime startedTime;
+    private LocalDateTime finishedTime;
+    private LocalDateTime updatedTime;
+
+    // 构造函数
+    public StudentJobDTO() {
+    }
+
+    // Getter和Setter方法
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public JobType getType() {
+        return type;
+    }
+
+    public void setType(JobType type) {
+        this.type = type;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(JobStatus status) {
+        this.status = status;
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public void setProcessed(long processed) {
+        this.processed = processed;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public void setTotal(Long total) {
+        this.total = total;
+    }
+
+    public int getProgress() {
+        return progress;
+    }
+
+    public void setProgress(int progress) {
+        this.progress = progress;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    public void setCancelRequested(boolean cancelRequested) {
+        this.cancelRequested = cancelRequested;
+    }
+
+    public Object getResult() {
+        return result;
+    }
+
+    public void setResult(Object result) {
+        this.result = result;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public LocalDateTime getCreatedTime() {
+        return createdTime;
+    }
+
+    public void setCreatedTime(LocalDateTime createdTime) {
+        this.createdTime = createdTime;
+    }
+
+    public LocalDateTime getStartedTime() {
+        return startedTime;
+    }
+
+    public void setStartedTime(LocalDateTime startedTime) {
+        this.startedTime = startedTime;
+    }
+
+    public LocalDateTime getFinishedTime() {
+        return finishedTime;
+    }
+
+    public void setFinishedTime(LocalDateTime finishedTime) {
+        this.finishedTime = finishedTime;
+    }
+
+    public LocalDateTime getUpdatedTime() {
+        return updatedTime;
+    }
+
+    public void setUpdatedTime(LocalDateTime updatedTime) {
+        this.updatedTime = updatedTime;
+    }
+
+    @Override
+    public String toString() {
+        return "StudentJobDTO{" +
+                "id=" + id +
+                ", type=" + type +
+                ", status=" + status +
+                ", processed=" + processed +
+                ", total=" + total +
+                ", progress=" + progress +
+                '}';
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.studentmanagement.dto;
+
+import java.util.List;
+
+/**
+ * 学生批量查询请求
+ * 
+ * ids 与 studentNumbers 二选一
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class StudentLookupRequest {
+
+    /** 学生ID列表 */
+    private List<Long> ids;
+
+    /** 学号列表 */
+    private List<String> studentNumbers;
+
+    // 构造函数
+    public StudentLookupRequest() {
+    }
+
+    public StudentLookupRequest(List<Long> ids, List<String> studentNumbers) {
+        this.ids = ids;
+        this.studentNumbers = studentNumbers;
+    }
+
+    // Getter和Setter方法
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public List<String> getStudentNumbers() {
+        return studentNumbers;
+    }
+
+    public void setStudentNumbers(List<String> studentNumbers) {
+        this.studentNumbers = studentNumbers;
+    }
+
+    @Override
+    public String toString() {
+        return "StudentLookupRequest{" +
+                "ids=" + ids +
+                ", studentNumbers=" + studentNumbers +
+                '}';
+    }
+}
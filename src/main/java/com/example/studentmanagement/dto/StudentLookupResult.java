@@ -0,0 +1,53 @@
+package com.example.studentmanagement.dto;
+
+import java.util.List;
+
+/**
+ * 学生批量查询结果
+ * 
+ * @param <K> 查询键类型（ID或学号）
+ * @author System
+ * @version 1.0
+ */
+public class StudentLookupResult<K> {
+
+    /** 与请求中的键按顺序一一对应的学生，未找到的位置为 null */
+    private List<StudentDTO> students;
+
+    /** 未找到的键（去重，保持请求顺序） */
+    private List<K> missing;
+
+    // 构造函数
+    public StudentLookupResult() {
+    }
+
+    public StudentLookupResult(List<StudentDTO> students, List<K> missing) {
+        this.students = students;
+        this.missing = missing;
+    }
+
+    // Getter和Setter方法
+    public List<StudentDTO> getStudents() {
+        return students;
+    }
+
+    public void setStudents(List<StudentDTO> students) {
+        this.students = students;
+    }
+
+    public List<K> getMissing() {
+        return missing;
+    }
+
+    public void setMissing(List<K> missing) {
+        this.missing = missing;
+    }
+
+    @Override
+    public String toString() {
+        return "StudentLookupResult{" +
+                "students=" + students +
+                ", missing=" + missing +
+                '}';
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.studentmanagement.dto;
+
+import java.util.List;
+
+/**
+ * 学生搜索联想结果
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class StudentSuggestDTO {
+
+    /** 姓名、拼音、首字母或学号匹配的学生 */
+    private List<StudentSuggestion> students;
+
+    /** 名称、拼音或首字母匹配的专业 */
+    private List<String> majors;
+
+    // 构造函数
+    public StudentSuggestDTO() {
+    }
+
+    public StudentSuggestDTO(List<StudentSuggestion> students, List<String> majors) {
+        this.students = students;
+        this.majors = majors;
+    }
+
+    // Getter和Setter方法
+    public List<StudentSuggestion> getStudents() {
+        return students;
+    }
+
+    public void setStudents(List<StudentSuggestion> students) {
+        this.students = students;
+    }
+
+    public List<String> getMajors() {
+        return majors;
+    }
+
+    public void setMajors(List<String> majors) {
+        this.majors = majors;
+    }
+
+    @Override
+    public String toString() {
+        return "StudentSuggestDTO{" +
+                "students=" + students +
+                ", majors=" + majors +
+                '}';
+    }
+
+    /**
+     * 联想列表中的学生摘要
+     */
+    public static class StudentSuggestion {
+
+        private Long id;
+        private String name;
+        private String studentNumber;
+        private String major;
+
+        // 构造函数
+        public StudentSuggestion() {
+        }
+
+        public StudentSuggestion(Long id, String name, String studentNumber, String major) {
+            this.id = id;
+            this.name = name;
+            this.studentNumber = studentNumber;
+            this.major = major;
+        }
+
+        // Getter和Setter方法
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getStudentNumber() {
+            return studentNumber;
+        }
+
+        public void setStudentNumber(String studentNumber) {
+            this.studentNumber = studentNumber;
+        }
+
+        public String getMajor() {
+            return major;
+        }
+
+        public void setMajor(String major) {
+            this.major = major;
+        }
+
+        @Override
+        public String toString() {
+            return "StudentSuggestion{" +
+                    "id=" + id +
+                    ", name='" + name + '\'' +
+                    ", studentNumber='" + studentNumber + '\'' +
+                    ", major='" + major + '\'' +
+                    '}';
+        }
+    }
+}
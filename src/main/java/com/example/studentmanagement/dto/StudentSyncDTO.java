@@ -0,0 +1,92 @@
+package com.example.studentmanagement.dto;
+
+import java.util.List;
+
+/**
+ * 学生增量同步结果
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class StudentSyncDTO {
+
+    /** 自上次同步以来新增或修改的学生（当前最新状态） */
+    private List<StudentDTO> changed;
+
+    /** 自上次同步以来被删除的学生ID */
+    private List<Long> deletedIds;
+
+    /** 下次同步时应传入的版本令牌 */
+    private long nextToken;
+
+    /** 下次同步时应传入的版本内位置（nextToken 版本内已返回的最后一条变更ID），0 表示该版本已全部返回 */
+    private long nextChangeId;
+
+    /** 是否还有未返回的变更 */
+    private boolean hasMore;
+
+    // 构造函数
+    public StudentSyncDTO() {
+    }
+
+    public StudentSyncDTO(List<StudentDTO> changed, List<Long> deletedIds, long nextToken, long nextChangeId,
+                          boolean hasMore) {
+        this.changed = changed;
+        this.deletedIds = deletedIds;
+        this.nextToken = nextToken;
+        this.nextChangeId = nextChangeId;
+        this.hasMore = hasMore;
+    }
+
+    // Getter和Setter方法
+    public List<StudentDTO> getChanged() {
+        return changed;
+    }
+
+    public void setChanged(List<StudentDTO> changed) {
+        this.changed = changed;
+    }
+
+    public List<Long> getDeletedIds() {
+        return deletedIds;
+    }
+
+    public void setDeletedIds(List<Long> deletedIds) {
+        this.deletedIds = deletedIds;
+    }
+
+    public long getNextToken() {
+        return nextToken;
+    }
+
+    public void setNextToken(long nextToken) {
+        this.nextToken = nextToken;
+    }
+
+    public long getNextChangeId() {
+        return nextChangeId;
+    }
+
+    public void setNextChangeId(long nextChangeId) {
+        this.nextChangeId = nextChangeId;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    @Override
+    public String toString() {
+        return "StudentSyncDTO{" +
+                "changed=" + changed +
+                ", deletedIds=" + deletedIds +
+                ", nextToken=" + nextToken +
+                ", nextChangeId=" + nextChangeId +
+                ", hasMore=" + hasMore +
+                '}';
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.studentmanagement.entity;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+/**
+ * 性别编码转换器
+ * 
+ * 数据库中按 GB/T 2261.1 保存为1字节编码（1-男，2-女），读出时返回共享的字符串常量。
+ * 其他取值（只会出现在查询条件中）编码为0，不匹配任何记录。
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Converter
+public class GenderConverter implements AttributeConverter<String, Byte> {
+
+    public static final String MALE = "男";
+    public static final String FEMALE = "女";
+
+    public static final byte MALE_CODE = 1;
+    public static final byte FEMALE_CODE = 2;
+    public static final byte UNKNOWN_CODE = 0;
+
+    @Override
+    public Byte convertToDatabaseColumn(String gender) {
+        return gender == null ? null : toCode(gender);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Byte code) {
+        return code == null ? null : fromCode(code);
+    }
+
+    /**
+     * 性别转换为编码
+     * 
+     * @param gender 性别（男/女）
+     * @return 编码，无法识别时返回0
+     */
+    public static byte toCode(String gender) {
+        if (MALE.equals(gender)) {
+            return MALE_CODE;
+        }
+        if (FEMALE.equals(gender)) {
+            return FEMALE_CODE;
+        }
+        return UNKNOWN_CODE;
+    }
+
+    /**
+     * 编码转换为性别
+     * 
+     * @param code 编码
+     * @return 性别，无法识别时返回null
+     */
+    public static String fromCode(int code) {
+        if (code == MALE_CODE) {
+            return MALE;
+        }
+        if (code == FEMALE_CODE) {
+            return FEMALE;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.studentmanagement.entity;
+
+import javax.persistence.*;
+
+/**
+ * 专业字典实体类
+ * 
+ * 学生表只保存专业ID，专业名称集中存放在本表中，只增不删
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Entity
+@Table(name = "majors")
+public class Major {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(name = "name", nullable = false, unique = true, length = 50)
+    private String name;
+
+    // 构造函数
+    public Major() {
+    }
+
+    public Major(String name) {
+        this.name = name;
+    }
+
+    // Getter和Setter方法
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return "Major{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                '}';
+    }
+}
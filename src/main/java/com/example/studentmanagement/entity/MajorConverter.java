@@ -0,0 +1,37 @@
+package com.example.studentmanagement.entity;
+
+import com.example.studentmanagement.repository.MajorDictionary;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+/**
+ * 专业字典编码转换器
+ * 
+ * 通过内存中的专业字典在专业名称和专业ID之间转换，读出的名称在所有学生之间共享同一个实例。
+ * 转换器只查询不新增：保存学生前需先通过 {@link MajorDictionary#register(String)} 登记专业；
+ * 查询条件中的未知专业转换为不存在的ID，不匹配任何记录。
+ * 由 Hibernate 通过 Spring 容器创建并注入字典。
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Converter
+public class MajorConverter implements AttributeConverter<String, Integer> {
+
+    private final MajorDictionary majorDictionary;
+
+    public MajorConverter(MajorDictionary majorDictionary) {
+        this.majorDictionary = majorDictionary;
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(String major) {
+        return major == null ? null : majorDictionary.idOf(major);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer majorId) {
+        return majorId == null ? null : majorDictionary.nameOf(majorId);
+    }
+}
@@ -1,5 +1,10 @@
 package com.example.studentmanagement.entity;
 
+import com.example.studentmanagement.id.HibernateIdGenerator;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+
 import javax.persistence.*;
 import javax.validation.constraints.*;
 import java.time.LocalDate;
@@ -8,15 +13,31 @@ import java.time.LocalDateTime;
 /**
  * 学生实体类
  * 
+ * 专业以字典ID、性别以1字节编码存储，实体和DTO中仍为名称字符串（由转换器映射为共享实例）
+ * 
  * @author System
  * @version 1.0
  */
 @Entity
-@Table(name = "students")
+@Table(name = "students", uniqueConstraints =
+        @UniqueConstraint(name = Student.STUDENT_NUMBER_CONSTRAINT, columnNames = "student_number"))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Student.CACHE_REGION)
 public class Student {
 
+    /** 实体二级缓存区域 */
+    public static final String CACHE_REGION = "student";
+
+    /** 查询缓存区域 */
+    public static final String QUERY_CACHE_REGION = "student-queries";
+
+    /** 学号唯一约束名（用于识别重复学号导致的插入/更新失败） */
+    public static final String STUDENT_NUMBER_CONSTRAINT = "uk_students_student_number";
+
+    /** 主键在应用内按时间递增生成（见 IdGenerator），插入前即已确定，INSERT 可批量执行 */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = HibernateIdGenerator.NAME)
+    @GenericGenerator(name = HibernateIdGenerator.NAME,
+            strategy = "com.example.studentmanagement.id.HibernateIdGenerator")
     private Long id;
 
     @NotBlank(message = "学生姓名不能为空")
@@ -26,7 +47,7 @@ public class Student {
 
     @NotBlank(message = "学号不能为空")
     @Pattern(regexp = "^[0-9]{8,12}$", message = "学号必须是8-12位数字")
-    @Column(name = "student_number", nullable = false, unique = true, length = 12)
+    @Column(name = "student_number", nullable = false, length = 12)
     private String studentNumber;
 
     @NotNull(message = "年龄不能为空")
@@ -37,14 +58,21 @@ public class Student {
 
     @NotNull(message = "性别不能为空")
     @Pattern(regexp = "^(男|女)$", message = "性别只能是男或女")
-    @Column(name = "gender", nullable = false, length = 2)
+    @Convert(converter = GenderConverter.class)
+    @Column(name = "gender", nullable = false)
     private String gender;
 
     @NotBlank(message = "专业不能为空")
     @Size(min = 2, max = 50, message = "专业名称长度必须在2-50个字符之间")
-    @Column(name = "major", nullable = false, length = 50)
+    @Convert(converter = MajorConverter.class)
+    @Column(name = "major_id", nullable = false)
     private String major;
 
+    /** 只读关联，用于生成外键约束和按专业名称排序 */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "major_id", insertable = false, updatable = false)
+    private Major majorRecord;
+
     @Email(message = "邮箱格式不正确")
     @Column(name = "email", length = 100)
     private String email;
@@ -0,0 +1,130 @@
+package com.example.studentmanagement.entity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 学生变更日志实体类
+ * 
+ * 每次新增、修改、删除学生都会追加一条记录，删除操作以墓碑（DELETE）记录保留，供下游系统增量同步使用。
+ * 同步游标是版本号而不是自增主键：同一事务写入的记录共用一个版本号，版本号按提交顺序递增。
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Entity
+@Table(name = "student_changes", indexes = {
+        @Index(name = "idx_student_changes_student_id", columnList = "student_id"),
+        @Index(name = "idx_student_changes_version", columnList = "version")
+})
+public class StudentChange {
+
+    /**
+     * 变更类型
+     */
+    public enum ChangeType {
+        /** 新增或修改 */
+        UPSERT,
+        /** 删除（墓碑） */
+        DELETE
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @Column(name = "student_number", length = 12)
+    private String studentNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 10)
+    private ChangeType changeType;
+
+    @Column(name = "changed_time", nullable = false)
+    private LocalDateTime changedTime;
+
+    /** 版本号（写入事务分配，按提交顺序递增） */
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // 构造函数
+    public StudentChange() {
+    }
+
+    public StudentChange(Long studentId, String studentNumber, ChangeType changeType, Long version) {
+        this.studentId = studentId;
+        this.studentNumber = studentNumber;
+        this.changeType = changeType;
+        this.version = version;
+    }
+
+    // JPA生命周期回调
+    @PrePersist
+    protected void onCreate() {
+        changedTime = LocalDateTime.now();
+    }
+
+    // Getter和Setter方法
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public String getStudentNumber() {
+        return studentNumber;
+    }
+
+    public void setStudentNumber(String studentNumber) {
+        this.studentNumber = studentNumber;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public void setChangeType(ChangeType changeType) {
+        this.changeType = changeType;
+    }
+
+    public LocalDateTime getChangedTime() {
+        return changedTime;
+    }
+
+    public void setChangedTime(LocalDateTime changedTime) {
+        this.changedTime = changedTime;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    @Override
+    public String toString() {
+        return "StudentChange{" +
+                "id=" + id +
+                ", studentId=" + studentId +
+                ", studentNumber='" + studentNumber + '\'' +
+                ", changeType=" + changeType +
+                ", changedTime=" + changedTime +
+                ", version=" + version +
+                '}';
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.studentmanagement.entity;
+
+import javax.persistence.*;
+
+/**
+ * 变更日志版本号计数器（单行表）
+ * 
+ * 写事务在追加变更日志前递增该行并取得本事务的版本号，行锁一直持有到事务结束，
+ * 因此版本号的分配顺序与提交顺序一致，见 {@link com.example.studentmanagement.repository.StudentChangeVersionRepository}。
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Entity
+@Table(name = "student_change_clock")
+public class StudentChangeClock {
+
+    /** 唯一一行的主键 */
+    public static final long ROW_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // 构造函数
+    public StudentChangeClock() {
+    }
+
+    public StudentChangeClock(Long id, Long version) {
+        this.id = id;
+        this.version = version;
+    }
+
+    // Getter和Setter方法
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,299 @@
+package com.example.studentmanagement.entity;
+
+import org.hibernate.annotations.DynamicUpdate;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 后台任务实体类
+ *
+ * 长时间运行的批量操作（导入、导出、批量删除）以任务形式在后台分块执行，
+ * 每处理完一块就在同一事务中提交处理结果和断点（cursor），
+ * 进程崩溃或重启后从最后提交的断点继续。
+ *
+ * 只更新有变化的列，执行线程保存进度时不会覆盖并发写入的取消标记。
+ *
+ * @author System
+ * @version 1.0
+ */
+@Entity
+@Table(name = "student_jobs", indexes = {
+        @Index(name = "idx_student_jobs_status", columnList = "status")
+})
+@DynamicUpdate
+public class StudentJob {
+
+    /**
+     * 任务类型
+     */
+    public enum JobType {
+        /** CSV导入 */
+        IMPORT,
+        /** CSV导出 */
+        EXPORT,
+        /** 批量删除 */
+        BATCH_DELETE
+    }
+
+    /**
+     * 任务状态
+     */
+    public enum JobStatus {
+        /** 排队中 */
+        QUEUED,
+        /** 执行中 */
+        RUNNING,
+        /** 已完成 */
+        SUCCEEDED,
+        /** 已失败 */
+        FAILED,
+        /** 已取消 */
+        CANCELLED;
+
+        /**
+         * 是否已结束（不会再变化）
+         *
+         * @return 已结束时返回 true
+         */
+        public boolean isFinished() {
+            return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+        }
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", nullable = false, length = 20)
+    private JobType jobType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private JobStatus status;
+
+    /** 任务使用的文件：导入的源文件或导出的目标文件 */
+    @Column(name = "file_path", length = 500)
+    private String filePath;
+
+    /** 任务参数（JSON） */
+    @Lob
+    @Column(name = "parameters")
+    private String parameters;
+
+    /** 断点：最后提交的块之后的位置，含义由任务类型决定 */
+    @Column(name = "cursor_position", nullable = false)
+    private long cursor;
+
+    /** 已处理的条数 */
+    @Column(name = "processed", nullable = false)
+    private long processed;
+
+    /** 总条数，事先无法确定时为空 */
+    @Column(name = "total")
+    private Long total;
+
+    /** 进度百分比（0-100） */
+    @Column(name = "progress", nullable = false)
+    private int progress;
+
+    /** 导出任务已提交的输出文件字节数，续跑时截断到该长度 */
+    @Column(name = "output_size", nullable = false)
+    private long outputSize;
+
+    /** 任务结果（JSON） */
+    @Lob
+    @Column(name = "result")
+    private String result;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    @Column(name = "cancel_requested", nullable = false)
+    private boolean cancelRequested;
+
+    @Column(name = "created_time", nullable = false)
+    private LocalDateTime createdTime;
+
+    @Column(name = "started_time")
+    private LocalDateTime startedTime;
+
+    @Column(name = "finished_time")
+    private LocalDateTime finishedTime;
+
+    @Column(name = "updated_time")
+    private LocalDateTime updatedTime;
+
+    // 构造函数
+    public StudentJob() {
+    }
+
+    public StudentJob(JobType jobType) {
+        this.jobType = jobType;
+        this.status = JobStatus.QUEUED;
+    }
+
+    // JPA生命周期回调
+    @PrePersist
+    protected void onCreate() {
+        createdTime = LocalDateTime.now();
+        updatedTime = createdTime;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedTime = LocalDateTime.now();
+    }
+
+    // Getter和Setter方法
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public JobType getJobType() {
+        return jobType;
+    }
+
+    public void setJobType(JobType jobType) {
+        this.jobType = jobType;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(JobStatus status) {
+        this.status = status;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public void setFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public String getParameters() {
+        return parameters;
+    }
+
+    public void setParameters(String parameters) {
+        this.parameters = parameters;
+    }
+
+    public long getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(long cursor) {
+        this.cursor = cursor;
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public void setProcessed(long processed) {
+        this.processed = processed;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public void setTotal(Long total) {
+        this.total = total;
+    }
+
+    public int getProgress() {
+        return progress;
+    }
+
+    public void setProgress(int progress) {
+        this.progress = progress;
+    }
+
+    public long getOutputSize() {
+        return outputSize;
+    }
+
+    public void setOutputSize(long outputSize) {
+        this.outputSize = outputSize;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public void setResult(String result) {
+        this.result = result;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    public void setCancelRequested(boolean cancelRequested) {
+        this.cancelRequested = cancelRequested;
+    }
+
+    public LocalDateTime getCreatedTime() {
+        return createdTime;
+    }
+
+    public void setCreatedTime(LocalDateTime createdTime) {
+        this.createdTime = createdTime;
+    }
+
+    public LocalDateTime getStartedTime() {
+        return startedTime;
+    }
+
+    public void setStartedTime(LocalDateTime startedTime) {
+        this.startedTime = startedTime;
+    }
+
+    public LocalDateTime getFinishedTime() {
+        return finishedTime;
+    }
+
+    public void setFinishedTime(LocalDateTime finishedTime) {
+        this.finishedTime = finishedTime;
+    }
+
+    public LocalDateTime getUpdatedTime() {
+        return updatedTime;
+    }
+
+    public void setUpdatedTime(LocalDateTime updatedTime) {
+        this.updatedTime = updatedTime;
+    }
+
+    @Override
+    public String toString() {
+        return "StudentJob{" +
+                "id=" + id +
+                ", jobType=" + jobType +
+                ", status=" + status +
+                ", cursor=" + cursor +
+                ", processed=" + processed +
+                ", total=" + total +
+                ", progress=" + progress +
+                ", cancelRequested=" + cancelRequested +
+                '}';
+    }
+}
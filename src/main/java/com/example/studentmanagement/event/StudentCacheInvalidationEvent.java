@@ -0,0 +1,64 @@
+package com.example.studentmanagement.event;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 学生缓存失效事件
+ * 
+ * 写操作发布，携带被修改或删除的学生ID和学号（新增学生不在任何缓存中，可为空），
+ * 事务提交后由失效总线广播给其他实例；students 表的任何写入都同时意味着统计和列表查询失效。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public final class StudentCacheInvalidationEvent {
+
+    private final List<Long> studentIds;
+    private final List<String> studentNumbers;
+
+    private StudentCacheInvalidationEvent(List<Long> studentIds, List<String> studentNumbers) {
+        this.studentIds = studentIds;
+        this.studentNumbers = studentNumbers;
+    }
+
+    /**
+     * 单个学生
+     * 
+     * @param studentId 学生ID
+     * @param studentNumbers 学号（修改学号时同时包含新旧学号）
+     * @return 事件
+     */
+    public static StudentCacheInvalidationEvent of(Long studentId, String... studentNumbers) {
+        return new StudentCacheInvalidationEvent(Collections.singletonList(studentId), List.of(studentNumbers));
+    }
+
+    /**
+     * 多个学生
+     * 
+     * @param studentIds 学生ID
+     * @param studentNumbers 学号
+     * @return 事件
+     */
+    public static StudentCacheInvalidationEvent of(Collection<Long> studentIds, Collection<String> studentNumbers) {
+        return new StudentCacheInvalidationEvent(List.copyOf(studentIds), List.copyOf(studentNumbers));
+    }
+
+    /**
+     * 只有新增学生（只需使统计和列表查询失效）
+     * 
+     * @return 事件
+     */
+    public static StudentCacheInvalidationEvent queriesOnly() {
+        return new StudentCacheInvalidationEvent(Collections.emptyList(), Collections.emptyList());
+    }
+
+    public List<Long> getStudentIds() {
+        return studentIds;
+    }
+
+    public List<String> getStudentNumbers() {
+        return studentNumbers;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.studentmanagement.event;
+
+/**
+ * 学生数据变更事件
+ * 
+ * 写操作在变更日志中追加记录后发布（一次写操作发布一次），不携带具体变更内容，
+ * 监听方根据变更日志自行增量同步。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public final class StudentsChangedEvent {
+
+    /** 事件不携带数据，所有发布方共用同一实例 */
+    public static final StudentsChangedEvent INSTANCE = new StudentsChangedEvent();
+
+    private StudentsChangedEvent() {
+    }
+}
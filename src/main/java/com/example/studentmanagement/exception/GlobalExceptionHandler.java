@@ -9,6 +9,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
@@ -99,6 +100,31 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.badRequest(message));
     }
 
+    /**
+     * 处理学生业务异常，状态码由异常类型决定
+     * 
+     * @param ex 异常
+     * @return 错误响应
+     */
+    @ExceptionHandler(StudentException.class)
+    public ResponseEntity<ApiResponse<String>> handleStudentException(StudentException ex) {
+        return ResponseEntity.status(ex.getStatus())
+                .body(ApiResponse.error(ex.getStatus().value(), ex.getMessage()));
+    }
+
+    /**
+     * 处理上传文件超过大小限制
+     * 
+     * @param ex 异常
+     * @return 错误响应
+     */
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ApiResponse<String>> handleMaxUploadSizeExceededException(
+            MaxUploadSizeExceededException ex) {
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                .body(ApiResponse.error(HttpStatus.PAYLOAD_TOO_LARGE.value(), "上传内容超过大小限制"));
+    }
+
     /**
      * 处理运行时异常
      * 
@@ -107,20 +133,8 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ApiResponse<String>> handleRuntimeException(RuntimeException ex) {
-        // 根据异常消息判断错误类型
-        String message = ex.getMessage();
-        if (message != null) {
-            if (message.contains("不存在") || message.contains("未找到")) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body(ApiResponse.notFound(message));
-            } else if (message.contains("已存在") || message.contains("重复")) {
-                return ResponseEntity.status(HttpStatus.CONFLICT)
-                        .body(ApiResponse.conflict(message));
-            }
-        }
-        
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(ApiResponse.error("操作失败: " + message));
+                .body(ApiResponse.error("操作失败: " + ex.getMessage()));
     }
 
     /**
@@ -0,0 +1,26 @@
+package com.example.studentmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 学生数据冲突异常（409）
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class StudentConflictException extends StudentException {
+
+    public StudentConflictException(String message) {
+        super(HttpStatus.CONFLICT, message);
+    }
+
+    /**
+     * 学号已被占用
+     * 
+     * @param studentNumber 学号
+     * @return 异常
+     */
+    public static StudentConflictException duplicateStudentNumber(String studentNumber) {
+        return new StudentConflictException("学号已存在: " + studentNumber);
+    }
+}
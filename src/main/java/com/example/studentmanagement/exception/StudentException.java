@@ -0,0 +1,31 @@
+package com.example.studentmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 学生业务异常基类
+ * 
+ * 业务异常（学生不存在、学号冲突、参数不合法）属于预期内的失败，
+ * 不填充堆栈、不支持抑制异常，创建成本接近普通对象；由异常类型直接决定HTTP状态码。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public abstract class StudentException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    protected StudentException(HttpStatus status, String message) {
+        super(message, null, false, false);
+        this.status = status;
+    }
+
+    /**
+     * 对应的HTTP状态码
+     * 
+     * @return HTTP状态码
+     */
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.studentmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 后台任务排队已满，拒绝提交（503）
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class StudentJobRejectedException extends StudentException {
+
+    public StudentJobRejectedException(String message) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, message);
+    }
+}
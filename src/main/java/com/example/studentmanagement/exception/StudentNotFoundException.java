@@ -0,0 +1,36 @@
+package com.example.studentmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 学生不存在异常（404）
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class StudentNotFoundException extends StudentException {
+
+    public StudentNotFoundException(String message) {
+        super(HttpStatus.NOT_FOUND, message);
+    }
+
+    /**
+     * 按ID查找不到学生
+     * 
+     * @param id 学生ID
+     * @return 异常
+     */
+    public static StudentNotFoundException ofId(Long id) {
+        return new StudentNotFoundException("学生不存在，ID: " + id);
+    }
+
+    /**
+     * 按学号查找不到学生
+     * 
+     * @param studentNumber 学号
+     * @return 异常
+     */
+    public static StudentNotFoundException ofStudentNumber(String studentNumber) {
+        return new StudentNotFoundException("学生不存在，学号: " + studentNumber);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.studentmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 当前部署方式不支持的操作（如分片模式下的跨分片批量操作），拒绝请求（501）
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class StudentOperationNotSupportedException extends StudentException {
+
+    public StudentOperationNotSupportedException(String message) {
+        super(HttpStatus.NOT_IMPLEMENTED, message);
+    }
+}
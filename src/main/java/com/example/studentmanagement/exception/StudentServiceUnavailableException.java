@@ -0,0 +1,16 @@
+package com.example.studentmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 数据库暂时不可用（查询超时、无法获取连接或熔断器打开），拒绝请求（503）
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class StudentServiceUnavailableException extends StudentException {
+
+    public StudentServiceUnavailableException(String message) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.studentmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 学生业务参数校验异常（400）
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class StudentValidationException extends StudentException {
+
+    public StudentValidationException(String message) {
+        super(HttpStatus.BAD_REQUEST, message);
+    }
+}
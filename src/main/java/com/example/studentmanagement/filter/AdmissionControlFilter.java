@@ -0,0 +1,226 @@
+package com.example.studentmanagement.filter;
+
+import com.example.studentmanagement.dto.ApiResponse;
+import com.example.studentmanagement.util.AdaptiveConcurrencyLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * 准入控制过滤器
+ * 
+ * 所有学生接口共享一个自适应并发上限（近似数据库的实际处理能力），超出的请求立即返回
+ * 503 和 Retry-After，而不是在连接池前排队直到超时。接口按代价分级：
+ * 单条查询可使用全部上限，写操作可使用 80%，全表/分页/统计/批量查询类扫描只能使用 50%，
+ * 并且每一级还有各自的固定并发上限。
+ * 异步请求（如流式CSV导出）在响应写完、异步处理结束时才归还许可并计入响应时间。
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(prefix = "app.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final Pattern POINT_LOOKUP = Pattern.compile(
+            "^/api/(students/(\\d+|number/[^/]+|exists/[^/]+|suggest|search/fuzzy)|jobs/\\d+)$");
+
+    /** 批量查询虽然是 POST 但只读，按扫描类计 */
+    private static final String BATCH_LOOKUP_PATH = "/api/students/lookup";
+
+    /**
+     * 接口等级
+     */
+    enum EndpointClass {
+        /** 单条查询 */
+        POINT(1.0),
+        /** 写操作 */
+        WRITE(0.8),
+        /** 全表、分页、统计等扫描类查询 */
+        SCAN(0.5);
+
+        private final double share;
+
+        EndpointClass(double share) {
+            this.share = share;
+        }
+    }
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Map<EndpointClass, Semaphore> endpointLimits = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> rejectedCounters = new EnumMap<>(EndpointClass.class);
+    private final ObjectMapper objectMapper;
+    private final String retryAfterSeconds;
+
+    public AdmissionControlFilter(ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.admission.initial-limit:20}") int initialLimit,
+                                  @Value("${app.admission.min-limit:4}") int minLimit,
+                                  @Value("${app.admission.max-limit:200}") int maxLimit,
+                                  @Value("${app.admission.smoothing:0.2}") double smoothing,
+                                  @Value("${app.admission.point-max-concurrency:200}") int pointMaxConcurrency,
+                                  @Value("${app.admission.write-max-concurrency:50}") int writeMaxConcurrency,
+                                  @Value("${app.admission.scan-max-concurrency:8}") int scanMaxConcurrency,
+                                  @Value("${app.admission.retry-after-seconds:1}") int retryAfterSeconds) {
+        this.objectMapper = objectMapper;
+        this.limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, smoothing);
+        this.retryAfterSeconds = String.valueOf(retryAfterSeconds);
+        endpointLimits.put(EndpointClass.POINT, new Semaphore(pointMaxConcurrency));
+        endpointLimits.put(EndpointClass.WRITE, new Semaphore(writeMaxConcurrency));
+        endpointLimits.put(EndpointClass.SCAN, new Semaphore(scanMaxConcurrency));
+
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            rejectedCounters.put(endpointClass, Counter.builder("student.admission.rejected")
+                    .tag("endpoint", endpointClass.name().toLowerCase())
+                    .description("因过载被拒绝的请求数")
+                    .register(meterRegistry));
+        }
+        Gauge.builder("student.admission.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("当前自适应并发上限").register(meterRegistry);
+        Gauge.builder("student.admission.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("当前处理中的请求数").register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        EndpointClass endpointClass = classify(request);
+        Semaphore endpointLimit = endpointLimits.get(endpointClass);
+        if (!endpointLimit.tryAcquire()) {
+            reject(endpointClass, response);
+            return;
+        }
+        if (!limiter.tryAcquire(endpointClass.share)) {
+            endpointLimit.release();
+            reject(endpointClass, response);
+            return;
+        }
+        Admission admission = new Admission(endpointLimit, response);
+        boolean failed = true;
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+            if (request.isAsyncStarted()) {
+                // 流式导出等异步请求在响应体写完后才结束，许可和耗时采样保留到异步请求完成
+                request.getAsyncContext().addListener(admission);
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                admission.finish(failed);
+            }
+        }
+    }
+
+    /**
+     * 根据请求方法和路径判断接口等级
+     * 
+     * @param request 请求
+     * @return 接口等级
+     */
+    EndpointClass classify(HttpServletRequest request) {
+        if (BATCH_LOOKUP_PATH.equals(request.getRequestURI())) {
+            return EndpointClass.SCAN;
+        }
+        if (!"GET".equals(request.getMethod())) {
+            return EndpointClass.WRITE;
+        }
+        return POINT_LOOKUP.matcher(request.getRequestURI()).matches() ? EndpointClass.POINT : EndpointClass.SCAN;
+    }
+
+    private void reject(EndpointClass endpointClass, HttpServletResponse response) throws IOException {
+        rejectedCounters.get(endpointClass).increment();
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResponse.error(HttpStatus.SERVICE_UNAVAILABLE.value(), "服务繁忙，请稍后重试"));
+    }
+
+    /**
+     * 一次已准入的请求：请求结束（同步返回或异步完成）时归还许可并提交耗时采样，只执行一次
+     */
+    private final class Admission implements AsyncListener {
+
+        private final Semaphore endpointLimit;
+        private final HttpServletResponse response;
+        private final long start = System.nanoTime();
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        Admission(Semaphore endpointLimit, HttpServletResponse response) {
+            this.endpointLimit = endpointLimit;
+            this.response = response;
+        }
+
+        void finish(boolean failed) {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                int status = response.getStatus();
+                if (failed || status >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                    limiter.onDropped();
+                } else if (status >= HttpStatus.BAD_REQUEST.value()) {
+                    limiter.onIgnore();
+                } else {
+                    limiter.onSuccess(System.nanoTime() - start);
+                }
+            } finally {
+                endpointLimit.release();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            finish(false);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            finish(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            finish(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 异步请求再次开始时监听器被移除，需要重新注册
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.studentmanagement.id;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+import java.util.Properties;
+
+/**
+ * 将 {@link IdGenerator} 接入 Hibernate 的主键生成策略
+ *
+ * Hibernate 自行实例化该类，所用的 IdGenerator 实例通过 Hibernate 配置项
+ * {@value #ID_GENERATOR_SETTING} 传入（见 IdGeneratorConfig）。
+ * 与 IDENTITY 不同，主键在插入前分配，Hibernate 可以批量执行 INSERT。
+ *
+ * @author System
+ * @version 1.0
+ */
+public class HibernateIdGenerator implements IdentifierGenerator {
+
+    /** 在实体的 @GenericGenerator 中引用的生成器名称 */
+    public static final String NAME = "app-id-generator";
+
+    /** 保存 IdGenerator 实例的 Hibernate 配置项 */
+    public static final String ID_GENERATOR_SETTING = "app.id_generator";
+
+    private IdGenerator idGenerator;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        Object configured = serviceRegistry.getService(ConfigurationService.class)
+                .getSettings().get(ID_GENERATOR_SETTING);
+        if (!(configured instanceof IdGenerator)) {
+            throw new MappingException("未配置主键生成器，Hibernate配置项 " + ID_GENERATOR_SETTING
+                    + " 应为 " + IdGenerator.class.getName() + " 实例");
+        }
+        this.idGenerator = (IdGenerator) configured;
+    }
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) {
+        return idGenerator.nextId();
+    }
+}
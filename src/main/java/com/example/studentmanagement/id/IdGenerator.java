@@ -0,0 +1,21 @@
+package com.example.studentmanagement.id;
+
+/**
+ * 主键生成器
+ *
+ * 在应用内存中分配学生主键，插入前即可得到ID，多个实例或分片之间无需协调。
+ * 默认实现为 {@link SnowflakeIdGenerator}，可通过声明自定义的 IdGenerator Bean 替换。
+ *
+ * @author System
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    /**
+     * 生成下一个ID，实现必须线程安全，且生成的ID全局唯一
+     *
+     * @return 新ID
+     */
+    long nextId();
+}
@@ -0,0 +1,54 @@
+package com.example.studentmanagement.id;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.ZoneOffset;
+
+/**
+ * 主键生成配置
+ *
+ * 同一个 IdGenerator 实例同时供 Hibernate（学生实体）、CSV批量导入和分片仓库使用。
+ * 未配置节点号时按单实例部署使用0；开启跨实例缓存失效或分片（即多实例写入）时必须显式配置，
+ * 否则拒绝启动，避免各实例使用相同节点号在同一毫秒生成重复ID。
+ *
+ * @author System
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(IdGeneratorProperties.class)
+public class IdGeneratorConfig {
+
+    /** 表示多实例写入的配置项 */
+    private static final String[] MULTI_NODE_FLAGS = {"app.cache-bus.enabled", "app.sharding.enabled"};
+
+    @Bean
+    @ConditionalOnMissingBean
+    public IdGenerator idGenerator(IdGeneratorProperties properties, Environment environment) {
+        return new SnowflakeIdGenerator(resolveNodeId(properties, environment),
+                properties.getEpoch().atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli(),
+                properties.getMaxClockBackwardMs());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer idGeneratorHibernatePropertiesCustomizer(IdGenerator idGenerator) {
+        return properties -> properties.put(HibernateIdGenerator.ID_GENERATOR_SETTING, idGenerator);
+    }
+
+    private static int resolveNodeId(IdGeneratorProperties properties, Environment environment) {
+        if (properties.getNodeId() != null) {
+            return properties.getNodeId();
+        }
+        for (String multiNodeFlag : MULTI_NODE_FLAGS) {
+            if (environment.getProperty(multiNodeFlag, Boolean.class, false)) {
+                throw new IllegalStateException("已开启 " + multiNodeFlag
+                        + "，多实例写入时必须为每个实例配置不同的 app.id-generator.node-id");
+            }
+        }
+        return 0;
+    }
+}
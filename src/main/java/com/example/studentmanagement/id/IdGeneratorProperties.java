@@ -0,0 +1,51 @@
+package com.example.studentmanagement.id;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * 主键生成配置
+ *
+ * @author System
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "app.id-generator")
+public class IdGeneratorProperties {
+
+    /** 节点号（0-31），写同一数据库或同一组分片的各实例必须不同；未配置时为null */
+    private Integer nodeId;
+
+    /** 时间戳纪元（UTC零点），上线后不可修改 */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate epoch = LocalDate.of(2024, 1, 1);
+
+    /** 允许等待的最大时钟回拨（毫秒），超过时拒绝生成ID */
+    private long maxClockBackwardMs = 10;
+
+    // Getter和Setter方法
+    public Integer getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(Integer nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public LocalDate getEpoch() {
+        return epoch;
+    }
+
+    public void setEpoch(LocalDate epoch) {
+        this.epoch = epoch;
+    }
+
+    public long getMaxClockBackwardMs() {
+        return maxClockBackwardMs;
+    }
+
+    public void setMaxClockBackwardMs(long maxClockBackwardMs) {
+        this.maxClockBackwardMs = maxClockBackwardMs;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.studentmanagement.id;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 按时间递增的雪花算法ID生成器
+ *
+ * ID共53位：41位毫秒时间戳（相对纪元，约69年）+ 5位节点号 + 7位毫秒内序号，
+ * 控制在53位以内使前端 JavaScript 的 Number 能精确表示。
+ * 同一节点每毫秒最多生成128个ID，用尽后等待下一毫秒；
+ * 时钟回拨不超过允许值时等待时钟追上，超过时拒绝生成，避免与回拨前已发出的ID重复。
+ *
+ * @author System
+ * @version 1.0
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    public static final int TIMESTAMP_BITS = 41;
+    public static final int NODE_BITS = 5;
+    public static final int SEQUENCE_BITS = 7;
+
+    /** 节点号上限（含） */
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final long MAX_TIMESTAMP = (1L << TIMESTAMP_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final long epochMillis;
+    private final long maxBackwardMillis;
+    private final LongSupplier clock;
+
+    private long lastTimestamp = -1;
+    private long sequence;
+
+    // 构造函数
+    public SnowflakeIdGenerator(int nodeId, long epochMillis, long maxBackwardMillis) {
+        this(nodeId, epochMillis, maxBackwardMillis, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(int nodeId, long epochMillis, long maxBackwardMillis, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("节点号必须在0-" + MAX_NODE_ID + "之间: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.epochMillis = epochMillis;
+        this.maxBackwardMillis = maxBackwardMillis;
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized long nextId() {
+        long timestamp = currentTimestamp();
+        if (timestamp < lastTimestamp) {
+            long backward = lastTimestamp - timestamp;
+            if (backward > maxBackwardMillis) {
+                throw new IllegalStateException("系统时钟回拨" + backward + "毫秒，超过允许的"
+                        + maxBackwardMillis + "毫秒，拒绝生成ID");
+            }
+            timestamp = waitUntil(lastTimestamp);
+        }
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 本毫秒序号用尽
+                timestamp = waitUntil(lastTimestamp + 1);
+            }
+        } else {
+            sequence = 0;
+        }
+        if (timestamp > MAX_TIMESTAMP) {
+            throw new IllegalStateException("ID时间戳超出" + TIMESTAMP_BITS + "位范围，请调整纪元");
+        }
+        lastTimestamp = timestamp;
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    /**
+     * 从ID中解析节点号
+     *
+     * @param id ID
+     * @return 节点号
+     */
+    public static int nodeIdOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+
+    /**
+     * 从ID中解析生成时间
+     *
+     * @param id ID
+     * @return 生成时间（毫秒时间戳）
+     */
+    public long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + epochMillis;
+    }
+
+    private long waitUntil(long target) {
+        long timestamp = currentTimestamp();
+        while (timestamp < target) {
+            Thread.onSpinWait();
+            timestamp = currentTimestamp();
+        }
+        return timestamp;
+    }
+
+    private long currentTimestamp() {
+        return clock.getAsLong() - epochMillis;
+    }
+}
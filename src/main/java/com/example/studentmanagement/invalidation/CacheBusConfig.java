@@ -0,0 +1,60 @@
+package com.example.studentmanagement.invalidation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.persistence.EntityManagerFactory;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 跨实例缓存失效配置
+ * 
+ * 多实例部署时开启（app.cache-bus.enabled=true），单实例部署无需开启。
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.cache-bus", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(CacheBusProperties.class)
+public class CacheBusConfig {
+
+    @Bean(destroyMethod = "close")
+    public InvalidationTransport invalidationTransport(CacheBusProperties properties,
+                                                       ObjectMapper objectMapper) throws SocketException {
+        if (properties.getTransport() == CacheBusProperties.Transport.IN_PROCESS) {
+            return new InProcessInvalidationTransport(properties.getChannel());
+        }
+        List<InetSocketAddress> peers = properties.getUdpPeers().stream()
+                .map(CacheBusConfig::parseAddress)
+                .collect(Collectors.toList());
+        return new UdpInvalidationTransport(
+                new InetSocketAddress(properties.getUdpHost(), properties.getUdpPort()), peers, objectMapper);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public CacheInvalidationBus cacheInvalidationBus(InvalidationTransport invalidationTransport,
+                                                     EntityManagerFactory entityManagerFactory,
+                                                     ApplicationEventPublisher eventPublisher,
+                                                     CacheBusProperties properties) {
+        return new CacheInvalidationBus(invalidationTransport, entityManagerFactory.unwrap(SessionFactory.class),
+                eventPublisher, properties.getMaxKeysPerMessage(), properties.getRedeleteDelayMs(),
+                properties.getHeartbeatIntervalMs());
+    }
+
+    private static InetSocketAddress parseAddress(String address) {
+        int colon = address.lastIndexOf(':');
+        if (colon <= 0) {
+            throw new IllegalArgumentException("UDP对端地址格式应为 host:port: " + address);
+        }
+        return new InetSocketAddress(address.substring(0, colon), Integer.parseInt(address.substring(colon + 1)));
+    }
+}
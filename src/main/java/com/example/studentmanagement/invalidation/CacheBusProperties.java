@@ -0,0 +1,114 @@
+package com.example.studentmanagement.invalidation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 跨实例缓存失效配置
+ * 
+ * @author System
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "app.cache-bus")
+public class CacheBusProperties {
+
+    /**
+     * 传输方式
+     */
+    public enum Transport {
+        /** 同一 JVM 内按频道名互通 */
+        IN_PROCESS,
+        /** UDP 数据报发给配置的对端 */
+        UDP
+    }
+
+    private Transport transport = Transport.UDP;
+
+    /** 进程内传输的频道名 */
+    private String channel = "students";
+
+    /** UDP 监听地址 */
+    private String udpHost = "0.0.0.0";
+
+    /** UDP 监听端口 */
+    private int udpPort = 7600;
+
+    /** UDP 对端地址（host:port），不含本实例 */
+    private List<String> udpPeers = new ArrayList<>();
+
+    /** 单条消息最多携带的ID和学号数，超过时改为整体失效 */
+    private int maxKeysPerMessage = 1000;
+
+    /** 收到消息后再次失效的间隔（毫秒），为0时不再次失效 */
+    private long redeleteDelayMs = 500;
+
+    /** 发送心跳（携带最近一条消息的序号）的间隔（毫秒），为0时不发送 */
+    private long heartbeatIntervalMs = 1000;
+
+    // Getter和Setter方法
+    public Transport getTransport() {
+        return transport;
+    }
+
+    public void setTransport(Transport transport) {
+        this.transport = transport;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public void setChannel(String channel) {
+        this.channel = channel;
+    }
+
+    public String getUdpHost() {
+        return udpHost;
+    }
+
+    public void setUdpHost(String udpHost) {
+        this.udpHost = udpHost;
+    }
+
+    public int getUdpPort() {
+        return udpPort;
+    }
+
+    public void setUdpPort(int udpPort) {
+        this.udpPort = udpPort;
+    }
+
+    public List<String> getUdpPeers() {
+        return udpPeers;
+    }
+
+    public void setUdpPeers(List<String> udpPeers) {
+        this.udpPeers = udpPeers;
+    }
+
+    public int getMaxKeysPerMessage() {
+        return maxKeysPerMessage;
+    }
+
+    public void setMaxKeysPerMessage(int maxKeysPerMessage) {
+        this.maxKeysPerMessage = maxKeysPerMessage;
+    }
+
+    public long getRedeleteDelayMs() {
+        return redeleteDelayMs;
+    }
+
+    public void setRedeleteDelayMs(long redeleteDelayMs) {
+        this.redeleteDelayMs = redeleteDelayMs;
+    }
+
+    public long getHeartbeatIntervalMs() {
+        return heartbeatIntervalMs;
+    }
+
+    public void setHeartbeatIntervalMs(long heartbeatIntervalMs) {
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+    }
+}
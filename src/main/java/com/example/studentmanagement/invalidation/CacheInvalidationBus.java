@@ -0,0 +1,218 @@
+package com.example.studentmanagement.invalidation;
+
+import com.example.studentmanagement.entity.Student;
+import com.example.studentmanagement.event.StudentCacheInvalidationEvent;
+import com.example.studentmanagement.event.StudentsChangedEvent;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 跨实例缓存失效总线
+ * 
+ * 多实例部署时，学生实体缓存、查询缓存（列表和统计）和联想索引都是实例本地的，
+ * 一个实例的写入只会使本实例的缓存失效。本总线在写事务提交后把涉及的学生ID和学号广播出去，
+ * 其他实例收到后失效对应的实体缓存和全部查询缓存（与本地写入的语义一致），并让联想索引从变更日志追赶。
+ * 
+ * 消息按实例序号处理：重复或迟到（序号不大于已处理序号）的消息丢弃，
+ * 序号跳跃说明有消息丢失，此时整体清空学生缓存，因此丢弃迟到消息不会漏掉失效。
+ * 最后几条消息丢失时没有后续消息暴露跳跃，因此各实例定期发送心跳，携带最近一条消息的序号；
+ * 心跳序号大于已处理序号同样说明有消息丢失，按序号跳跃处理。
+ * 收到消息时正在读取旧数据的请求可能在失效之后把旧数据写回缓存，因此间隔一段时间后再失效一次。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class CacheInvalidationBus implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    /**
+     * 消息按序号的处理结果
+     */
+    enum Delivery {
+        /** 紧接上一条，按消息内容失效 */
+        APPLY,
+        /** 重复或迟到，丢弃 */
+        STALE,
+        /** 中间有消息丢失，整体失效 */
+        GAP
+    }
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, Long> lastSequences = new ConcurrentHashMap<>();
+
+    private final InvalidationTransport transport;
+    private final SessionFactory sessionFactory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxKeysPerMessage;
+    private final long redeleteDelayMs;
+    private final long heartbeatIntervalMs;
+    private final ScheduledExecutorService scheduler;
+
+    private final AtomicLong applied = new AtomicLong();
+    private final AtomicLong stale = new AtomicLong();
+    private final AtomicLong gaps = new AtomicLong();
+
+    public CacheInvalidationBus(InvalidationTransport transport,
+                                SessionFactory sessionFactory,
+                                ApplicationEventPublisher eventPublisher,
+                                int maxKeysPerMessage,
+                                long redeleteDelayMs,
+                                long heartbeatIntervalMs) {
+        this.transport = transport;
+        this.sessionFactory = sessionFactory;
+        this.eventPublisher = eventPublisher;
+        this.maxKeysPerMessage = maxKeysPerMessage;
+        this.redeleteDelayMs = redeleteDelayMs;
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-invalidation-bus");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 开始接收其他实例的消息
+     */
+    public void start() {
+        transport.start(this::receive);
+        if (heartbeatIntervalMs > 0) {
+            scheduler.scheduleWithFixedDelay(this::sendHeartbeat, heartbeatIntervalMs, heartbeatIntervalMs,
+                    TimeUnit.MILLISECONDS);
+        }
+        log.info("缓存失效总线已启动，实例标识: {}", nodeId);
+    }
+
+    /**
+     * 写事务提交后广播；涉及的学生过多时改为整体失效消息
+     * 
+     * 分配序号和发送在同一把锁内，保证同一实例的消息按序号顺序发出。
+     * 
+     * @param event 缓存失效事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onStudentCacheInvalidation(StudentCacheInvalidationEvent event) {
+        boolean full = event.getStudentIds().size() + event.getStudentNumbers().size() > maxKeysPerMessage;
+        InvalidationMessage message = full
+                ? new InvalidationMessage(nodeId, sequence.incrementAndGet(),
+                Collections.emptyList(), Collections.emptyList(), true)
+                : new InvalidationMessage(nodeId, sequence.incrementAndGet(),
+                event.getStudentIds(), event.getStudentNumbers(), false);
+        transport.publish(message);
+    }
+
+    /**
+     * 发送心跳；与广播在同一把锁内，心跳不会先于它携带的序号对应的消息发出
+     */
+    synchronized void sendHeartbeat() {
+        long latest = sequence.get();
+        if (latest == 0) {
+            return;
+        }
+        try {
+            transport.publish(InvalidationMessage.heartbeat(nodeId, latest));
+        } catch (RuntimeException ex) {
+            log.warn("缓存失效心跳发送失败: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * 处理收到的消息，忽略本实例发出的消息
+     * 
+     * @param message 消息
+     */
+    public void receive(InvalidationMessage message) {
+        if (nodeId.equals(message.getOrigin())) {
+            return;
+        }
+        Delivery delivery = track(message.getOrigin(), message.getSequence(), message.isHeartbeat());
+        if (delivery == Delivery.STALE && message.isHeartbeat()) {
+            return;
+        }
+        if (delivery == Delivery.STALE) {
+            stale.incrementAndGet();
+            log.debug("丢弃重复或迟到的缓存失效消息: {}", message);
+            return;
+        }
+        boolean full = message.isFull() || delivery == Delivery.GAP;
+        if (delivery == Delivery.GAP) {
+            gaps.incrementAndGet();
+            log.warn("缓存失效消息序号跳跃，整体清空学生缓存: {}", message);
+        }
+        applied.incrementAndGet();
+        evict(message, full);
+        eventPublisher.publishEvent(StudentsChangedEvent.INSTANCE);
+        if (redeleteDelayMs > 0) {
+            scheduler.schedule(() -> evict(message, full), redeleteDelayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 记录实例的最新序号并判断消息是否按序到达；首次收到某实例的消息时期望序号为1。
+     * 心跳携带的是已发出的最新序号，大于已处理序号即说明有消息丢失。
+     */
+    Delivery track(String origin, long messageSequence, boolean heartbeat) {
+        Delivery[] delivery = new Delivery[1];
+        lastSequences.compute(origin, (key, last) -> {
+            long previous = last == null ? 0 : last;
+            if (messageSequence <= previous) {
+                delivery[0] = Delivery.STALE;
+                return last;
+            }
+            delivery[0] = messageSequence == previous + 1 && !heartbeat ? Delivery.APPLY : Delivery.GAP;
+            return messageSequence;
+        });
+        return delivery[0];
+    }
+
+    /**
+     * 失效实体缓存和查询缓存；学号只出现在查询缓存中，随查询缓存整体失效
+     */
+    private void evict(InvalidationMessage message, boolean full) {
+        Cache cache = sessionFactory.getCache();
+        if (full) {
+            cache.evictEntityData(Student.class);
+        } else {
+            message.getStudentIds().forEach(id -> cache.evictEntityData(Student.class, id));
+        }
+        cache.evictQueryRegions();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        transport.close();
+    }
+
+    // Getter方法
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public long getAppliedCount() {
+        return applied.get();
+    }
+
+    public long getStaleCount() {
+        return stale.get();
+    }
+
+    public long getGapCount() {
+        return gaps.get();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.studentmanagement.invalidation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * 进程内传输：同一 JVM 中使用同一频道名的实例互相可见，用于测试和单机多上下文部署
+ * 
+ * 每个实例在自己的接收线程中按发送顺序处理消息，与发送方的线程（及其事务上下文）隔离。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class InProcessInvalidationTransport implements InvalidationTransport {
+
+    private static final Map<String, List<InProcessInvalidationTransport>> CHANNELS = new ConcurrentHashMap<>();
+
+    private final String channel;
+    private final ExecutorService receiver;
+    private volatile Consumer<InvalidationMessage> listener;
+
+    public InProcessInvalidationTransport(String channel) {
+        this.channel = channel;
+        this.receiver = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-invalidation-" + channel);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void start(Consumer<InvalidationMessage> listener) {
+        this.listener = listener;
+        CHANNELS.computeIfAbsent(channel, name -> new CopyOnWriteArrayList<>()).add(this);
+    }
+
+    @Override
+    public void publish(InvalidationMessage message) {
+        for (InProcessInvalidationTransport member : CHANNELS.getOrDefault(channel, List.of())) {
+            member.deliver(message);
+        }
+    }
+
+    @Override
+    public void close() {
+        List<InProcessInvalidationTransport> members = CHANNELS.get(channel);
+        if (members != null) {
+            members.remove(this);
+        }
+        receiver.shutdownNow();
+    }
+
+    private void deliver(InvalidationMessage message) {
+        try {
+            receiver.execute(() -> listener.accept(message));
+        } catch (RejectedExecutionException ex) {
+            // 实例已关闭
+        }
+    }
+}
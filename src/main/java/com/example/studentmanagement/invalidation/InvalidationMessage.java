@@ -0,0 +1,123 @@
+package com.example.studentmanagement.invalidation;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 缓存失效消息
+ * 
+ * 每个实例发出的消息带有实例标识和从1开始连续递增的序号：接收方按序号判断重复、乱序和丢失，
+ * 序号不大于已处理序号的消息丢弃，序号跳跃（中间有消息未收到）时整体清空学生缓存。
+ * 心跳消息不占用序号，携带发送方最近一条消息的序号，使接收方能发现最后几条消息的丢失。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class InvalidationMessage {
+
+    /** 发出消息的实例标识（每次启动重新生成） */
+    private String origin;
+
+    /** 该实例发出的消息序号，从1开始连续递增 */
+    private long sequence;
+
+    /** 需要失效的学生ID */
+    private List<Long> studentIds = Collections.emptyList();
+
+    /** 需要失效的学号 */
+    private List<String> studentNumbers = Collections.emptyList();
+
+    /** 是否整体清空学生缓存（涉及的学生过多时代替逐个失效） */
+    private boolean full;
+
+    /** 是否为心跳消息（sequence 为发送方最近一条消息的序号，不携带失效内容） */
+    private boolean heartbeat;
+
+    // 构造函数
+    public InvalidationMessage() {
+    }
+
+    public InvalidationMessage(String origin, long sequence, List<Long> studentIds,
+                               List<String> studentNumbers, boolean full) {
+        this.origin = origin;
+        this.sequence = sequence;
+        this.studentIds = studentIds;
+        this.studentNumbers = studentNumbers;
+        this.full = full;
+    }
+
+    /**
+     * 创建心跳消息
+     * 
+     * @param origin 实例标识
+     * @param latestSequence 该实例最近一条消息的序号
+     * @return 心跳消息
+     */
+    public static InvalidationMessage heartbeat(String origin, long latestSequence) {
+        InvalidationMessage message = new InvalidationMessage(origin, latestSequence,
+                Collections.emptyList(), Collections.emptyList(), false);
+        message.heartbeat = true;
+        return message;
+    }
+
+    // Getter和Setter方法
+    public String getOrigin() {
+        return origin;
+    }
+
+    public void setOrigin(String origin) {
+        this.origin = origin;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public List<Long> getStudentIds() {
+        return studentIds;
+    }
+
+    public void setStudentIds(List<Long> studentIds) {
+        this.studentIds = studentIds;
+    }
+
+    public List<String> getStudentNumbers() {
+        return studentNumbers;
+    }
+
+    public void setStudentNumbers(List<String> studentNumbers) {
+        this.studentNumbers = studentNumbers;
+    }
+
+    public boolean isFull() {
+        return full;
+    }
+
+    public void setFull(boolean full) {
+        this.full = full;
+    }
+
+    public boolean isHeartbeat() {
+        return heartbeat;
+    }
+
+    public void setHeartbeat(boolean heartbeat) {
+        this.heartbeat = heartbeat;
+    }
+
+    @Override
+    public String toString() {
+        return "InvalidationMessage{" +
+                "origin='" + origin + '\'' +
+                ", sequence=" + sequence +
+                ", studentIds=" + studentIds +
+                ", studentNumbers=" + studentNumbers +
+                ", full=" + full +
+                ", heartbeat=" + heartbeat +
+                '}';
+    }
+}
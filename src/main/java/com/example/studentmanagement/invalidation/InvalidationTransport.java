@@ -0,0 +1,34 @@
+package com.example.studentmanagement.invalidation;
+
+import java.util.function.Consumer;
+
+/**
+ * 缓存失效消息的传输方式
+ * 
+ * 只要求尽力送达：消息可能丢失、重复或乱序，由 {@link CacheInvalidationBus} 按序号处理。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public interface InvalidationTransport extends AutoCloseable {
+
+    /**
+     * 开始接收消息（可能包括本实例自己发出的消息）
+     * 
+     * @param listener 消息处理，在传输方式的接收线程中调用
+     */
+    void start(Consumer<InvalidationMessage> listener);
+
+    /**
+     * 发送消息给所有实例，不得抛出异常
+     * 
+     * @param message 消息
+     */
+    void publish(InvalidationMessage message);
+
+    /**
+     * 停止接收并释放资源
+     */
+    @Override
+    void close();
+}
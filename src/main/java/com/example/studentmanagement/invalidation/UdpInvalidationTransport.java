@@ -0,0 +1,105 @@
+package com.example.studentmanagement.invalidation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * UDP 传输：每条消息以一个 JSON 数据报发给配置的每个对端
+ * 
+ * 数据报可能丢失或乱序，由接收方按序号检测；超过单个数据报容量的消息改为整体失效消息发送。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class UdpInvalidationTransport implements InvalidationTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(UdpInvalidationTransport.class);
+
+    /** 单个数据报的最大载荷，留出 IP/UDP 头部空间 */
+    static final int MAX_PAYLOAD = 60 * 1024;
+
+    private final DatagramSocket socket;
+    private final List<InetSocketAddress> peers;
+    private final ObjectMapper objectMapper;
+    private volatile boolean closed;
+
+    /**
+     * @param bindAddress 本地监听地址（端口为0时随机分配）
+     * @param peers 对端地址
+     * @param objectMapper JSON 序列化
+     * @throws SocketException 端口绑定失败
+     */
+    public UdpInvalidationTransport(InetSocketAddress bindAddress, List<InetSocketAddress> peers,
+                                    ObjectMapper objectMapper) throws SocketException {
+        this.socket = new DatagramSocket(bindAddress);
+        this.peers = peers;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 实际监听的端口
+     * 
+     * @return 端口
+     */
+    public int getLocalPort() {
+        return socket.getLocalPort();
+    }
+
+    @Override
+    public void start(Consumer<InvalidationMessage> listener) {
+        Thread receiver = new Thread(() -> receive(listener), "cache-invalidation-udp");
+        receiver.setDaemon(true);
+        receiver.start();
+    }
+
+    @Override
+    public void publish(InvalidationMessage message) {
+        try {
+            byte[] payload = objectMapper.writeValueAsBytes(message);
+            if (payload.length > MAX_PAYLOAD) {
+                payload = objectMapper.writeValueAsBytes(new InvalidationMessage(message.getOrigin(),
+                        message.getSequence(), Collections.emptyList(), Collections.emptyList(), true));
+            }
+            for (InetSocketAddress peer : peers) {
+                socket.send(new DatagramPacket(payload, payload.length, peer));
+            }
+        } catch (IOException ex) {
+            // 发送失败等同于丢失，接收方收到下一条消息时检测到序号跳跃
+            log.warn("缓存失效消息发送失败: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        socket.close();
+    }
+
+    private void receive(Consumer<InvalidationMessage> listener) {
+        byte[] buffer = new byte[MAX_PAYLOAD + 1024];
+        while (!closed) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(packet);
+                listener.accept(objectMapper.readValue(packet.getData(), packet.getOffset(), packet.getLength(),
+                        InvalidationMessage.class));
+            } catch (IOException ex) {
+                if (!closed) {
+                    log.warn("缓存失效消息接收失败: {}", ex.getMessage());
+                }
+            } catch (RuntimeException ex) {
+                log.warn("缓存失效消息处理失败", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.studentmanagement.job;
+
+import com.example.studentmanagement.entity.StudentJob;
+import com.example.studentmanagement.entity.StudentJob.JobType;
+import com.example.studentmanagement.service.StudentService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 批量删除任务处理器
+ * 
+ * 参数为学生ID列表（JSON），断点为列表中下一块的起始下标；
+ * 每块调用 StudentService.deleteStudentsBatch，加入块事务一起提交。不存在的ID跳过。
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Component
+public class BatchDeleteJobHandler implements JobHandler {
+
+    private static final TypeReference<List<Long>> ID_LIST = new TypeReference<List<Long>>() {
+    };
+
+    private final StudentService studentService;
+    private final ObjectMapper objectMapper;
+
+    /** 已解析的ID列表，避免每块重新解析参数；丢失（如重启）后从参数重建 */
+    private final Map<Long, List<Long>> idsByJob = new ConcurrentHashMap<>();
+
+    public BatchDeleteJobHandler(StudentService studentService, ObjectMapper objectMapper) {
+        this.studentService = studentService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public JobType getType() {
+        return JobType.BATCH_DELETE;
+    }
+
+    @Override
+    public boolean processChunk(StudentJob job, int chunkSize) throws IOException {
+        List<Long> ids;
+        try {
+            ids = idsByJob.computeIfAbsent(job.getId(), id -> parseIds(job.getParameters()));
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        int from = (int) job.getCursor();
+        int to = Math.min(ids.size(), from + chunkSize);
+        int deleted = from < to ? studentService.deleteStudentsBatch(ids.subList(from, to)) : 0;
+
+        long deletedCount = job.getResult() == null
+                ? 0 : objectMapper.readTree(job.getResult()).path("deletedCount").asLong();
+        job.setResult(objectMapper.writeValueAsString(Collections.singletonMap("deletedCount", deletedCount + deleted)));
+        job.setCursor(to);
+        job.setProcessed(to);
+        job.setProgress(ids.isEmpty() ? 100 : (int) ((long) to * 100 / ids.size()));
+        return to >= ids.size();
+    }
+
+    @Override
+    public void finish(StudentJob job) {
+        idsByJob.remove(job.getId());
+    }
+
+    private List<Long> parseIds(String parameters) {
+        try {
+            return objectMapper.readValue(parameters, ID_LIST);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
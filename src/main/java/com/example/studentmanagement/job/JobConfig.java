@@ -0,0 +1,17 @@
+package com.example.studentmanagement.job;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 后台任务配置
+ * 
+ * 任务记录保存在 student_jobs 表中，由 StudentJobService 的有界线程池执行。
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(JobProperties.class)
+public class JobConfig {
+}
@@ -0,0 +1,43 @@
+package com.example.studentmanagement.job;
+
+import com.example.studentmanagement.entity.StudentJob;
+import com.example.studentmanagement.entity.StudentJob.JobType;
+
+import java.io.IOException;
+
+/**
+ * 后台任务处理器，每种任务类型一个
+ * 
+ * 任务按块执行：每块在一个事务中处理并把断点、进度写回任务，与业务数据一起提交，
+ * 因此处理器必须能从任意已提交的断点继续，且不依赖两块之间的内存状态。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public interface JobHandler {
+
+    /**
+     * 处理的任务类型
+     * 
+     * @return 任务类型
+     */
+    JobType getType();
+
+    /**
+     * 从任务的断点起处理一块，并更新断点、已处理条数和进度；在块事务中调用
+     * 
+     * @param job 任务（受管实体，修改随块事务提交）
+     * @param chunkSize 每块的条数
+     * @return 全部处理完时返回 true
+     * @throws IOException 文件读写失败
+     */
+    boolean processChunk(StudentJob job, int chunkSize) throws IOException;
+
+    /**
+     * 任务结束（完成、失败或取消）后调用，用于清理文件，不得抛出异常
+     * 
+     * @param job 任务
+     */
+    default void finish(StudentJob job) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.studentmanagement.job;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 后台任务配置
+ * 
+ * @author System
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "app.jobs")
+public class JobProperties {
+
+    /** 执行任务的线程数，即同时执行的任务数上限 */
+    private int workerThreads = 2;
+
+    /** 排队任务数上限，超出时拒绝提交 */
+    private int queueCapacity = 100;
+
+    /** 每块处理的条数，每块一个事务 */
+    private int chunkSize = 1000;
+
+    /** 两块之间的停顿（毫秒），为前台请求让出数据库 */
+    private long chunkPauseMs = 0;
+
+    /** 导入源文件和导出结果文件的存放目录 */
+    private String workDir = "data/jobs";
+
+    /** 启动时是否续跑上次未完成的任务 */
+    private boolean resumeOnStartup = true;
+
+    // Getter和Setter方法
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public void setWorkerThreads(int workerThreads) {
+        this.workerThreads = workerThreads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public long getChunkPauseMs() {
+        return chunkPauseMs;
+    }
+
+    public void setChunkPauseMs(long chunkPauseMs) {
+        this.chunkPauseMs = chunkPauseMs;
+    }
+
+    public String getWorkDir() {
+        return workDir;
+    }
+
+    public void setWorkDir(String workDir) {
+        this.workDir = workDir;
+    }
+
+    public boolean isResumeOnStartup() {
+        return resumeOnStartup;
+    }
+
+    public void setResumeOnStartup(boolean resumeOnStartup) {
+        this.resumeOnStartup = resumeOnStartup;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.studentmanagement.json;
+
+import com.example.studentmanagement.dto.ApiResponse;
+import com.example.studentmanagement.dto.PageResponse;
+import com.example.studentmanagement.dto.StudentDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * ApiResponse 序列化器
+ * 
+ * 外层固定字段直接写出；data 为学生或分页结果时直接调用对应的序列化器，其他类型按默认方式序列化
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class ApiResponseSerializer extends StdSerializer<ApiResponse<?>> {
+
+    private static final SerializableString CODE = new SerializedString("code");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString DATA = new SerializedString("data");
+    private static final SerializableString TIMESTAMP = new SerializedString("timestamp");
+
+    public ApiResponseSerializer() {
+        super(ApiResponse.class, false);
+    }
+
+    @Override
+    public void serialize(ApiResponse<?> response, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(response);
+        gen.writeFieldName(CODE);
+        gen.writeNumber(response.getCode());
+        if (response.getMessage() != null) {
+            gen.writeFieldName(MESSAGE);
+            gen.writeString(response.getMessage());
+        }
+        Object data = response.getData();
+        if (data != null) {
+            gen.writeFieldName(DATA);
+            if (data instanceof PageResponse) {
+                PageResponseSerializer.INSTANCE.serialize((PageResponse<?>) data, gen, provider);
+            } else if (data instanceof StudentDTO) {
+                StudentDTOSerializer.INSTANCE.serialize((StudentDTO) data, gen, provider);
+            } else {
+                provider.defaultSerializeValue(data, gen);
+            }
+        }
+        gen.writeFieldName(TIMESTAMP);
+        gen.writeNumber(response.getTimestamp());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.studentmanagement.json;
+
+import com.example.studentmanagement.dto.PageResponse;
+import com.example.studentmanagement.dto.StudentDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * PageResponse 序列化器
+ * 
+ * 学生列表逐条交给 StudentDTOSerializer 直接写出，其他元素类型按默认方式序列化
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class PageResponseSerializer extends StdSerializer<PageResponse<?>> {
+
+    public static final PageResponseSerializer INSTANCE = new PageResponseSerializer();
+
+    private static final SerializableString ITEMS = new SerializedString("items");
+    private static final SerializableString PAGE = new SerializedString("page");
+    private static final SerializableString SIZE = new SerializedString("size");
+    private static final SerializableString NEXT_PAGE = new SerializedString("nextPage");
+    private static final SerializableString TOTAL = new SerializedString("total");
+
+    public PageResponseSerializer() {
+        super(PageResponse.class, false);
+    }
+
+    @Override
+    public void serialize(PageResponse<?> page, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(page);
+        List<?> items = page.getItems();
+        if (items != null) {
+            gen.writeFieldName(ITEMS);
+            gen.writeStartArray(items, items.size());
+            for (Object item : items) {
+                if (item instanceof StudentDTO) {
+                    StudentDTOSerializer.INSTANCE.serialize((StudentDTO) item, gen, provider);
+                } else {
+                    provider.defaultSerializeValue(item, gen);
+                }
+            }
+            gen.writeEndArray();
+        }
+        gen.writeFieldName(PAGE);
+        gen.writeNumber(page.getPage());
+        gen.writeFieldName(SIZE);
+        gen.writeNumber(page.getSize());
+        if (page.getNextPage() != null) {
+            gen.writeFieldName(NEXT_PAGE);
+            gen.writeNumber(page.getNextPage());
+        }
+        if (page.getTotal() != null) {
+            gen.writeFieldName(TOTAL);
+            gen.writeNumber(page.getTotal());
+        }
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.studentmanagement.json;
+
+import com.example.studentmanagement.dto.StudentDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * StudentDTO 序列化器
+ * 
+ * 按固定顺序直接写出各字段，字段名预先转义，日期手工格式化，省去 Bean 内省和逐字段的序列化器查找。
+ * 输出与默认序列化一致：省略null字段，日期为ISO格式（LocalDateTime 秒数始终输出，纳秒去掉末尾的0）。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class StudentDTOSerializer extends StdSerializer<StudentDTO> {
+
+    public static final StudentDTOSerializer INSTANCE = new StudentDTOSerializer();
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString STUDENT_NUMBER = new SerializedString("studentNumber");
+    private static final SerializableString AGE = new SerializedString("age");
+    private static final SerializableString GENDER = new SerializedString("gender");
+    private static final SerializableString MAJOR = new SerializedString("major");
+    private static final SerializableString EMAIL = new SerializedString("email");
+    private static final SerializableString PHONE = new SerializedString("phone");
+    private static final SerializableString ENROLLMENT_DATE = new SerializedString("enrollmentDate");
+    private static final SerializableString CREATED_TIME = new SerializedString("createdTime");
+    private static final SerializableString UPDATED_TIME = new SerializedString("updatedTime");
+
+    /** yyyy-MM-ddTHH:mm:ss.SSSSSSSSS 的最大长度 */
+    private static final int MAX_DATE_TIME_LENGTH = 29;
+
+    public StudentDTOSerializer() {
+        super(StudentDTO.class);
+    }
+
+    @Override
+    public void serialize(StudentDTO student, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(student);
+        if (student.getId() != null) {
+            gen.writeFieldName(ID);
+            gen.writeNumber(student.getId());
+        }
+        writeString(gen, NAME, student.getName());
+        writeString(gen, STUDENT_NUMBER, student.getStudentNumber());
+        if (student.getAge() != null) {
+            gen.writeFieldName(AGE);
+            gen.writeNumber(student.getAge());
+        }
+        writeString(gen, GENDER, student.getGender());
+        writeString(gen, MAJOR, student.getMajor());
+        writeString(gen, EMAIL, student.getEmail());
+        writeString(gen, PHONE, student.getPhone());
+        if (student.getEnrollmentDate() != null) {
+            gen.writeFieldName(ENROLLMENT_DATE);
+            writeDate(gen, student.getEnrollmentDate());
+        }
+        if (student.getCreatedTime() != null) {
+            gen.writeFieldName(CREATED_TIME);
+            writeDateTime(gen, student.getCreatedTime());
+        }
+        if (student.getUpdatedTime() != null) {
+            gen.writeFieldName(UPDATED_TIME);
+            writeDateTime(gen, student.getUpdatedTime());
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeDate(JsonGenerator gen, LocalDate date) throws IOException {
+        if (date.getYear() < 0 || date.getYear() > 9999) {
+            gen.writeString(date.format(DateTimeFormatter.ISO_LOCAL_DATE));
+            return;
+        }
+        char[] buffer = new char[10];
+        appendDate(buffer, date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+        gen.writeString(buffer, 0, buffer.length);
+    }
+
+    private static void writeDateTime(JsonGenerator gen, LocalDateTime dateTime) throws IOException {
+        if (dateTime.getYear() < 0 || dateTime.getYear() > 9999) {
+            gen.writeString(dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            return;
+        }
+        char[] buffer = new char[MAX_DATE_TIME_LENGTH];
+        appendDate(buffer, dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth());
+        buffer[10] = 'T';
+        appendTwoDigits(buffer, 11, dateTime.getHour());
+        buffer[13] = ':';
+        appendTwoDigits(buffer, 14, dateTime.getMinute());
+        buffer[16] = ':';
+        appendTwoDigits(buffer, 17, dateTime.getSecond());
+        int length = 19;
+        int nano = dateTime.getNano();
+        if (nano != 0) {
+            buffer[length++] = '.';
+            int divisor = 100_000_000;
+            while (nano != 0) {
+                buffer[length++] = (char) ('0' + nano / divisor);
+                nano %= divisor;
+                divisor /= 10;
+            }
+        }
+        gen.writeString(buffer, 0, length);
+    }
+
+    private static void appendDate(char[] buffer, int year, int month, int day) {
+        buffer[0] = (char) ('0' + year / 1000);
+        buffer[1] = (char) ('0' + year / 100 % 10);
+        buffer[2] = (char) ('0' + year / 10 % 10);
+        buffer[3] = (char) ('0' + year % 10);
+        buffer[4] = '-';
+        appendTwoDigits(buffer, 5, month);
+        buffer[7] = '-';
+        appendTwoDigits(buffer, 8, day);
+    }
+
+    private static void appendTwoDigits(char[] buffer, int offset, int value) {
+        buffer[offset] = (char) ('0' + value / 10);
+        buffer[offset + 1] = (char) ('0' + value % 10);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.studentmanagement.json;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.stereotype.Component;
+
+/**
+ * 学生接口JSON序列化模块
+ * 
+ * 注册为Bean后由 Spring Boot 自动加入全局 ObjectMapper
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Component
+public class StudentJsonModule extends SimpleModule {
+
+    public StudentJsonModule() {
+        super("StudentJsonModule");
+        addSerializer(StudentDTOSerializer.INSTANCE);
+        addSerializer(PageResponseSerializer.INSTANCE);
+        addSerializer(new ApiResponseSerializer());
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.studentmanagement.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 专业字典
+ * 
+ * 在内存中缓存 majors 表的 ID↔名称 映射。专业数量很少且只增不删，缓存永不过期；
+ * 未命中时按主键或名称回表查询一次（其他节点或CSV导入新增的专业）。
+ * 新专业在当前业务事务内插入，提交后才写入缓存；提交前只对本事务可见，事务回滚时一并撤销。
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Component
+public class MajorDictionary {
+
+    private static final Logger log = LoggerFactory.getLogger(MajorDictionary.class);
+
+    /** 未知专业的ID，不对应任何记录 */
+    public static final int UNKNOWN_ID = -1;
+
+    private static final String SELECT_BY_NAME_SQL = "SELECT id FROM majors WHERE name = ?";
+    private static final String SELECT_BY_ID_SQL = "SELECT name FROM majors WHERE id = ?";
+    private static final String INSERT_SQL = "INSERT INTO majors (name) VALUES (?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private final Map<Integer, String> namesById = new ConcurrentHashMap<>();
+
+    public MajorDictionary(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * 查询专业ID
+     * 
+     * @param name 专业名称
+     * @return 专业ID，不存在时返回 {@link #UNKNOWN_ID}
+     */
+    public int idOf(String name) {
+        Integer id = idsByName.get(name);
+        if (id == null) {
+            id = pendingRegistrations().get(name);
+        }
+        if (id != null) {
+            return id;
+        }
+        try {
+            id = jdbcTemplate.queryForObject(SELECT_BY_NAME_SQL, Integer.class, name);
+        } catch (EmptyResultDataAccessException ex) {
+            return UNKNOWN_ID;
+        }
+        return cache(id, name);
+    }
+
+    /**
+     * 查询专业名称
+     * 
+     * @param id 专业ID
+     * @return 专业名称（缓存中的共享实例），不存在时返回null
+     */
+    public String nameOf(int id) {
+        String name = namesById.get(id);
+        if (name != null) {
+            return name;
+        }
+        for (Map.Entry<String, Integer> pending : pendingRegistrations().entrySet()) {
+            if (pending.getValue() == id) {
+                return pending.getKey();
+            }
+        }
+        try {
+            name = jdbcTemplate.queryForObject(SELECT_BY_ID_SQL, String.class, id);
+        } catch (EmptyResultDataAccessException ex) {
+            return null;
+        }
+        cache(id, name);
+        return namesById.get(id);
+    }
+
+    /**
+     * 登记专业，不存在时在当前事务内新增
+     * 
+     * 并发登记同一新专业时，后插入的一方等待先插入的事务结束后因唯一约束失败，改为使用已提交的记录。
+     * 
+     * @param name 专业名称
+     * @return 专业ID
+     */
+    public int register(String name) {
+        int id = idOf(name);
+        if (id != UNKNOWN_ID) {
+            return id;
+        }
+        try {
+            id = insert(name);
+        } catch (DataIntegrityViolationException ex) {
+            // 并发登记同一专业，以先插入的为准
+            return cache(jdbcTemplate.queryForObject(SELECT_BY_NAME_SQL, Integer.class, name), name);
+        }
+        log.info("新增专业: {} (ID: {})", name, id);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return cache(id, name);
+        }
+        Map<String, Integer> pending = pendingRegistrations();
+        if (pending.isEmpty()) {
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new PendingRegistrations(pending));
+        }
+        pending.put(name, id);
+        return id;
+    }
+
+    /**
+     * 当前缓存的专业数量
+     * 
+     * @return 专业数量
+     */
+    public int size() {
+        return namesById.size();
+    }
+
+    private int cache(int id, String name) {
+        String cached = namesById.putIfAbsent(id, name);
+        idsByName.putIfAbsent(cached != null ? cached : name, id);
+        return id;
+    }
+
+    private int insert(String name) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement statement = con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, name);
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().intValue();
+    }
+
+    /**
+     * 当前事务内新增、尚未提交的专业
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Integer> pendingRegistrations() {
+        Object pending = TransactionSynchronizationManager.getResource(this);
+        return pending != null ? (Map<String, Integer>) pending : new HashMap<>();
+    }
+
+    /**
+     * 事务提交后把新增的专业写入缓存，回滚时丢弃
+     */
+    private final class PendingRegistrations implements TransactionSynchronization {
+
+        private final Map<String, Integer> registrations;
+
+        private PendingRegistrations(Map<String, Integer> registrations) {
+            this.registrations = registrations;
+        }
+
+        @Override
+        public void afterCommit() {
+            registrations.forEach((name, id) -> cache(id, name));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(MajorDictionary.this);
+        }
+    }
+}
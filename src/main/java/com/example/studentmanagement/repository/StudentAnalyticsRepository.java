@@ -0,0 +1,24 @@
+package com.example.studentmanagement.repository;
+
+import com.example.studentmanagement.dto.CrossTabDimension;
+
+import java.util.List;
+
+/**
+ * 学生统计分析扩展接口
+ * 
+ * 由 {@link StudentAnalyticsRepositoryImpl} 实现，并入 {@link StudentRepository}
+ * 
+ * @author System
+ * @version 1.0
+ */
+public interface StudentAnalyticsRepository {
+
+    /**
+     * 按给定维度分组统计学生人数（一次扫描）
+     * 
+     * @param dimensions 分组维度（不可为空，不含重复）
+     * @return 每行依次为各维度的值和人数
+     */
+    List<Object[]> countByDimensions(List<CrossTabDimension> dimensions);
+}
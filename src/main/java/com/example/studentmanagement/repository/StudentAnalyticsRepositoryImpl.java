@@ -0,0 +1,51 @@
+package com.example.studentmanagement.repository;
+
+import com.example.studentmanagement.dto.CrossTabDimension;
+import com.example.studentmanagement.entity.Student;
+import org.hibernate.annotations.QueryHints;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 学生统计分析扩展实现
+ * 
+ * 查询语句只由固定的维度表达式拼接，结果进入学生查询缓存区域
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class StudentAnalyticsRepositoryImpl implements StudentAnalyticsRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Object[]> countByDimensions(List<CrossTabDimension> dimensions) {
+        String groupBy = dimensions.stream()
+                .map(StudentAnalyticsRepositoryImpl::expression)
+                .collect(Collectors.joining(", "));
+        return entityManager.createQuery(
+                        "SELECT " + groupBy + ", COUNT(s) FROM Student s GROUP BY " + groupBy, Object[].class)
+                .setHint(QueryHints.CACHEABLE, true)
+                .setHint(QueryHints.CACHE_REGION, Student.QUERY_CACHE_REGION)
+                .getResultList();
+    }
+
+    private static String expression(CrossTabDimension dimension) {
+        switch (dimension) {
+            case MAJOR:
+                return "s.major";
+            case GENDER:
+                return "s.gender";
+            case AGE:
+                return "s.age";
+            case ENROLLMENT_YEAR:
+                return "YEAR(s.enrollmentDate)";
+            default:
+                throw new IllegalArgumentException("未知的统计维度: " + dimension);
+        }
+    }
+}
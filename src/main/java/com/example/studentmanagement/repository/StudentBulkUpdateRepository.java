@@ -0,0 +1,47 @@
+package com.example.studentmanagement.repository;
+
+import com.example.studentmanagement.dto.StudentBulkUpdateRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 学生批量更新扩展接口
+ * 
+ * 由 {@link StudentBulkUpdateRepositoryImpl} 实现，并入 {@link StudentRepository}
+ * 
+ * @author System
+ * @version 1.0
+ */
+public interface StudentBulkUpdateRepository {
+
+    /**
+     * 查找满足批量更新条件的学生ID
+     * 
+     * @param where 更新条件
+     * @return 学生ID列表（升序）
+     */
+    List<Long> findIdsForBulkUpdate(StudentBulkUpdateRequest.Criteria where);
+
+    /**
+     * 用一条 UPDATE 语句更新指定学生的字段，并设置更新时间
+     * 
+     * Hibernate 执行批量更新后会使学生实体缓存和相关查询缓存失效
+     * 
+     * @param ids 学生ID列表
+     * @param set 更新内容
+     * @param updatedTime 更新时间
+     * @return 更新的行数
+     */
+    int updateByIds(List<Long> ids, StudentBulkUpdateRequest.Assignments set, LocalDateTime updatedTime);
+
+    /**
+     * 用一条 INSERT ... SELECT 语句为指定学生追加修改类变更日志
+     * 
+     * @param ids 学生ID列表
+     * @param changedTime 变更时间
+     * @param version 本事务的变更版本号
+     * @return 追加的日志条数
+     */
+    int recordUpsertChanges(List<Long> ids, LocalDateTime changedTime, long version);
+}
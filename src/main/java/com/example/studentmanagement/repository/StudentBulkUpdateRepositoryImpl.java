@@ -0,0 +1,106 @@
+package com.example.studentmanagement.repository;
+
+import com.example.studentmanagement.dto.StudentBulkUpdateRequest;
+import com.example.studentmanagement.entity.StudentChange;
+import org.hibernate.query.NativeQuery;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import javax.persistence.TypedQuery;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 学生批量更新扩展实现
+ * 
+ * 语句只由固定的条件和字段拼接，取值全部通过参数绑定
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class StudentBulkUpdateRepositoryImpl implements StudentBulkUpdateRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Long> findIdsForBulkUpdate(StudentBulkUpdateRequest.Criteria where) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        if (where.getMajor() != null) {
+            conditions.add("s.major = :major");
+            parameters.put("major", where.getMajor());
+        }
+        // 按日期范围比较，而不是对每行计算 YEAR(enrollmentDate)
+        if (where.getEnrollmentYearFrom() != null) {
+            conditions.add("s.enrollmentDate >= :enrolledFrom");
+            parameters.put("enrolledFrom", LocalDate.of(where.getEnrollmentYearFrom(), 1, 1));
+        }
+        if (where.getEnrollmentYearTo() != null) {
+            conditions.add("s.enrollmentDate < :enrolledBefore");
+            parameters.put("enrolledBefore", LocalDate.of(where.getEnrollmentYearTo() + 1, 1, 1));
+        }
+        if (where.getIds() != null) {
+            conditions.add("s.id IN :ids");
+            parameters.put("ids", where.getIds());
+        }
+
+        TypedQuery<Long> query = entityManager.createQuery(
+                "SELECT s.id FROM Student s WHERE " + String.join(" AND ", conditions) + " ORDER BY s.id",
+                Long.class);
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    @Override
+    public int updateByIds(List<Long> ids, StudentBulkUpdateRequest.Assignments set, LocalDateTime updatedTime) {
+        List<String> assignments = new ArrayList<>();
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        if (set.getMajor() != null) {
+            assignments.add("s.major = :major");
+            parameters.put("major", set.getMajor());
+        }
+        if (set.getAge() != null) {
+            assignments.add("s.age = :age");
+            parameters.put("age", set.getAge());
+        }
+        if (set.getGender() != null) {
+            assignments.add("s.gender = :gender");
+            parameters.put("gender", set.getGender());
+        }
+        if (set.getEnrollmentDate() != null) {
+            assignments.add("s.enrollmentDate = :enrollmentDate");
+            parameters.put("enrollmentDate", set.getEnrollmentDate());
+        }
+        assignments.add("s.updatedTime = :updatedTime");
+        parameters.put("updatedTime", updatedTime);
+        parameters.put("ids", ids);
+
+        Query query = entityManager.createQuery(
+                "UPDATE Student s SET " + String.join(", ", assignments) + " WHERE s.id IN :ids");
+        parameters.forEach(query::setParameter);
+        return query.executeUpdate();
+    }
+
+    @Override
+    public int recordUpsertChanges(List<Long> ids, LocalDateTime changedTime, long version) {
+        return entityManager.createNativeQuery(
+                        "INSERT INTO student_changes (student_id, student_number, change_type, changed_time, version) " +
+                        "SELECT id, student_number, :changeType, :changedTime, :version FROM students " +
+                        "WHERE id IN (:ids) " +
+                        "ORDER BY id")
+                .unwrap(NativeQuery.class)
+                // 只影响变更日志表，避免 Hibernate 清空全部缓存区域
+                .addSynchronizedEntityClass(StudentChange.class)
+                .setParameter("changeType", StudentChange.ChangeType.UPSERT.name())
+                .setParameter("changedTime", changedTime)
+                .setParameter("version", version)
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.studentmanagement.repository;
+
+import com.example.studentmanagement.entity.StudentChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 学生变更日志数据访问层接口
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Repository
+public interface StudentChangeRepository extends JpaRepository<StudentChange, Long>,
+        StudentChangeVersionRepository {
+
+    /**
+     * 按 (版本号, ID) 升序获取指定位置之后的变更记录
+     * 
+     * 同一版本（同一事务）内按写入顺序排列，位置可以停在版本中间，因此每页的条数不超过分页大小。
+     * 
+     * @param version 起始版本号
+     * @param id 起始版本内已返回的最后一条记录ID（不含），为 Long.MAX_VALUE 时跳过整个起始版本
+     * @param pageable 分页参数（用于限制返回条数）
+     * @return 变更记录列表
+     */
+    @Query("SELECT c FROM StudentChange c WHERE c.version >= :version "
+            + "AND (c.version > :version OR c.id > :id) ORDER BY c.version ASC, c.id ASC")
+    List<StudentChange> findAfter(@Param("version") Long version, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 获取已提交的最新版本号
+     * 
+     * @return 最新版本号，没有变更记录时为0
+     */
+    @Query("SELECT COALESCE(MAX(c.version), 0) FROM StudentChange c")
+    long findLatestVersion();
+}
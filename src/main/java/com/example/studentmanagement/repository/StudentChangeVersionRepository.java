@@ -0,0 +1,26 @@
+package com.example.studentmanagement.repository;
+
+/**
+ * 变更日志版本号分配扩展接口
+ * 
+ * 变更日志的自增ID在插入时分配，而不是在提交时：ID较小的事务可能晚于ID较大的事务提交，
+ * 以ID为同步游标的客户端会永久错过这类变更。版本号改为在提交顺序上单调递增：
+ * 每个写事务递增 student_change_clock 中唯一的一行并持有行锁直到提交，
+ * 其他写事务在分配版本号时等待，所以较小的版本号一定先提交（或回滚，留下空洞）。
+ * 由 {@link StudentChangeVersionRepositoryImpl} 实现，并入 {@link StudentChangeRepository}
+ * 
+ * @author System
+ * @version 1.0
+ */
+public interface StudentChangeVersionRepository {
+
+    /**
+     * 获取当前事务的变更版本号，事务内第一次调用时分配，之后返回同一个值
+     * 
+     * 分配后其他写事务要等本事务结束才能分配版本号，应在事务的最后阶段（追加变更日志时）调用。
+     * 
+     * @return 本事务写入的变更日志使用的版本号
+     * @throws IllegalStateException 没有进行中的事务时
+     */
+    long currentTransactionVersion();
+}
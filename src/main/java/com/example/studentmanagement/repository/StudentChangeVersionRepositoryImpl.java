@@ -0,0 +1,65 @@
+package com.example.studentmanagement.repository;
+
+import com.example.studentmanagement.entity.StudentChangeClock;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+
+/**
+ * 变更日志版本号分配扩展实现
+ * 
+ * 本事务已分配的版本号保存在注册到事务上的同步对象中，随事务一起挂起和恢复，
+ * 内层的新事务（REQUIRES_NEW）会分配自己的版本号
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class StudentChangeVersionRepositoryImpl implements StudentChangeVersionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public long currentTransactionVersion() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("变更版本号只能在写事务中分配");
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof VersionHolder) {
+                return ((VersionHolder) synchronization).version;
+            }
+        }
+
+        // 一条语句递增并读回计数器（H2 数据变更增量表），UPDATE 取得的行锁持有到事务结束
+        List<?> result = entityManager.createNativeQuery("SELECT version FROM FINAL TABLE "
+                        + "(UPDATE student_change_clock SET version = version + 1 WHERE id = :id)")
+                .unwrap(NativeQuery.class)
+                // 只涉及计数器表，不触发整个会话的刷新
+                .addSynchronizedEntityClass(StudentChangeClock.class)
+                .setParameter("id", StudentChangeClock.ROW_ID)
+                .getResultList();
+        if (result.isEmpty()) {
+            throw new IllegalStateException("变更版本号计数器未初始化");
+        }
+        long version = ((Number) result.get(0)).longValue();
+
+        TransactionSynchronizationManager.registerSynchronization(new VersionHolder(version));
+        return version;
+    }
+
+    /**
+     * 当前事务已分配的版本号
+     */
+    private static final class VersionHolder implements TransactionSynchronization {
+
+        private final long version;
+
+        VersionHolder(long version) {
+            this.version = version;
+        }
+    }
+}
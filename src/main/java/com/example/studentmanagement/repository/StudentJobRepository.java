@@ -0,0 +1,66 @@
+package com.example.studentmanagement.repository;
+
+import com.example.studentmanagement.entity.StudentJob;
+import com.example.studentmanagement.entity.StudentJob.JobStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 后台任务数据访问层接口
+ *
+ * @author System
+ * @version 1.0
+ */
+@Repository
+public interface StudentJobRepository extends JpaRepository<StudentJob, Long> {
+
+    /**
+     * 按ID升序获取处于指定状态的任务
+     *
+     * @param statuses 状态
+     * @return 任务列表
+     */
+    List<StudentJob> findByStatusInOrderByIdAsc(Collection<JobStatus> statuses);
+
+    /**
+     * 按ID降序获取最近的任务
+     *
+     * @param pageable 分页参数（用于限制返回条数）
+     * @return 任务列表
+     */
+    List<StudentJob> findAllByOrderByIdDesc(Pageable pageable);
+
+    /**
+     * 为未结束的任务设置取消标记，执行线程在开始执行和每一块开始前检查
+     *
+     * @param id 任务ID
+     * @param unfinished 未结束的状态
+     * @return 更新的行数，任务已结束时为0
+     */
+    @Modifying
+    @Query("UPDATE StudentJob j SET j.cancelRequested = true WHERE j.id = :id AND j.status IN (:unfinished)")
+    int requestCancel(@Param("id") Long id, @Param("unfinished") Collection<JobStatus> unfinished);
+
+    /**
+     * 将仍在排队的任务置为已取消
+     *
+     * @param id 任务ID
+     * @param queued 排队中状态
+     * @param cancelled 已取消状态
+     * @param finishedTime 结束时间
+     * @return 更新的行数，任务已开始执行时为0
+     */
+    @Modifying
+    @Query("UPDATE StudentJob j SET j.status = :cancelled, j.finishedTime = :finishedTime, "
+            + "j.updatedTime = :finishedTime WHERE j.id = :id AND j.status = :queued")
+    int cancelQueued(@Param("id") Long id, @Param("queued") JobStatus queued,
+                     @Param("cancelled") JobStatus cancelled, @Param("finishedTime") LocalDateTime finishedTime);
+}
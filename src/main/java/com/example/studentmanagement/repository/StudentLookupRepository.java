@@ -0,0 +1,25 @@
+package com.example.studentmanagement.repository;
+
+import com.example.studentmanagement.entity.Student;
+
+import java.util.List;
+
+/**
+ * 学生批量查询扩展接口
+ * 
+ * 由 {@link StudentLookupRepositoryImpl} 实现，并入 {@link StudentRepository}
+ * 
+ * @author System
+ * @version 1.0
+ */
+public interface StudentLookupRepository {
+
+    /**
+     * 根据ID列表批量加载学生，优先使用持久化上下文和二级缓存，其余ID按批次用 IN 查询加载
+     * 
+     * @param ids 学生ID列表（不含重复）
+     * @param batchSize 每条 IN 查询包含的最大ID数
+     * @return 与ID列表一一对应的学生，不存在的位置为 null
+     */
+    List<Student> multiLoadByIds(List<Long> ids, int batchSize);
+}
@@ -0,0 +1,32 @@
+package com.example.studentmanagement.repository;
+
+import com.example.studentmanagement.entity.Student;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+
+/**
+ * 学生批量查询扩展实现
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class StudentLookupRepositoryImpl implements StudentLookupRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Student> multiLoadByIds(List<Long> ids, int batchSize) {
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(Student.class)
+                .with(CacheMode.NORMAL)
+                .enableSessionCheck(true)
+                .enableOrderedReturn(true)
+                .withBatchSize(batchSize)
+                .multiLoad(ids);
+    }
+}
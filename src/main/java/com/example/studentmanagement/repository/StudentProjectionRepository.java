@@ -0,0 +1,46 @@
+package com.example.studentmanagement.repository;
+
+import com.example.studentmanagement.dto.StudentField;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 学生字段投影查询扩展接口
+ *
+ * 只查询指定的列，结果为标量数组，不创建实体、不进入持久化上下文。
+ * 由 {@link StudentProjectionRepositoryImpl} 实现，并入 {@link StudentRepository}
+ *
+ * @author System
+ * @version 1.0
+ */
+public interface StudentProjectionRepository {
+
+    /**
+     * 根据多个条件分页查询学生的指定字段
+     *
+     * @param fields 查询的字段（不可为空，不含重复）
+     * @param name 姓名关键字
+     * @param major 专业
+     * @param gender 性别
+     * @param pageable 分页参数（排序字段须为 {@link StudentField} 之一）
+     * @return 每行依次为各字段的值
+     */
+    Page<Object[]> findFieldsWithFilters(List<StudentField> fields, String name, String major, String gender,
+                                         Pageable pageable);
+
+    /**
+     * 根据多个条件分页查询学生的指定字段（不统计总数，多取一条判断是否有下一页）
+     *
+     * @param fields 查询的字段（不可为空，不含重复）
+     * @param name 姓名关键字
+     * @param major 专业
+     * @param gender 性别
+     * @param pageable 分页参数，不分页时返回全部
+     * @return 每行依次为各字段的值
+     */
+    Slice<Object[]> sliceFieldsWithFilters(List<StudentField> fields, String name, String major, String gender,
+                                           Pageable pageable);
+}
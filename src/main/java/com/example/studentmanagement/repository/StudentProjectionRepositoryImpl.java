@@ -0,0 +1,102 @@
+package com.example.studentmanagement.repository;
+
+import com.example.studentmanagement.dto.StudentField;
+import com.example.studentmanagement.entity.Student;
+import org.hibernate.annotations.QueryHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 学生字段投影查询扩展实现
+ *
+ * 查询语句只由固定的字段表达式拼接，FROM子句、过滤条件和计数语句与实体查询相同，
+ * 结果进入学生查询缓存区域
+ *
+ * @author System
+ * @version 1.0
+ */
+public class StudentProjectionRepositoryImpl implements StudentProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Object[]> findFieldsWithFilters(List<StudentField> fields, String name, String major, String gender,
+                                                Pageable pageable) {
+        List<Object[]> content = selectFields(fields, name, major, gender, pageable, 0);
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(name, major, gender));
+    }
+
+    @Override
+    public Slice<Object[]> sliceFieldsWithFilters(List<StudentField> fields, String name, String major, String gender,
+                                                  Pageable pageable) {
+        List<Object[]> content = selectFields(fields, name, major, gender, pageable, 1);
+        boolean hasNext = pageable.isPaged() && content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    private List<Object[]> selectFields(List<StudentField> fields, String name, String major, String gender,
+                                        Pageable pageable, int extraRows) {
+        String select = fields.stream()
+                .map(StudentProjectionRepositoryImpl::expression)
+                .collect(Collectors.joining(", "));
+        Query query = prepare(entityManager.createQuery("SELECT " + select + " " + StudentRepository.FROM_WITH_MAJOR
+                + " WHERE " + StudentRepository.FILTER_CONDITION + orderBy(pageable.getSort())), name, major, gender);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize() + extraRows);
+        }
+        List<?> rows = query.getResultList();
+        List<Object[]> result = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            // 只查询一个字段时结果不是数组
+            result.add(fields.size() == 1 ? new Object[]{row} : (Object[]) row);
+        }
+        return result;
+    }
+
+    private long count(String name, String major, String gender) {
+        return (Long) prepare(entityManager.createQuery(StudentRepository.FILTER_COUNT_QUERY), name, major, gender)
+                .getSingleResult();
+    }
+
+    private static Query prepare(Query query, String name, String major, String gender) {
+        return query.setParameter("name", name)
+                .setParameter("major", major)
+                .setParameter("gender", gender)
+                .setHint(QueryHints.CACHEABLE, true)
+                .setHint(QueryHints.CACHE_REGION, Student.QUERY_CACHE_REGION);
+    }
+
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            StudentField field = StudentField.fromParamName(order.getProperty());
+            if (field == null) {
+                throw new IllegalArgumentException("未知的排序字段: " + order.getProperty());
+            }
+            // 专业按名称排序（列中存的是字典ID）
+            orders.add((field == StudentField.MAJOR ? StudentRepository.MAJOR_NAME_SORT : expression(field))
+                    + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        return " ORDER BY " + String.join(", ", orders);
+    }
+
+    private static String expression(StudentField field) {
+        return "s." + field.getParamName();
+    }
+}
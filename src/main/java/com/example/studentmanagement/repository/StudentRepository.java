@@ -1,24 +1,50 @@
 package com.example.studentmanagement.repository;
 
+import com.example.studentmanagement.annotation.CacheableQuery;
 import com.example.studentmanagement.entity.Student;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * 学生数据访问层接口
  * 
+ * 只读查询方法标注 {@link CacheableQuery}，结果进入 Hibernate 查询缓存
+ * 
  * @author System
  * @version 1.0
  */
 @Repository
-public interface StudentRepository extends JpaRepository<Student, Long> {
+public interface StudentRepository extends JpaRepository<Student, Long>, StudentLookupRepository,
+        StudentAnalyticsRepository, StudentBulkUpdateRepository, StudentProjectionRepository {
+
+    /** 多条件查询的过滤条件，实体查询和字段投影查询共用 */
+    String FILTER_CONDITION = "(:name IS NULL OR LOWER(s.name) LIKE LOWER(CONCAT('%', :name, '%'))) AND " +
+            "(:major IS NULL OR s.major = :major) AND " +
+            "(:gender IS NULL OR s.gender = :gender)";
+
+    /**
+     * 关联专业表的FROM子句：外连接专业并命名为 m，按专业名称排序（{@link #MAJOR_NAME_SORT}）时不会丢掉学生，
+     * 与不关联专业的计数语句结果一致
+     */
+    String FROM_WITH_MAJOR = "FROM Student s LEFT JOIN s.majorRecord m";
+
+    /** 按专业名称排序时使用的排序属性 */
+    String MAJOR_NAME_SORT = "m.name";
+
+    /** 多条件查询语句，分页查询和不统计总数的查询共用 */
+    String FILTER_QUERY = "SELECT s " + FROM_WITH_MAJOR + " WHERE " + FILTER_CONDITION;
+
+    /** 多条件查询的计数语句 */
+    String FILTER_COUNT_QUERY = "SELECT COUNT(s) FROM Student s WHERE " + FILTER_CONDITION;
 
     /**
      * 根据学号查找学生
@@ -26,8 +52,18 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      * @param studentNumber 学号
      * @return 学生信息
      */
+    @CacheableQuery
     Optional<Student> findByStudentNumber(String studentNumber);
 
+    /**
+     * 根据学号列表批量查找学生
+     * 
+     * @param studentNumbers 学号列表
+     * @return 学生列表（顺序不定，不存在的学号不返回）
+     */
+    @CacheableQuery
+    List<Student> findByStudentNumberIn(Collection<String> studentNumbers);
+
     /**
      * 检查学号是否存在
      * 
@@ -42,6 +78,7 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      * @param name 姓名关键字
      * @return 学生列表
      */
+    @CacheableQuery
     List<Student> findByNameContainingIgnoreCase(String name);
 
     /**
@@ -50,6 +87,7 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      * @param major 专业
      * @return 学生列表
      */
+    @CacheableQuery
     List<Student> findByMajor(String major);
 
     /**
@@ -58,6 +96,7 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      * @param gender 性别
      * @return 学生列表
      */
+    @CacheableQuery
     List<Student> findByGender(String gender);
 
     /**
@@ -67,6 +106,7 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      * @param maxAge 最大年龄
      * @return 学生列表
      */
+    @CacheableQuery
     List<Student> findByAgeBetween(Integer minAge, Integer maxAge);
 
     /**
@@ -78,20 +118,56 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      * @param pageable 分页参数
      * @return 分页结果
      */
-    @Query("SELECT s FROM Student s WHERE " +
-           "(:name IS NULL OR LOWER(s.name) LIKE LOWER(CONCAT('%', :name, '%'))) AND " +
-           "(:major IS NULL OR s.major = :major) AND " +
-           "(:gender IS NULL OR s.gender = :gender)")
+    @CacheableQuery
+    @Query(value = FILTER_QUERY, countQuery = FILTER_COUNT_QUERY)
     Page<Student> findStudentsWithFilters(@Param("name") String name,
                                          @Param("major") String major,
                                          @Param("gender") String gender,
                                          Pageable pageable);
 
+    /**
+     * 根据多个条件分页查询学生（不统计总数，多取一条判断是否有下一页）
+     * 
+     * @param name 姓名关键字
+     * @param major 专业
+     * @param gender 性别
+     * @param pageable 分页参数
+     * @return 分页结果
+     */
+    @CacheableQuery
+    @Query(FILTER_QUERY)
+    Slice<Student> sliceStudentsWithFilters(@Param("name") String name,
+                                           @Param("major") String major,
+                                           @Param("gender") String gender,
+                                           Pageable pageable);
+
+    /**
+     * 分页查询全部学生（不统计总数）
+     * 
+     * @param pageable 分页参数
+     * @return 分页结果
+     */
+    @CacheableQuery
+    @Query("SELECT s " + FROM_WITH_MAJOR)
+    Slice<Student> findAllBy(Pageable pageable);
+
+    /**
+     * 分页查询全部学生
+     * 
+     * @param pageable 分页参数
+     * @return 分页结果
+     */
+    @Override
+    @CacheableQuery
+    @Query(value = "SELECT s " + FROM_WITH_MAJOR, countQuery = "SELECT COUNT(s) FROM Student s")
+    Page<Student> findAll(Pageable pageable);
+
     /**
      * 统计各专业学生数量
      * 
      * @return 专业统计结果
      */
+    @CacheableQuery
     @Query("SELECT s.major, COUNT(s) FROM Student s GROUP BY s.major")
     List<Object[]> countStudentsByMajor();
 
@@ -100,6 +176,7 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      * 
      * @return 性别统计结果
      */
+    @CacheableQuery
     @Query("SELECT s.gender, COUNT(s) FROM Student s GROUP BY s.gender")
     List<Object[]> countStudentsByGender();
 }
\ No newline at end of file
@@ -0,0 +1,183 @@
+package com.example.studentmanagement.resilience;
+
+import com.example.studentmanagement.annotation.StaleIfError;
+import com.example.studentmanagement.exception.StudentServiceUnavailableException;
+import com.example.studentmanagement.util.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.HttpServletResponse;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * 数据访问保护切面
+ *
+ * 拦截学生服务的全部方法（优先级高于请求合并和事务切面）：
+ * 查询超时、无法获取连接等数据库故障计入熔断器，熔断器打开期间不再开启事务、不再等待连接池；
+ * 业务异常（学生不存在、学号冲突等）说明数据库正常响应，按成功计。
+ * 被请求合并的调用共享领头者抛出的同一个异常对象，同一个异常只计一次失败，
+ * 避免一次数据库故障因等待者众多而被放大成多次失败、过早打开熔断器。
+ * 数据库故障时 {@link StaleIfError} 标注的方法返回最近一次成功的结果，
+ * 响应带 Warning: 110 和 Age 头；没有可用结果时抛出 {@link StudentServiceUnavailableException}（503）。
+ * 状态通过指标 student.circuitbreaker.state（0关闭/1打开/2半开）、
+ * student.circuitbreaker.calls（result=failed/rejected）和 student.stale.served 暴露。
+ *
+ * @author System
+ * @version 1.0
+ */
+@Aspect
+public class DataAccessGuardAspect implements Ordered {
+
+    private static final Logger log = LoggerFactory.getLogger(DataAccessGuardAspect.class);
+
+    private static final String UNAVAILABLE_MESSAGE = "数据库暂时不可用，请稍后重试";
+
+    private static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    /** 视为数据库故障的异常（包括作为原因出现） */
+    private static final List<Class<? extends Throwable>> DATA_ACCESS_FAILURES = Arrays.asList(
+            CannotCreateTransactionException.class,
+            TransactionTimedOutException.class,
+            QueryTimeoutException.class,
+            DataAccessResourceFailureException.class,
+            TransientDataAccessResourceException.class,
+            RecoverableDataAccessException.class,
+            javax.persistence.QueryTimeoutException.class,
+            SQLTimeoutException.class,
+            SQLTransientConnectionException.class);
+
+    private final CircuitBreaker circuitBreaker;
+    private final StaleValueCache staleValues;
+    /** 已计入熔断器的异常（按对象标识，异常不再被引用后自动移除） */
+    private final Set<Throwable> countedFailures = Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<>()));
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+    private final Counter staleCounter;
+
+    public DataAccessGuardAspect(CircuitBreaker circuitBreaker, StaleValueCache staleValues,
+                                 MeterRegistry meterRegistry) {
+        this.circuitBreaker = circuitBreaker;
+        this.staleValues = staleValues;
+        Gauge.builder("student.circuitbreaker.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("数据访问熔断器状态（0关闭/1打开/2半开）")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("student.circuitbreaker.calls").tag("result", "failed")
+                .description("因数据库故障失败的调用数").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("student.circuitbreaker.calls").tag("result", "rejected")
+                .description("熔断器打开期间被直接拒绝的调用数").register(meterRegistry);
+        this.staleCounter = Counter.builder("student.stale.served")
+                .description("数据库故障时返回过期结果的调用数").register(meterRegistry);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 5;
+    }
+
+    @Around("within(com.example.studentmanagement.service.impl.StudentServiceImpl)")
+    public Object guard(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object key = ((MethodSignature) joinPoint.getSignature()).getMethod()
+                .isAnnotationPresent(StaleIfError.class)
+                ? Arrays.asList(joinPoint.getSignature().toShortString(), Arrays.asList(joinPoint.getArgs()))
+                : null;
+
+        if (!circuitBreaker.tryAcquire()) {
+            rejectedCounter.increment();
+            return fallback(key);
+        }
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable ex) {
+            if (!isDataAccessFailure(ex)) {
+                onSuccess();
+                throw ex;
+            }
+            if (countedFailures.add(ex)) {
+                failedCounter.increment();
+                if (circuitBreaker.onFailure()) {
+                    log.warn("数据访问熔断器打开: {}", ex.toString());
+                }
+            }
+            return fallback(key);
+        }
+        onSuccess();
+        if (key != null) {
+            staleValues.put(key, result);
+        }
+        return result;
+    }
+
+    private void onSuccess() {
+        if (circuitBreaker.onSuccess()) {
+            log.info("数据访问熔断器关闭，数据库已恢复");
+        }
+    }
+
+    private Object fallback(Object key) {
+        StaleValueCache.Entry entry = key == null ? null : staleValues.get(key);
+        if (entry == null) {
+            throw new StudentServiceUnavailableException(UNAVAILABLE_MESSAGE);
+        }
+        staleCounter.increment();
+        markStale(entry.getStoredAtMillis());
+        return entry.getValue();
+    }
+
+    /**
+     * 在当前请求的响应上标明数据已过期，一个请求多次兜底时 Age 取最大值
+     */
+    private static void markStale(long storedAtMillis) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return;
+        }
+        HttpServletResponse response = ((ServletRequestAttributes) attributes).getResponse();
+        if (response == null || response.isCommitted()) {
+            return;
+        }
+        long ageSeconds = Math.max(0, (System.currentTimeMillis() - storedAtMillis) / 1000);
+        String previous = response.getHeader(HttpHeaders.AGE);
+        if (previous != null) {
+            ageSeconds = Math.max(ageSeconds, Long.parseLong(previous));
+        }
+        response.setHeader(HttpHeaders.WARNING, STALE_WARNING);
+        response.setHeader(HttpHeaders.AGE, String.valueOf(ageSeconds));
+    }
+
+    private static boolean isDataAccessFailure(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            for (Class<? extends Throwable> type : DATA_ACCESS_FAILURES) {
+                if (type.isInstance(cause)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
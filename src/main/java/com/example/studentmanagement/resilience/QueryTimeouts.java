@@ -0,0 +1,26 @@
+package com.example.studentmanagement.resilience;
+
+/**
+ * 按操作类型区分的事务超时（秒）
+ * 
+ * 用于 {@code @Transactional(timeoutString = ...)}，占位符在启动时解析，取值见 app.query-timeout。
+ * 事务超时会设置为该事务内每条 JDBC 语句的查询超时（剩余时间），超时后语句被取消并回滚事务；
+ * 获取连接的等待时间由连接池的 connection-timeout 单独限制。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public final class QueryTimeouts {
+
+    /** 单条查询（按ID、按学号、学号是否存在） */
+    public static final String POINT = "${app.query-timeout.point:2}";
+
+    /** 写操作（新增、更新、删除、批量更新） */
+    public static final String WRITE = "${app.query-timeout.write:5}";
+
+    /** 全表、分页、搜索、统计、批量查询等扫描类查询 */
+    public static final String SCAN = "${app.query-timeout.scan:10}";
+
+    private QueryTimeouts() {
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.studentmanagement.resilience;
+
+import com.example.studentmanagement.util.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 数据访问熔断与过期数据兜底配置
+ *
+ * 默认开启（app.resilience.enabled=false 关闭）。单条语句的超时见 {@link QueryTimeouts}，不受此开关影响。
+ *
+ * @author System
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.resilience", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(ResilienceProperties.class)
+public class ResilienceConfig {
+
+    @Bean
+    public CircuitBreaker dataAccessCircuitBreaker(ResilienceProperties properties) {
+        return new CircuitBreaker(properties.getWindowSize(), properties.getMinimumCalls(),
+                properties.getFailureRateThreshold(), properties.getOpenDurationMs());
+    }
+
+    @Bean
+    public DataAccessGuardAspect dataAccessGuardAspect(CircuitBreaker dataAccessCircuitBreaker,
+                                                       ResilienceProperties properties,
+                                                       MeterRegistry meterRegistry) {
+        StaleValueCache staleValues = new StaleValueCache(properties.getStaleCacheSize(),
+                properties.getMaxStaleSeconds() * 1000);
+        return new DataAccessGuardAspect(dataAccessCircuitBreaker, staleValues, meterRegistry);
+    }
+}
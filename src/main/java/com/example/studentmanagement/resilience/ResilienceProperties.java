@@ -0,0 +1,80 @@
+package com.example.studentmanagement.resilience;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 数据访问熔断与过期数据兜底配置
+ * 
+ * @author System
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "app.resilience")
+public class ResilienceProperties {
+
+    /** 统计失败率的最近调用次数 */
+    private int windowSize = 20;
+
+    /** 窗口内至少有这么多次调用才计算失败率 */
+    private int minimumCalls = 10;
+
+    /** 打开熔断器的失败率（0～1] */
+    private double failureRateThreshold = 0.5;
+
+    /** 熔断器打开后多久（毫秒）放行一次探测调用 */
+    private long openDurationMs = 5000;
+
+    /** 保存的最近成功结果条数（按方法和参数） */
+    private int staleCacheSize = 10_000;
+
+    /** 可作为兜底返回的结果的最大存放时间（秒），超过后数据库故障时直接返回503 */
+    private long maxStaleSeconds = 600;
+
+    // Getter和Setter方法
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public void setWindowSize(int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    public void setMinimumCalls(int minimumCalls) {
+        this.minimumCalls = minimumCalls;
+    }
+
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public void setFailureRateThreshold(double failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public long getOpenDurationMs() {
+        return openDurationMs;
+    }
+
+    public void setOpenDurationMs(long openDurationMs) {
+        this.openDurationMs = openDurationMs;
+    }
+
+    public int getStaleCacheSize() {
+        return staleCacheSize;
+    }
+
+    public void setStaleCacheSize(int staleCacheSize) {
+        this.staleCacheSize = staleCacheSize;
+    }
+
+    public long getMaxStaleSeconds() {
+        return maxStaleSeconds;
+    }
+
+    public void setMaxStaleSeconds(long maxStaleSeconds) {
+        this.maxStaleSeconds = maxStaleSeconds;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.studentmanagement.resilience;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 最近成功结果缓存
+ * 
+ * 只在数据库故障时读取，正常请求只写入；超过最大存放时间的结果不再返回。
+ * 每次成功的查询都会写入，因此不使用全局锁：超过容量时抽样若干条，淘汰其中已过期或写入最早的一条（近似淘汰最旧的结果）。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class StaleValueCache {
+
+    /**
+     * 保存的结果及其写入时间
+     */
+    public static final class Entry {
+
+        private final Object value;
+        private final long storedAtMillis;
+
+        Entry(Object value, long storedAtMillis) {
+            this.value = value;
+            this.storedAtMillis = storedAtMillis;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+
+        public long getStoredAtMillis() {
+            return storedAtMillis;
+        }
+    }
+
+    /** 每次淘汰抽样的条数 */
+    private static final int EVICTION_SAMPLES = 8;
+
+    private final int maxSize;
+    private final long maxStaleMillis;
+    private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+
+    public StaleValueCache(int maxSize, long maxStaleMillis) {
+        this.maxSize = maxSize;
+        this.maxStaleMillis = maxStaleMillis;
+    }
+
+    /**
+     * 保存一次成功调用的结果
+     * 
+     * @param key 方法签名和参数
+     * @param value 结果，为 null 时不保存
+     */
+    public void put(Object key, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (entries.put(key, new Entry(value, System.currentTimeMillis())) == null) {
+            while (entries.size() > maxSize) {
+                evictOne();
+            }
+        }
+    }
+
+    /**
+     * 获取最近一次成功的结果
+     * 
+     * @param key 方法签名和参数
+     * @return 结果，不存在或已超过最大存放时间时返回 null
+     */
+    public Entry get(Object key) {
+        Entry entry = entries.get(key);
+        if (entry == null || isExpired(entry, System.currentTimeMillis())) {
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * 当前保存的结果条数
+     * 
+     * @return 条数
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 抽样若干条，淘汰其中已过期或写入最早的一条；并发淘汰时可能多删，不影响正确性
+     */
+    private void evictOne() {
+        long now = System.currentTimeMillis();
+        Map.Entry<Object, Entry> oldest = null;
+        Iterator<Map.Entry<Object, Entry>> iterator = entries.entrySet().iterator();
+        for (int i = 0; i < EVICTION_SAMPLES && iterator.hasNext(); i++) {
+            Map.Entry<Object, Entry> candidate = iterator.next();
+            if (isExpired(candidate.getValue(), now)) {
+                oldest = candidate;
+                break;
+            }
+            if (oldest == null || candidate.getValue().storedAtMillis < oldest.getValue().storedAtMillis) {
+                oldest = candidate;
+            }
+        }
+        if (oldest != null) {
+            entries.remove(oldest.getKey(), oldest.getValue());
+        }
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return now - entry.storedAtMillis > maxStaleMillis;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.studentmanagement.service;
+
+import com.example.studentmanagement.dto.CsvExportChunk;
+import com.example.studentmanagement.dto.CsvImportChunk;
+import com.example.studentmanagement.dto.CsvImportResult;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+/**
+ * 学生CSV导入导出服务接口
+ * 
+ * CSV首行为表头，列名与 StudentDTO 属性名一致：
+ * name,studentNumber,age,gender,major,email,phone,enrollmentDate（后三列可省略，列顺序不限）。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public interface StudentCsvService {
+
+    /**
+     * 从CSV文件导入学生
+     * 
+     * @param file CSV文件
+     * @return 导入结果
+     * @throws IOException 文件读取失败
+     */
+    CsvImportResult importCsv(Path file) throws IOException;
+
+    /**
+     * 将全部学生导出为CSV
+     * 
+     * @param outputStream 输出流
+     * @return 导出的行数
+     * @throws IOException 写出失败
+     */
+    long exportCsv(OutputStream outputStream) throws IOException;
+
+    /**
+     * 从指定位置起导入至多 maxRows 行，在调用方的事务中写入
+     * 
+     * 供后台任务分块导入：返回的续读位置与任务断点在同一事务中提交，写入失败时整块回滚。
+     * 
+     * @param file CSV文件
+     * @param offset 起始字节偏移，0表示从表头之后开始
+     * @param rowsBefore 之前各块已读取的数据行数（用于错误明细中的行号）
+     * @param maxRows 最多读取的行数
+     * @return 本块的导入结果和续读位置
+     * @throws IOException 文件读取失败
+     */
+    CsvImportChunk importCsvChunk(Path file, long offset, long rowsBefore, int maxRows) throws IOException;
+
+    /**
+     * 按ID升序导出ID大于 afterId 的至多 limit 个学生，afterId 为0时先写出表头
+     * 
+     * @param outputStream 输出流
+     * @param afterId 起始ID（不含）
+     * @param limit 最多导出的行数
+     * @return 本块的行数和最后一个学生的ID
+     * @throws IOException 写出失败
+     */
+    CsvExportChunk exportCsvChunk(OutputStream outputStream, long afterId, int limit) throws IOException;
+}
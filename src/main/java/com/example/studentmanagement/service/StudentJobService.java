@@ -0,0 +1,83 @@
+package com.example.studentmanagement.service;
+
+import com.example.studentmanagement.dto.StudentJobDTO;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 后台任务服务接口
+ * 
+ * 长时间运行的批量操作提交后立即返回任务ID，由有界线程池分块执行；
+ * 通过任务ID查询进度或取消，进程重启后从最后提交的块继续。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public interface StudentJobService {
+
+    /**
+     * 提交CSV导入任务
+     * 
+     * @param file 上传的CSV文件，提交成功后移入任务目录，由任务负责删除
+     * @return 任务状态
+     * @throws IOException 文件移动失败
+     */
+    StudentJobDTO submitImport(Path file) throws IOException;
+
+    /**
+     * 提交CSV导出任务，完成后通过 {@link #getExportFile(Long)} 获取结果文件
+     * 
+     * @return 任务状态
+     * @throws IOException 任务目录创建失败
+     */
+    StudentJobDTO submitExport() throws IOException;
+
+    /**
+     * 提交批量删除任务
+     * 
+     * @param ids 学生ID列表
+     * @return 任务状态
+     */
+    StudentJobDTO submitBatchDelete(List<Long> ids);
+
+    /**
+     * 查询任务状态
+     * 
+     * @param id 任务ID
+     * @return 任务状态
+     */
+    StudentJobDTO getJob(Long id);
+
+    /**
+     * 获取最近提交的任务
+     * 
+     * @param limit 最多返回的任务数
+     * @return 任务状态列表，按提交时间倒序
+     */
+    List<StudentJobDTO> getRecentJobs(int limit);
+
+    /**
+     * 取消任务：排队中的任务立即取消，执行中的任务在当前块提交后停止，已提交的块不回滚
+     * 
+     * @param id 任务ID
+     * @return 任务状态
+     */
+    StudentJobDTO cancelJob(Long id);
+
+    /**
+     * 获取已完成的导出任务的结果文件
+     * 
+     * @param id 任务ID
+     * @return 结果文件
+     */
+    Path getExportFile(Long id);
+
+    /**
+     * 重新提交排队中和执行中（上次进程退出时未完成）的任务，从各自的断点继续
+     * 
+     * @return 重新提交的任务数
+     */
+    int resumeInterruptedJobs();
+}
@@ -1,9 +1,16 @@
 package com.example.studentmanagement.service;
 
+import com.example.studentmanagement.dto.CrossTabDimension;
+import com.example.studentmanagement.dto.StudentBulkUpdateRequest;
+import com.example.studentmanagement.dto.StudentCrossTabDTO;
 import com.example.studentmanagement.dto.StudentDTO;
+import com.example.studentmanagement.dto.StudentField;
+import com.example.studentmanagement.dto.StudentLookupResult;
+import com.example.studentmanagement.dto.StudentSyncDTO;
 import com.example.studentmanagement.entity.Student;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Map;
@@ -41,6 +48,22 @@ public interface StudentService {
      */
     Optional<StudentDTO> getStudentByStudentNumber(String studentNumber);
 
+    /**
+     * 根据ID列表批量获取学生信息
+     * 
+     * @param ids 学生ID列表
+     * @return 按请求顺序排列的学生信息及未找到的ID
+     */
+    StudentLookupResult<Long> lookupStudentsByIds(List<Long> ids);
+
+    /**
+     * 根据学号列表批量获取学生信息
+     * 
+     * @param studentNumbers 学号列表
+     * @return 按请求顺序排列的学生信息及未找到的学号
+     */
+    StudentLookupResult<String> lookupStudentsByStudentNumbers(List<String> studentNumbers);
+
     /**
      * 获取所有学生信息
      * 
@@ -67,6 +90,59 @@ public interface StudentService {
      */
     Page<StudentDTO> searchStudents(String name, String major, String gender, Pageable pageable);
 
+    /**
+     * 分页获取学生信息（不统计总数）
+     * 
+     * @param pageable 分页参数
+     * @return 分页结果
+     */
+    Slice<StudentDTO> getStudentsSlice(Pageable pageable);
+
+    /**
+     * 根据条件分页查询学生（不统计总数）
+     * 
+     * @param name 姓名关键字
+     * @param major 专业
+     * @param gender 性别
+     * @param pageable 分页参数
+     * @return 分页结果
+     */
+    Slice<StudentDTO> searchStudentsSlice(String name, String major, String gender, Pageable pageable);
+
+    /**
+     * 获取所有学生的指定字段
+     * 
+     * @param fields 返回的字段，其余字段为 null
+     * @return 学生列表
+     */
+    List<StudentDTO> getAllStudentFields(List<StudentField> fields);
+
+    /**
+     * 根据条件分页查询学生的指定字段（只查询这些列，不加载实体）
+     * 
+     * @param fields 返回的字段，其余字段为 null
+     * @param name 姓名关键字
+     * @param major 专业
+     * @param gender 性别
+     * @param pageable 分页参数
+     * @return 分页结果
+     */
+    Page<StudentDTO> searchStudentFields(List<StudentField> fields, String name, String major, String gender,
+                                         Pageable pageable);
+
+    /**
+     * 根据条件分页查询学生的指定字段（不统计总数）
+     * 
+     * @param fields 返回的字段，其余字段为 null
+     * @param name 姓名关键字
+     * @param major 专业
+     * @param gender 性别
+     * @param pageable 分页参数
+     * @return 分页结果
+     */
+    Slice<StudentDTO> searchStudentFieldsSlice(List<StudentField> fields, String name, String major, String gender,
+                                               Pageable pageable);
+
     /**
      * 更新学生信息
      * 
@@ -76,6 +152,14 @@ public interface StudentService {
      */
     StudentDTO updateStudent(Long id, StudentDTO studentDTO);
 
+    /**
+     * 批量更新满足条件的学生
+     * 
+     * @param request 更新条件和更新内容
+     * @return 更新的学生数量
+     */
+    int bulkUpdateStudents(StudentBulkUpdateRequest request);
+
     /**
      * 删除学生
      * 
@@ -153,4 +237,26 @@ public interface StudentService {
      * @return 性别统计结果
      */
     Map<String, Long> getStudentCountByGender();
+
+    /**
+     * 按多个分组集合交叉统计学生人数（一次扫描得到全部分组）
+     * 
+     * @param groupingSets 分组集合，每个集合为一组不重复的维度
+     * @param rollup 是否为每个分组追加各级小计
+     * @return 交叉统计结果
+     */
+    StudentCrossTabDTO getCrossTab(List<List<CrossTabDimension>> groupingSets, boolean rollup);
+
+    /**
+     * 获取指定位置之后的增量变更
+     * 
+     * 位置由版本令牌和版本内的变更ID组成：一个事务的变更过多时会拆到多次同步中，
+     * 此时 hasMore 为true，客户端应继续同步直到 hasMore 为false，再视为到达一致的状态。
+     * 
+     * @param since 上次同步返回的版本令牌（首次同步传0）
+     * @param sinceChangeId 上次同步返回的版本内位置（首次同步或旧客户端传0）
+     * @param limit 本次最多处理的变更记录数
+     * @return 增量同步结果
+     */
+    StudentSyncDTO getChangesSince(long since, long sinceChangeId, int limit);
 }
\ No newline at end of file
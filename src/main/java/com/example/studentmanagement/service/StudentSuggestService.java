@@ -0,0 +1,34 @@
+package com.example.studentmanagement.service;
+
+import com.example.studentmanagement.dto.StudentFuzzyMatchDTO;
+import com.example.studentmanagement.dto.StudentSuggestDTO;
+
+import java.util.List;
+
+/**
+ * 学生搜索联想服务接口
+ * 
+ * @author System
+ * @version 1.0
+ */
+public interface StudentSuggestService {
+
+    /**
+     * 按前缀联想学生和专业，支持汉字、全拼、首字母和学号
+     * 
+     * @param query 用户输入
+     * @param limit 学生和专业各自最多返回的数量
+     * @return 联想结果
+     */
+    StudentSuggestDTO suggest(String query, int limit);
+
+    /**
+     * 按编辑距离容错搜索学生姓名，结果按距离升序
+     * 
+     * @param name 姓名（可含错字、漏字、多字）
+     * @param maxDistance 最大编辑距离
+     * @param limit 最多返回的学生数
+     * @return 匹配的学生
+     */
+    List<StudentFuzzyMatchDTO> fuzzySearch(String name, int maxDistance, int limit);
+}
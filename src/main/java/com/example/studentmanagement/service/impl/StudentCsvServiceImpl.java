@@ -0,0 +1,512 @@
+package com.example.studentmanagement.service.impl;
+
+import com.example.studentmanagement.dto.CsvExportChunk;
+import com.example.studentmanagement.dto.CsvImportChunk;
+import com.example.studentmanagement.dto.CsvImportResult;
+import com.example.studentmanagement.dto.StudentDTO;
+import com.example.studentmanagement.event.StudentCacheInvalidationEvent;
+import com.example.studentmanagement.event.StudentsChangedEvent;
+import com.example.studentmanagement.entity.GenderConverter;
+import com.example.studentmanagement.id.IdGenerator;
+import com.example.studentmanagement.repository.MajorDictionary;
+import com.example.studentmanagement.repository.StudentChangeRepository;
+import com.example.studentmanagement.service.StudentCsvService;
+import com.example.studentmanagement.util.MappedCsvReader;
+import com.example.studentmanagement.validation.StudentDTOValidator;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 学生CSV导入导出服务实现类
+ * 
+ * 导入：内存映射逐条解析 → 按 StudentDTO 的约束快速校验 → 每批一个事务批量写入（同时写变更日志），
+ * 任一时刻只持有一批数据，堆内存占用与文件大小无关。
+ * 导出：只进游标按 fetchSize 分批拉取，边读边写到输出流。
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Service
+public class StudentCsvServiceImpl implements StudentCsvService {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentCsvServiceImpl.class);
+
+    private static final String[] COLUMNS = {
+            "name", "studentNumber", "age", "gender", "major", "email", "phone", "enrollmentDate"};
+
+    private static final String INSERT_SQL = "INSERT INTO students (id, name, student_number, age, gender, major_id, "
+            + "email, phone, enrollment_date, created_time, updated_time) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_CHANGES_SQL = "INSERT INTO student_changes "
+            + "(student_id, student_number, change_type, changed_time, version) "
+            + "SELECT id, student_number, 'UPSERT', :changedTime, :version FROM students "
+            + "WHERE student_number IN (:studentNumbers) ORDER BY id";
+
+    private static final String EXPORT_SQL = "SELECT name, student_number, age, gender, major_id, email, phone, "
+            + "enrollment_date FROM students ORDER BY id";
+
+    private static final String EXPORT_CHUNK_SQL = "SELECT name, student_number, age, gender, major_id, email, phone, "
+            + "enrollment_date, id FROM students WHERE id > ? ORDER BY id LIMIT ?";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JdbcTemplate exportJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final Validator validator;
+    private final StudentDTOValidator fastValidator;
+    private final boolean fastValidation;
+    private final MajorDictionary majorDictionary;
+    private final StudentChangeRepository studentChangeRepository;
+    private final IdGenerator idGenerator;
+    private final SessionFactory sessionFactory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int windowSize;
+
+    public StudentCsvServiceImpl(DataSource dataSource,
+                                 PlatformTransactionManager transactionManager,
+                                 Validator validator,
+                                 StudentDTOValidator fastValidator,
+                                 MajorDictionary majorDictionary,
+                                 StudentChangeRepository studentChangeRepository,
+                                 IdGenerator idGenerator,
+                                 EntityManagerFactory entityManagerFactory,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${app.csv.batch-size:1000}") int batchSize,
+                                 @Value("${app.csv.fetch-size:1000}") int fetchSize,
+                                 @Value("${app.csv.window-size-mb:64}") int windowSizeMb,
+                                 @Value("${app.csv.fast-validation:true}") boolean fastValidation) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.exportJdbcTemplate = new JdbcTemplate(dataSource);
+        this.exportJdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.validator = validator;
+        this.fastValidator = fastValidator;
+        this.fastValidation = fastValidation;
+        this.majorDictionary = majorDictionary;
+        this.studentChangeRepository = studentChangeRepository;
+        this.idGenerator = idGenerator;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.windowSize = windowSizeMb * 1024 * 1024;
+    }
+
+    @Override
+    public CsvImportResult importCsv(Path file) throws IOException {
+        CsvImportResult result = new CsvImportResult();
+        long start = System.nanoTime();
+
+        try (MappedCsvReader reader = new MappedCsvReader(file, 0, windowSize)) {
+            if (!reader.next()) {
+                throw new IllegalArgumentException("CSV文件为空");
+            }
+            int[] columnIndexes = resolveColumns(reader.record());
+
+            List<StudentDTO> batch = new ArrayList<>(batchSize);
+            List<Long> batchRows = new ArrayList<>(batchSize);
+            while (reader.next()) {
+                long row = reader.getRecordNumber();
+                result.setTotalRows(result.getTotalRows() + 1);
+                StudentDTO studentDTO = parseRow(reader.record(), columnIndexes, row, result);
+                if (studentDTO == null) {
+                    continue;
+                }
+                batch.add(studentDTO);
+                batchRows.add(row);
+                if (batch.size() >= batchSize) {
+                    flushBatch(batch, batchRows, result);
+                }
+            }
+            flushBatch(batch, batchRows, result);
+        }
+        if (result.getImportedRows() > 0) {
+            eventPublisher.publishEvent(StudentsChangedEvent.INSTANCE);
+            eventPublisher.publishEvent(StudentCacheInvalidationEvent.queriesOnly());
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        result.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        result.setRowsPerSecond(ratePerSecond(result.getTotalRows(), elapsedNanos));
+        log.info("CSV导入完成: {}", result);
+        return result;
+    }
+
+    @Override
+    public long exportCsv(OutputStream outputStream) throws IOException {
+        long start = System.nanoTime();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+        writeHeader(writer);
+
+        long[] rows = {0};
+        try {
+            readOnlyTransactionTemplate.executeWithoutResult(status ->
+                    exportJdbcTemplate.query(EXPORT_SQL, rs -> {
+                        writeRow(writer, rs);
+                        rows[0]++;
+                    }));
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        writer.flush();
+
+        long elapsedNanos = System.nanoTime() - start;
+        log.info("CSV导出完成: {} 行, 耗时 {} ms, {} 行/秒", rows[0],
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), ratePerSecond(rows[0], elapsedNanos));
+        return rows[0];
+    }
+
+    @Override
+    public CsvImportChunk importCsvChunk(Path file, long offset, long rowsBefore, int maxRows) throws IOException {
+        int[] columnIndexes;
+        long dataOffset;
+        try (MappedCsvReader reader = new MappedCsvReader(file, 0, windowSize)) {
+            if (!reader.next()) {
+                throw new IllegalArgumentException("CSV文件为空");
+            }
+            columnIndexes = resolveColumns(reader.record());
+            dataOffset = Math.max(offset, reader.position());
+        }
+
+        CsvImportResult result = new CsvImportResult();
+        List<StudentDTO> batch = new ArrayList<>(maxRows);
+        List<Long> batchRows = new ArrayList<>(maxRows);
+        long nextOffset;
+        boolean finished;
+        try (MappedCsvReader reader = new MappedCsvReader(file, dataOffset, windowSize)) {
+            while (result.getTotalRows() < maxRows && reader.next()) {
+                // 第1行为表头
+                long row = rowsBefore + 1 + reader.getRecordNumber();
+                result.setTotalRows(result.getTotalRows() + 1);
+                StudentDTO studentDTO = parseRow(reader.record(), columnIndexes, row, result);
+                if (studentDTO != null) {
+                    batch.add(studentDTO);
+                    batchRows.add(row);
+                }
+            }
+            nextOffset = reader.position();
+            finished = result.getTotalRows() < maxRows || nextOffset >= reader.getFileSize();
+        }
+
+        if (!batch.isEmpty()) {
+            insertBatch(batch, batchRows, result);
+        }
+        if (result.getImportedRows() > 0) {
+            eventPublisher.publishEvent(StudentsChangedEvent.INSTANCE);
+            eventPublisher.publishEvent(StudentCacheInvalidationEvent.queriesOnly());
+            afterCommit(() -> sessionFactory.getCache().evictQueryRegions());
+        }
+        return new CsvImportChunk(result, nextOffset, finished);
+    }
+
+    @Override
+    public CsvExportChunk exportCsvChunk(OutputStream outputStream, long afterId, int limit) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+        if (afterId == 0) {
+            writeHeader(writer);
+        }
+        long[] state = {0, afterId};
+        try {
+            exportJdbcTemplate.query(EXPORT_CHUNK_SQL, rs -> {
+                writeRow(writer, rs);
+                state[0]++;
+                state[1] = rs.getLong(9);
+            }, afterId, limit);
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        writer.flush();
+        return new CsvExportChunk(state[0], state[1], state[0] < limit);
+    }
+
+    /**
+     * 根据表头确定各列所在下标，缺失的可选列为-1
+     */
+    private int[] resolveColumns(MappedCsvReader.CsvRecord header) {
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.getString(i);
+            if (name != null) {
+                positions.put(name.trim().replace("\uFEFF", ""), i);
+            }
+        }
+        int[] indexes = new int[COLUMNS.length];
+        for (int i = 0; i < COLUMNS.length; i++) {
+            indexes[i] = positions.getOrDefault(COLUMNS[i], -1);
+            if (indexes[i] < 0 && i < 5) {
+                throw new IllegalArgumentException("CSV表头缺少必需列: " + COLUMNS[i]);
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * 解析并校验一行，不合法时记录错误并返回null
+     */
+    private StudentDTO parseRow(MappedCsvReader.CsvRecord record, int[] columns, long row, CsvImportResult result) {
+        StudentDTO studentDTO = new StudentDTO();
+        studentDTO.setName(field(record, columns[0]));
+        studentDTO.setStudentNumber(field(record, columns[1]));
+        studentDTO.setGender(field(record, columns[3]));
+        studentDTO.setMajor(field(record, columns[4]));
+        studentDTO.setEmail(field(record, columns[5]));
+        studentDTO.setPhone(field(record, columns[6]));
+        try {
+            if (!record.isEmpty(columns[2])) {
+                studentDTO.setAge(record.getInt(columns[2]));
+            }
+            String enrollmentDate = field(record, columns[7]);
+            if (enrollmentDate != null) {
+                studentDTO.setEnrollmentDate(LocalDate.parse(enrollmentDate));
+            }
+        } catch (NumberFormatException | DateTimeParseException ex) {
+            reject(result, row, "年龄或入学日期格式不正确");
+            return null;
+        }
+
+        String violation = validate(studentDTO);
+        if (violation != null) {
+            reject(result, row, violation);
+            return null;
+        }
+        return studentDTO;
+    }
+
+    /**
+     * 校验学生信息，返回第一条"字段 提示信息"；两种校验器给出的提示信息相同
+     */
+    private String validate(StudentDTO studentDTO) {
+        if (fastValidation) {
+            List<StudentDTOValidator.Violation> violations = fastValidator.validate(studentDTO);
+            return violations.isEmpty() ? null : violations.get(0).toString();
+        }
+        Set<ConstraintViolation<StudentDTO>> violations = validator.validate(studentDTO);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        ConstraintViolation<StudentDTO> violation = violations.iterator().next();
+        return violation.getPropertyPath() + " " + violation.getMessage();
+    }
+
+    private static String field(MappedCsvReader.CsvRecord record, int index) {
+        return index < 0 ? null : record.getString(index);
+    }
+
+    private static void reject(CsvImportResult result, long row, String message) {
+        result.setInvalidRows(result.getInvalidRows() + 1);
+        result.addError("第" + row + "行: " + message);
+    }
+
+    /**
+     * 在独立事务中写入一批学生，写入失败时整批计为失败行
+     */
+    private void flushBatch(List<StudentDTO> batch, List<Long> batchRows, CsvImportResult result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long importedBefore = result.getImportedRows();
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertBatch(batch, batchRows, result));
+            if (result.getImportedRows() > importedBefore) {
+                // JDBC写入绕过了 Hibernate，需手动清除学生查询缓存
+                sessionFactory.getCache().evictQueryRegions();
+            }
+        } catch (DataAccessException ex) {
+            // 并发写入等原因导致整批失败时，整批计为失败行，继续处理后续批次
+            log.warn("CSV导入批次写入失败: {}", ex.getMessage());
+            result.setInvalidRows(result.getInvalidRows() + batch.size());
+            result.addError("第" + batchRows.get(0) + "-" + batchRows.get(batchRows.size() - 1)
+                    + "行: 批量写入失败: " + ex.getMostSpecificCause().getMessage());
+        }
+        batch.clear();
+        batchRows.clear();
+    }
+
+    /**
+     * 在当前事务中写入一批学生：剔除已存在和批内重复的学号后批量插入，并追加变更日志
+     */
+    private void insertBatch(List<StudentDTO> batch, List<Long> batchRows, CsvImportResult result) {
+        Set<String> batchNumbers = new HashSet<>();
+        batch.forEach(studentDTO -> batchNumbers.add(studentDTO.getStudentNumber()));
+        Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT student_number FROM students WHERE student_number IN (:studentNumbers)",
+                Map.of("studentNumbers", batchNumbers), String.class));
+
+        List<StudentDTO> inserts = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            StudentDTO studentDTO = batch.get(i);
+            if (!existing.add(studentDTO.getStudentNumber())) {
+                result.setDuplicateRows(result.getDuplicateRows() + 1);
+                result.addError("第" + batchRows.get(i) + "行: 学号已存在: " + studentDTO.getStudentNumber());
+                continue;
+            }
+            inserts.add(studentDTO);
+        }
+
+        if (!inserts.isEmpty()) {
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_SQL,
+                    new StudentBatchSetter(inserts, now, majorDictionary, idGenerator));
+            List<String> insertedNumbers = new ArrayList<>(inserts.size());
+            inserts.forEach(studentDTO -> insertedNumbers.add(studentDTO.getStudentNumber()));
+            jdbcTemplate.update(INSERT_CHANGES_SQL, new MapSqlParameterSource()
+                    .addValue("changedTime", now)
+                    .addValue("version", studentChangeRepository.currentTransactionVersion())
+                    .addValue("studentNumbers", insertedNumbers));
+            result.setImportedRows(result.getImportedRows() + inserts.size());
+        }
+    }
+
+    /**
+     * 写出表头行
+     */
+    private static void writeHeader(Writer writer) throws IOException {
+        writer.write(String.join(",", COLUMNS));
+        writer.write('\n');
+    }
+
+    /**
+     * 写出一行学生数据（结果集前8列依次为导出列）
+     */
+    private void writeRow(Writer writer, ResultSet rs) throws SQLException {
+        try {
+            writeField(writer, rs.getString(1));
+            writer.write(',');
+            writeField(writer, rs.getString(2));
+            writer.write(',');
+            writer.write(Integer.toString(rs.getInt(3)));
+            writer.write(',');
+            writeField(writer, GenderConverter.fromCode(rs.getInt(4)));
+            writer.write(',');
+            writeField(writer, majorDictionary.nameOf(rs.getInt(5)));
+            writer.write(',');
+            writeField(writer, rs.getString(6));
+            writer.write(',');
+            writeField(writer, rs.getString(7));
+            writer.write(',');
+            Date enrollmentDate = rs.getDate(8);
+            if (enrollmentDate != null) {
+                writer.write(enrollmentDate.toLocalDate().toString());
+            }
+            writer.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * 在当前事务提交后执行，没有事务时立即执行
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 写出一个CSV字段，包含逗号、引号或换行时加引号并转义
+     */
+    private static void writeField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static long ratePerSecond(long rows, long elapsedNanos) {
+        return elapsedNanos > 0 ? rows * TimeUnit.SECONDS.toNanos(1) / elapsedNanos : rows;
+    }
+
+    /**
+     * 按位置绑定参数的批量插入，避免逐行构造参数Map；专业和性别写入字典ID和编码
+     */
+    private static final class StudentBatchSetter implements BatchPreparedStatementSetter {
+
+        private final List<StudentDTO> students;
+        private final Timestamp now;
+        private final Date today;
+        private final MajorDictionary majorDictionary;
+        private final IdGenerator idGenerator;
+
+        private StudentBatchSetter(List<StudentDTO> students, Timestamp now, MajorDictionary majorDictionary,
+                                   IdGenerator idGenerator) {
+            this.students = students;
+            this.now = now;
+            this.today = Date.valueOf(now.toLocalDateTime().toLocalDate());
+            this.majorDictionary = majorDictionary;
+            this.idGenerator = idGenerator;
+        }
+
+        @Override
+        public void setValues(PreparedStatement ps, int i) throws SQLException {
+            StudentDTO studentDTO = students.get(i);
+            ps.setLong(1, idGenerator.nextId());
+            ps.setString(2, studentDTO.getName());
+            ps.setString(3, studentDTO.getStudentNumber());
+            ps.setInt(4, studentDTO.getAge());
+            ps.setByte(5, GenderConverter.toCode(studentDTO.getGender()));
+            ps.setInt(6, majorDictionary.register(studentDTO.getMajor()));
+            ps.setString(7, studentDTO.getEmail());
+            ps.setString(8, studentDTO.getPhone());
+            ps.setDate(9, studentDTO.getEnrollmentDate() != null
+                    ? Date.valueOf(studentDTO.getEnrollmentDate()) : today);
+            ps.setTimestamp(10, now);
+            ps.setTimestamp(11, now);
+        }
+
+        @Override
+        public int getBatchSize() {
+            return students.size();
+        }
+    }
+}
\ No newline at end of file
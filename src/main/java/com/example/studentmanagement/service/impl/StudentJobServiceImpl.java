@@ -0,0 +1,365 @@
+package com.example.studentmanagement.service.impl;
+
+import com.example.studentmanagement.dto.StudentJobDTO;
+import com.example.studentmanagement.entity.StudentJob;
+import com.example.studentmanagement.entity.StudentJob.JobStatus;
+import com.example.studentmanagement.entity.StudentJob.JobType;
+import com.example.studentmanagement.exception.StudentConflictException;
+import com.example.studentmanagement.exception.StudentJobRejectedException;
+import com.example.studentmanagement.exception.StudentNotFoundException;
+import com.example.studentmanagement.job.JobHandler;
+import com.example.studentmanagement.job.JobProperties;
+import com.example.studentmanagement.repository.StudentJobRepository;
+import com.example.studentmanagement.service.StudentJobService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 后台任务服务实现类
+ *
+ * 任务记录先落库再进入有界队列，队列已满时删除记录并拒绝提交（503），不在内存中无限堆积。
+ * 执行线程每块开启一个事务：重新加载任务、检查取消标记、由处理器处理一块并更新断点，
+ * 业务数据和断点一起提交，因此进程在任意时刻退出都能从最后提交的块继续，不会重复处理。
+ *
+ * 续跑只在启动时进行，多个实例共用一个数据库时需另加任务认领机制。
+ *
+ * @author System
+ * @version 1.0
+ */
+@Service
+public class StudentJobServiceImpl implements StudentJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentJobServiceImpl.class);
+
+    private static final List<JobStatus> UNFINISHED = Arrays.asList(JobStatus.QUEUED, JobStatus.RUNNING);
+
+    private final StudentJobRepository jobRepository;
+    private final Map<JobType, JobHandler> handlers = new EnumMap<>(JobType.class);
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final JobProperties properties;
+    private final Path workDir;
+    private final ThreadPoolExecutor executor;
+
+    /** 已进入队列或正在执行的任务，避免同一任务被重复提交 */
+    private final Set<Long> activeJobs = ConcurrentHashMap.newKeySet();
+
+    /** 停止信号：执行线程在块边界退出，任务保持执行中状态，下次启动时续跑 */
+    private final CountDownLatch stopping = new CountDownLatch(1);
+
+    public StudentJobServiceImpl(StudentJobRepository jobRepository,
+                                 List<JobHandler> handlerList,
+                                 PlatformTransactionManager transactionManager,
+                                 ObjectMapper objectMapper,
+                                 JobProperties properties) {
+        this.jobRepository = jobRepository;
+        handlerList.forEach(handler -> handlers.put(handler.getType(), handler));
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.workDir = Paths.get(properties.getWorkDir());
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(properties.getWorkerThreads(), properties.getWorkerThreads(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()), runnable -> {
+            Thread thread = new Thread(runnable, "student-job-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public StudentJobDTO submitImport(Path file) throws IOException {
+        Files.createDirectories(workDir);
+        StudentJob job;
+        try {
+            job = transactionTemplate.execute(status -> {
+                StudentJob created = jobRepository.save(new StudentJob(JobType.IMPORT));
+                Path target = workDir.resolve("job-" + created.getId() + "-import.csv");
+                try {
+                    Files.move(file, target, StandardCopyOption.REPLACE_EXISTING);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                created.setFilePath(target.toString());
+                return created;
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        return enqueue(job);
+    }
+
+    @Override
+    public StudentJobDTO submitExport() throws IOException {
+        Files.createDirectories(workDir);
+        StudentJob job = transactionTemplate.execute(status -> {
+            StudentJob created = jobRepository.save(new StudentJob(JobType.EXPORT));
+            created.setFilePath(workDir.resolve("job-" + created.getId() + "-export.csv").toString());
+            return created;
+        });
+        return enqueue(job);
+    }
+
+    @Override
+    public StudentJobDTO submitBatchDelete(List<Long> ids) {
+        StudentJob job = new StudentJob(JobType.BATCH_DELETE);
+        job.setParameters(toJson(ids));
+        job.setTotal((long) ids.size());
+        return enqueue(transactionTemplate.execute(status -> jobRepository.save(job)));
+    }
+
+    @Override
+    public StudentJobDTO getJob(Long id) {
+        return convertToDTO(findJob(id));
+    }
+
+    @Override
+    public List<StudentJobDTO> getRecentJobs(int limit) {
+        return jobRepository.findAllByOrderByIdDesc(PageRequest.of(0, limit)).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public StudentJobDTO cancelJob(Long id) {
+        StudentJob job = transactionTemplate.execute(status -> {
+            if (jobRepository.requestCancel(id, UNFINISHED) == 0) {
+                StudentJob finished = findJob(id);
+                throw new StudentConflictException("任务已结束，无法取消: " + finished.getStatus());
+            }
+            jobRepository.cancelQueued(id, JobStatus.QUEUED, JobStatus.CANCELLED, LocalDateTime.now());
+            return findJob(id);
+        });
+        return convertToDTO(job);
+    }
+
+    @Override
+    public Path getExportFile(Long id) {
+        StudentJob job = findJob(id);
+        if (job.getJobType() != JobType.EXPORT) {
+            throw new StudentConflictException("任务不是导出任务: " + id);
+        }
+        if (job.getStatus() != JobStatus.SUCCEEDED) {
+            throw new StudentConflictException("导出任务尚未完成: " + job.getStatus());
+        }
+        Path file = Paths.get(job.getFilePath());
+        if (!Files.exists(file)) {
+            throw new StudentNotFoundException("导出结果文件已不存在，任务ID: " + id);
+        }
+        return file;
+    }
+
+    @Override
+    public int resumeInterruptedJobs() {
+        int resumed = 0;
+        for (StudentJob job : jobRepository.findByStatusInOrderByIdAsc(UNFINISHED)) {
+            if (activeJobs.contains(job.getId())) {
+                continue;
+            }
+            try {
+                enqueue(job);
+                resumed++;
+            } catch (StudentJobRejectedException ex) {
+                log.warn("任务队列已满，任务 {} 留待下次启动时续跑", job.getId());
+                break;
+            }
+        }
+        return resumed;
+    }
+
+    /**
+     * 启动完成后续跑上次未完成的任务
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.isResumeOnStartup()) {
+            int resumed = resumeInterruptedJobs();
+            if (resumed > 0) {
+                log.info("续跑上次未完成的任务 {} 个", resumed);
+            }
+        }
+    }
+
+    /**
+     * 停止接收任务，等待执行线程在当前块提交后退出；未完成的任务下次启动时续跑
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        stopping.countDown();
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("后台任务未能在30秒内停止");
+        }
+    }
+
+    private StudentJobDTO enqueue(StudentJob job) {
+        activeJobs.add(job.getId());
+        try {
+            executor.execute(() -> run(job.getId()));
+        } catch (RejectedExecutionException ex) {
+            activeJobs.remove(job.getId());
+            if (job.getStatus() == JobStatus.QUEUED && job.getStartedTime() == null) {
+                // 新提交的任务直接删除记录；续跑的任务保留
+                jobRepository.deleteById(job.getId());
+                handlers.get(job.getJobType()).finish(job);
+            }
+            throw new StudentJobRejectedException("后台任务排队已满，请稍后重试");
+        }
+        return convertToDTO(job);
+    }
+
+    private void run(Long jobId) {
+        try {
+            if (isStopping()) {
+                return;
+            }
+            StudentJob job = transactionTemplate.execute(status -> start(jobId));
+            JobHandler handler = handlers.get(job.getJobType());
+            if (job.getStatus().isFinished()) {
+                handler.finish(job);
+                return;
+            }
+            try {
+                while (!isStopping()) {
+                    job = transactionTemplate.execute(status -> processChunk(jobId, handler));
+                    if (job.getStatus().isFinished()) {
+                        log.info("任务结束: {}", job);
+                        handler.finish(job);
+                        return;
+                    }
+                    if (properties.getChunkPauseMs() > 0) {
+                        stopping.await(properties.getChunkPauseMs(), TimeUnit.MILLISECONDS);
+                    }
+                }
+                log.info("任务 {} 在断点 {} 处暂停，下次启动时续跑", jobId, job.getCursor());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException ex) {
+                if (isStopping()) {
+                    log.warn("停止过程中任务 {} 的当前块未提交，下次启动时续跑: {}", jobId, ex.getMessage());
+                    return;
+                }
+                log.error("任务 {} 执行失败", jobId, ex);
+                StudentJob failed = transactionTemplate.execute(status -> fail(jobId, ex));
+                handler.finish(failed);
+            }
+        } finally {
+            activeJobs.remove(jobId);
+        }
+    }
+
+    /**
+     * 将任务置为执行中；任务已结束（如排队时被取消）时原样返回
+     */
+    private StudentJob start(Long jobId) {
+        StudentJob job = findJob(jobId);
+        if (!job.getStatus().isFinished()) {
+            job.setStatus(JobStatus.RUNNING);
+            if (job.getStartedTime() == null) {
+                job.setStartedTime(LocalDateTime.now());
+            }
+        }
+        return job;
+    }
+
+    /**
+     * 在当前事务中处理一块：已请求取消时结束任务，否则交给处理器并在处理完时结束任务
+     */
+    private StudentJob processChunk(Long jobId, JobHandler handler) {
+        StudentJob job = findJob(jobId);
+        if (job.isCancelRequested()) {
+            complete(job, JobStatus.CANCELLED);
+            return job;
+        }
+        boolean done;
+        try {
+            done = handler.processChunk(job, properties.getChunkSize());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        if (done) {
+            job.setProgress(100);
+            complete(job, JobStatus.SUCCEEDED);
+        }
+        return job;
+    }
+
+    private StudentJob fail(Long jobId, RuntimeException ex) {
+        StudentJob job = findJob(jobId);
+        Throwable cause = ex instanceof UncheckedIOException ? ex.getCause() : ex;
+        String message = String.valueOf(cause.getMessage());
+        job.setErrorMessage(message.length() > 1000 ? message.substring(0, 1000) : message);
+        complete(job, JobStatus.FAILED);
+        return job;
+    }
+
+    private static void complete(StudentJob job, JobStatus status) {
+        job.setStatus(status);
+        job.setFinishedTime(LocalDateTime.now());
+    }
+
+    private boolean isStopping() {
+        return stopping.getCount() == 0;
+    }
+
+    private StudentJob findJob(Long id) {
+        return jobRepository.findById(id)
+                .orElseThrow(() -> new StudentNotFoundException("任务不存在，ID: " + id));
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+
+    /**
+     * 转换为任务状态，结果按JSON原样输出
+     */
+    private StudentJobDTO convertToDTO(StudentJob job) {
+        StudentJobDTO dto = new StudentJobDTO();
+        dto.setId(job.getId());
+        dto.setType(job.getJobType());
+        dto.setStatus(job.getStatus());
+        dto.setProcessed(job.getProcessed());
+        dto.setTotal(job.getTotal());
+        dto.setProgress(job.getProgress());
+        dto.setCancelRequested(job.isCancelRequested() && !job.getStatus().isFinished());
+        dto.setErrorMessage(job.getErrorMessage());
+        dto.setCreatedTime(job.getCreatedTime());
+        dto.setStartedTime(job.getStartedTime());
+        dto.setFinishedTime(job.getFinishedTime());
+        dto.setUpdatedTime(job.getUpdatedTime());
+        if (job.getResult() != null) {
+            try {
+                dto.setResult(objectMapper.readTree(job.getResult()));
+            } catch (JsonProcessingException ex) {
+                dto.setResult(job.getResult());
+            }
+        }
+        return dto;
+    }
+}
@@ -1,91 +1,265 @@
 package com.example.studentmanagement.service.impl;
 
+import com.example.studentmanagement.annotation.SingleFlight;
+import com.example.studentmanagement.annotation.StaleIfError;
+import com.example.studentmanagement.dto.CrossTabDimension;
+import com.example.studentmanagement.dto.StudentBulkUpdateRequest;
+import com.example.studentmanagement.dto.StudentCrossTabDTO;
 import com.example.studentmanagement.dto.StudentDTO;
+import com.example.studentmanagement.dto.StudentField;
+import com.example.studentmanagement.dto.StudentLookupResult;
+import com.example.studentmanagement.dto.StudentSyncDTO;
 import com.example.studentmanagement.entity.Student;
+import com.example.studentmanagement.entity.StudentChange;
+import com.example.studentmanagement.entity.StudentChange.ChangeType;
+import com.example.studentmanagement.event.StudentCacheInvalidationEvent;
+import com.example.studentmanagement.event.StudentsChangedEvent;
+import com.example.studentmanagement.exception.StudentConflictException;
+import com.example.studentmanagement.exception.StudentNotFoundException;
+import com.example.studentmanagement.exception.StudentOperationNotSupportedException;
+import com.example.studentmanagement.exception.StudentValidationException;
+import com.example.studentmanagement.repository.MajorDictionary;
+import com.example.studentmanagement.repository.StudentChangeRepository;
 import com.example.studentmanagement.repository.StudentRepository;
+import com.example.studentmanagement.resilience.QueryTimeouts;
 import com.example.studentmanagement.service.StudentService;
+import com.example.studentmanagement.sharding.ShardedStudentRepository;
+import com.example.studentmanagement.tracing.RequestTrace;
+import com.example.studentmanagement.tracing.TracePhase;
+import com.example.studentmanagement.util.CrossTabAggregator;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
 /**
  * 学生服务实现类
  * 
+ * 开启分片（app.sharding.enabled=true）时，学生的增删改查、分页搜索和统计改为访问 {@link ShardedStudentRepository}，
+ * 变更日志仍写入主库；依赖单库 SQL 的批量查询、批量修改删除、按年龄查询和交叉统计在分片模式下不可用（501）。
+ * 
  * @author System
  * @version 1.0
  */
 @Service
-@Transactional
+@Transactional(timeoutString = QueryTimeouts.WRITE)
 public class StudentServiceImpl implements StudentService {
 
     @Autowired
     private StudentRepository studentRepository;
 
+    @Autowired
+    private StudentChangeRepository studentChangeRepository;
+
+    @Autowired
+    private MajorDictionary majorDictionary;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /** 分片数据访问层，未开启分片时为 null */
+    @Autowired(required = false)
+    private ShardedStudentRepository shardedStudentRepository;
+
+    /** 批量查询单次请求的最大键数 */
+    @Value("${app.lookup.max-keys:1000}")
+    private int lookupMaxKeys;
+
+    /** 批量查询每条 IN 语句包含的最大键数 */
+    @Value("${app.lookup.chunk-size:200}")
+    private int lookupChunkSize;
+
+    /** 批量更新每条 UPDATE 语句包含的最大学生数 */
+    @Value("${app.bulk-update.chunk-size:1000}")
+    private int bulkUpdateChunkSize;
+
     @Override
     public StudentDTO createStudent(StudentDTO studentDTO) {
-        // 检查学号是否已存在
-        if (studentRepository.existsByStudentNumber(studentDTO.getStudentNumber())) {
-            throw new RuntimeException("学号已存在: " + studentDTO.getStudentNumber());
-        }
-
         Student student = convertToEntity(studentDTO);
-        Student savedStudent = studentRepository.save(student);
+        Student savedStudent;
+        if (shardedStudentRepository != null) {
+            savedStudent = saveToShard(null, student);
+        } else {
+            majorDictionary.register(studentDTO.getMajor());
+            // 直接插入，学号是否重复由唯一约束判断
+            savedStudent = saveWithUniqueStudentNumber(student);
+        }
+        recordChange(savedStudent.getId(), savedStudent.getStudentNumber(), ChangeType.UPSERT);
+        publishChanges(StudentCacheInvalidationEvent.of(savedStudent.getId(), savedStudent.getStudentNumber()));
         return convertToDTO(savedStudent);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = QueryTimeouts.POINT)
+    @SingleFlight
+    @StaleIfError
     public Optional<StudentDTO> getStudentById(Long id) {
-        return studentRepository.findById(id)
+        return findStudentById(id)
                 .map(this::convertToDTO);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = QueryTimeouts.POINT)
+    @SingleFlight
+    @StaleIfError
     public Optional<StudentDTO> getStudentByStudentNumber(String studentNumber) {
-        return studentRepository.findByStudentNumber(studentNumber)
-                .map(this::convertToDTO);
+        Optional<Student> student = shardedStudentRepository != null
+                ? shardedStudentRepository.findByStudentNumber(studentNumber)
+                : studentRepository.findByStudentNumber(studentNumber);
+        return student.map(this::convertToDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = QueryTimeouts.SCAN)
+    public StudentLookupResult<Long> lookupStudentsByIds(List<Long> ids) {
+        checkNotSharded("批量查询");
+        List<Long> distinctIds = distinctLookupKeys(ids);
+        Map<Long, StudentDTO> found = new HashMap<>();
+        for (Student student : studentRepository.multiLoadByIds(distinctIds, lookupChunkSize)) {
+            if (student != null) {
+                found.put(student.getId(), convertToDTO(student));
+            }
+        }
+        return toLookupResult(ids, found);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = QueryTimeouts.SCAN)
+    public StudentLookupResult<String> lookupStudentsByStudentNumbers(List<String> studentNumbers) {
+        checkNotSharded("批量查询");
+        List<String> distinctNumbers = distinctLookupKeys(studentNumbers);
+        Map<String, StudentDTO> found = new HashMap<>();
+        for (int from = 0; from < distinctNumbers.size(); from += lookupChunkSize) {
+            List<String> chunk = distinctNumbers.subList(from, Math.min(from + lookupChunkSize, distinctNumbers.size()));
+            for (Student student : studentRepository.findByStudentNumberIn(chunk)) {
+                found.put(student.getStudentNumber(), convertToDTO(student));
+            }
+        }
+        return toLookupResult(studentNumbers, found);
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = QueryTimeouts.SCAN)
+    @SingleFlight
     public List<StudentDTO> getAllStudents() {
-        return studentRepository.findAll().stream()
+        List<Student> students = shardedStudentRepository != null
+                ? shardedStudentRepository.findAll()
+                : studentRepository.findAll();
+        return students.stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = QueryTimeouts.SCAN)
+    @SingleFlight
     public Page<StudentDTO> getStudentsWithPagination(Pageable pageable) {
-        return studentRepository.findAll(pageable)
+        Page<Student> students = shardedStudentRepository != null
+                ? shardedStudentRepository.findAll(pageable)
+                : studentRepository.findAll(toStoragePageable(pageable));
+        return students
                 .map(this::convertToDTO);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = QueryTimeouts.SCAN)
+    @SingleFlight
     public Page<StudentDTO> searchStudents(String name, String major, String gender, Pageable pageable) {
-        return studentRepository.findStudentsWithFilters(name, major, gender, pageable)
+        Page<Student> students = shardedStudentRepository != null
+                ? shardedStudentRepository.findStudentsWithFilters(name, major, gender, pageable)
+                : studentRepository.findStudentsWithFilters(name, major, gender, toStoragePageable(pageable));
+        return students
+                .map(this::convertToDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = QueryTimeouts.SCAN)
+    @SingleFlight
+    public Slice<StudentDTO> getStudentsSlice(Pageable pageable) {
+        Slice<Student> students = shardedStudentRepository != null
+                ? toSlice(shardedStudentRepository.findAll(pageable))
+                : studentRepository.findAllBy(toStoragePageable(pageable));
+        return students
+                .map(this::convertToDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = QueryTimeouts.SCAN)
+    @SingleFlight
+    public Slice<StudentDTO> searchStudentsSlice(String name, String major, String gender, Pageable pageable) {
+        Slice<Student> students = shardedStudentRepository != null
+                ? toSlice(shardedStudentRepository.findStudentsWithFilters(name, major, gender, pageable))
+                : studentRepository.sliceStudentsWithFilters(name, major, gender, toStoragePageable(pageable));
+        return students
                 .map(this::convertToDTO);
     }
 
+    @Override
+    @Transactional(readOnly = true, timeoutString = QueryTimeouts.SCAN)
+    @SingleFlight
+    public List<StudentDTO> getAllStudentFields(List<StudentField> fields) {
+        if (shardedStudentRepository != null) {
+            return shardedStudentRepository.findAll().stream()
+                    .map(student -> convertToDTO(fields, student))
+                    .collect(Collectors.toList());
+        }
+        return studentRepository.sliceFieldsWithFilters(fields, null, null, null, Pageable.unpaged()).stream()
+                .map(row -> convertToDTO(fields, row))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = QueryTimeouts.SCAN)
+    @SingleFlight
+    public Page<StudentDTO> searchStudentFields(List<StudentField> fields, String name, String major, String gender,
+                                                Pageable pageable) {
+        if (shardedStudentRepository != null) {
+            return shardedStudentRepository.findStudentsWithFilters(name, major, gender, pageable)
+                    .map(student -> convertToDTO(fields, student));
+        }
+        return studentRepository.findFieldsWithFilters(fields, name, major, gender, pageable)
+                .map(row -> convertToDTO(fields, row));
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = QueryTimeouts.SCAN)
+    @SingleFlight
+    public Slice<StudentDTO> searchStudentFieldsSlice(List<StudentField> fields, String name, String major,
+                                                      String gender, Pageable pageable) {
+        if (shardedStudentRepository != null) {
+            return toSlice(shardedStudentRepository.findStudentsWithFilters(name, major, gender, pageable))
+                    .map(student -> convertToDTO(fields, student));
+        }
+        return studentRepository.sliceFieldsWithFilters(fields, name, major, gender, pageable)
+                .map(row -> convertToDTO(fields, row));
+    }
+
     @Override
     public StudentDTO updateStudent(Long id, StudentDTO studentDTO) {
-        Student existingStudent = studentRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("学生不存在，ID: " + id));
+        Student existingStudent = findStudentById(id)
+                .orElseThrow(() -> StudentNotFoundException.ofId(id));
 
-        // 如果学号发生变化，检查新学号是否已存在
-        if (!existingStudent.getStudentNumber().equals(studentDTO.getStudentNumber())) {
-            if (studentRepository.existsByStudentNumber(studentDTO.getStudentNumber())) {
-                throw new RuntimeException("学号已存在: " + studentDTO.getStudentNumber());
-            }
+        if (shardedStudentRepository == null) {
+            majorDictionary.register(studentDTO.getMajor());
         }
+        String previousStudentNumber = existingStudent.getStudentNumber();
 
         // 更新字段（保留ID和时间戳）
         existingStudent.setName(studentDTO.getName());
@@ -99,73 +273,148 @@ public class StudentServiceImpl implements StudentService {
             existingStudent.setEnrollmentDate(studentDTO.getEnrollmentDate());
         }
 
-        Student updatedStudent = studentRepository.save(existingStudent);
+        // 学号发生变化时，新学号是否已被占用由唯一约束判断
+        Student updatedStudent = shardedStudentRepository != null
+                ? saveToShard(previousStudentNumber, existingStudent)
+                : saveWithUniqueStudentNumber(existingStudent);
+        recordChange(updatedStudent.getId(), updatedStudent.getStudentNumber(), ChangeType.UPSERT);
+        publishChanges(previousStudentNumber.equals(updatedStudent.getStudentNumber())
+                ? StudentCacheInvalidationEvent.of(id, previousStudentNumber)
+                : StudentCacheInvalidationEvent.of(id, previousStudentNumber, updatedStudent.getStudentNumber()));
         return convertToDTO(updatedStudent);
     }
 
+    @Override
+    public int bulkUpdateStudents(StudentBulkUpdateRequest request) {
+        checkNotSharded("批量更新");
+        if (!request.getWhere().hasAnyCondition()) {
+            throw new StudentValidationException("批量更新至少需要一个条件");
+        }
+        if (!request.getSet().hasAnyAssignment()) {
+            throw new StudentValidationException("批量更新至少需要更新一个字段");
+        }
+
+        List<Long> ids = studentRepository.findIdsForBulkUpdate(request.getWhere());
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        if (request.getSet().getMajor() != null) {
+            majorDictionary.register(request.getSet().getMajor());
+        }
+
+        // 按ID分批执行集合式 UPDATE，并为同一批学生追加变更日志供增量同步使用
+        LocalDateTime now = LocalDateTime.now();
+        int updated = 0;
+        for (int from = 0; from < ids.size(); from += bulkUpdateChunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + bulkUpdateChunkSize, ids.size()));
+            updated += studentRepository.updateByIds(chunk, request.getSet(), now);
+            studentRepository.recordUpsertChanges(chunk, now, studentChangeRepository.currentTransactionVersion());
+        }
+        publishChanges(StudentCacheInvalidationEvent.of(ids, Collections.emptyList()));
+        return updated;
+    }
+
     @Override
     public boolean deleteStudent(Long id) {
-        if (!studentRepository.existsById(id)) {
-            throw new RuntimeException("学生不存在，ID: " + id);
+        Student student = findStudentById(id)
+                .orElseThrow(() -> StudentNotFoundException.ofId(id));
+        if (shardedStudentRepository != null) {
+            shardedStudentRepository.deleteByStudentNumber(student.getStudentNumber());
+        } else {
+            studentRepository.delete(student);
         }
-        studentRepository.deleteById(id);
+        recordChange(id, student.getStudentNumber(), ChangeType.DELETE);
+        publishChanges(StudentCacheInvalidationEvent.of(id, student.getStudentNumber()));
         return true;
     }
 
     @Override
     public int deleteStudentsBatch(List<Long> ids) {
+        checkNotSharded("批量删除");
         List<Student> studentsToDelete = studentRepository.findAllById(ids);
-        studentRepository.deleteAll(studentsToDelete);
+        // 一条 DELETE ... WHERE id = ? OR id = ? 删除全部，而不是逐个删除
+        studentRepository.deleteAllInBatch(studentsToDelete);
+        studentsToDelete.forEach(student ->
+                recordChange(student.getId(), student.getStudentNumber(), ChangeType.DELETE));
+        if (!studentsToDelete.isEmpty()) {
+            publishChanges(StudentCacheInvalidationEvent.of(
+                    studentsToDelete.stream().map(Student::getId).collect(Collectors.toList()),
+                    studentsToDelete.stream().map(Student::getStudentNumber).collect(Collectors.toList())));
+        }
         return studentsToDelete.size();
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = QueryTimeouts.SCAN)
+    @SingleFlight
     public List<StudentDTO> searchStudentsByName(String name) {
-        return studentRepository.findByNameContainingIgnoreCase(name).stream()
+        List<Student> students = shardedStudentRepository != null
+                ? shardedStudentRepository.findAllWithFilters(name, null, null)
+                : studentRepository.findByNameContainingIgnoreCase(name);
+        return students.stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = QueryTimeouts.SCAN)
+    @SingleFlight
     public List<StudentDTO> getStudentsByMajor(String major) {
-        return studentRepository.findByMajor(major).stream()
+        List<Student> students = shardedStudentRepository != null
+                ? shardedStudentRepository.findAllWithFilters(null, major, null)
+                : studentRepository.findByMajor(major);
+        return students.stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = QueryTimeouts.SCAN)
+    @SingleFlight
     public List<StudentDTO> getStudentsByGender(String gender) {
-        return studentRepository.findByGender(gender).stream()
+        List<Student> students = shardedStudentRepository != null
+                ? shardedStudentRepository.findAllWithFilters(null, null, gender)
+                : studentRepository.findByGender(gender);
+        return students.stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = QueryTimeouts.SCAN)
+    @SingleFlight
     public List<StudentDTO> getStudentsByAgeRange(Integer minAge, Integer maxAge) {
+        checkNotSharded("按年龄范围查询");
         return studentRepository.findByAgeBetween(minAge, maxAge).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = QueryTimeouts.POINT)
+    @SingleFlight
     public boolean existsByStudentNumber(String studentNumber) {
-        return studentRepository.existsByStudentNumber(studentNumber);
+        return shardedStudentRepository != null
+                ? shardedStudentRepository.existsByStudentNumber(studentNumber)
+                : studentRepository.existsByStudentNumber(studentNumber);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = QueryTimeouts.SCAN)
+    @SingleFlight
+    @StaleIfError
     public long getTotalStudentCount() {
-        return studentRepository.count();
+        return shardedStudentRepository != null ? shardedStudentRepository.count() : studentRepository.count();
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = QueryTimeouts.SCAN)
+    @SingleFlight
+    @StaleIfError
     public Map<String, Long> getStudentCountByMajor() {
+        if (shardedStudentRepository != null) {
+            return shardedStudentRepository.countStudentsByMajor();
+        }
         List<Object[]> results = studentRepository.countStudentsByMajor();
         return results.stream()
                 .collect(Collectors.toMap(
@@ -175,8 +424,13 @@ public class StudentServiceImpl implements StudentService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = QueryTimeouts.SCAN)
+    @SingleFlight
+    @StaleIfError
     public Map<String, Long> getStudentCountByGender() {
+        if (shardedStudentRepository != null) {
+            return shardedStudentRepository.countStudentsByGender();
+        }
         List<Object[]> results = studentRepository.countStudentsByGender();
         return results.stream()
                 .collect(Collectors.toMap(
@@ -185,6 +439,230 @@ public class StudentServiceImpl implements StudentService {
                 ));
     }
 
+    @Override
+    @Transactional(readOnly = true, timeoutString = QueryTimeouts.SCAN)
+    @SingleFlight
+    @StaleIfError
+    public StudentCrossTabDTO getCrossTab(List<List<CrossTabDimension>> groupingSets, boolean rollup) {
+        checkNotSharded("交叉统计");
+        List<List<CrossTabDimension>> sets = rollup ? CrossTabAggregator.rollup(groupingSets) : groupingSets;
+
+        // 所有分组集合用到的维度的并集作为唯一一次 GROUP BY 的粒度，各分组在内存中汇总
+        List<CrossTabDimension> scanned = sets.stream()
+                .flatMap(List::stream)
+                .distinct()
+                .collect(Collectors.toList());
+        List<int[]> indexes = sets.stream()
+                .map(set -> set.stream().mapToInt(scanned::indexOf).toArray())
+                .collect(Collectors.toList());
+        CrossTabAggregator aggregator = new CrossTabAggregator(indexes);
+        for (Object[] row : studentRepository.countByDimensions(scanned)) {
+            aggregator.add(row, (Long) row[row.length - 1]);
+        }
+
+        List<StudentCrossTabDTO.GroupingSet> results = new ArrayList<>(sets.size());
+        for (int i = 0; i < sets.size(); i++) {
+            List<StudentCrossTabDTO.Cell> cells = new ArrayList<>();
+            aggregator.getCells(i).forEach((values, count) -> cells.add(new StudentCrossTabDTO.Cell(values, count)));
+            List<String> dimensions = sets.get(i).stream()
+                    .map(CrossTabDimension::getParamName)
+                    .collect(Collectors.toList());
+            results.add(new StudentCrossTabDTO.GroupingSet(dimensions, cells));
+        }
+        return new StudentCrossTabDTO(aggregator.getTotal(), results);
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = QueryTimeouts.SCAN)
+    @SingleFlight
+    public StudentSyncDTO getChangesSince(long since, long sinceChangeId, int limit) {
+        // 同一事务的变更共用一个版本号，按 (版本号, ID) 分页，大事务拆到多页中，每页不超过 limit 条
+        List<StudentChange> changes = studentChangeRepository.findAfter(since,
+                sinceChangeId > 0 ? sinceChangeId : Long.MAX_VALUE, PageRequest.of(0, limit));
+        if (changes.isEmpty()) {
+            return new StudentSyncDTO(Collections.emptyList(), Collections.emptyList(), since, sinceChangeId, false);
+        }
+        boolean hasMore = changes.size() == limit;
+        StudentChange last = changes.get(changes.size() - 1);
+        // 没有更多记录时最后一个版本已全部返回，版本内位置归零
+        long nextChangeId = hasMore ? last.getId() : 0;
+
+        // 同一学生在窗口内的多次变更只保留最后一次
+        Map<Long, ChangeType> latestChanges = new LinkedHashMap<>();
+        for (StudentChange change : changes) {
+            latestChanges.remove(change.getStudentId());
+            latestChanges.put(change.getStudentId(), change.getChangeType());
+        }
+
+        List<Long> upsertIds = latestChanges.entrySet().stream()
+                .filter(entry -> entry.getValue() == ChangeType.UPSERT)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        List<Student> upserted = shardedStudentRepository != null
+                ? shardedStudentRepository.findAllById(upsertIds)
+                : studentRepository.findAllById(upsertIds);
+        Map<Long, Student> currentStudents = upserted.stream()
+                .collect(Collectors.toMap(Student::getId, student -> student));
+
+        List<StudentDTO> changed = new ArrayList<>();
+        List<Long> deletedIds = new ArrayList<>();
+        latestChanges.forEach((studentId, changeType) -> {
+            Student student = currentStudents.get(studentId);
+            // 修改后又在窗口外被删除的学生同样按删除处理
+            if (changeType == ChangeType.DELETE || student == null) {
+                deletedIds.add(studentId);
+            } else {
+                changed.add(convertToDTO(student));
+            }
+        });
+
+        return new StudentSyncDTO(changed, deletedIds, last.getVersion(), nextChangeId, hasMore);
+    }
+
+    /**
+     * 保存学生并立即刷新到数据库，学号唯一约束冲突转换为 {@link StudentConflictException}
+     * 
+     * 不预先查询学号是否存在：省去一次查询，并发创建或修改为同一学号时也只有一个成功，
+     * 其余返回冲突而不是在提交时抛出原始的约束异常。
+     * 
+     * @param student 学生实体
+     * @return 保存后的学生实体
+     */
+    private Student saveWithUniqueStudentNumber(Student student) {
+        try {
+            return studentRepository.saveAndFlush(student);
+        } catch (DataIntegrityViolationException e) {
+            if (isStudentNumberViolation(e)) {
+                throw StudentConflictException.duplicateStudentNumber(student.getStudentNumber());
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isStudentNumberViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException) {
+                String constraintName = ((ConstraintViolationException) cause).getConstraintName();
+                return constraintName != null
+                        && constraintName.toLowerCase(Locale.ROOT).contains(Student.STUDENT_NUMBER_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 根据ID查找学生，开启分片时查询所有分片
+     * 
+     * @param id 学生ID
+     * @return 学生实体
+     */
+    private Optional<Student> findStudentById(Long id) {
+        return shardedStudentRepository != null ? shardedStudentRepository.findById(id) : studentRepository.findById(id);
+    }
+
+    /**
+     * 在分片上新增（原学号为 null）或修改学生，学号重复转换为 {@link StudentConflictException}
+     * 
+     * @param originalStudentNumber 修改前的学号，新增时为 null
+     * @param student 学生实体
+     * @return 保存后的学生实体
+     */
+    private Student saveToShard(String originalStudentNumber, Student student) {
+        try {
+            return originalStudentNumber == null
+                    ? shardedStudentRepository.insert(student)
+                    : shardedStudentRepository.update(originalStudentNumber, student);
+        } catch (DuplicateKeyException e) {
+            throw StudentConflictException.duplicateStudentNumber(student.getStudentNumber());
+        }
+    }
+
+    /**
+     * 开启分片时拒绝依赖单库 SQL 的操作
+     * 
+     * @param operation 操作名称
+     */
+    private void checkNotSharded(String operation) {
+        if (shardedStudentRepository != null) {
+            throw new StudentOperationNotSupportedException("分片模式下不支持" + operation);
+        }
+    }
+
+    /**
+     * 追加一条变更日志
+     * 
+     * @param studentId 学生ID
+     * @param studentNumber 学号（删除时可为空）
+     * @param changeType 变更类型
+     */
+    private void recordChange(Long studentId, String studentNumber, ChangeType changeType) {
+        studentChangeRepository.save(new StudentChange(studentId, studentNumber, changeType,
+                studentChangeRepository.currentTransactionVersion()));
+    }
+
+    /**
+     * 发布数据变更事件（联想索引追赶变更日志）和缓存失效事件（提交后广播给其他实例）
+     * 
+     * @param invalidation 涉及的学生
+     */
+    private void publishChanges(StudentCacheInvalidationEvent invalidation) {
+        eventPublisher.publishEvent(StudentsChangedEvent.INSTANCE);
+        eventPublisher.publishEvent(invalidation);
+    }
+
+    /**
+     * 校验批量查询的键并去重（保持请求顺序）
+     * 
+     * @param keys 请求中的键
+     * @return 去重后的键
+     */
+    private <K> List<K> distinctLookupKeys(List<K> keys) {
+        if (keys.size() > lookupMaxKeys) {
+            throw new StudentValidationException("单次批量查询最多 " + lookupMaxKeys + " 个，实际 " + keys.size() + " 个");
+        }
+        if (keys.contains(null)) {
+            throw new StudentValidationException("批量查询的ID或学号不能为空");
+        }
+        return new ArrayList<>(new LinkedHashSet<>(keys));
+    }
+
+    /**
+     * 按请求顺序组装批量查询结果
+     * 
+     * @param keys 请求中的键（可含重复）
+     * @param found 已找到的学生
+     * @return 批量查询结果
+     */
+    private static <K> StudentLookupResult<K> toLookupResult(List<K> keys, Map<K, StudentDTO> found) {
+        List<StudentDTO> students = new ArrayList<>(keys.size());
+        Set<K> missing = new LinkedHashSet<>();
+        for (K key : keys) {
+            StudentDTO student = found.get(key);
+            students.add(student);
+            if (student == null) {
+                missing.add(key);
+            }
+        }
+        return new StudentLookupResult<>(students, new ArrayList<>(missing));
+    }
+
+    /**
+     * 转换排序字段：major 列保存的是专业字典ID，按专业排序时改为按外连接的专业名称排序
+     * 
+     * @param pageable 分页参数
+     * @return 存储层使用的分页参数
+     */
+    private static Pageable toStoragePageable(Pageable pageable) {
+        if (pageable.getSort().getOrderFor("major") == null) {
+            return pageable;
+        }
+        List<Sort.Order> orders = new ArrayList<>();
+        for (Sort.Order order : pageable.getSort()) {
+            orders.add("major".equals(order.getProperty()) ? order.withProperty(StudentRepository.MAJOR_NAME_SORT) : order);
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(orders));
+    }
+
     /**
      * 将实体转换为DTO
      * 
@@ -192,9 +670,54 @@ public class StudentServiceImpl implements StudentService {
      * @return 学生DTO
      */
     private StudentDTO convertToDTO(Student student) {
-        StudentDTO dto = new StudentDTO();
-        BeanUtils.copyProperties(student, dto);
-        return dto;
+        RequestTrace trace = RequestTrace.enter(TracePhase.MAPPING);
+        try {
+            StudentDTO dto = new StudentDTO();
+            BeanUtils.copyProperties(student, dto);
+            return dto;
+        } finally {
+            RequestTrace.exit(trace, TracePhase.MAPPING);
+        }
+    }
+
+    /**
+     * 将字段投影查询的一行转换为DTO，未查询的字段为 null（序列化时省略）
+     * 
+     * @param fields 查询的字段
+     * @param row 各字段的值
+     * @return 学生DTO
+     */
+    private static StudentDTO convertToDTO(List<StudentField> fields, Object[] row) {
+        RequestTrace trace = RequestTrace.enter(TracePhase.MAPPING);
+        try {
+            StudentDTO dto = new StudentDTO();
+            for (int i = 0; i < row.length; i++) {
+                fields.get(i).apply(dto, row[i]);
+            }
+            return dto;
+        } finally {
+            RequestTrace.exit(trace, TracePhase.MAPPING);
+        }
+    }
+
+    /**
+     * 将实体转换为只包含指定字段的DTO（分片模式下的字段投影）
+     * 
+     * @param fields 查询的字段
+     * @param student 学生实体
+     * @return 学生DTO
+     */
+    private static StudentDTO convertToDTO(List<StudentField> fields, Student student) {
+        BeanWrapper source = new BeanWrapperImpl(student);
+        Object[] row = new Object[fields.size()];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = source.getPropertyValue(fields.get(i).getParamName());
+        }
+        return convertToDTO(fields, row);
+    }
+
+    private static <T> Slice<T> toSlice(Page<T> page) {
+        return new SliceImpl<>(page.getContent(), page.getPageable(), page.hasNext());
     }
 
     /**
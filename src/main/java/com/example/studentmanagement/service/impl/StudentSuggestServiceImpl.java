@@ -0,0 +1,215 @@
+package com.example.studentmanagement.service.impl;
+
+import com.example.studentmanagement.dto.StudentDTO;
+import com.example.studentmanagement.dto.StudentFuzzyMatchDTO;
+import com.example.studentmanagement.dto.StudentSuggestDTO;
+import com.example.studentmanagement.dto.StudentSuggestDTO.StudentSuggestion;
+import com.example.studentmanagement.dto.StudentSyncDTO;
+import com.example.studentmanagement.event.StudentsChangedEvent;
+import com.example.studentmanagement.repository.StudentChangeRepository;
+import com.example.studentmanagement.service.StudentService;
+import com.example.studentmanagement.service.StudentSuggestService;
+import com.example.studentmanagement.util.FuzzyIndex;
+import com.example.studentmanagement.util.PinyinKeys;
+import com.example.studentmanagement.util.PrefixIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 学生搜索联想服务实现类
+ * 
+ * 学生姓名（含全拼、首字母）、学号和专业名称建立内存前缀索引，联想请求不访问数据库；
+ * 姓名另建容错索引，支持按编辑距离搜索。
+ * 启动完成后全量加载一次，之后每次写操作提交后按变更日志增量同步（与 /sync 接口相同的数据），
+ * 因此CSV导入、批量更新等绕过 JPA 的写入同样会反映到索引中。
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Service
+public class StudentSuggestServiceImpl implements StudentSuggestService {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentSuggestServiceImpl.class);
+
+    private final StudentService studentService;
+    private final StudentChangeRepository studentChangeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int syncBatchSize;
+
+    private final PrefixIndex<Long> studentIndex = new PrefixIndex<>();
+    private final FuzzyIndex<Long> nameIndex;
+    private final Map<Long, StudentSuggestion> students = new ConcurrentHashMap<>();
+    private final PrefixIndex<String> majorIndex = new PrefixIndex<>();
+    /** 各专业的学生数，专业没有学生后从索引中移除；只在持有 refreshLock 时访问 */
+    private final Map<String, Integer> majorCounts = new HashMap<>();
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final AtomicBoolean refreshRequested = new AtomicBoolean();
+    /** 已同步到的变更日志版本，-1 表示尚未完成全量加载 */
+    private volatile long version = -1;
+    /** 已同步到的版本内位置（大事务拆到多批同步时不为0），只在持有 refreshLock 时访问 */
+    private long changeId;
+
+    public StudentSuggestServiceImpl(StudentService studentService,
+                                     StudentChangeRepository studentChangeRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${app.suggest.enabled:true}") boolean enabled,
+                                     @Value("${app.suggest.sync-batch-size:1000}") int syncBatchSize,
+                                     @Value("${app.suggest.fuzzy-max-distance:2}") int fuzzyMaxDistance) {
+        this.studentService = studentService;
+        this.studentChangeRepository = studentChangeRepository;
+        // 写事务提交后的回调中仍绑定着原事务的资源，同步时必须开启新事务
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+        this.enabled = enabled;
+        this.syncBatchSize = syncBatchSize;
+        this.nameIndex = new FuzzyIndex<>(fuzzyMaxDistance);
+    }
+
+    @Override
+    public StudentSuggestDTO suggest(String query, int limit) {
+        String prefix = PinyinKeys.normalize(query);
+        if (prefix.isEmpty()) {
+            return new StudentSuggestDTO(Collections.emptyList(), Collections.emptyList());
+        }
+        List<StudentSuggestion> matched = studentIndex.search(prefix, limit).stream()
+                .map(students::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new StudentSuggestDTO(matched, majorIndex.search(prefix, limit));
+    }
+
+    @Override
+    public List<StudentFuzzyMatchDTO> fuzzySearch(String name, int maxDistance, int limit) {
+        String query = PinyinKeys.normalize(name);
+        if (query.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<StudentFuzzyMatchDTO> result = new ArrayList<>();
+        for (FuzzyIndex.Match<Long> match : nameIndex.search(query, maxDistance, limit)) {
+            StudentSuggestion student = students.get(match.getValue());
+            if (student != null) {
+                result.add(new StudentFuzzyMatchDTO(student.getId(), student.getName(),
+                        student.getStudentNumber(), student.getMajor(), match.getDistance()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 应用启动完成后全量加载索引
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        refreshLock.lock();
+        try {
+            // 先取版本号再加载全量数据，加载期间的写入会在随后的增量同步中重放
+            transactionTemplate.executeWithoutResult(status -> {
+                long latestVersion = studentChangeRepository.findLatestVersion();
+                studentService.getAllStudents().forEach(this::index);
+                version = latestVersion;
+                changeId = 0;
+            });
+        } finally {
+            refreshLock.unlock();
+        }
+        refresh();
+        log.info("搜索联想索引加载完成: {} 个学生, {} 个专业, 耗时 {} ms", studentIndex.size(), majorIndex.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 写事务提交后增量同步（非事务中发布的事件立即同步）
+     * 
+     * @param event 变更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentsChanged(StudentsChangedEvent event) {
+        if (enabled) {
+            refresh();
+        }
+    }
+
+    /**
+     * 按变更日志增量同步；其他线程正在同步时只留下标记，由该线程再同步一轮
+     */
+    private void refresh() {
+        refreshRequested.set(true);
+        while (refreshRequested.get() && refreshLock.tryLock()) {
+            try {
+                refreshRequested.set(false);
+                if (version >= 0) {
+                    catchUp();
+                }
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+    }
+
+    private void catchUp() {
+        StudentSyncDTO sync;
+        do {
+            sync = transactionTemplate.execute(status ->
+                    studentService.getChangesSince(version, changeId, syncBatchSize));
+            sync.getChanged().forEach(this::index);
+            sync.getDeletedIds().forEach(this::unindex);
+            changeId = sync.getNextChangeId();
+            version = sync.getNextToken();
+        } while (sync.isHasMore());
+    }
+
+    private void index(StudentDTO student) {
+        StudentSuggestion suggestion = new StudentSuggestion(
+                student.getId(), student.getName(), student.getStudentNumber(), student.getMajor());
+        StudentSuggestion previous = students.put(student.getId(), suggestion);
+        Set<String> keys = PinyinKeys.keysOf(student.getName());
+        keys.add(student.getStudentNumber());
+        studentIndex.put(student.getId(), keys);
+        nameIndex.put(student.getId(), PinyinKeys.normalize(student.getName()));
+
+        String previousMajor = previous == null ? null : previous.getMajor();
+        if (!Objects.equals(previousMajor, student.getMajor())) {
+            releaseMajor(previousMajor);
+            if (student.getMajor() != null && majorCounts.merge(student.getMajor(), 1, Integer::sum) == 1) {
+                majorIndex.put(student.getMajor(), PinyinKeys.keysOf(student.getMajor()));
+            }
+        }
+    }
+
+    private void unindex(Long id) {
+        studentIndex.remove(id);
+        nameIndex.remove(id);
+        StudentSuggestion previous = students.remove(id);
+        if (previous != null) {
+            releaseMajor(previous.getMajor());
+        }
+    }
+
+    private void releaseMajor(String major) {
+        if (major != null && majorCounts.merge(major, -1, Integer::sum) == 0) {
+            majorCounts.remove(major);
+            majorIndex.remove(major);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.studentmanagement.sharding;
+
+/**
+ * 按入学年份分片
+ * 
+ * 学号前4位为入学年份（如 20210001 为2021级），同一届学生落在同一分片，各届按年份轮流分布到各分片。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class EnrollmentYearShardFunction implements ShardFunction {
+
+    private static final int YEAR_DIGITS = 4;
+
+    @Override
+    public int shardFor(String studentNumber, int shardCount) {
+        if (studentNumber == null || studentNumber.length() < YEAR_DIGITS) {
+            throw new IllegalArgumentException("学号格式不正确，无法确定分片: " + studentNumber);
+        }
+        int year = 0;
+        for (int i = 0; i < YEAR_DIGITS; i++) {
+            char c = studentNumber.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new IllegalArgumentException("学号格式不正确，无法确定分片: " + studentNumber);
+            }
+            year = year * 10 + (c - '0');
+        }
+        return Math.floorMod(year, shardCount);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.studentmanagement.sharding;
+
+/**
+ * 分片函数
+ * 
+ * 根据学号计算学生所在的分片，实现必须是确定性的：同一学号在分片数不变时总是落在同一分片。
+ * 
+ * @author System
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface ShardFunction {
+
+    /**
+     * 计算学号所在分片
+     * 
+     * @param studentNumber 学号
+     * @param shardCount 分片数量
+     * @return 分片下标，范围 [0, shardCount)
+     */
+    int shardFor(String studentNumber, int shardCount);
+}
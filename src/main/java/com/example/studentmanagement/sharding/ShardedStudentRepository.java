@@ -0,0 +1,580 @@
+package com.example.studentmanagement.sharding;
+
+import com.example.studentmanagement.entity.Student;
+import com.example.studentmanagement.id.IdGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 分片学生数据访问层
+ * 
+ * 学生按 {@link ShardFunction}（默认按学号中的入学年份）分布在多个数据源上：
+ * 按学号的单条查询和写入只访问一个分片；条件分页、计数和分组统计并行查询所有分片后合并，
+ * 分页结果按排序条件多路归并，计数和分组统计累加各分片的部分结果。
+ * 
+ * 学生ID由应用生成、全局唯一，但无法从ID推算所在分片：按学号定位只访问一个分片，按ID定位需要查询所有分片。
+ * 
+ * 分片写入立即在分片库提交，不参与主库事务。在主库事务（变更日志所在）内调用写方法时，
+ * 若主库事务最终回滚，已提交的分片写入按调用前的状态撤销，避免分片上留下增量同步和联想索引都看不到的记录。
+ * 每条分片语句的查询超时与扫描类查询相同（app.query-timeout.scan），分片卡住时不会一直占用查询线程。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class ShardedStudentRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedStudentRepository.class);
+
+    private static final String COLUMNS = "id, name, student_number, age, gender, major, email, phone, "
+            + "enrollment_date, created_time, updated_time";
+
+    /** 可排序属性与列名的映射 */
+    private static final Map<String, String> SORTABLE_COLUMNS = Map.of(
+            "id", "id",
+            "name", "name",
+            "studentNumber", "student_number",
+            "age", "age",
+            "gender", "gender",
+            "major", "major",
+            "enrollmentDate", "enrollment_date",
+            "createdTime", "created_time",
+            "updatedTime", "updated_time");
+
+    /** 可排序属性的取值函数，用于多路归并时在内存中比较 */
+    private static final Map<String, Function<Student, Comparable<?>>> SORT_KEYS = Map.of(
+            "id", Student::getId,
+            "name", Student::getName,
+            "studentNumber", Student::getStudentNumber,
+            "age", Student::getAge,
+            "gender", Student::getGender,
+            "major", Student::getMajor,
+            "enrollmentDate", Student::getEnrollmentDate,
+            "createdTime", Student::getCreatedTime,
+            "updatedTime", Student::getUpdatedTime);
+
+    private static final RowMapper<Student> STUDENT_ROW_MAPPER = (rs, rowNum) -> {
+        Student student = new Student();
+        student.setId(rs.getLong("id"));
+        student.setName(rs.getString("name"));
+        student.setStudentNumber(rs.getString("student_number"));
+        student.setAge(rs.getInt("age"));
+        student.setGender(rs.getString("gender"));
+        student.setMajor(rs.getString("major"));
+        student.setEmail(rs.getString("email"));
+        student.setPhone(rs.getString("phone"));
+        Date enrollmentDate = rs.getDate("enrollment_date");
+        student.setEnrollmentDate(enrollmentDate != null ? enrollmentDate.toLocalDate() : null);
+        Timestamp createdTime = rs.getTimestamp("created_time");
+        student.setCreatedTime(createdTime != null ? createdTime.toLocalDateTime() : null);
+        Timestamp updatedTime = rs.getTimestamp("updated_time");
+        student.setUpdatedTime(updatedTime != null ? updatedTime.toLocalDateTime() : null);
+        return student;
+    };
+
+    private final List<NamedParameterJdbcTemplate> shards;
+    private final ShardFunction shardFunction;
+    private final IdGenerator idGenerator;
+    private final Executor executor;
+
+    public ShardedStudentRepository(List<DataSource> dataSources, ShardFunction shardFunction,
+                                    IdGenerator idGenerator, Executor executor, int queryTimeoutSeconds) {
+        if (dataSources.isEmpty()) {
+            throw new IllegalArgumentException("至少需要配置一个分片");
+        }
+        this.shards = dataSources.stream()
+                .map(dataSource -> {
+                    NamedParameterJdbcTemplate template = new NamedParameterJdbcTemplate(dataSource);
+                    template.getJdbcTemplate().setQueryTimeout(queryTimeoutSeconds);
+                    return template;
+                })
+                .collect(Collectors.toList());
+        this.shardFunction = shardFunction;
+        this.idGenerator = idGenerator;
+        this.executor = executor;
+    }
+
+    /**
+     * 分片数量
+     * 
+     * @return 分片数量
+     */
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    /**
+     * 计算学号所在分片
+     * 
+     * @param studentNumber 学号
+     * @return 分片下标
+     */
+    public int shardFor(String studentNumber) {
+        return shardFunction.shardFor(studentNumber, shards.size());
+    }
+
+    /**
+     * 根据学号查找学生（单分片）
+     * 
+     * @param studentNumber 学号
+     * @return 学生信息
+     */
+    public Optional<Student> findByStudentNumber(String studentNumber) {
+        List<Student> students = shards.get(shardFor(studentNumber)).query(
+                "SELECT " + COLUMNS + " FROM students WHERE student_number = :studentNumber",
+                Map.of("studentNumber", studentNumber), STUDENT_ROW_MAPPER);
+        return students.stream().findFirst();
+    }
+
+    /**
+     * 根据ID查找学生（所有分片并行查询）
+     * 
+     * @param id 学生ID
+     * @return 学生信息
+     */
+    public Optional<Student> findById(Long id) {
+        return scatter(shard -> shard.query("SELECT " + COLUMNS + " FROM students WHERE id = :id",
+                Map.of("id", id), STUDENT_ROW_MAPPER))
+                .stream()
+                .flatMap(List::stream)
+                .findFirst();
+    }
+
+    /**
+     * 根据多个ID查找学生（所有分片并行查询，不保证顺序）
+     * 
+     * @param ids 学生ID
+     * @return 找到的学生
+     */
+    public List<Student> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<String, Object> parameters = Map.of("ids", ids);
+        return scatter(shard -> shard.query("SELECT " + COLUMNS + " FROM students WHERE id IN (:ids)",
+                parameters, STUDENT_ROW_MAPPER))
+                .stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 获取全部学生（所有分片并行查询后按学号排序）
+     * 
+     * @return 学生列表
+     */
+    public List<Student> findAll() {
+        return findAllWithFilters(null, null, null);
+    }
+
+    /**
+     * 根据多个条件查询全部匹配的学生（所有分片并行查询后按学号排序）
+     * 
+     * @param name 姓名关键字
+     * @param major 专业
+     * @param gender 性别
+     * @return 学生列表
+     */
+    public List<Student> findAllWithFilters(String name, String major, String gender) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        String sql = "SELECT " + COLUMNS + " FROM students" + buildFilter(name, major, gender, parameters);
+        return scatter(shard -> shard.query(sql, parameters, STUDENT_ROW_MAPPER))
+                .stream()
+                .flatMap(List::stream)
+                .sorted(Comparator.comparing(Student::getStudentNumber))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 检查学号是否存在（单分片）
+     * 
+     * @param studentNumber 学号
+     * @return 是否存在
+     */
+    public boolean existsByStudentNumber(String studentNumber) {
+        Long count = shards.get(shardFor(studentNumber)).queryForObject(
+                "SELECT COUNT(*) FROM students WHERE student_number = :studentNumber",
+                Map.of("studentNumber", studentNumber), Long.class);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 新增学生（单分片）
+     * 
+     * ID由应用生成，各分片之间不会重复。学号重复时抛出 DuplicateKeyException。
+     * 
+     * @param student 学生信息
+     * @return 回填了ID的学生信息
+     */
+    public Student insert(Student student) {
+        LocalDateTime now = LocalDateTime.now();
+        student.setId(idGenerator.nextId());
+        student.setCreatedTime(now);
+        student.setUpdatedTime(now);
+        insertInto(shardFor(student.getStudentNumber()), student);
+        undoOnRollback(student.getId(), student.getStudentNumber(), null);
+        return student;
+    }
+
+    /**
+     * 修改学生信息
+     * 
+     * 学号变化导致所在分片变化时，先在新分片插入（保留原ID和创建时间），成功后再从原分片删除；
+     * 删除失败则撤销新分片上的插入并抛出原异常，学生仍完整保留在原分片。
+     * 两步之间的短暂时间内，跨分片查询可能同时看到新旧两条记录，但不会一条都看不到。
+     * 新学号重复时抛出 DuplicateKeyException，原分片不受影响。
+     * 
+     * @param originalStudentNumber 修改前的学号
+     * @param student 修改后的学生信息
+     * @return 修改后的学生信息
+     */
+    public Student update(String originalStudentNumber, Student student) {
+        int originalShard = shardFor(originalStudentNumber);
+        int targetShard = shardFor(student.getStudentNumber());
+        Student previous = findByStudentNumber(originalStudentNumber).orElse(null);
+        student.setUpdatedTime(LocalDateTime.now());
+        if (originalShard != targetShard) {
+            insertInto(targetShard, student);
+            try {
+                deleteFrom(originalShard, originalStudentNumber);
+            } catch (RuntimeException ex) {
+                try {
+                    shards.get(targetShard).update("DELETE FROM students WHERE id = :id",
+                            Map.of("id", student.getId()));
+                } catch (RuntimeException compensationFailure) {
+                    ex.addSuppressed(compensationFailure);
+                }
+                throw ex;
+            }
+            undoOnRollback(student.getId(), student.getStudentNumber(), previous);
+            return student;
+        }
+        MapSqlParameterSource parameters = toParameters(student)
+                .addValue("originalStudentNumber", originalStudentNumber);
+        int updated = shards.get(originalShard).update(
+                "UPDATE students SET name = :name, student_number = :studentNumber, age = :age, "
+                        + "gender = :gender, major = :major, email = :email, phone = :phone, "
+                        + "enrollment_date = :enrollmentDate, updated_time = :updatedTime "
+                        + "WHERE student_number = :originalStudentNumber",
+                parameters);
+        if (updated > 0) {
+            undoOnRollback(student.getId(), student.getStudentNumber(), previous);
+        }
+        return student;
+    }
+
+    /**
+     * 在指定分片插入一条学生记录，ID和时间戳由调用方设置
+     */
+    private void insertInto(int shard, Student student) {
+        shards.get(shard).update(
+                "INSERT INTO students (id, name, student_number, age, gender, major, email, phone, "
+                        + "enrollment_date, created_time, updated_time) VALUES (:id, :name, :studentNumber, :age, "
+                        + ":gender, :major, :email, :phone, :enrollmentDate, :createdTime, :updatedTime)",
+                toParameters(student).addValue("id", student.getId()));
+    }
+
+    /**
+     * 根据学号删除学生（单分片）
+     * 
+     * @param studentNumber 学号
+     * @return 是否删除了记录
+     */
+    public boolean deleteByStudentNumber(String studentNumber) {
+        Optional<Student> previous = findByStudentNumber(studentNumber);
+        if (previous.isEmpty() || !deleteFrom(shardFor(studentNumber), studentNumber)) {
+            return false;
+        }
+        undoOnRollback(previous.get().getId(), null, previous.get());
+        return true;
+    }
+
+    private boolean deleteFrom(int shard, String studentNumber) {
+        return shards.get(shard).update("DELETE FROM students WHERE student_number = :studentNumber",
+                Map.of("studentNumber", studentNumber)) > 0;
+    }
+
+    /**
+     * 当前主库事务回滚时撤销一次已提交的分片写入：删除写入后的记录，再写回写入前的记录
+     * 
+     * @param id 学生ID
+     * @param currentStudentNumber 写入后的学号，删除时为null
+     * @param previous 写入前的记录，新增时为null
+     */
+    private void undoOnRollback(Long id, String currentStudentNumber, Student previous) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_UNKNOWN) {
+                    log.error("主库事务结果未知，未撤销分片写入，学生ID: {}", id);
+                }
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                try {
+                    if (currentStudentNumber != null) {
+                        shards.get(shardFor(currentStudentNumber)).update("DELETE FROM students WHERE id = :id",
+                                Map.of("id", id));
+                    }
+                    if (previous != null) {
+                        insertInto(shardFor(previous.getStudentNumber()), previous);
+                    }
+                    log.warn("主库事务已回滚，撤销分片写入，学生ID: {}", id);
+                } catch (RuntimeException ex) {
+                    log.error("主库事务已回滚，撤销分片写入失败，学生ID: {}", id, ex);
+                }
+            }
+        });
+    }
+
+    /**
+     * 根据多个条件分页查询学生（所有分片并行查询后归并）
+     * 
+     * 每个分片按相同排序取前 offset+size 条，再多路归并取出目标页，总数为各分片计数之和。
+     * 
+     * @param name 姓名关键字
+     * @param major 专业
+     * @param gender 性别
+     * @param pageable 分页参数
+     * @return 分页结果
+     */
+    public Page<Student> findStudentsWithFilters(String name, String major, String gender, Pageable pageable) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        String where = buildFilter(name, major, gender, parameters);
+        long fetchSize = pageable.getOffset() + pageable.getPageSize();
+        parameters.addValue("limit", fetchSize);
+        String pageSql = "SELECT " + COLUMNS + " FROM students" + where
+                + buildOrderBy(pageable.getSort()) + " LIMIT :limit";
+        String countSql = "SELECT COUNT(*) FROM students" + where;
+
+        List<ShardPage> shardPages = scatter(shard -> new ShardPage(
+                shard.query(pageSql, parameters, STUDENT_ROW_MAPPER),
+                Objects.requireNonNull(shard.queryForObject(countSql, parameters, Long.class))));
+
+        long total = shardPages.stream().mapToLong(page -> page.total).sum();
+        List<Student> content = mergeSorted(
+                shardPages.stream().map(page -> page.students).collect(Collectors.toList()),
+                buildComparator(pageable.getSort()),
+                pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 分页获取学生（所有分片并行查询后归并）
+     * 
+     * @param pageable 分页参数
+     * @return 分页结果
+     */
+    public Page<Student> findAll(Pageable pageable) {
+        return findStudentsWithFilters(null, null, null, pageable);
+    }
+
+    /**
+     * 学生总数（各分片计数之和）
+     * 
+     * @return 学生总数
+     */
+    public long count() {
+        return scatter(shard -> shard.getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM students", Long.class))
+                .stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * 统计各专业学生数量（累加各分片的部分结果）
+     * 
+     * @return 专业统计结果
+     */
+    public Map<String, Long> countStudentsByMajor() {
+        return sumGroupCounts("major");
+    }
+
+    /**
+     * 统计各性别学生数量（累加各分片的部分结果）
+     * 
+     * @return 性别统计结果
+     */
+    public Map<String, Long> countStudentsByGender() {
+        return sumGroupCounts("gender");
+    }
+
+    private Map<String, Long> sumGroupCounts(String column) {
+        String sql = "SELECT " + column + ", COUNT(*) FROM students GROUP BY " + column;
+        List<List<Object[]>> partials = scatter(shard -> shard.getJdbcTemplate().query(sql,
+                (rs, rowNum) -> new Object[]{rs.getString(1), rs.getLong(2)}));
+
+        Map<String, Long> totals = new HashMap<>();
+        for (List<Object[]> partial : partials) {
+            for (Object[] row : partial) {
+                totals.merge((String) row[0], (Long) row[1], Long::sum);
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * 在所有分片上并行执行查询，按分片顺序返回结果
+     */
+    private <T> List<T> scatter(Function<NamedParameterJdbcTemplate, T> query) {
+        List<CompletableFuture<T>> futures = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> query.apply(shard), executor))
+                .collect(Collectors.toList());
+        try {
+            return futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * 多路归并各分片的有序结果，跳过 offset 条后取 limit 条
+     */
+    static List<Student> mergeSorted(List<List<Student>> sortedRuns, Comparator<Student> comparator,
+                                     long offset, int limit) {
+        PriorityQueue<RunCursor> heap = new PriorityQueue<>(Math.max(1, sortedRuns.size()),
+                (a, b) -> comparator.compare(a.current(), b.current()));
+        for (List<Student> run : sortedRuns) {
+            if (!run.isEmpty()) {
+                heap.add(new RunCursor(run));
+            }
+        }
+
+        List<Student> result = new ArrayList<>(limit);
+        long skipped = 0;
+        while (!heap.isEmpty() && result.size() < limit) {
+            RunCursor cursor = heap.poll();
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                result.add(cursor.current());
+            }
+            if (cursor.advance()) {
+                heap.add(cursor);
+            }
+        }
+        return result;
+    }
+
+    private static String buildFilter(String name, String major, String gender, MapSqlParameterSource parameters) {
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        if (name != null) {
+            where.append(" AND LOWER(name) LIKE LOWER(:name)");
+            parameters.addValue("name", "%" + name + "%");
+        }
+        if (major != null) {
+            where.append(" AND major = :major");
+            parameters.addValue("major", major);
+        }
+        if (gender != null) {
+            where.append(" AND gender = :gender");
+            parameters.addValue("gender", gender);
+        }
+        return where.toString();
+    }
+
+    /**
+     * 生成排序子句，空值视为最小值，并以学号兜底保证各分片与内存归并的顺序一致
+     */
+    private static String buildOrderBy(Sort sort) {
+        StringJoiner orderBy = new StringJoiner(", ", " ORDER BY ", "");
+        for (Sort.Order order : sort) {
+            String column = SORTABLE_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("不支持的排序字段: " + order.getProperty());
+            }
+            orderBy.add(column + (order.isAscending() ? " ASC NULLS FIRST" : " DESC NULLS LAST"));
+        }
+        orderBy.add("student_number ASC");
+        return orderBy.toString();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Comparator<Student> buildComparator(Sort sort) {
+        Comparator<Student> comparator = null;
+        for (Sort.Order order : sort) {
+            Function<Student, Comparable<?>> key = SORT_KEYS.get(order.getProperty());
+            if (key == null) {
+                throw new IllegalArgumentException("不支持的排序字段: " + order.getProperty());
+            }
+            Comparator<Student> next = Comparator.comparing((Function) key,
+                    Comparator.nullsFirst(Comparator.naturalOrder()));
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        Comparator<Student> byStudentNumber = Comparator.comparing(Student::getStudentNumber);
+        return comparator == null ? byStudentNumber : comparator.thenComparing(byStudentNumber);
+    }
+
+    private static MapSqlParameterSource toParameters(Student student) {
+        return new MapSqlParameterSource()
+                .addValue("name", student.getName())
+                .addValue("studentNumber", student.getStudentNumber())
+                .addValue("age", student.getAge())
+                .addValue("gender", student.getGender())
+                .addValue("major", student.getMajor())
+                .addValue("email", student.getEmail())
+                .addValue("phone", student.getPhone())
+                .addValue("enrollmentDate", student.getEnrollmentDate())
+                .addValue("createdTime", student.getCreatedTime())
+                .addValue("updatedTime", student.getUpdatedTime());
+    }
+
+    /**
+     * 单个分片的分页查询结果
+     */
+    private static final class ShardPage {
+        private final List<Student> students;
+        private final long total;
+
+        private ShardPage(List<Student> students, long total) {
+            this.students = students;
+            this.total = total;
+        }
+    }
+
+    /**
+     * 归并时指向某个有序结果当前位置的游标
+     */
+    private static final class RunCursor {
+        private final List<Student> run;
+        private int position;
+
+        private RunCursor(List<Student> run) {
+            this.run = run;
+        }
+
+        private Student current() {
+            return run.get(position);
+        }
+
+        private boolean advance() {
+            return ++position < run.size();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.studentmanagement.sharding;
+
+import com.example.studentmanagement.id.IdGenerator;
+import com.example.studentmanagement.resilience.QueryTimeouts;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 分片配置
+ * 
+ * 设置 app.sharding.enabled=true 并配置 app.sharding.shards 后生效。
+ * 分片函数可通过声明自定义的 {@link ShardFunction} Bean 替换，默认按入学年份分片。
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ShardFunction shardFunction() {
+        return new EnrollmentYearShardFunction();
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService shardQueryExecutor(ShardingProperties properties) {
+        AtomicInteger counter = new AtomicInteger();
+        int threads = Math.max(2, properties.getShards().size() * 2);
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "shard-query-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Bean
+    public ShardedStudentRepository shardedStudentRepository(ShardingProperties properties,
+                                                             ShardFunction shardFunction,
+                                                             IdGenerator idGenerator,
+                                                             ExecutorService shardQueryExecutor,
+                                                             @Value(QueryTimeouts.SCAN) int queryTimeoutSeconds) {
+        List<DataSource> dataSources = new ArrayList<>();
+        List<ShardingProperties.Shard> shards = properties.getShards();
+        for (int i = 0; i < shards.size(); i++) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("shard-" + i);
+            dataSource.setJdbcUrl(shards.get(i).getUrl());
+            dataSource.setUsername(shards.get(i).getUsername());
+            dataSource.setPassword(shards.get(i).getPassword());
+            dataSource.setMaximumPoolSize(shards.get(i).getMaximumPoolSize());
+            if (properties.isInitSchema()) {
+                DatabasePopulatorUtils.execute(
+                        new ResourceDatabasePopulator(new ClassPathResource("db/shard-schema.sql")), dataSource);
+            }
+            dataSources.add(dataSource);
+        }
+        return new ShardedStudentRepository(dataSources, shardFunction, idGenerator, shardQueryExecutor,
+                queryTimeoutSeconds);
+    }
+}
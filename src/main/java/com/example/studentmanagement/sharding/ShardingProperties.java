@@ -0,0 +1,81 @@
+package com.example.studentmanagement.sharding;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 分片配置
+ * 
+ * @author System
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "app.sharding")
+public class ShardingProperties {
+
+    /** 分片数据源列表，下标即分片号 */
+    private List<Shard> shards = new ArrayList<>();
+
+    /** 启动时是否在各分片上执行建表脚本 */
+    private boolean initSchema = false;
+
+    /**
+     * 分片连接信息
+     */
+    public static class Shard {
+
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+    }
+
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    public void setShards(List<Shard> shards) {
+        this.shards = shards;
+    }
+
+    public boolean isInitSchema() {
+        return initSchema;
+    }
+
+    public void setInitSchema(boolean initSchema) {
+        this.initSchema = initSchema;
+    }
+}
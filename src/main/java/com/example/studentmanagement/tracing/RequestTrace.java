@@ -0,0 +1,190 @@
+package com.example.studentmanagement.tracing;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 单个请求的分阶段耗时
+ * 
+ * 被采样的请求在处理线程上绑定一个实例，各埋点通过 {@link #enter(TracePhase)} / {@link #exit(RequestTrace, TracePhase)}
+ * 累加耗时；未采样时当前线程没有实例，埋点只多一次 ThreadLocal 读取。
+ * 实例只在处理线程上修改，请求结束后不再变化，之后才放入追踪缓冲区供其他线程读取。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public final class RequestTrace {
+
+    /** 响应头名称 */
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+    private static final TracePhase[] PHASES = TracePhase.values();
+
+    private final String method;
+    private final String uri;
+    private final Instant startTime;
+    private final long startNanos;
+
+    private final long[] durations = new long[PHASES.length];
+    private final int[] counts = new int[PHASES.length];
+    private final int[] depths = new int[PHASES.length];
+    private final long[] startedAt = new long[PHASES.length];
+
+    private long totalNanos = -1;
+    private int status;
+
+    private RequestTrace(String method, String uri) {
+        this.method = method;
+        this.uri = uri;
+        this.startTime = Instant.now();
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * 开始追踪当前线程上的请求
+     * 
+     * @param method HTTP方法
+     * @param uri 请求路径（含查询参数）
+     * @return 追踪实例
+     */
+    public static RequestTrace begin(String method, String uri) {
+        RequestTrace trace = new RequestTrace(method, uri);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    /**
+     * 获取当前线程正在追踪的请求
+     * 
+     * @return 追踪实例，未采样时返回null
+     */
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 进入一个阶段
+     * 
+     * @param phase 阶段
+     * @return 当前追踪实例（未采样时为null），交给 {@link #exit(RequestTrace, TracePhase)}
+     */
+    public static RequestTrace enter(TracePhase phase) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null && trace.depths[phase.ordinal()]++ == 0) {
+            trace.startedAt[phase.ordinal()] = System.nanoTime();
+        }
+        return trace;
+    }
+
+    /**
+     * 离开一个阶段
+     * 
+     * @param trace {@link #enter(TracePhase)} 的返回值
+     * @param phase 阶段
+     */
+    public static void exit(RequestTrace trace, TracePhase phase) {
+        if (trace != null && --trace.depths[phase.ordinal()] == 0) {
+            trace.durations[phase.ordinal()] += System.nanoTime() - trace.startedAt[phase.ordinal()];
+            trace.counts[phase.ordinal()]++;
+        }
+    }
+
+    /**
+     * 结束追踪并解除与当前线程的绑定
+     * 
+     * @param status 响应状态码
+     */
+    public void end(int status) {
+        this.totalNanos = System.nanoTime() - startNanos;
+        this.status = status;
+        CURRENT.remove();
+    }
+
+    /**
+     * 生成 Server-Timing 响应头的值，如 {@code total;dur=12.3, service;dur=8.1, db;dur=2.0;desc="3"}
+     * 
+     * 未结束的请求以当前时间计算总耗时；db 的 desc 为执行的语句数
+     * 
+     * @return 响应头的值
+     */
+    public String toServerTiming() {
+        StringBuilder header = new StringBuilder();
+        appendMetric(header, "total", totalNanos >= 0 ? totalNanos : System.nanoTime() - startNanos);
+        for (TracePhase phase : PHASES) {
+            if (counts[phase.ordinal()] > 0) {
+                header.append(", ");
+                appendMetric(header, phase.getMetricName(), durations[phase.ordinal()]);
+                if (phase == TracePhase.JDBC) {
+                    header.append(";desc=\"").append(counts[phase.ordinal()]).append('"');
+                }
+            }
+        }
+        return header.toString();
+    }
+
+    private static void appendMetric(StringBuilder header, String name, long nanos) {
+        header.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0));
+    }
+
+    // Getter方法
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    public double getDurationMillis() {
+        return totalNanos / 1_000_000.0;
+    }
+
+    /**
+     * 获取各阶段的耗时和次数（只含实际经过的阶段）
+     * 
+     * @return 阶段指标名到耗时的映射
+     */
+    public Map<String, PhaseTiming> getPhases() {
+        Map<String, PhaseTiming> phases = new LinkedHashMap<>();
+        for (TracePhase phase : PHASES) {
+            if (counts[phase.ordinal()] > 0) {
+                phases.put(phase.getMetricName(),
+                        new PhaseTiming(durations[phase.ordinal()] / 1_000_000.0, counts[phase.ordinal()]));
+            }
+        }
+        return phases;
+    }
+
+    /**
+     * 阶段耗时
+     */
+    public static final class PhaseTiming {
+
+        private final double millis;
+        private final int count;
+
+        public PhaseTiming(double millis, int count) {
+            this.millis = millis;
+            this.count = count;
+        }
+
+        public double getMillis() {
+            return millis;
+        }
+
+        public int getCount() {
+            return count;
+        }
+    }
+}
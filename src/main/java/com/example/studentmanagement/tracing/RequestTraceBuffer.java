@@ -0,0 +1,55 @@
+package com.example.studentmanagement.tracing;
+
+import com.example.studentmanagement.util.RingBuffer;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 最近请求追踪记录
+ * 
+ * 保存最近若干个被采样请求的追踪记录（无锁环形缓冲区），查询时从中选出最慢的几个
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class RequestTraceBuffer {
+
+    private final RingBuffer<RequestTrace> traces;
+
+    public RequestTraceBuffer(int capacity) {
+        this.traces = new RingBuffer<>(capacity);
+    }
+
+    /**
+     * 记录一个已结束的请求
+     * 
+     * @param trace 追踪记录
+     */
+    public void record(RequestTrace trace) {
+        traces.add(trace);
+    }
+
+    /**
+     * 获取最近的请求中最慢的若干个
+     * 
+     * @param limit 最多返回的记录数
+     * @return 按总耗时降序的追踪记录
+     */
+    public List<RequestTrace> slowest(int limit) {
+        return traces.snapshot().stream()
+                .sorted(Comparator.comparingDouble(RequestTrace::getDurationMillis).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 获取累计采样的请求数
+     * 
+     * @return 请求数
+     */
+    public long getTotalRecorded() {
+        return traces.getTotalAdded();
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.studentmanagement.tracing;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 请求追踪管理端点：GET /actuator/requesttraces?limit=20
+ * 
+ * 返回最近被采样的请求中最慢的若干个及其分阶段耗时
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Endpoint(id = "requesttraces")
+public class RequestTraceEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final RequestTraceBuffer buffer;
+    private final TracingProperties properties;
+
+    public RequestTraceEndpoint(RequestTraceBuffer buffer, TracingProperties properties) {
+        this.buffer = buffer;
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public Map<String, Object> slowest(@Nullable Integer limit) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("sampleRate", properties.getSampleRate());
+        result.put("totalRecorded", buffer.getTotalRecorded());
+        result.put("traces", buffer.slowest(limit == null || limit <= 0 ? DEFAULT_LIMIT : limit));
+        return result;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.studentmanagement.tracing;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 请求耗时追踪过滤器
+ * 
+ * 按采样比例（或强制追踪请求头）决定是否追踪 /api 下的请求。被追踪的请求在响应头中返回
+ * Server-Timing（JSON 响应由 {@link TracingJackson2HttpMessageConverter} 在写出响应体前添加，
+ * 包含序列化耗时；其余响应在请求结束时尚未提交才添加），结束后放入 {@link RequestTraceBuffer}。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class RequestTraceFilter extends OncePerRequestFilter {
+
+    private static final String API_PREFIX = "/api/";
+
+    private final RequestTraceBuffer buffer;
+    private final double sampleRate;
+    private final String forceHeader;
+
+    public RequestTraceFilter(RequestTraceBuffer buffer, TracingProperties properties) {
+        this.buffer = buffer;
+        this.sampleRate = properties.getSampleRate();
+        this.forceHeader = properties.getForceHeader();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(API_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!sampled(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String query = request.getQueryString();
+        RequestTrace trace = RequestTrace.begin(request.getMethod(),
+                query == null ? request.getRequestURI() : request.getRequestURI() + '?' + query);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            trace.end(response.getStatus());
+            if (!response.isCommitted() && !response.containsHeader(RequestTrace.SERVER_TIMING_HEADER)) {
+                response.setHeader(RequestTrace.SERVER_TIMING_HEADER, trace.toServerTiming());
+            }
+            buffer.record(trace);
+        }
+    }
+
+    private boolean sampled(HttpServletRequest request) {
+        if (request.getHeader(forceHeader) != null) {
+            return true;
+        }
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.studentmanagement.tracing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+
+/**
+ * 请求分阶段计时切面
+ * 
+ * 对控制器、服务和仓库（含 Spring Data 仓库及其自定义实现）的方法计时。
+ * 优先级最高，服务的耗时包含请求合并的等待和事务提交。
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Aspect
+public class RequestTracingAspect implements Ordered {
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Around("within(@org.springframework.web.bind.annotation.RestController *)")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, TracePhase.CONTROLLER);
+    }
+
+    @Around("within(com.example.studentmanagement.service..*)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, TracePhase.SERVICE);
+    }
+
+    @Around("target(org.springframework.data.repository.Repository) "
+            + "|| within(com.example.studentmanagement.repository..*)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, TracePhase.REPOSITORY);
+    }
+
+    private static Object time(ProceedingJoinPoint joinPoint, TracePhase phase) throws Throwable {
+        RequestTrace trace = RequestTrace.enter(phase);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            RequestTrace.exit(trace, phase);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.studentmanagement.tracing;
+
+/**
+ * 请求处理阶段
+ * 
+ * 各阶段按调用层次嵌套计时（控制器包含服务，服务包含数据访问），同一阶段的嵌套调用只计最外层。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public enum TracePhase {
+
+    /** 控制器方法（含其调用的服务） */
+    CONTROLLER("controller"),
+
+    /** 服务层方法（含事务提交） */
+    SERVICE("service"),
+
+    /** 仓库方法（含 Hibernate 会话操作） */
+    REPOSITORY("repository"),
+
+    /** Hibernate 执行 JDBC 语句 */
+    JDBC("db"),
+
+    /** 实体转换为DTO */
+    MAPPING("mapping"),
+
+    /** Jackson 序列化响应体 */
+    SERIALIZATION("json");
+
+    private final String metricName;
+
+    TracePhase(String metricName) {
+        this.metricName = metricName;
+    }
+
+    /**
+     * 获取 Server-Timing 中的指标名
+     * 
+     * @return 指标名
+     */
+    public String getMetricName() {
+        return metricName;
+    }
+}
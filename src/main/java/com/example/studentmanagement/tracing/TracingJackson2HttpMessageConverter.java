@@ -0,0 +1,72 @@
+package com.example.studentmanagement.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * 记录序列化耗时的 JSON 消息转换器
+ * 
+ * 被追踪的请求先序列化到内存，计时后在写出响应体之前添加 Server-Timing 响应头
+ * （响应体一旦开始写出就不能再添加响应头）；未追踪的请求与默认转换器完全相同。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class TracingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TracingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        RequestTrace trace = RequestTrace.current();
+        if (trace == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        RequestTrace.enter(TracePhase.SERIALIZATION);
+        try {
+            super.writeInternal(object, type, new BufferedOutputMessage(outputMessage.getHeaders(), body));
+        } finally {
+            RequestTrace.exit(trace, TracePhase.SERIALIZATION);
+        }
+        outputMessage.getHeaders().set(RequestTrace.SERVER_TIMING_HEADER, trace.toServerTiming());
+        body.writeTo(outputMessage.getBody());
+    }
+
+    /**
+     * 写入内存的输出消息，响应头仍使用原消息的
+     */
+    private static final class BufferedOutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers;
+        private final OutputStream body;
+
+        BufferedOutputMessage(HttpHeaders headers, OutputStream body) {
+            this.headers = headers;
+            this.body = body;
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.studentmanagement.tracing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 请求耗时追踪配置
+ * 
+ * @author System
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "app.tracing")
+public class TracingProperties {
+
+    /** 随机采样比例（0～1），为0时只追踪带强制追踪请求头的请求 */
+    private double sampleRate = 0.0;
+
+    /** 强制追踪请求头，请求带此头（任意值）时一定采样 */
+    private String forceHeader = "X-Request-Trace";
+
+    /** 保留的最近追踪记录数 */
+    private int bufferSize = 512;
+
+    // Getter和Setter方法
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public String getForceHeader() {
+        return forceHeader;
+    }
+
+    public void setForceHeader(String forceHeader) {
+        this.forceHeader = forceHeader;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+}
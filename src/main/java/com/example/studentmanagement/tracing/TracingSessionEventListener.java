@@ -0,0 +1,40 @@
+package com.example.studentmanagement.tracing;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Hibernate 会话事件监听器，累计 JDBC 语句（含批量）的执行耗时
+ * 
+ * 每个会话创建一个实例；通过 JdbcTemplate 直接执行的语句不经过 Hibernate，不在统计之内。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class TracingSessionEventListener extends BaseSessionEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private transient RequestTrace trace;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        trace = RequestTrace.enter(TracePhase.JDBC);
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestTrace.exit(trace, TracePhase.JDBC);
+        trace = null;
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        trace = RequestTrace.enter(TracePhase.JDBC);
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestTrace.exit(trace, TracePhase.JDBC);
+        trace = null;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.studentmanagement.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 自适应并发限制器（延迟梯度算法）
+ * 
+ * 以长期平均响应时间与当前响应时间之比作为梯度：响应变慢时梯度小于1，并发上限随之收缩；
+ * 响应平稳时上限每次增加约 sqrt(limit) 的排队余量。失败（超时、5xx）按比例快速回退。
+ * 获取许可时可指定份额，低优先级请求只能使用上限的一部分，为高优先级请求保留余量。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    /** 长期平均响应时间的容忍倍数 */
+    private static final double RTT_TOLERANCE = 1.5;
+
+    /** 长期平均响应时间的指数平滑窗口 */
+    private static final int LONG_WINDOW = 600;
+
+    /** 失败时的回退比例 */
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+
+    /** 长期平均响应时间（纳秒），由 this 保护 */
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double smoothing) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("并发限制参数不合法: initial=" + initialLimit
+                    + ", min=" + minLimit + ", max=" + maxLimit);
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+    }
+
+    /**
+     * 尝试获取一个许可
+     * 
+     * @param share 本次请求可使用的上限份额（0-1]
+     * @return 是否获取成功；成功后必须调用 onSuccess/onDropped/onIgnore 之一归还
+     */
+    public boolean tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 请求成功完成，按响应时间调整上限
+     * 
+     * @param rttNanos 响应时间（纳秒）
+     */
+    public void onSuccess(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        synchronized (this) {
+            if (longRttNanos == 0) {
+                longRttNanos = rttNanos;
+                return;
+            }
+            longRttNanos += (rttNanos - longRttNanos) / LONG_WINDOW;
+            // 负载下降后长期均值偏高时快速拉回，避免梯度长期失真
+            if (longRttNanos / rttNanos > 2) {
+                longRttNanos *= 0.95;
+            }
+
+            // 请求量不足以用满上限时不扩张，防止上限无意义地膨胀
+            if (inFlightAtCompletion < limit / 2) {
+                return;
+            }
+
+            double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRttNanos / rttNanos));
+            double newLimit = limit * gradient + Math.sqrt(limit);
+            newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+            limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        }
+    }
+
+    /**
+     * 请求失败（超时或服务端错误），按比例回退上限
+     */
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        }
+    }
+
+    /**
+     * 请求结束但结果不参与调整（如客户端错误）
+     */
+    public void onIgnore() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.studentmanagement.util;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 熔断器（按调用次数滑动窗口统计失败率）
+ *
+ * 关闭状态下记录最近 windowSize 次调用的结果，次数达到 minimumCalls 且失败率达到阈值时打开；
+ * 打开状态下所有调用直接拒绝，持续 openDuration 后进入半开状态，只放行一次探测调用：
+ * 探测成功则关闭并清空窗口，失败则重新打开。
+ *
+ * @author System
+ * @version 1.0
+ */
+public class CircuitBreaker {
+
+    /**
+     * 熔断器状态
+     */
+    public enum State {
+        /** 正常放行 */
+        CLOSED,
+        /** 全部拒绝 */
+        OPEN,
+        /** 只放行一次探测调用 */
+        HALF_OPEN
+    }
+
+    private final boolean[] window;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+
+    // 以下字段由 this 保护
+    private State state = State.CLOSED;
+    private int recorded;
+    private int next;
+    private int failures;
+    private long openedAt;
+    private boolean probing;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openDurationMillis) {
+        this(windowSize, minimumCalls, failureRateThreshold, openDurationMillis, System::nanoTime);
+    }
+
+    CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openDurationMillis,
+                   LongSupplier nanoClock) {
+        if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize
+                || failureRateThreshold <= 0 || failureRateThreshold > 1 || openDurationMillis < 0) {
+            throw new IllegalArgumentException("熔断器参数不合法: window=" + windowSize + ", minimumCalls="
+                    + minimumCalls + ", threshold=" + failureRateThreshold + ", openDuration=" + openDurationMillis);
+        }
+        this.window = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDurationMillis * 1_000_000;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 尝试放行一次调用
+     *
+     * @return 是否放行；放行后必须调用 onSuccess/onFailure 之一报告结果
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probing = true;
+                return true;
+            default:
+                if (probing) {
+                    return false;
+                }
+                probing = true;
+                return true;
+        }
+    }
+
+    /**
+     * 调用成功（包括业务上预期的失败，只要依赖本身正常响应）
+     *
+     * @return 熔断器是否因此从半开状态关闭
+     */
+    public synchronized boolean onSuccess() {
+        if (state == State.HALF_OPEN) {
+            state = State.CLOSED;
+            probing = false;
+            recorded = 0;
+            next = 0;
+            failures = 0;
+            return true;
+        }
+        if (state == State.CLOSED) {
+            record(false);
+        }
+        return false;
+    }
+
+    /**
+     * 调用因依赖故障（超时、无法获取连接等）失败
+     *
+     * @return 熔断器是否因此打开
+     */
+    public synchronized boolean onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return true;
+        }
+        if (state == State.CLOSED) {
+            record(true);
+            if (recorded >= minimumCalls && failures >= failureRateThreshold * recorded) {
+                open();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 获取当前状态
+     *
+     * @return 状态（打开时间已满但尚未有调用进入时仍为 OPEN）
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == window.length) {
+            if (window[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        window[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+        probing = false;
+    }
+}
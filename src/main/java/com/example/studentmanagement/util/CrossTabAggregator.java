@@ -0,0 +1,114 @@
+package com.example.studentmanagement.util;
+
+import java.util.*;
+
+/**
+ * 交叉统计聚合器
+ *
+ * 输入为按所有维度的最细粒度分组后的计数行（数据库一次扫描、一次 GROUP BY 得到），
+ * 单遍汇总到每个分组集合，效果等同于 GROUPING SETS（H2 不支持 GROUPING SETS/ROLLUP）。
+ * 最细粒度的组合数远小于学生数，汇总在内存中完成，不再访问数据库。
+ *
+ * @author System
+ * @version 1.0
+ */
+public class CrossTabAggregator {
+
+    private static final Comparator<List<Object>> CELL_ORDER = CrossTabAggregator::compareValues;
+
+    private final int[][] groupingSets;
+    private final List<Map<List<Object>, long[]>> cells;
+    private long total;
+
+    /**
+     * @param groupingSets 各分组集合包含的维度在输入行中的下标
+     */
+    public CrossTabAggregator(List<int[]> groupingSets) {
+        this.groupingSets = groupingSets.toArray(new int[0][]);
+        this.cells = new ArrayList<>(groupingSets.size());
+        for (int i = 0; i < groupingSets.size(); i++) {
+            cells.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * 累加一行计数
+     *
+     * @param values 该行各维度的值（可为 null）
+     * @param count 该行人数
+     */
+    public void add(Object[] values, long count) {
+        total += count;
+        for (int set = 0; set < groupingSets.length; set++) {
+            int[] indexes = groupingSets[set];
+            Object[] key = new Object[indexes.length];
+            for (int i = 0; i < indexes.length; i++) {
+                key[i] = values[indexes[i]];
+            }
+            cells.get(set).computeIfAbsent(Arrays.asList(key), k -> new long[1])[0] += count;
+        }
+    }
+
+    /**
+     * 获取累加的总人数
+     *
+     * @return 总人数
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * 获取一个分组集合的结果
+     *
+     * @param set 分组集合下标
+     * @return 维度值到人数的映射，按维度值升序（null 排在最后）
+     */
+    public Map<List<Object>, Long> getCells(int set) {
+        List<List<Object>> keys = new ArrayList<>(cells.get(set).keySet());
+        keys.sort(CELL_ORDER);
+        Map<List<Object>, Long> result = new LinkedHashMap<>();
+        for (List<Object> key : keys) {
+            result.put(key, cells.get(set).get(key)[0]);
+        }
+        return result;
+    }
+
+    /**
+     * 按 ROLLUP 语义展开分组集合：每个分组后追加其各级前缀（不含空集合），重复的分组只保留第一次出现
+     *
+     * @param groupingSets 请求的分组集合
+     * @return 展开后的分组集合
+     */
+    public static <T> List<List<T>> rollup(List<List<T>> groupingSets) {
+        Set<List<T>> expanded = new LinkedHashSet<>();
+        for (List<T> groupingSet : groupingSets) {
+            for (int length = groupingSet.size(); length > 0; length--) {
+                expanded.add(groupingSet.subList(0, length));
+            }
+        }
+        return new ArrayList<>(expanded);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareValues(List<Object> left, List<Object> right) {
+        for (int i = 0; i < left.size(); i++) {
+            Object l = left.get(i);
+            Object r = right.get(i);
+            if (l == r) {
+                continue;
+            }
+            if (l == null) {
+                return 1;
+            }
+            if (r == null) {
+                return -1;
+            }
+            int result = ((Comparable) l).compareTo(r);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+}
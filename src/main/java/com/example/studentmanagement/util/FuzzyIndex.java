@@ -0,0 +1,269 @@
+package com.example.studentmanagement.util;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 容错（编辑距离）索引
+ *
+ * 采用删除邻域过滤 + 编辑距离校验：索引每个词删除至多 maxDistance 个字符后得到的全部变体，
+ * 查询时只取查询词删除至多 k 个字符的变体所命中的词作为候选，再逐个计算编辑距离。
+ * 编辑距离不超过 k 的两个词必有一个共同的删除变体，因此不会漏掉结果；候选数只与命中变体的
+ * 词数有关，与索引总词数无关。
+ *
+ * 中文姓名只有 2～4 个字且字符集很大，任意两个姓名的距离几乎都等于姓名长度，BK 树无法剪枝，
+ * 而删除变体数只有 1 + n（距离1）个，因此选用删除邻域。删光全部字符的空变体不参与匹配
+ * （否则任意两个完全不同的短词都会互相命中）。
+ *
+ * 变体和词对应的值都以不可变数组/列表整体替换，读操作无锁；写操作由调用方保证串行。
+ *
+ * @param <V> 值类型
+ * @author System
+ * @version 1.0
+ */
+public class FuzzyIndex<V extends Comparable<V>> {
+
+    private final int maxDistance;
+
+    private final Map<String, String[]> termsByVariant = new ConcurrentHashMap<>();
+    private final Map<String, List<V>> valuesByTerm = new ConcurrentHashMap<>();
+    private final Map<V, String> termByValue = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxDistance 支持的最大编辑距离
+     */
+    public FuzzyIndex(int maxDistance) {
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException("maxDistance must not be negative");
+        }
+        this.maxDistance = maxDistance;
+    }
+
+    /**
+     * 设置值对应的词（替换该值原有的词）
+     *
+     * @param value 值
+     * @param term 词（已规范化）
+     */
+    public void put(V value, String term) {
+        if (term.equals(termByValue.get(value))) {
+            return;
+        }
+        remove(value);
+        termByValue.put(value, term);
+        List<V> values = valuesByTerm.get(term);
+        if (values != null) {
+            List<V> updated = new ArrayList<>(values.size() + 1);
+            updated.addAll(values);
+            updated.add(value);
+            Collections.sort(updated);
+            valuesByTerm.put(term, Collections.unmodifiableList(updated));
+            return;
+        }
+        valuesByTerm.put(term, Collections.singletonList(value));
+        for (String variant : deletes(term, maxDistance)) {
+            termsByVariant.merge(variant, new String[]{term}, FuzzyIndex::concat);
+        }
+    }
+
+    /**
+     * 移除值
+     *
+     * @param value 值
+     */
+    public void remove(V value) {
+        String term = termByValue.remove(value);
+        if (term == null) {
+            return;
+        }
+        List<V> values = valuesByTerm.get(term);
+        if (values.size() > 1) {
+            List<V> updated = new ArrayList<>(values);
+            updated.remove(value);
+            valuesByTerm.put(term, Collections.unmodifiableList(updated));
+            return;
+        }
+        valuesByTerm.remove(term);
+        for (String variant : deletes(term, maxDistance)) {
+            termsByVariant.computeIfPresent(variant, (key, terms) -> without(terms, term));
+        }
+    }
+
+    /**
+     * 查找与 query 编辑距离不超过 distance 的值，按距离、词、值升序
+     *
+     * 短姓名的距离1邻居可能有成千上万个（如“张山”与所有两个字的张姓姓名），
+     * 因此已找到 limit 个距离不超过1的结果时不再校验剩余候选，此时同为距离1的结果只是其中一部分。
+     *
+     * @param query 查询词（已规范化）
+     * @param distance 最大编辑距离（超过索引支持的最大距离时按最大距离）
+     * @param limit 最多返回的值数
+     * @return 匹配结果
+     */
+    public List<Match<V>> search(String query, int distance, int limit) {
+        int k = Math.min(distance, maxDistance);
+        List<Match<V>> result = new ArrayList<>();
+        List<V> exact = valuesByTerm.getOrDefault(query, Collections.emptyList());
+        for (V value : exact) {
+            if (result.size() >= limit) {
+                return result;
+            }
+            result.add(new Match<>(value, query, 0));
+        }
+        if (k == 0) {
+            return result;
+        }
+
+        List<Match<V>> near = new ArrayList<>();
+        int nearest = 0;
+        Set<String> checked = new HashSet<>();
+        checked.add(query);
+        search:
+        for (String variant : deletes(query, k)) {
+            String[] terms = termsByVariant.get(variant);
+            if (terms == null) {
+                continue;
+            }
+            for (String term : terms) {
+                if (!checked.add(term)) {
+                    continue;
+                }
+                int termDistance = distance(query, term, k);
+                List<V> values = termDistance <= k ? valuesByTerm.get(term) : null;
+                if (values == null) {
+                    continue;
+                }
+                for (V value : values) {
+                    near.add(new Match<>(value, term, termDistance));
+                }
+                if (termDistance == 1 && (nearest += values.size()) >= limit - result.size()) {
+                    break search;
+                }
+            }
+        }
+        near.sort(Comparator.<Match<V>>comparingInt(Match::getDistance)
+                .thenComparing(Match::getTerm)
+                .thenComparing(Match::getValue));
+        for (Match<V> match : near) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(match);
+        }
+        return result;
+    }
+
+    /**
+     * 获取已索引的值数量
+     *
+     * @return 值数量
+     */
+    public int size() {
+        return termByValue.size();
+    }
+
+    /**
+     * 计算编辑距离（插入、删除、替换各计1），超过 max 时提前结束并返回 max + 1
+     *
+     * @param a 词a
+     * @param b 词b
+     * @param max 关心的最大距离
+     * @return 编辑距离，或 max + 1
+     */
+    public static int distance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], max + 1);
+    }
+
+    /**
+     * 生成删除至多 k 个字符得到的全部非空变体（含原词），删除字符少的在前
+     */
+    private static Set<String> deletes(String term, int k) {
+        Set<String> variants = new LinkedHashSet<>();
+        variants.add(term);
+        List<String> frontier = Collections.singletonList(term);
+        for (int round = 0; round < k; round++) {
+            List<String> next = new ArrayList<>();
+            for (String word : frontier) {
+                if (word.length() <= 1) {
+                    continue;
+                }
+                for (int i = 0; i < word.length(); i++) {
+                    String variant = word.substring(0, i) + word.substring(i + 1);
+                    if (variants.add(variant)) {
+                        next.add(variant);
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return variants;
+    }
+
+    private static String[] concat(String[] terms, String[] added) {
+        String[] result = Arrays.copyOf(terms, terms.length + added.length);
+        System.arraycopy(added, 0, result, terms.length, added.length);
+        return result;
+    }
+
+    private static String[] without(String[] terms, String term) {
+        if (terms.length == 1) {
+            return terms[0].equals(term) ? null : terms;
+        }
+        List<String> remaining = new ArrayList<>(Arrays.asList(terms));
+        remaining.remove(term);
+        return remaining.toArray(new String[0]);
+    }
+
+    /**
+     * 匹配结果
+     *
+     * @param <V> 值类型
+     */
+    public static final class Match<V> {
+
+        private final V value;
+        private final String term;
+        private final int distance;
+
+        public Match(V value, String term, int distance) {
+            this.value = value;
+            this.term = term;
+            this.distance = distance;
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        public String getTerm() {
+            return term;
+        }
+
+        public int getDistance() {
+            return distance;
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.example.studentmanagement.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 基于内存映射的CSV读取器
+ * 
+ * 文件按固定大小的窗口分段映射（堆外内存），逐字节扫描定位字段边界，
+ * 只记录每个字段在窗口内的起止位置，不按行生成字符串、不做 split；
+ * 调用方按需把单个字段解码为字符串或直接解析为整数。
+ * 支持RFC 4180的双引号转义，支持从指定字节偏移开始读取（用于断点续传）。
+ * 
+ * 该类不是线程安全的，{@link #record()} 返回的对象在下一次 {@link #next()} 后失效。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class MappedCsvReader implements Closeable {
+
+    /** 默认映射窗口大小：64MB */
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int windowSize;
+    private final CsvRecord record = new CsvRecord();
+
+    private ByteBuffer window;
+    private long windowStart;
+    private int position;
+    private long recordNumber;
+    private byte[] scratch = new byte[256];
+
+    public MappedCsvReader(Path path) throws IOException {
+        this(path, 0, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * @param path 文件路径
+     * @param startOffset 起始字节偏移（必须位于记录边界）
+     * @param windowSize 映射窗口大小，单条记录不能超过该大小
+     * @throws IOException 文件读取失败
+     */
+    public MappedCsvReader(Path path, long startOffset, int windowSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.fileSize = channel.size();
+        this.windowSize = windowSize;
+        map(Math.min(startOffset, fileSize));
+    }
+
+    /**
+     * 读取下一条记录，空行会被跳过
+     * 
+     * @return 是否读到记录，到达文件末尾返回false
+     * @throws IOException 文件读取失败或单条记录超过窗口大小
+     */
+    public boolean next() throws IOException {
+        while (windowStart + position < fileSize) {
+            if (!parseRecord()) {
+                long recordStart = windowStart + position;
+                if (recordStart == windowStart) {
+                    throw new IOException("单条记录超过映射窗口大小（" + windowSize + "字节），偏移: " + recordStart);
+                }
+                map(recordStart);
+                continue;
+            }
+            if (record.size() == 1 && record.isEmpty(0)) {
+                continue;
+            }
+            recordNumber++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 当前记录
+     * 
+     * @return 当前记录
+     */
+    public CsvRecord record() {
+        return record;
+    }
+
+    /**
+     * 当前记录之后的文件字节偏移，可作为续读的起始位置
+     * 
+     * @return 字节偏移
+     */
+    public long position() {
+        return windowStart + position;
+    }
+
+    /**
+     * 已读取的记录数（不含空行）
+     * 
+     * @return 记录数
+     */
+    public long getRecordNumber() {
+        return recordNumber;
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void map(long offset) throws IOException {
+        long length = Math.min(windowSize, fileSize - offset);
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        window = mapped;
+        windowStart = offset;
+        position = 0;
+    }
+
+    /**
+     * 从当前位置解析一条记录
+     * 
+     * @return 记录完整返回true；记录跨越窗口末尾（且文件未结束）返回false
+     */
+    private boolean parseRecord() {
+        ByteBuffer buffer = window;
+        int limit = buffer.limit();
+        boolean atEof = windowStart + limit >= fileSize;
+        record.clear();
+
+        int i = position;
+        int fieldStart = i;
+        boolean inQuotes = false;
+        boolean quoted = false;
+        boolean escaped = false;
+        while (true) {
+            if (i >= limit) {
+                if (!atEof) {
+                    return false;
+                }
+                record.add(fieldStart, i, quoted, escaped);
+                position = i;
+                return true;
+            }
+            byte b = buffer.get(i);
+            if (inQuotes) {
+                if (b == '"') {
+                    if (i + 1 >= limit && !atEof) {
+                        return false;
+                    }
+                    if (i + 1 < limit && buffer.get(i + 1) == '"') {
+                        escaped = true;
+                        i += 2;
+                        continue;
+                    }
+                    inQuotes = false;
+                }
+                i++;
+                continue;
+            }
+            if (b == '"' && i == fieldStart) {
+                inQuotes = true;
+                quoted = true;
+            } else if (b == ',') {
+                record.add(fieldStart, i, quoted, escaped);
+                fieldStart = i + 1;
+                quoted = false;
+                escaped = false;
+            } else if (b == '\n' || b == '\r') {
+                if (b == '\r' && i + 1 >= limit && !atEof) {
+                    return false;
+                }
+                record.add(fieldStart, i, quoted, escaped);
+                position = (b == '\r' && i + 1 < limit && buffer.get(i + 1) == '\n') ? i + 2 : i + 1;
+                return true;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * 一条CSV记录，字段以窗口内的起止位置表示，按需解码
+     */
+    public final class CsvRecord {
+
+        private int size;
+        private int[] starts = new int[16];
+        private int[] ends = new int[16];
+        private boolean[] escapes = new boolean[16];
+
+        private void clear() {
+            size = 0;
+        }
+
+        private void add(int start, int end, boolean quoted, boolean escaped) {
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+                escapes = Arrays.copyOf(escapes, size * 2);
+            }
+            // 去掉首尾引号
+            if (quoted && end - start >= 2) {
+                start++;
+                end--;
+            }
+            starts[size] = start;
+            ends[size] = end;
+            escapes[size] = escaped;
+            size++;
+        }
+
+        /**
+         * 字段数量
+         * 
+         * @return 字段数量
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * 字段是否为空（不存在或长度为0）
+         * 
+         * @param index 字段下标
+         * @return 是否为空
+         */
+        public boolean isEmpty(int index) {
+            return index >= size || starts[index] == ends[index];
+        }
+
+        /**
+         * 按UTF-8解码字段
+         * 
+         * @param index 字段下标
+         * @return 字段值，空字段返回null
+         */
+        public String getString(int index) {
+            if (isEmpty(index)) {
+                return null;
+            }
+            int start = starts[index];
+            int length = ends[index] - start;
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            int written = 0;
+            for (int i = start; i < start + length; i++) {
+                byte b = window.get(i);
+                scratch[written++] = b;
+                // 转义的 "" 只保留一个
+                if (b == '"' && escapes[index] && i + 1 < start + length && window.get(i + 1) == '"') {
+                    i++;
+                }
+            }
+            return new String(scratch, 0, written, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * 直接按十进制解析整数字段，不生成中间字符串
+         * 
+         * @param index 字段下标
+         * @return 整数值
+         * @throws NumberFormatException 字段为空或不是整数
+         */
+        public int getInt(int index) {
+            if (isEmpty(index)) {
+                throw new NumberFormatException("字段为空");
+            }
+            int i = starts[index];
+            int end = ends[index];
+            boolean negative = window.get(i) == '-';
+            if (negative && ++i == end) {
+                throw new NumberFormatException("不是有效的整数");
+            }
+            long value = 0;
+            for (; i < end; i++) {
+                int digit = window.get(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    throw new NumberFormatException("不是有效的整数");
+                }
+                value = value * 10 + digit;
+                if (value > Integer.MAX_VALUE + 1L) {
+                    throw new NumberFormatException("整数超出范围");
+                }
+            }
+            value = negative ? -value : value;
+            if (value > Integer.MAX_VALUE) {
+                throw new NumberFormatException("整数超出范围");
+            }
+            return (int) value;
+        }
+    }
+}
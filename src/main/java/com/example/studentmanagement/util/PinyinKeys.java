@@ -0,0 +1,135 @@
+package com.example.studentmanagement.util;
+
+import net.sourceforge.pinyin4j.PinyinHelper;
+import net.sourceforge.pinyin4j.format.HanyuPinyinCaseType;
+import net.sourceforge.pinyin4j.format.HanyuPinyinOutputFormat;
+import net.sourceforge.pinyin4j.format.HanyuPinyinToneType;
+import net.sourceforge.pinyin4j.format.HanyuPinyinVCharType;
+import net.sourceforge.pinyin4j.format.exception.BadHanyuPinyinOutputFormatCombination;
+
+import java.util.*;
+
+/**
+ * 拼音检索键生成工具
+ * 
+ * 为一段文本生成用于前缀检索的键：原文（小写、去空白）、全拼（如 zhangsan）和首字母（如 zs）。
+ * 多音字的每种读音都生成键，组合数超过上限时只保留前几种。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public final class PinyinKeys {
+
+    /** 多音字组合的最大数量 */
+    private static final int MAX_COMBINATIONS = 8;
+
+    private static final HanyuPinyinOutputFormat FORMAT = new HanyuPinyinOutputFormat();
+
+    static {
+        FORMAT.setCaseType(HanyuPinyinCaseType.LOWERCASE);
+        FORMAT.setToneType(HanyuPinyinToneType.WITHOUT_TONE);
+        FORMAT.setVCharType(HanyuPinyinVCharType.WITH_V);
+    }
+
+    private PinyinKeys() {
+    }
+
+    /**
+     * 规范化检索文本：去除空白并转为小写
+     * 
+     * @param text 文本
+     * @return 规范化后的文本
+     */
+    public static String normalize(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                builder.append(Character.toLowerCase(c));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 生成文本的全部检索键
+     * 
+     * @param text 文本
+     * @return 检索键（原文、全拼、首字母，不含重复）
+     */
+    public static Set<String> keysOf(String text) {
+        String normalized = normalize(text);
+        Set<String> keys = new LinkedHashSet<>();
+        if (normalized.isEmpty()) {
+            return keys;
+        }
+        keys.add(normalized);
+
+        List<StringBuilder> fullSpellings = new ArrayList<>(List.of(new StringBuilder()));
+        List<StringBuilder> initials = new ArrayList<>(List.of(new StringBuilder()));
+        boolean hasHan = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            List<String> readings = readingsOf(c);
+            if (readings.isEmpty()) {
+                append(fullSpellings, Collections.singletonList(String.valueOf(c)));
+                append(initials, Collections.singletonList(String.valueOf(c)));
+                continue;
+            }
+            hasHan = true;
+            append(fullSpellings, readings);
+            List<String> firstLetters = new ArrayList<>();
+            for (String reading : readings) {
+                String letter = reading.substring(0, 1);
+                if (!firstLetters.contains(letter)) {
+                    firstLetters.add(letter);
+                }
+            }
+            append(initials, firstLetters);
+        }
+        if (hasHan) {
+            fullSpellings.forEach(spelling -> keys.add(spelling.toString()));
+            initials.forEach(initial -> keys.add(initial.toString()));
+        }
+        return keys;
+    }
+
+    /**
+     * 把每个已有前缀与本字的各读音组合，组合数不超过上限
+     */
+    private static void append(List<StringBuilder> prefixes, List<String> readings) {
+        int existing = prefixes.size();
+        for (int r = 1; r < readings.size() && prefixes.size() < MAX_COMBINATIONS; r++) {
+            for (int p = 0; p < existing && prefixes.size() < MAX_COMBINATIONS; p++) {
+                prefixes.add(new StringBuilder(prefixes.get(p)).append(readings.get(r)));
+            }
+        }
+        for (int p = 0; p < existing; p++) {
+            prefixes.get(p).append(readings.get(0));
+        }
+    }
+
+    /**
+     * 获取汉字的各种读音（不含声调，去重），非汉字返回空列表
+     */
+    private static List<String> readingsOf(char c) {
+        if (Character.UnicodeScript.of(c) != Character.UnicodeScript.HAN) {
+            return Collections.emptyList();
+        }
+        try {
+            String[] readings = PinyinHelper.toHanyuPinyinStringArray(c, FORMAT);
+            if (readings == null) {
+                return Collections.emptyList();
+            }
+            List<String> distinct = new ArrayList<>(readings.length);
+            for (String reading : readings) {
+                if (!distinct.contains(reading)) {
+                    distinct.add(reading);
+                }
+            }
+            return distinct;
+        } catch (BadHanyuPinyinOutputFormatCombination ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
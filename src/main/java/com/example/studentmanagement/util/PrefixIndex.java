@@ -0,0 +1,81 @@
+package com.example.studentmanagement.util;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 前缀索引
+ * 
+ * 每个值可以有多个检索键，所有 (键, 值) 按键的字典序存放在跳表中。前缀查询定位到第一个
+ * 不小于前缀的键后顺序读取，凑满 limit 个不同的值即停止，耗时只与前缀长度和 limit 有关，
+ * 与匹配总数无关。读操作无锁，可与写操作并发；写操作由调用方保证串行。
+ * 
+ * @param <V> 值类型（需正确实现 equals/hashCode 和唯一的 toString）
+ * @author System
+ * @version 1.0
+ */
+public class PrefixIndex<V> {
+
+    /** 键与值之间的分隔符，小于任何可见字符，保证同一键的条目相邻 */
+    private static final char SEPARATOR = '\u0000';
+
+    private final ConcurrentSkipListMap<String, V> entries = new ConcurrentSkipListMap<>();
+    private final Map<V, Collection<String>> keysByValue = new ConcurrentHashMap<>();
+
+    /**
+     * 设置值的检索键（替换该值原有的键）
+     * 
+     * @param value 值
+     * @param keys 检索键
+     */
+    public void put(V value, Collection<String> keys) {
+        remove(value);
+        List<String> entryKeys = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            String entryKey = key + SEPARATOR + value;
+            entries.put(entryKey, value);
+            entryKeys.add(entryKey);
+        }
+        keysByValue.put(value, entryKeys);
+    }
+
+    /**
+     * 移除值及其全部检索键
+     * 
+     * @param value 值
+     */
+    public void remove(V value) {
+        Collection<String> entryKeys = keysByValue.remove(value);
+        if (entryKeys != null) {
+            entryKeys.forEach(entries::remove);
+        }
+    }
+
+    /**
+     * 按键的字典序返回前若干个键以 prefix 开头的值
+     * 
+     * @param prefix 前缀（已规范化）
+     * @param limit 最多返回的值数
+     * @return 不重复的值
+     */
+    public List<V> search(String prefix, int limit) {
+        Set<V> result = new LinkedHashSet<>();
+        for (Map.Entry<String, V> entry : entries.tailMap(prefix, true).entrySet()) {
+            if (result.size() >= limit || !entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            result.add(entry.getValue());
+        }
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * 获取已索引的值数量
+     * 
+     * @return 值数量
+     */
+    public int size() {
+        return keysByValue.size();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.studentmanagement.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 无锁环形缓冲区
+ * 
+ * 固定容量，写满后新元素覆盖最旧的元素。写入只有一次 CAS 自增和一次数组写，不加锁；
+ * 读取得到的是某一时刻各槽位的快照，可能与并发写入交错，适合诊断数据等允许近似的场景。
+ * 
+ * @param <T> 元素类型
+ * @author System
+ * @version 1.0
+ */
+public class RingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLong next = new AtomicLong();
+
+    /**
+     * @param capacity 容量
+     */
+    public RingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * 写入元素，缓冲区已满时覆盖最旧的元素
+     * 
+     * @param element 元素
+     */
+    public void add(T element) {
+        long index = next.getAndIncrement();
+        slots.set((int) (index % slots.length()), element);
+    }
+
+    /**
+     * 获取当前缓冲区中的全部元素（顺序不保证）
+     * 
+     * @return 元素列表
+     */
+    public List<T> snapshot() {
+        List<T> elements = new ArrayList<>(slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            T element = slots.get(i);
+            if (element != null) {
+                elements.add(element);
+            }
+        }
+        return elements;
+    }
+
+    /**
+     * 获取累计写入的元素数（含已被覆盖的）
+     * 
+     * @return 写入数
+     */
+    public long getTotalAdded() {
+        return next.get();
+    }
+}
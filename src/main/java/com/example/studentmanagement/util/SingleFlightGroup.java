@@ -0,0 +1,111 @@
+package com.example.studentmanagement.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 按键合并并发调用的工具类
+ * 
+ * 同一个键同时只有一个调用（领头者）真正执行，执行期间到达的相同键调用直接等待领头者的结果。
+ * 执行结束后立即移除该键，因此不会缓存结果，之后的调用会重新执行。
+ * 等待者最多等待指定时间，领头者卡住时等待者超时返回，而不是一起无限期挂起。
+ * 
+ * @author System
+ * @version 1.0
+ */
+public class SingleFlightGroup {
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 可抛出任意异常的调用
+     */
+    @FunctionalInterface
+    public interface Call<T> {
+        T call() throws Throwable;
+    }
+
+    /**
+     * 执行结果，附带本次调用是否复用了其他调用的结果
+     */
+    public static final class Result<T> {
+        private final T value;
+        private final boolean shared;
+
+        private Result(T value, boolean shared) {
+            this.value = value;
+            this.shared = shared;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public boolean isShared() {
+            return shared;
+        }
+    }
+
+    /**
+     * 执行调用，相同键的并发调用只执行一次，等待者不限等待时间
+     * 
+     * @param key 调用键（需正确实现equals/hashCode）
+     * @param call 实际调用
+     * @return 执行结果
+     * @throws Throwable 实际调用抛出的异常
+     */
+    public <T> Result<T> execute(Object key, Call<T> call) throws Throwable {
+        return execute(key, call, 0);
+    }
+
+    /**
+     * 执行调用，相同键的并发调用只执行一次
+     * 
+     * @param key 调用键（需正确实现equals/hashCode）
+     * @param call 实际调用
+     * @param timeoutMillis 等待者最多等待领头者的时间（毫秒），不大于0时不限
+     * @return 执行结果
+     * @throws TimeoutException 等待领头者的结果超时
+     * @throws Throwable 实际调用抛出的异常
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Result<T> execute(Object key, Call<T> call, long timeoutMillis) throws Throwable {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return new Result<>((T) await(existing, timeoutMillis), true);
+        }
+
+        try {
+            T value = call.call();
+            created.complete(value);
+            return new Result<>(value, false);
+        } catch (Throwable ex) {
+            created.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * 当前正在执行中的键数量
+     * 
+     * @return 执行中的键数量
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static Object await(CompletableFuture<Object> future, long timeoutMillis) throws Throwable {
+        try {
+            return timeoutMillis > 0 ? future.get(timeoutMillis, TimeUnit.MILLISECONDS) : future.get();
+        } catch (ExecutionException ex) {
+            throw ex.getCause();
+        }
+    }
+}
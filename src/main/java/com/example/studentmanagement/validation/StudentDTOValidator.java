@@ -0,0 +1,496 @@
+package com.example.studentmanagement.validation;
+
+import com.example.studentmanagement.dto.StudentDTO;
+import org.springframework.stereotype.Component;
+
+import javax.validation.constraints.*;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.net.IDN;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * StudentDTO 快速校验器
+ * 
+ * 依据 StudentDTO 上的约束注解预先生成校验规则：提示信息、长度和数值范围在构造时从注解中读取一次，
+ * 学号、性别、手机号和邮箱用手写的逐字符匹配代替正则，校验时不再反射、不再遍历约束元数据。
+ * 校验结果（字段、提示信息、顺序无关的集合）与 Hibernate Validator 完全一致，
+ * 供CSV导入等批量场景使用。若注解中的正则被修改而与专用匹配器不符，自动退回预编译的正则。
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Component
+public class StudentDTOValidator {
+
+    private static final String STUDENT_NUMBER_REGEX = "^[0-9]{8,12}$";
+    private static final String GENDER_REGEX = "^(男|女)$";
+    private static final String PHONE_REGEX = "^1[3-9]\\d{9}$";
+
+    private static final int MAX_EMAIL_LOCAL_PART_LENGTH = 64;
+    private static final int MAX_EMAIL_DOMAIN_LENGTH = 255;
+    private static final int MAX_DOMAIN_LABEL_LENGTH = 63;
+
+    /** 邮箱中IPv6地址字面量较少见，沿用 Hibernate Validator 的正则 */
+    private static final Pattern IPV6_LITERAL = Pattern.compile("\\[IPv6:(?:(?:[0-9a-fA-F]{1,4}:){7,7}[0-9a-fA-F]{1,4}|(?:[0-9a-fA-F]{1,4}:){1,7}:|(?:[0-9a-fA-F]{1,4}:){1,6}:[0-9a-fA-F]{1,4}|(?:[0-9a-fA-F]{1,4}:){1,5}(?::[0-9a-fA-F]{1,4}){1,2}|(?:[0-9a-fA-F]{1,4}:){1,4}(?::[0-9a-fA-F]{1,4}){1,3}|(?:[0-9a-fA-F]{1,4}:){1,3}(?::[0-9a-fA-F]{1,4}){1,4}|(?:[0-9a-fA-F]{1,4}:){1,2}(?::[0-9a-fA-F]{1,4}){1,5}|[0-9a-fA-F]{1,4}:(?:(?::[0-9a-fA-F]{1,4}){1,6})|:(?:(?::[0-9a-fA-F]{1,4}){1,7}|:)|fe80:(?::[0-9a-fA-F]{0,4}){0,4}%[0-9a-zA-Z]{1,}|::(?:ffff(:0{1,4}){0,1}:){0,1}(?:(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])|(?:[0-9a-fA-F]{1,4}:){1,4}:(?:(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9]))\\]",
+            Pattern.CASE_INSENSITIVE);
+
+    /**
+     * 一条校验失败信息
+     */
+    public static final class Violation {
+        private final String field;
+        private final String message;
+
+        Violation(String field, String message) {
+            this.field = field;
+            this.message = message;
+        }
+
+        public String getField() {
+            return field;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Violation)) {
+                return false;
+            }
+            Violation other = (Violation) o;
+            return field.equals(other.field) && message.equals(other.message);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * field.hashCode() + message.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return field + " " + message;
+        }
+    }
+
+    private final String nameBlankMessage;
+    private final String nameSizeMessage;
+    private final int nameMin;
+    private final int nameMax;
+    private final String studentNumberBlankMessage;
+    private final String studentNumberPatternMessage;
+    private final Pattern studentNumberFallback;
+    private final String ageNullMessage;
+    private final String ageMinMessage;
+    private final long ageMin;
+    private final String ageMaxMessage;
+    private final long ageMax;
+    private final String genderNullMessage;
+    private final String genderPatternMessage;
+    private final Pattern genderFallback;
+    private final String majorBlankMessage;
+    private final String majorSizeMessage;
+    private final int majorMin;
+    private final int majorMax;
+    private final String emailMessage;
+    private final String phonePatternMessage;
+    private final Pattern phoneFallback;
+
+    public StudentDTOValidator() {
+        nameBlankMessage = message(annotation("name", NotBlank.class).message());
+        Size nameSize = annotation("name", Size.class);
+        nameSizeMessage = message(nameSize.message());
+        nameMin = nameSize.min();
+        nameMax = nameSize.max();
+
+        studentNumberBlankMessage = message(annotation("studentNumber", NotBlank.class).message());
+        javax.validation.constraints.Pattern studentNumberPattern =
+                annotation("studentNumber", javax.validation.constraints.Pattern.class);
+        studentNumberPatternMessage = message(studentNumberPattern.message());
+        studentNumberFallback = fallback(studentNumberPattern, STUDENT_NUMBER_REGEX);
+
+        ageNullMessage = message(annotation("age", NotNull.class).message());
+        Min min = annotation("age", Min.class);
+        ageMinMessage = message(min.message());
+        ageMin = min.value();
+        Max max = annotation("age", Max.class);
+        ageMaxMessage = message(max.message());
+        ageMax = max.value();
+
+        genderNullMessage = message(annotation("gender", NotNull.class).message());
+        javax.validation.constraints.Pattern genderPattern =
+                annotation("gender", javax.validation.constraints.Pattern.class);
+        genderPatternMessage = message(genderPattern.message());
+        genderFallback = fallback(genderPattern, GENDER_REGEX);
+
+        majorBlankMessage = message(annotation("major", NotBlank.class).message());
+        Size majorSize = annotation("major", Size.class);
+        majorSizeMessage = message(majorSize.message());
+        majorMin = majorSize.min();
+        majorMax = majorSize.max();
+
+        emailMessage = message(annotation("email", Email.class).message());
+
+        javax.validation.constraints.Pattern phonePattern =
+                annotation("phone", javax.validation.constraints.Pattern.class);
+        phonePatternMessage = message(phonePattern.message());
+        phoneFallback = fallback(phonePattern, PHONE_REGEX);
+    }
+
+    /**
+     * 校验学生信息
+     * 
+     * @param dto 学生信息
+     * @return 全部校验失败信息，按字段声明顺序排列；校验通过返回空列表
+     */
+    public List<Violation> validate(StudentDTO dto) {
+        List<Violation> violations = null;
+
+        String name = dto.getName();
+        if (isBlank(name)) {
+            violations = add(violations, "name", nameBlankMessage);
+        }
+        if (name != null && (name.length() < nameMin || name.length() > nameMax)) {
+            violations = add(violations, "name", nameSizeMessage);
+        }
+
+        String studentNumber = dto.getStudentNumber();
+        if (isBlank(studentNumber)) {
+            violations = add(violations, "studentNumber", studentNumberBlankMessage);
+        }
+        if (studentNumber != null && !(studentNumberFallback != null
+                ? studentNumberFallback.matcher(studentNumber).matches() : isStudentNumber(studentNumber))) {
+            violations = add(violations, "studentNumber", studentNumberPatternMessage);
+        }
+
+        Integer age = dto.getAge();
+        if (age == null) {
+            violations = add(violations, "age", ageNullMessage);
+        } else {
+            if (age < ageMin) {
+                violations = add(violations, "age", ageMinMessage);
+            }
+            if (age > ageMax) {
+                violations = add(violations, "age", ageMaxMessage);
+            }
+        }
+
+        String gender = dto.getGender();
+        if (gender == null) {
+            violations = add(violations, "gender", genderNullMessage);
+        } else if (!(genderFallback != null
+                ? genderFallback.matcher(gender).matches() : isGender(gender))) {
+            violations = add(violations, "gender", genderPatternMessage);
+        }
+
+        String major = dto.getMajor();
+        if (isBlank(major)) {
+            violations = add(violations, "major", majorBlankMessage);
+        }
+        if (major != null && (major.length() < majorMin || major.length() > majorMax)) {
+            violations = add(violations, "major", majorSizeMessage);
+        }
+
+        String email = dto.getEmail();
+        if (email != null && !isEmail(email)) {
+            violations = add(violations, "email", emailMessage);
+        }
+
+        String phone = dto.getPhone();
+        if (phone != null && !(phoneFallback != null
+                ? phoneFallback.matcher(phone).matches() : isPhone(phone))) {
+            violations = add(violations, "phone", phonePatternMessage);
+        }
+
+        return violations == null ? Collections.emptyList() : violations;
+    }
+
+    private static List<Violation> add(List<Violation> violations, String field, String message) {
+        List<Violation> result = violations == null ? new ArrayList<>(2) : violations;
+        result.add(new Violation(field, message));
+        return result;
+    }
+
+    /** 与 @NotBlank 一致：null 或 trim() 后为空 */
+    private static boolean isBlank(String value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** ^[0-9]{8,12}$ */
+    private static boolean isStudentNumber(String value) {
+        int length = value.length();
+        if (length < 8 || length > 12) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** ^(男|女)$ */
+    private static boolean isGender(String value) {
+        return value.length() == 1 && (value.charAt(0) == '男' || value.charAt(0) == '女');
+    }
+
+    /** ^1[3-9]\d{9}$ */
+    private static boolean isPhone(String value) {
+        if (value.length() != 11 || value.charAt(0) != '1' || value.charAt(1) < '3' || value.charAt(1) > '9') {
+            return false;
+        }
+        for (int i = 2; i < 11; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 与 Hibernate Validator 的 @Email 规则一致：空串视为合法，按最后一个 @ 拆分本地部分和域名部分
+     */
+    static boolean isEmail(String value) {
+        if (value.isEmpty()) {
+            return true;
+        }
+        int at = value.lastIndexOf('@');
+        if (at < 0 || at > MAX_EMAIL_LOCAL_PART_LENGTH) {
+            return false;
+        }
+        return isEmailLocalPart(value, at) && isEmailDomain(value.substring(at + 1));
+    }
+
+    /**
+     * 本地部分：以点分隔的若干段，每段为一个以上的普通字符，或双引号括起的一个以上的引号内字符
+     */
+    private static boolean isEmailLocalPart(String value, int end) {
+        int i = 0;
+        while (true) {
+            if (i < end && value.charAt(i) == '"') {
+                int start = ++i;
+                while (i < end && value.charAt(i) != '"') {
+                    char c = value.charAt(i);
+                    if (c == '\\') {
+                        if (i + 1 < end && (value.charAt(i + 1) == '\\' || value.charAt(i + 1) == '"')) {
+                            i += 2;
+                            continue;
+                        }
+                        return false;
+                    }
+                    if (!isQuotedLocalChar(value, i)) {
+                        return false;
+                    }
+                    i++;
+                }
+                if (i >= end || i == start) {
+                    return false;
+                }
+                i++;
+            } else {
+                int start = i;
+                while (i < end && isLocalChar(value, i)) {
+                    i++;
+                }
+                if (i == start) {
+                    return false;
+                }
+            }
+            if (i == end) {
+                return true;
+            }
+            if (value.charAt(i) != '.') {
+                return false;
+            }
+            i++;
+        }
+    }
+
+    private static boolean isEmailDomain(String domain) {
+        if (domain.endsWith(".")) {
+            return false;
+        }
+        boolean ascii = true;
+        for (int i = 0; i < domain.length() && ascii; i++) {
+            ascii = domain.charAt(i) < 0x80;
+        }
+        if (ascii) {
+            // 纯ASCII域名经 IDN.toASCII 后不变，只需检查总长度和每个标签的长度
+            if (domain.length() > MAX_EMAIL_DOMAIN_LENGTH || !labelsWithinLimit(domain)) {
+                return false;
+            }
+        } else {
+            try {
+                if (IDN.toASCII(domain).length() > MAX_EMAIL_DOMAIN_LENGTH) {
+                    return false;
+                }
+            } catch (IllegalArgumentException ex) {
+                return false;
+            }
+        }
+
+        if (!domain.isEmpty() && domain.charAt(0) == '[') {
+            return isIpv4Literal(domain) || IPV6_LITERAL.matcher(domain).matches();
+        }
+        return isDomainName(domain);
+    }
+
+    private static boolean labelsWithinLimit(String domain) {
+        int labelStart = 0;
+        for (int i = 0; i <= domain.length(); i++) {
+            if (i == domain.length() || domain.charAt(i) == '.') {
+                if (i - labelStart > MAX_DOMAIN_LABEL_LENGTH) {
+                    return false;
+                }
+                labelStart = i + 1;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 以点分隔的若干标签，每个标签由域名字符和连字符组成，且首尾不能是连字符
+     */
+    private static boolean isDomainName(String domain) {
+        int length = domain.length();
+        int i = 0;
+        while (true) {
+            if (i >= length || !isDomainChar(domain, i)) {
+                return false;
+            }
+            char last = domain.charAt(i);
+            i++;
+            while (i < length && domain.charAt(i) != '.') {
+                last = domain.charAt(i);
+                if (last != '-' && !isDomainChar(domain, i)) {
+                    return false;
+                }
+                i++;
+            }
+            if (last == '-') {
+                return false;
+            }
+            if (i == length) {
+                return true;
+            }
+            i++;
+        }
+    }
+
+    /** \[[0-9]{1,3}\.[0-9]{1,3}\.[0-9]{1,3}\.[0-9]{1,3}\] */
+    private static boolean isIpv4Literal(String domain) {
+        int length = domain.length();
+        if (domain.charAt(length - 1) != ']') {
+            return false;
+        }
+        int i = 1;
+        for (int part = 0; part < 4; part++) {
+            int start = i;
+            while (i < length - 1 && domain.charAt(i) >= '0' && domain.charAt(i) <= '9') {
+                i++;
+            }
+            if (i == start || i - start > 3) {
+                return false;
+            }
+            if (part < 3) {
+                if (domain.charAt(i) != '.') {
+                    return false;
+                }
+                i++;
+            }
+        }
+        return i == length - 1;
+    }
+
+    /** [a-z0-9!#$%&'*+/=?^_`{|}~\u0080-￿-]（不区分大小写） */
+    private static boolean isLocalChar(String value, int index) {
+        char c = value.charAt(index);
+        if (c >= 0x80) {
+            return isSingleCodePoint(value, index);
+        }
+        return isAsciiLetterOrDigit(c) || "!#$%&'*+/=?^_`{|}~-".indexOf(c) >= 0;
+    }
+
+    /** [a-z0-9!#$%&'*.(),<>\[\]:; @+/=?^_`{|}~\u0080-￿-]（不区分大小写） */
+    private static boolean isQuotedLocalChar(String value, int index) {
+        char c = value.charAt(index);
+        if (c >= 0x80) {
+            return isSingleCodePoint(value, index);
+        }
+        return isAsciiLetterOrDigit(c) || "!#$%&'*.(),<>[]:; @+/=?^_`{|}~-".indexOf(c) >= 0;
+    }
+
+    /** [a-z\u0080-￿0-9!#$%&'*+/=?^_`{|}~]（不区分大小写） */
+    private static boolean isDomainChar(String value, int index) {
+        char c = value.charAt(index);
+        if (c >= 0x80) {
+            return isSingleCodePoint(value, index);
+        }
+        return isAsciiLetterOrDigit(c) || "!#$%&'*+/=?^_`{|}~".indexOf(c) >= 0;
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * 正则按码点匹配，￿ 以上的增补字符（代理对）不在字符类范围内
+     */
+    private static boolean isSingleCodePoint(String value, int index) {
+        char c = value.charAt(index);
+        if (Character.isHighSurrogate(c) && index + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(index + 1))) {
+            return false;
+        }
+        return !(Character.isLowSurrogate(c) && index > 0 && Character.isHighSurrogate(value.charAt(index - 1)));
+    }
+
+    private static <A extends Annotation> A annotation(String fieldName, Class<A> type) {
+        try {
+            Field field = StudentDTO.class.getDeclaredField(fieldName);
+            A annotation = field.getAnnotation(type);
+            if (annotation == null) {
+                throw new IllegalStateException("StudentDTO." + fieldName + " 缺少约束注解 @" + type.getSimpleName());
+            }
+            return annotation;
+        } catch (NoSuchFieldException ex) {
+            throw new IllegalStateException("StudentDTO 缺少字段: " + fieldName, ex);
+        }
+    }
+
+    /**
+     * 只支持不含插值表达式的固定提示信息
+     */
+    private static String message(String template) {
+        if (template.indexOf('{') >= 0) {
+            throw new IllegalStateException("快速校验器不支持需要插值的提示信息: " + template);
+        }
+        return template;
+    }
+
+    private static Pattern fallback(javax.validation.constraints.Pattern annotation, String specializedRegex) {
+        if (specializedRegex.equals(annotation.regexp()) && annotation.flags().length == 0) {
+            return null;
+        }
+        return Pattern.compile(annotation.regexp());
+    }
+}
@@ -1,32 +1,44 @@
 -- 学生管理系统初始化数据
--- 插入测试学生数据
+-- 专业字典（学生表通过 major_id 引用）
+INSERT INTO majors (name) VALUES ('计算机科学与技术');
+INSERT INTO majors (name) VALUES ('软件工程');
+INSERT INTO majors (name) VALUES ('信息安全');
+INSERT INTO majors (name) VALUES ('数据科学与大数据技术');
+INSERT INTO majors (name) VALUES ('人工智能');
 
-INSERT INTO students (name, student_number, age, gender, major, email, phone, enrollment_date, created_time, updated_time) VALUES
-('张三', '20210001', 20, '男', '计算机科学与技术', 'zhangsan@example.com', '13800138001', DATE '2021-09-01', CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP());
+-- 插入测试学生数据（性别编码：1-男，2-女；主键由应用生成，初始数据使用小于生成范围的固定ID）
+INSERT INTO students (id, name, student_number, age, gender, major_id, email, phone, enrollment_date, created_time, updated_time) VALUES
+(1, '张三', '20210001', 20, 1, (SELECT id FROM majors WHERE name = '计算机科学与技术'), 'zhangsan@example.com', '13800138001', DATE '2021-09-01', CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP());
 
-INSERT INTO students (name, student_number, age, gender, major, email, phone, enrollment_date, created_time, updated_time) VALUES
-('李四', '20210002', 19, '女', '软件工程', 'lisi@example.com', '13800138002', DATE '2021-09-01', CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP());
+INSERT INTO students (id, name, student_number, age, gender, major_id, email, phone, enrollment_date, created_time, updated_time) VALUES
+(2, '李四', '20210002', 19, 2, (SELECT id FROM majors WHERE name = '软件工程'), 'lisi@example.com', '13800138002', DATE '2021-09-01', CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP());
 
-INSERT INTO students (name, student_number, age, gender, major, email, phone, enrollment_date, created_time, updated_time) VALUES
-('王五', '20210003', 21, '男', '信息安全', 'wangwu@example.com', '13800138003', DATE '2021-09-01', CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP());
+INSERT INTO students (id, name, student_number, age, gender, major_id, email, phone, enrollment_date, created_time, updated_time) VALUES
+(3, '王五', '20210003', 21, 1, (SELECT id FROM majors WHERE name = '信息安全'), 'wangwu@example.com', '13800138003', DATE '2021-09-01', CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP());
 
-INSERT INTO students (name, student_number, age, gender, major, email, phone, enrollment_date, created_time, updated_time) VALUES
-('赵六', '20210004', 20, '女', '数据科学与大数据技术', 'zhaoliu@example.com', '13800138004', DATE '2021-09-01', CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP());
+INSERT INTO students (id, name, student_number, age, gender, major_id, email, phone, enrollment_date, created_time, updated_time) VALUES
+(4, '赵六', '20210004', 20, 2, (SELECT id FROM majors WHERE name = '数据科学与大数据技术'), 'zhaoliu@example.com', '13800138004', DATE '2021-09-01', CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP());
 
-INSERT INTO students (name, student_number, age, gender, major, email, phone, enrollment_date, created_time, updated_time) VALUES
-('钱七', '20210005', 22, '男', '人工智能', 'qianqi@example.com', '13800138005', DATE '2021-09-01', CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP());
+INSERT INTO students (id, name, student_number, age, gender, major_id, email, phone, enrollment_date, created_time, updated_time) VALUES
+(5, '钱七', '20210005', 22, 1, (SELECT id FROM majors WHERE name = '人工智能'), 'qianqi@example.com', '13800138005', DATE '2021-09-01', CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP());
 
-INSERT INTO students (name, student_number, age, gender, major, email, phone, enrollment_date, created_time, updated_time) VALUES
-('孙八', '20210006', 19, '女', '计算机科学与技术', 'sunba@example.com', '13800138006', DATE '2021-09-01', CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP());
+INSERT INTO students (id, name, student_number, age, gender, major_id, email, phone, enrollment_date, created_time, updated_time) VALUES
+(6, '孙八', '20210006', 19, 2, (SELECT id FROM majors WHERE name = '计算机科学与技术'), 'sunba@example.com', '13800138006', DATE '2021-09-01', CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP());
 
-INSERT INTO students (name, student_number, age, gender, major, email, phone, enrollment_date, created_time, updated_time) VALUES
-('周九', '20210007', 21, '男', '软件工程', 'zhoujiu@example.com', '13800138007', DATE '2021-09-01', CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP());
+INSERT INTO students (id, name, student_number, age, gender, major_id, email, phone, enrollment_date, created_time, updated_time) VALUES
+(7, '周九', '20210007', 21, 1, (SELECT id FROM majors WHERE name = '软件工程'), 'zhoujiu@example.com', '13800138007', DATE '2021-09-01', CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP());
 
-INSERT INTO students (name, student_number, age, gender, major, email, phone, enrollment_date, created_time, updated_time) VALUES
-('吴十', '20210008', 20, '女', '信息安全', 'wushi@example.com', '13800138008', DATE '2021-09-01', CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP());
+INSERT INTO students (id, name, student_number, age, gender, major_id, email, phone, enrollment_date, created_time, updated_time) VALUES
+(8, '吴十', '20210008', 20, 2, (SELECT id FROM majors WHERE name = '信息安全'), 'wushi@example.com', '13800138008', DATE '2021-09-01', CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP());
 
-INSERT INTO students (name, student_number, age, gender, major, email, phone, enrollment_date, created_time, updated_time) VALUES
-('郑十一', '20210009', 23, '男', '数据科学与大数据技术', 'zhengshiyi@example.com', '13800138009', DATE '2021-09-01', CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP());
+INSERT INTO students (id, name, student_number, age, gender, major_id, email, phone, enrollment_date, created_time, updated_time) VALUES
+(9, '郑十一', '20210009', 23, 1, (SELECT id FROM majors WHERE name = '数据科学与大数据技术'), 'zhengshiyi@example.com', '13800138009', DATE '2021-09-01', CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP());
 
-INSERT INTO students (name, student_number, age, gender, major, email, phone, enrollment_date, created_time, updated_time) VALUES
-('王十二', '20210010', 19, '女', '人工智能', 'wangshier@example.com', '13800138010', DATE '2021-09-01', CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP());
\ No newline at end of file
+INSERT INTO students (id, name, student_number, age, gender, major_id, email, phone, enrollment_date, created_time, updated_time) VALUES
+(10, '王十二', '20210010', 19, 2, (SELECT id FROM majors WHERE name = '人工智能'), 'wangshier@example.com', '13800138010', DATE '2021-09-01', CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP());
+-- 为初始数据生成变更日志，使首次增量同步（since=0）即可拿到全量数据；每个初始学生一个版本
+INSERT INTO student_changes (student_id, student_number, change_type, changed_time, version)
+SELECT id, student_number, 'UPSERT', CURRENT_TIMESTAMP(), id FROM students ORDER BY id;
+
+-- 变更版本号计数器从初始数据的最大版本开始
+INSERT INTO student_change_clock (id, version) SELECT 1, COALESCE(MAX(version), 0) FROM student_changes;
@@ -0,0 +1,19 @@
+-- 分片库建表脚本（ID由应用生成，各分片间全局唯一）
+-- 有意采用非规范化布局，与主库的 Student 实体映射不同：分片库没有 majors 字典表，
+-- 专业直接保存名称、性别直接保存“男/女”，各分片可独立查询和分组统计，无需跨库关联字典。
+-- 分片由 ShardedStudentRepository 通过JDBC读写，不经过 MajorConverter 和 GenderConverter。
+CREATE TABLE IF NOT EXISTS students (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(20) NOT NULL,
+    student_number VARCHAR(12) NOT NULL UNIQUE,
+    age INTEGER NOT NULL,
+    gender VARCHAR(2) NOT NULL,
+    major VARCHAR(50) NOT NULL,
+    email VARCHAR(100),
+    phone VARCHAR(11),
+    enrollment_date DATE,
+    created_time TIMESTAMP NOT NULL,
+    updated_time TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_students_major ON students (major);
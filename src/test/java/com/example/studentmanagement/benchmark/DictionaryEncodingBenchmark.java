@@ -0,0 +1,155 @@
+package com.example.studentmanagement.benchmark;
+
+import com.example.studentmanagement.entity.GenderConverter;
+import com.example.studentmanagement.entity.Student;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 专业、性别字典编码基准测试
+ * 
+ * 1. 存储：分别按原表结构（专业、性别为字符串）和字典编码后的表结构写入相同数据，
+ *    紧凑化后比较H2数据库文件大小（含专业列上的索引）。
+ * 2. 堆内存：比较每行新建字符串与共享字典实例两种方式下，学生实体占用的堆内存。
+ * 运行方式：mvn test -Pbenchmark
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Tag("benchmark")
+class DictionaryEncodingBenchmark {
+
+    private static final int ROWS = 200_000;
+
+    private static final String[] MAJORS = {
+            "计算机科学与技术", "软件工程", "信息安全", "数据科学与大数据技术", "人工智能",
+            "电子信息工程", "通信工程", "自动化", "机械设计制造及其自动化", "土木工程",
+            "工商管理", "会计学", "金融学", "国际经济与贸易", "法学",
+            "汉语言文学", "英语", "数学与应用数学", "物理学", "化学"};
+
+    private static final String LEGACY_SCHEMA = "CREATE TABLE students (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+            + "name VARCHAR(20) NOT NULL, student_number VARCHAR(12) NOT NULL UNIQUE, age INTEGER NOT NULL, "
+            + "gender VARCHAR(2) NOT NULL, major VARCHAR(50) NOT NULL, email VARCHAR(100), phone VARCHAR(11), "
+            + "enrollment_date DATE, created_time TIMESTAMP NOT NULL, updated_time TIMESTAMP);"
+            + "CREATE INDEX idx_students_major ON students (major)";
+
+    private static final String ENCODED_SCHEMA = "CREATE TABLE majors (id INTEGER AUTO_INCREMENT PRIMARY KEY, "
+            + "name VARCHAR(50) NOT NULL UNIQUE);"
+            + "CREATE TABLE students (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+            + "name VARCHAR(20) NOT NULL, student_number VARCHAR(12) NOT NULL UNIQUE, age INTEGER NOT NULL, "
+            + "gender TINYINT NOT NULL, major_id INTEGER NOT NULL REFERENCES majors (id), email VARCHAR(100), "
+            + "phone VARCHAR(11), enrollment_date DATE, created_time TIMESTAMP NOT NULL, updated_time TIMESTAMP)";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void benchmarkStorage() throws SQLException {
+        long legacyBytes = databaseSize("legacy", LEGACY_SCHEMA, false);
+        long encodedBytes = databaseSize("encoded", ENCODED_SCHEMA, true);
+        System.out.printf("数据库文件（%,d 行）: 字符串 %,d 字节 (%.1f 字节/行) / 字典编码 %,d 字节 (%.1f 字节/行), 减少 %.1f%%%n",
+                ROWS, legacyBytes, (double) legacyBytes / ROWS, encodedBytes, (double) encodedBytes / ROWS,
+                100.0 * (legacyBytes - encodedBytes) / legacyBytes);
+    }
+
+    @Test
+    void benchmarkHeap() {
+        long legacyBytes = retainedHeap(false);
+        long encodedBytes = retainedHeap(true);
+        System.out.printf("学生实体堆内存（%,d 个）: 每行新建字符串 %,d 字节 (%.1f 字节/行) / 共享字典实例 %,d 字节 (%.1f 字节/行), 减少 %.1f%%%n",
+                ROWS, legacyBytes, (double) legacyBytes / ROWS, encodedBytes, (double) encodedBytes / ROWS,
+                100.0 * (legacyBytes - encodedBytes) / legacyBytes);
+    }
+
+    private long databaseSize(String name, String schema, boolean encoded) throws SQLException {
+        String url = "jdbc:h2:file:" + tempDir.resolve(name).toAbsolutePath();
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            try (Statement statement = connection.createStatement()) {
+                for (String ddl : schema.split(";")) {
+                    statement.execute(ddl);
+                }
+            }
+            connection.setAutoCommit(false);
+            if (encoded) {
+                try (PreparedStatement insert = connection.prepareStatement("INSERT INTO majors (name) VALUES (?)")) {
+                    for (String major : MAJORS) {
+                        insert.setString(1, major);
+                        insert.executeUpdate();
+                    }
+                }
+            }
+            String sql = "INSERT INTO students (name, student_number, age, gender, " + (encoded ? "major_id" : "major")
+                    + ", email, phone, enrollment_date, created_time, updated_time) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, CURRENT_DATE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)";
+            try (PreparedStatement insert = connection.prepareStatement(sql)) {
+                for (int i = 0; i < ROWS; i++) {
+                    String gender = i % 2 == 0 ? "男" : "女";
+                    insert.setString(1, "学生" + i);
+                    insert.setString(2, String.valueOf(20_000_000 + i));
+                    insert.setInt(3, 18 + i % 8);
+                    if (encoded) {
+                        insert.setByte(4, GenderConverter.toCode(gender));
+                        insert.setInt(5, i % MAJORS.length + 1);
+                    } else {
+                        insert.setString(4, gender);
+                        insert.setString(5, MAJORS[i % MAJORS.length]);
+                    }
+                    insert.setString(6, "student" + i + "@example.com");
+                    insert.setString(7, String.valueOf(13_800_000_000L + i));
+                    insert.addBatch();
+                    if (i % 1000 == 999) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SHUTDOWN COMPACT");
+            }
+        }
+        try {
+            return Files.size(tempDir.resolve(name + ".mv.db"));
+        } catch (java.io.IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static long retainedHeap(boolean shared) {
+        long before = usedHeap();
+        List<Student> students = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            String gender = i % 2 == 0 ? GenderConverter.MALE : GenderConverter.FEMALE;
+            String major = MAJORS[i % MAJORS.length];
+            Student student = new Student();
+            // 旧方式下 JDBC 每读一行都会新建字符串
+            student.setGender(shared ? gender : new String(gender.toCharArray()));
+            student.setMajor(shared ? major : new String(major.toCharArray()));
+            students.add(student);
+        }
+        long after = usedHeap();
+        if (students.size() != ROWS) {
+            throw new IllegalStateException();
+        }
+        return after - before;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.studentmanagement.benchmark;
+
+import com.example.studentmanagement.util.FuzzyIndex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * 姓名容错搜索基准测试
+ * 
+ * 用 100 万个随机姓名建立容错索引，查询词为随机姓名替换、删除或插入一个字，
+ * 比较删除邻域索引与逐个计算编辑距离（相当于全表扫描）的单次搜索耗时及索引占用的堆内存。
+ * 运行方式：mvn test -Pbenchmark -Dtest=FuzzyNameSearchBenchmark
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Tag("benchmark")
+class FuzzyNameSearchBenchmark {
+
+    private static final int NAMES = 1_000_000;
+    private static final int QUERIES = 10_000;
+    private static final int LIMIT = 20;
+
+    private static final String SURNAMES = "王李张刘陈杨黄赵吴周徐孙马朱胡郭何高林罗郑梁谢宋唐许韩冯邓曹彭曾萧田董袁潘"
+            + "于蒋蔡余杜叶程苏魏吕丁任沈姚卢姜崔钟谭陆汪范金石廖贾夏韦付方白邹孟熊秦邱江尹薛闫段雷侯龙史陶黎贺顾毛郝龚邵万钱严";
+    /** 名字用字取常用汉字区间 */
+    private static final int GIVEN_FIRST = 0x4E00;
+    private static final int GIVEN_RANGE = 3000;
+
+    @Test
+    void benchmarkFuzzySearch() {
+        Random random = new Random(42);
+        String[] names = new String[NAMES];
+        for (int i = 0; i < NAMES; i++) {
+            names[i] = randomName(random);
+        }
+        String[] queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = typo(names[random.nextInt(NAMES)], random);
+        }
+
+        for (int distance = 1; distance <= 2; distance++) {
+            benchmark(names, queries, distance);
+        }
+    }
+
+    private static void benchmark(String[] names, String[] queries, int distance) {
+        System.gc();
+        long heapBefore = usedHeap();
+        long buildStart = System.nanoTime();
+        FuzzyIndex<Long> index = new FuzzyIndex<>(distance);
+        for (int i = 0; i < NAMES; i++) {
+            index.put((long) i, names[i]);
+        }
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+        System.gc();
+        long heapMb = (usedHeap() - heapBefore) / (1024 * 1024);
+
+        long sink = 0;
+        for (int round = 0; round < 3; round++) {
+            for (String query : queries) {
+                sink += index.search(query, distance, LIMIT).size();
+            }
+        }
+        long start = System.nanoTime();
+        for (String query : queries) {
+            sink += index.search(query, distance, LIMIT).size();
+        }
+        double indexMicros = (System.nanoTime() - start) / 1000.0 / QUERIES;
+
+        int scanQueries = 50;
+        start = System.nanoTime();
+        for (int q = 0; q < scanQueries; q++) {
+            sink += scan(names, queries[q], distance);
+        }
+        double scanMicros = (System.nanoTime() - start) / 1000.0 / scanQueries;
+
+        System.out.printf("距离 %d：%d 个姓名，建索引 %d ms，堆内存约 %d MB%n", distance, NAMES, buildMillis, heapMb);
+        System.out.printf("  删除邻域索引: %.1f µs/次%n", indexMicros);
+        System.out.printf("  逐个计算编辑距离: %.1f µs/次（%.0f 倍）%n", scanMicros, scanMicros / indexMicros);
+        System.out.println("  校验值: " + sink);
+    }
+
+    private static int scan(String[] names, String query, int distance) {
+        int matched = 0;
+        for (String name : names) {
+            if (FuzzyIndex.distance(query, name, distance) <= distance) {
+                matched++;
+            }
+        }
+        return Math.min(matched, LIMIT);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder().append(SURNAMES.charAt(random.nextInt(SURNAMES.length())));
+        int given = 1 + random.nextInt(2);
+        for (int i = 0; i < given; i++) {
+            name.append((char) (GIVEN_FIRST + random.nextInt(GIVEN_RANGE)));
+        }
+        return name.toString();
+    }
+
+    /**
+     * 模拟一次输入错误：替换、删除或插入一个字
+     */
+    private static String typo(String name, Random random) {
+        int position = 1 + random.nextInt(name.length() - 1);
+        char wrong = (char) (GIVEN_FIRST + random.nextInt(GIVEN_RANGE));
+        switch (random.nextInt(3)) {
+            case 0:
+                return name.substring(0, position) + wrong + name.substring(position + 1);
+            case 1:
+                return name.length() > 2 ? name.substring(0, position) + name.substring(position + 1) : name;
+            default:
+                return name.substring(0, position) + wrong + name.substring(position);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.studentmanagement.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.example.studentmanagement.id.HibernateIdGenerator;
+import com.example.studentmanagement.id.SnowflakeIdGenerator;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.util.function.IntFunction;
+
+/**
+ * 主键生成方式插入吞吐量基准测试
+ *
+ * 同一个 SessionFactory 中两张结构相同的表，分别使用 IDENTITY 和应用生成的主键，
+ * 以相同的批量大小（50）和事务大小（1000行）持久化实体。
+ * IDENTITY 必须逐条执行 INSERT 才能拿到主键，应用生成的主键可以按批提交。
+ * H2 内存库没有网络往返，实际数据库上的差距会更大。
+ * 运行方式：mvn test -Pbenchmark -Dtest=IdGenerationBenchmark
+ *
+ * @author System
+ * @version 1.0
+ */
+@Tag("benchmark")
+class IdGenerationBenchmark {
+
+    private static final int ROWS = 100_000;
+
+    private static final int BATCH_SIZE = 50;
+
+    private static final int TRANSACTION_SIZE = 1_000;
+
+    private static StandardServiceRegistry registry;
+    private static SessionFactory sessionFactory;
+
+    @BeforeAll
+    static void setUp() {
+        // 未加载 Spring Boot 日志配置时 Logback 默认输出 DEBUG，逐条SQL日志会掩盖插入本身的耗时
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.URL, "jdbc:h2:mem:id-benchmark;DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.USER, "sa")
+                .applySetting(AvailableSettings.PASS, "")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, BATCH_SIZE)
+                .applySetting(AvailableSettings.ORDER_INSERTS, true)
+                .applySetting(AvailableSettings.GENERATE_STATISTICS, true)
+                .applySetting(HibernateIdGenerator.ID_GENERATOR_SETTING, new SnowflakeIdGenerator(0, 0, 10))
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(IdentityRow.class)
+                .addAnnotatedClass(GeneratedRow.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    @Test
+    void benchmarkInsertThroughput() {
+        // 预热
+        insert(ROWS / 10, IdentityRow::new);
+        insert(ROWS / 10, GeneratedRow::new);
+
+        double identity = measure("IDENTITY", IdentityRow::new);
+        double generated = measure("应用生成主键", GeneratedRow::new);
+        System.out.printf("提升倍数: %.1fx%n", generated / identity);
+    }
+
+    private static double measure(String name, IntFunction<Object> factory) {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        long start = System.nanoTime();
+        insert(ROWS, factory);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        double rowsPerSecond = ROWS / seconds;
+        System.out.printf("%-8s %,10.0f 行/秒, 预编译语句 %,d 条%n",
+                name, rowsPerSecond, statistics.getPrepareStatementCount());
+        return rowsPerSecond;
+    }
+
+    private static void insert(int rows, IntFunction<Object> factory) {
+        for (int from = 0; from < rows; from += TRANSACTION_SIZE) {
+            try (Session session = sessionFactory.openSession()) {
+                session.beginTransaction();
+                for (int i = from; i < Math.min(rows, from + TRANSACTION_SIZE); i++) {
+                    session.persist(factory.apply(i));
+                    if (i % BATCH_SIZE == BATCH_SIZE - 1) {
+                        session.flush();
+                        session.clear();
+                    }
+                }
+                session.getTransaction().commit();
+            }
+        }
+    }
+
+    @Entity(name = "IdentityRow")
+    @Table(name = "identity_rows")
+    static class IdentityRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+
+        @Column(length = 20)
+        String name;
+
+        @Column(length = 12)
+        String studentNumber;
+
+        IdentityRow() {
+        }
+
+        IdentityRow(int i) {
+            this.name = "学生" + i;
+            this.studentNumber = String.valueOf(20_000_000 + i);
+        }
+    }
+
+    @Entity(name = "GeneratedRow")
+    @Table(name = "generated_rows")
+    static class GeneratedRow {
+
+        @Id
+        @GeneratedValue(generator = HibernateIdGenerator.NAME)
+        @GenericGenerator(name = HibernateIdGenerator.NAME,
+                strategy = "com.example.studentmanagement.id.HibernateIdGenerator")
+        Long id;
+
+        @Column(length = 20)
+        String name;
+
+        @Column(length = 12)
+        String studentNumber;
+
+        GeneratedRow() {
+        }
+
+        GeneratedRow(int i) {
+            this.name = "学生" + i;
+            this.studentNumber = String.valueOf(20_000_000 + i);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.studentmanagement.benchmark;
+
+import com.example.studentmanagement.dto.ApiResponse;
+import com.example.studentmanagement.dto.PageResponse;
+import com.example.studentmanagement.dto.StudentDTO;
+import com.example.studentmanagement.json.StudentJsonModule;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 分页响应序列化基准测试
+ * 
+ * 对比默认方式序列化 ApiResponse&lt;PageImpl&gt; 与精简分页结构 + 自定义序列化器：
+ * 每次响应的字节数和每秒序列化次数（写入只计数的输出流，排除内存拷贝的影响）。
+ * 运行方式：mvn test -Pbenchmark
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Tag("benchmark")
+class PageSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final int ITERATIONS = 200_000;
+
+    @Test
+    void benchmarkPageSerialization() throws IOException {
+        ObjectWriter defaultWriter = mapper().build().writer();
+        ObjectWriter leanWriter = mapper().modulesToInstall(new StudentJsonModule()).build().writer();
+
+        List<StudentDTO> students = students();
+        PageRequest pageable = PageRequest.of(3, PAGE_SIZE, Sort.by("id").ascending());
+        Page<StudentDTO> page = new PageImpl<>(students, pageable, 1000);
+        ApiResponse<Page<StudentDTO>> legacy = ApiResponse.success("获取学生分页数据成功", page);
+        ApiResponse<PageResponse<StudentDTO>> lean = ApiResponse.success("获取学生分页数据成功", PageResponse.of(page));
+
+        long legacyBytes = write(defaultWriter, legacy);
+        long leanBytes = write(leanWriter, lean);
+        System.out.printf("每次响应字节数: PageImpl %,d / 精简结构 %,d (减少 %.1f%%)%n",
+                legacyBytes, leanBytes, 100.0 * (legacyBytes - leanBytes) / legacyBytes);
+
+        double legacyOps = measure("默认序列化 PageImpl", defaultWriter, legacy);
+        double leanOps = measure("精简结构 + 自定义序列化器", leanWriter, lean);
+        System.out.printf("提升倍数: %.1fx%n", leanOps / legacyOps);
+    }
+
+    private static Jackson2ObjectMapperBuilder mapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .simpleDateFormat("yyyy-MM-dd HH:mm:ss")
+                .timeZone("GMT+8")
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static List<StudentDTO> students() {
+        List<StudentDTO> students = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            StudentDTO studentDTO = new StudentDTO("学生" + i, String.valueOf(20210001 + i), 18 + i % 6,
+                    i % 2 == 0 ? "男" : "女", "计算机科学与技术");
+            studentDTO.setId(61L + i);
+            studentDTO.setEmail("student" + i + "@example.com");
+            studentDTO.setPhone("138" + String.format("%08d", i));
+            studentDTO.setEnrollmentDate(LocalDate.of(2021, 9, 1));
+            studentDTO.setCreatedTime(LocalDateTime.of(2023, 9, 1, 8, 30, 15, 123_000_000));
+            studentDTO.setUpdatedTime(LocalDateTime.of(2024, 3, 2, 10, 0, 0));
+            students.add(studentDTO);
+        }
+        return students;
+    }
+
+    private static long write(ObjectWriter writer, Object value) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        writer.writeValue(out, value);
+        return out.count;
+    }
+
+    private static double measure(String name, ObjectWriter writer, Object value) throws IOException {
+        long sink = 0;
+        // 预热
+        for (int i = 0; i < ITERATIONS / 4; i++) {
+            sink += write(writer, value);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += write(writer, value);
+        }
+        long elapsed = System.nanoTime() - start;
+        double opsPerSecond = ITERATIONS * 1e9 / elapsed;
+        System.out.printf("%-28s %,12.0f 次/秒 %,8.2f 微秒/次 (sink=%d)%n",
+                name, opsPerSecond, elapsed / 1e3 / ITERATIONS, sink);
+        return opsPerSecond;
+    }
+
+    /**
+     * 只计数不保存数据的输出流
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
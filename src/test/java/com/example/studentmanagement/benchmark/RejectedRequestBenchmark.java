@@ -0,0 +1,129 @@
+package com.example.studentmanagement.benchmark;
+
+import com.example.studentmanagement.controller.StudentController;
+import com.example.studentmanagement.dto.StudentDTO;
+import com.example.studentmanagement.exception.GlobalExceptionHandler;
+import com.example.studentmanagement.exception.StudentConflictException;
+import com.example.studentmanagement.service.StudentService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 被拒绝请求（学号冲突）吞吐量基准测试
+ * 
+ * 对比旧做法（带完整堆栈的 RuntimeException + 按消息内容判断状态码）与类型化无堆栈异常：
+ * 先在模拟的框架调用深度下单独测量异常创建与状态码判定，再经 MockMvc 测量完整请求。
+ * 运行方式：mvn test -Pbenchmark
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Tag("benchmark")
+class RejectedRequestBenchmark {
+
+    /** 模拟 Tomcat + Spring MVC + 事务代理下的大致调用深度 */
+    private static final int CALL_DEPTH = 120;
+
+    private static final int ITERATIONS = 200_000;
+
+    private static final int REQUEST_ITERATIONS = 20_000;
+
+    @Test
+    void benchmarkExceptionCreationAndMapping() {
+        IntSupplier legacy = () -> atDepth(CALL_DEPTH, () -> {
+            try {
+                throw new RuntimeException("学号已存在: 20210001");
+            } catch (RuntimeException e) {
+                String message = e.getMessage();
+                if (message.contains("不存在") || message.contains("未找到")) {
+                    return 404;
+                } else if (message.contains("已存在") || message.contains("重复")) {
+                    return 409;
+                }
+                return 500;
+            }
+        });
+        IntSupplier typed = () -> atDepth(CALL_DEPTH, () -> {
+            try {
+                throw StudentConflictException.duplicateStudentNumber("20210001");
+            } catch (StudentConflictException e) {
+                return e.getStatus().value();
+            }
+        });
+
+        double legacyOps = measure("RuntimeException + 消息匹配", legacy, ITERATIONS);
+        double typedOps = measure("类型化无堆栈异常", typed, ITERATIONS);
+        System.out.printf("提升倍数: %.1fx%n", typedOps / legacyOps);
+    }
+
+    @Test
+    void benchmarkRejectedRequestsThroughMockMvc() throws Exception {
+        StudentService legacyService = mock(StudentService.class);
+        when(legacyService.createStudent(any())).thenAnswer(invocation -> {
+            throw new IllegalStateException("学号已存在: 20210001");
+        });
+        StudentService typedService = mock(StudentService.class);
+        when(typedService.createStudent(any()))
+                .thenThrow(StudentConflictException.duplicateStudentNumber("20210001"));
+
+        String body = "{\"name\":\"张三\",\"studentNumber\":\"20210001\",\"age\":20,"
+                + "\"gender\":\"男\",\"major\":\"计算机科学与技术\"}";
+        double legacyOps = measure("MockMvc 带堆栈异常",
+                request(legacyService, body, HttpStatus.INTERNAL_SERVER_ERROR), REQUEST_ITERATIONS);
+        double typedOps = measure("MockMvc 类型化异常",
+                request(typedService, body, HttpStatus.CONFLICT), REQUEST_ITERATIONS);
+        System.out.printf("提升倍数: %.1fx%n", typedOps / legacyOps);
+    }
+
+    private static IntSupplier request(StudentService service, String body, HttpStatus expected) {
+        StudentController controller = new StudentController();
+        ReflectionTestUtils.setField(controller, "studentService", service);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        return () -> {
+            try {
+                int status = mockMvc.perform(post("/api/students")
+                                .contentType(MediaType.APPLICATION_JSON).content(body))
+                        .andReturn().getResponse().getStatus();
+                assertEquals(expected.value(), status);
+                return status;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    private static int atDepth(int depth, IntSupplier action) {
+        return depth == 0 ? action.getAsInt() : atDepth(depth - 1, action);
+    }
+
+    private static double measure(String name, IntSupplier action, int iterations) {
+        long sink = 0;
+        // 预热
+        for (int i = 0; i < iterations / 4; i++) {
+            sink += action.getAsInt();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += action.getAsInt();
+        }
+        long elapsed = System.nanoTime() - start;
+        double opsPerSecond = iterations * 1e9 / elapsed;
+        System.out.printf("%-28s %,12.0f 次/秒 (sink=%d)%n", name, opsPerSecond, sink);
+        return opsPerSecond;
+    }
+}
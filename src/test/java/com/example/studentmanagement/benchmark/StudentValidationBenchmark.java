@@ -0,0 +1,77 @@
+package com.example.studentmanagement.benchmark;
+
+import com.example.studentmanagement.dto.StudentDTO;
+import com.example.studentmanagement.validation.StudentDTOValidator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import java.util.function.IntSupplier;
+
+/**
+ * StudentDTO 校验吞吐量基准测试
+ * 
+ * 对比 Hibernate Validator 与快速校验器在合法数据、非法数据两种情况下的每秒校验次数。
+ * 运行方式：mvn test -Pbenchmark
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Tag("benchmark")
+class StudentValidationBenchmark {
+
+    private static final int ITERATIONS = 1_000_000;
+
+    @Test
+    void benchmarkValidation() {
+        StudentDTOValidator fastValidator = new StudentDTOValidator();
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            Validator beanValidator = factory.getValidator();
+
+            StudentDTO valid = student("zhangsan@example.com", "13800138000");
+            StudentDTO invalid = student("zhangsan@", "12800138000");
+
+            double beanValidOps = measure("Hibernate Validator 合法数据",
+                    () -> beanValidator.validate(valid).size());
+            double fastValidOps = measure("快速校验器 合法数据",
+                    () -> fastValidator.validate(valid).size());
+            System.out.printf("提升倍数: %.1fx%n", fastValidOps / beanValidOps);
+
+            double beanInvalidOps = measure("Hibernate Validator 非法数据",
+                    () -> beanValidator.validate(invalid).size());
+            double fastInvalidOps = measure("快速校验器 非法数据",
+                    () -> fastValidator.validate(invalid).size());
+            System.out.printf("提升倍数: %.1fx%n", fastInvalidOps / beanInvalidOps);
+        }
+    }
+
+    private static StudentDTO student(String email, String phone) {
+        StudentDTO studentDTO = new StudentDTO();
+        studentDTO.setName("张三");
+        studentDTO.setStudentNumber("20210001");
+        studentDTO.setAge(20);
+        studentDTO.setGender("男");
+        studentDTO.setMajor("计算机科学与技术");
+        studentDTO.setEmail(email);
+        studentDTO.setPhone(phone);
+        return studentDTO;
+    }
+
+    private static double measure(String name, IntSupplier action) {
+        long sink = 0;
+        // 预热
+        for (int i = 0; i < ITERATIONS / 4; i++) {
+            sink += action.getAsInt();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += action.getAsInt();
+        }
+        long elapsed = System.nanoTime() - start;
+        double opsPerSecond = ITERATIONS * 1e9 / elapsed;
+        System.out.printf("%-28s %,12.0f 次/秒 (sink=%d)%n", name, opsPerSecond, sink);
+        return opsPerSecond;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.studentmanagement.benchmark;
+
+import com.example.studentmanagement.util.PinyinKeys;
+import com.example.studentmanagement.util.PrefixIndex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 搜索联想基准测试
+ * 
+ * 用 10 万个随机姓名建立前缀索引，比较前缀索引与逐个扫描（相当于 LIKE 'xx%' 全表扫描）
+ * 的单次联想耗时。
+ * 运行方式：mvn test -Pbenchmark -Dtest=SuggestBenchmark
+ * 
+ * @author System
+ * @version 1.0
+ */
+@Tag("benchmark")
+class SuggestBenchmark {
+
+    private static final int STUDENTS = 100_000;
+    private static final int QUERIES = 20_000;
+    private static final int LIMIT = 10;
+
+    private static final String SURNAMES = "王李张刘陈杨黄赵吴周徐孙马朱胡郭何高林罗郑梁谢宋唐许韩冯邓曹彭曾萧田董袁潘";
+    private static final String GIVEN = "伟芳娜敏静丽强磊军洋勇艳杰娟涛明超秀霞平刚桂英华玉兰萍红鹏辉建国晨宇轩浩然子涵思雨";
+
+    @Test
+    void benchmarkSuggest() {
+        Random random = new Random(42);
+        String[] names = new String[STUDENTS];
+        String[][] keys = new String[STUDENTS][];
+        PrefixIndex<Long> index = new PrefixIndex<>();
+        long buildStart = System.nanoTime();
+        for (int i = 0; i < STUDENTS; i++) {
+            names[i] = randomName(random);
+            keys[i] = PinyinKeys.keysOf(names[i]).toArray(new String[0]);
+            index.put((long) i, Arrays.asList(keys[i]));
+        }
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        String[] queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String[] candidate = keys[random.nextInt(STUDENTS)];
+            String key = candidate[random.nextInt(candidate.length)];
+            queries[i] = key.substring(0, 1 + random.nextInt(Math.min(3, key.length())));
+        }
+
+        // 预热
+        long sink = 0;
+        for (int round = 0; round < 3; round++) {
+            for (String query : queries) {
+                sink += index.search(query, LIMIT).size();
+            }
+        }
+        long start = System.nanoTime();
+        for (String query : queries) {
+            sink += index.search(query, LIMIT).size();
+        }
+        double indexMicros = (System.nanoTime() - start) / 1000.0 / QUERIES;
+
+        int scanQueries = QUERIES / 100;
+        start = System.nanoTime();
+        for (int q = 0; q < scanQueries; q++) {
+            sink += scan(keys, queries[q]);
+        }
+        double scanMicros = (System.nanoTime() - start) / 1000.0 / scanQueries;
+
+        System.out.printf("学生数 %d，建索引 %d ms%n", STUDENTS, buildMillis);
+        System.out.printf("前缀索引: %.1f µs/次%n", indexMicros);
+        System.out.printf("逐个扫描: %.1f µs/次（%.0f 倍）%n", scanMicros, scanMicros / indexMicros);
+        System.out.println("校验值: " + sink);
+    }
+
+    private static int scan(String[][] keys, String prefix) {
+        int matched = 0;
+        for (String[] studentKeys : keys) {
+            for (String key : studentKeys) {
+                if (key.startsWith(prefix)) {
+                    matched++;
+                    break;
+                }
+            }
+        }
+        return Math.min(matched, LIMIT);
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder().append(SURNAMES.charAt(random.nextInt(SURNAMES.length())));
+        int given = 1 + random.nextInt(2);
+        for (int i = 0; i < given; i++) {
+            name.append(GIVEN.charAt(random.nextInt(GIVEN.length())));
+        }
+        return name.toString();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.studentmanagement.config;
+
+import com.example.studentmanagement.util.QueryCounter;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * SQL语句计数测试配置
+ *
+ * 用 {@link QueryCounter} 包装应用的数据源，测试类通过 @Import 引入后注入 QueryCounter 断言语句数
+ *
+ * @author System
+ * @version 1.0
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class QueryCountingConfig {
+
+    @Bean
+    public static QueryCounter queryCounter() {
+        return new QueryCounter();
+    }
+
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor(QueryCounter queryCounter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource && "dataSource".equals(beanName)
+                        ? queryCounter.wrap((DataSource) bean) : bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.studentmanagement.config;
+
+import com.example.studentmanagement.dto.StudentDTO;
+import com.example.studentmanagement.service.StudentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.Cookie;
+import javax.sql.DataSource;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 读写分离路由测试类
+ *
+ * 主库和副本是两个独立的H2内存库，通过 DATABASE() 判断语句实际落在哪个库上。
+ * 定时同步间隔设为1小时，测试中手动调用同步；读己之写窗口（也是缓存二次失效的延迟）为2秒。测试框架默认为每个测试绑定一个模拟请求，
+ * 需要模拟不同请求时重新绑定；跨请求的读己之写通过 MockMvc 发出独立的HTTP请求验证。
+ *
+ * @author System
+ * @version 1.0
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary",
+        "app.datasource.routing.enabled=true",
+        "app.datasource.read-your-writes-window=2000",
+        "app.datasource.local-sync-interval=3600000",
+        "app.datasource.replicas[0].url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureMockMvc
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String PRIMARY = "ROUTING-PRIMARY";
+    private static final String REPLICA = "ROUTING-REPLICA";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private H2ReplicaSynchronizer replicaSynchronizer;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final JdbcTemplate replicaJdbc =
+            new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:routing-replica", "sa", ""));
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testReadOnlyGoesToReplicaAndWriteToPrimary() {
+        RequestContextHolder.resetRequestAttributes();
+        assertEquals(REPLICA, databaseIn(true));
+        assertEquals(PRIMARY, databaseIn(false));
+    }
+
+    @Test
+    void testServiceWritesPrimaryAndReadsReplicaUntilSynced() throws Exception {
+        // 准备
+        String studentNumber = "20996001";
+
+        // 执行
+        studentService.createStudent(newStudent(studentNumber));
+        bindRequest(null);
+
+        // 验证：写入只落在主库，同步前其他请求的只读事务（副本）读不到
+        assertEquals(1, countIn(new JdbcTemplate(primaryDataSource), studentNumber));
+        assertEquals(0, countIn(replicaJdbc, studentNumber));
+        assertTrue(studentService.getStudentByStudentNumber(studentNumber).isEmpty());
+
+        // 同步后，缓存中从副本读到的旧结果在二次失效后不再返回
+        replicaSynchronizer.sync();
+        assertEquals(1, countIn(replicaJdbc, studentNumber));
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (studentService.getStudentByStudentNumber(studentNumber).isEmpty()) {
+            assertTrue(System.currentTimeMillis() < deadline, "副本同步后仍读到缓存的旧结果");
+            Thread.sleep(100);
+        }
+    }
+
+    @Test
+    void testReadYourWritesIsScopedToRequest() {
+        // 准备
+        bindRequest(null);
+
+        // 执行：本请求内写事务提交后，只读事务走主库
+        assertEquals(PRIMARY, databaseIn(false));
+        String sameRequest = databaseIn(true);
+
+        // 另一个请求、以及没有请求上下文的调用不受影响
+        bindRequest(null);
+        String otherRequest = databaseIn(true);
+        RequestContextHolder.resetRequestAttributes();
+        String noRequest = databaseIn(true);
+
+        // 验证
+        assertEquals(PRIMARY, sameRequest);
+        assertEquals(REPLICA, otherRequest);
+        assertEquals(REPLICA, noRequest);
+    }
+
+    @Test
+    void testReadYourWritesFollowsCookie() {
+        // 准备
+        Cookie recent = new Cookie(ReadWriteRoutingDataSource.LAST_WRITE_COOKIE,
+                Long.toString(System.currentTimeMillis()));
+        Cookie expired = new Cookie(ReadWriteRoutingDataSource.LAST_WRITE_COOKIE,
+                Long.toString(System.currentTimeMillis() - 10_000));
+        Cookie forged = new Cookie(ReadWriteRoutingDataSource.LAST_WRITE_COOKIE,
+                Long.toString(System.currentTimeMillis() + 3_600_000));
+
+        // 执行
+        bindRequest(recent);
+        String withRecentWrite = databaseIn(true);
+        bindRequest(expired);
+        String withExpiredWrite = databaseIn(true);
+        bindRequest(forged);
+        String withForgedWrite = databaseIn(true);
+
+        // 验证
+        assertEquals(PRIMARY, withRecentWrite);
+        assertEquals(REPLICA, withExpiredWrite);
+        assertEquals(REPLICA, withForgedWrite);
+    }
+
+    @Test
+    void testWriteThenReadInSeparateHttpRequests() throws Exception {
+        // 准备：另一个客户端直接写入的学生，用于确认副本尚未同步
+        studentService.createStudent(newStudent("20996002"));
+
+        // 执行：第一个请求创建学生，第二个请求带着返回的Cookie按学号查询
+        MvcResult created = mockMvc.perform(post("/api/students")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(newStudent("20996003"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Cookie lastWrite = created.getResponse().getCookie(ReadWriteRoutingDataSource.LAST_WRITE_COOKIE);
+
+        // 验证：写入方的下一个请求读主库，其他客户端仍读副本（尚未同步）
+        assertNotNull(lastWrite);
+        assertTrue(lastWrite.getMaxAge() > 0);
+        mockMvc.perform(get("/api/students/number/20996003").cookie(lastWrite))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/students/number/20996002"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testReadYourWritesRequestsBypassSingleFlight() throws Exception {
+        // 准备
+        Cookie lastWrite = new Cookie(ReadWriteRoutingDataSource.LAST_WRITE_COOKIE,
+                Long.toString(System.currentTimeMillis()));
+        double bypassed = singleFlightCalls("bypassed");
+        double executed = singleFlightCalls("executed");
+
+        // 执行
+        mockMvc.perform(get("/api/students/number/20210001").cookie(lastWrite));
+        mockMvc.perform(get("/api/students/number/20210001"));
+
+        // 验证：窗口内的请求不参与合并，不会复用其他请求从副本读到的结果
+        assertEquals(bypassed + 1, singleFlightCalls("bypassed"));
+        assertEquals(executed + 1, singleFlightCalls("executed"));
+    }
+
+    private double singleFlightCalls(String result) {
+        return meterRegistry.find("student.singleflight.calls").tag("result", result).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+
+    /**
+     * 在只读或读写事务中查询当前连接所在的数据库；读写事务执行一次无实际影响的更新
+     */
+    private String databaseIn(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> {
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            if (!readOnly) {
+                jdbc.update("UPDATE students SET age = age WHERE id = -1");
+            }
+            return jdbc.queryForObject("SELECT DATABASE()", String.class);
+        });
+    }
+
+    private static void bindRequest(Cookie cookie) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (cookie != null) {
+            request.setCookies(cookie);
+        }
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private static int countIn(JdbcTemplate jdbc, String studentNumber) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM students WHERE student_number = ?", Integer.class,
+                studentNumber);
+    }
+
+    private static StudentDTO newStudent(String studentNumber) {
+        StudentDTO student = new StudentDTO();
+        student.setName("路由测试");
+        student.setStudentNumber(studentNumber);
+        student.setAge(20);
+        student.setGender("男");
+        student.setMajor("软件工程");
+        student.setEmail("routing@example.com");
+        student.setEnrollmentDate(LocalDate.of(2024, 9, 1));
+        return student;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.studentmanagement.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 学生查询接口测试类
+ *
+ * 覆盖列表、分页和搜索接口的 fields 参数（只返回请求的字段）以及按专业排序
+ *
+ * @author System
+ * @version 1.0
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:student-controller")
+@AutoConfigureMockMvc
+class StudentControllerTest {
+
+    private static final String[] ENDPOINTS = {"/api/students", "/api/students/page", "/api/students/search"};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testListReturnsOnlyRequestedFields() throws Exception {
+        // 执行
+        JsonNode students = getData("/api/students?fields=id,name");
+
+        // 验证
+        assertEquals(studentCount(), students.size());
+        for (JsonNode student : students) {
+            assertEquals(Set.of("id", "name"), fieldNames(student));
+        }
+    }
+
+    @Test
+    void testPageAndSearchReturnOnlyRequestedFields() throws Exception {
+        // 执行
+        JsonNode page = getData("/api/students/page?fields=studentNumber,major&withTotal=false");
+        JsonNode search = getData("/api/students/search?major=软件工程&fields=name");
+
+        // 验证
+        assertFalse(page.path("items").isEmpty());
+        for (JsonNode student : page.path("items")) {
+            assertEquals(Set.of("studentNumber", "major"), fieldNames(student));
+        }
+        assertFalse(search.path("items").isEmpty());
+        for (JsonNode student : search.path("items")) {
+            assertEquals(Set.of("name"), fieldNames(student));
+        }
+    }
+
+    @Test
+    void testUnknownOrRepeatedFieldIsRejected() throws Exception {
+        // 执行和验证
+        for (String endpoint : ENDPOINTS) {
+            mockMvc.perform(get(endpoint).param("fields", "name,password"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value(400));
+            mockMvc.perform(get(endpoint).param("fields", "name, name"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value(400));
+        }
+    }
+
+    @Test
+    void testSortByMajorKeepsAllRowsAndMatchesTotal() throws Exception {
+        // 准备
+        long total = studentCount();
+        String[] queries = {
+                "/api/students/page?sortBy=major&size=100",
+                "/api/students/page?sortBy=major&size=100&withTotal=false",
+                "/api/students/page?sortBy=major&size=100&fields=id,major",
+                "/api/students/search?sortBy=major&sortDir=desc&size=100",
+                "/api/students/search?sortBy=major&size=100&fields=major&withTotal=false"};
+
+        for (String query : queries) {
+            // 执行
+            JsonNode page = getData(query);
+
+            // 验证：按专业名称排序，返回的行数与总数一致
+            List<String> majors = new ArrayList<>();
+            page.path("items").forEach(student -> majors.add(student.path("major").asText()));
+            assertEquals(total, majors.size(), query);
+            if (!page.path("total").isMissingNode()) {
+                assertEquals(total, page.path("total").asLong(), query);
+            }
+            List<String> sorted = new ArrayList<>(majors);
+            sorted.sort(query.contains("desc") ? Comparator.reverseOrder() : null);
+            assertEquals(sorted, majors, query);
+        }
+    }
+
+    private JsonNode getData(String url) throws Exception {
+        String body = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return objectMapper.readTree(body).path("data");
+    }
+
+    private long studentCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM students", Long.class);
+    }
+
+    private static Set<String> fieldNames(JsonNode student) {
+        Set<String> names = new TreeSet<>();
+        student.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.studentmanagement.controller;
+
+import com.example.studentmanagement.dto.StudentDTO;
+import com.example.studentmanagement.service.StudentService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 学生CSV导入导出接口测试类
+ *
+ * 通过真实的Servlet容器发送请求：全局上传限制设为1KB，CSV导入接口的上传限制为1MB
+ *
+ * @author System
+ * @version 1.0
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:csv-controller",
+        "spring.servlet.multipart.max-file-size=1KB",
+        "spring.servlet.multipart.max-request-size=1KB",
+        "app.csv.max-upload-size=1MB"
+})
+class StudentCsvControllerTest {
+
+    private static final String HEADER = "name,studentNumber,age,gender,major,email,phone,enrollmentDate\n";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testImportCountsDuplicatesAndInvalidRowsAndWritesChangeLog() throws Exception {
+        // 准备：已存在的学号、文件内重复的学号、年龄不合法的行各一
+        long token = studentService.getChangesSince(0, 0, Integer.MAX_VALUE).getNextToken();
+        String csv = HEADER
+                + "导入一,20998001,20,男,人工智能,import1@example.com,13800000001,2024-09-01\n"
+                + "导入二,20998002,21,女,人工智能,import2@example.com,13800000002,2024-09-01\n"
+                + "重复库内,20210001,20,男,人工智能,dup1@example.com,13800000003,2024-09-01\n"
+                + "重复文件内,20998001,20,男,人工智能,dup2@example.com,13800000004,2024-09-01\n"
+                + "年龄非法,20998003,-5,男,人工智能,bad@example.com,13800000005,2024-09-01\n";
+
+        // 执行
+        ResponseEntity<String> response = upload("/api/students/import", csv);
+
+        // 验证
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        JsonNode result = objectMapper.readTree(response.getBody()).path("data");
+        assertEquals(5, result.path("totalRows").asLong());
+        assertEquals(2, result.path("importedRows").asLong());
+        assertEquals(2, result.path("duplicateRows").asLong());
+        assertEquals(1, result.path("invalidRows").asLong());
+
+        List<String> changed = studentService.getChangesSince(token, 0, 100).getChanged().stream()
+                .map(StudentDTO::getStudentNumber).sorted().collect(Collectors.toList());
+        assertEquals(List.of("20998001", "20998002"), changed);
+    }
+
+    @Test
+    void testImportEvictsCachedQueries() throws Exception {
+        // 准备：先查询一次，使结果进入查询缓存
+        String url = "/api/students/search?major=人工智能&size=100";
+        long before = totalOf(restTemplate.getForEntity(url, String.class));
+        String csv = HEADER + "缓存一,20998101,20,男,人工智能,cache1@example.com,13800000011,2024-09-01\n";
+
+        // 执行
+        ResponseEntity<String> response = upload("/api/students/import", csv);
+
+        // 验证
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(before + 1, totalOf(restTemplate.getForEntity(url, String.class)));
+    }
+
+    @Test
+    void testExportStreamsAllStudents() {
+        // 准备
+        long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM students", Long.class);
+
+        // 执行
+        ResponseEntity<String> response = restTemplate.getForEntity("/api/students/export", String.class);
+
+        // 验证
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION).contains("students.csv"));
+        assertTrue(response.getHeaders().getContentType().isCompatibleWith(MediaType.parseMediaType("text/csv")));
+        String[] lines = response.getBody().split("\n");
+        assertEquals(HEADER.trim(), lines[0]);
+        assertEquals(total, lines.length - 1);
+    }
+
+    @Test
+    void testUploadLimitIsRaisedOnlyForImport() {
+        // 准备：约5KB的上传内容，超过全局限制但低于导入接口限制
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 60; i++) {
+            csv.append(String.format("限制%02d,2099%04d,20,男,人工智能,limit%d@example.com,13800000000,2024-09-01%n",
+                    i, 8200 + i, i));
+        }
+
+        // 执行
+        ResponseEntity<String> imported = upload("/api/students/import", csv.toString());
+        ResponseEntity<String> rejected = upload("/api/students", csv.toString());
+
+        // 验证
+        assertEquals(HttpStatus.OK, imported.getStatusCode());
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, rejected.getStatusCode());
+    }
+
+    private ResponseEntity<String> upload(String path, String content) {
+        ByteArrayResource file = new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return "students.csv";
+            }
+        };
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("file", file);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        return restTemplate.postForEntity(path, new HttpEntity<>(body, headers), String.class);
+    }
+
+    private long totalOf(ResponseEntity<String> response) throws Exception {
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        return objectMapper.readTree(response.getBody()).path("data").path("total").asLong();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.studentmanagement.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 性别编码转换器测试类
+ *
+ * @author System
+ * @version 1.0
+ */
+class GenderConverterTest {
+
+    private final GenderConverter converter = new GenderConverter();
+
+    @Test
+    void testKnownGendersRoundTrip() {
+        // 执行和验证
+        assertEquals(GenderConverter.MALE_CODE, converter.convertToDatabaseColumn("男"));
+        assertEquals(GenderConverter.FEMALE_CODE, converter.convertToDatabaseColumn("女"));
+        assertSame(GenderConverter.MALE, converter.convertToEntityAttribute(GenderConverter.MALE_CODE));
+        assertSame(GenderConverter.FEMALE, converter.convertToEntityAttribute(GenderConverter.FEMALE_CODE));
+    }
+
+    @Test
+    void testUnknownValues() {
+        // 执行和验证：无法识别的性别编码为0，无法识别的编码读出为null
+        assertEquals(GenderConverter.UNKNOWN_CODE, converter.convertToDatabaseColumn("未知"));
+        assertEquals(GenderConverter.UNKNOWN_CODE, converter.convertToDatabaseColumn(""));
+        assertNull(converter.convertToEntityAttribute(GenderConverter.UNKNOWN_CODE));
+        assertNull(converter.convertToEntityAttribute((byte) 9));
+    }
+
+    @Test
+    void testNullValues() {
+        // 执行和验证
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+}
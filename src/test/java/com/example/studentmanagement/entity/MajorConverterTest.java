@@ -0,0 +1,50 @@
+package com.example.studentmanagement.entity;
+
+import com.example.studentmanagement.repository.MajorDictionary;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 专业字典编码转换器测试类
+ *
+ * @author System
+ * @version 1.0
+ */
+class MajorConverterTest {
+
+    private final MajorDictionary majorDictionary = mock(MajorDictionary.class);
+
+    private final MajorConverter converter = new MajorConverter(majorDictionary);
+
+    @Test
+    void testConvertsThroughDictionary() {
+        // 准备
+        when(majorDictionary.idOf("软件工程")).thenReturn(2);
+        when(majorDictionary.nameOf(2)).thenReturn("软件工程");
+
+        // 执行和验证
+        assertEquals(2, converter.convertToDatabaseColumn("软件工程"));
+        assertEquals("软件工程", converter.convertToEntityAttribute(2));
+    }
+
+    @Test
+    void testUnknownMajorDoesNotRegister() {
+        // 准备
+        when(majorDictionary.idOf("不存在的专业")).thenReturn(MajorDictionary.UNKNOWN_ID);
+
+        // 执行和验证：查询条件中的未知专业转换为不存在的ID，不会新增专业
+        assertEquals(MajorDictionary.UNKNOWN_ID, converter.convertToDatabaseColumn("不存在的专业"));
+        assertNull(converter.convertToEntityAttribute(999));
+        verify(majorDictionary, never()).register(anyString());
+    }
+
+    @Test
+    void testNullValues() {
+        // 执行和验证
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+        verifyNoInteractions(majorDictionary);
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.studentmanagement.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 准入控制过滤器测试类
+ *
+ * 扫描类接口的固定并发上限设为1，用阻塞的接口占住唯一的名额
+ *
+ * @author System
+ * @version 1.0
+ */
+class AdmissionControlFilterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AdmissionControlFilter filter = new AdmissionControlFilter(new ObjectMapper(), meterRegistry,
+            20, 4, 200, 0.2, 10, 10, 1, 2);
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testClassify() {
+        assertEquals(AdmissionControlFilter.EndpointClass.POINT, classify("GET", "/api/students/42"));
+        assertEquals(AdmissionControlFilter.EndpointClass.POINT, classify("GET", "/api/students/number/20210001"));
+        assertEquals(AdmissionControlFilter.EndpointClass.POINT, classify("GET", "/api/students/suggest"));
+        assertEquals(AdmissionControlFilter.EndpointClass.POINT, classify("GET", "/api/jobs/7"));
+        assertEquals(AdmissionControlFilter.EndpointClass.SCAN, classify("GET", "/api/students"));
+        assertEquals(AdmissionControlFilter.EndpointClass.SCAN, classify("GET", "/api/students/statistics"));
+        assertEquals(AdmissionControlFilter.EndpointClass.SCAN, classify("POST", "/api/students/lookup"));
+        assertEquals(AdmissionControlFilter.EndpointClass.WRITE, classify("POST", "/api/students"));
+        assertEquals(AdmissionControlFilter.EndpointClass.WRITE, classify("DELETE", "/api/students/42"));
+    }
+
+    @Test
+    void testSaturatedClassIsRejectedWithRetryAfter() throws Exception {
+        // 准备
+        SlowController controller = new SlowController();
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).addFilters(filter).build();
+        Future<MvcResult> slow = executor.submit(() -> mockMvc.perform(get("/api/students")).andReturn());
+        assertTrue(controller.entered.await(10, TimeUnit.SECONDS));
+
+        // 执行和验证：同级请求立即拒绝，单条查询不受影响
+        mockMvc.perform(get("/api/students"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                .andExpect(jsonPath("$.code").value(503));
+        mockMvc.perform(get("/api/students/1"))
+                .andExpect(status().isOk());
+        assertEquals(1.0, meterRegistry.get("student.admission.rejected").tag("endpoint", "scan").counter().count());
+
+        // 占用的请求结束后名额归还
+        controller.release.countDown();
+        assertEquals(200, slow.get(10, TimeUnit.SECONDS).getResponse().getStatus());
+        mockMvc.perform(get("/api/students"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testAsyncRequestHoldsPermitUntilCompleted() throws Exception {
+        // 准备
+        MockHttpServletRequest export = new MockHttpServletRequest("GET", "/api/students/export");
+        export.setAsyncSupported(true);
+
+        // 执行：处理线程返回时响应体还在异步写出
+        filter.doFilter(export, new MockHttpServletResponse(), (request, response) -> request.startAsync());
+
+        // 验证
+        assertEquals(1.0, inFlight());
+        assertEquals(503, scan().getStatus());
+
+        export.getAsyncContext().complete();
+        assertEquals(0.0, inFlight());
+        assertEquals(200, scan().getStatus());
+    }
+
+    private AdmissionControlFilter.EndpointClass classify(String method, String uri) {
+        return filter.classify(new MockHttpServletRequest(method, uri));
+    }
+
+    private MockHttpServletResponse scan() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/students"), response, new MockFilterChain());
+        return response;
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("student.admission.inflight").gauge().value();
+    }
+
+    @RestController
+    static class SlowController {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @GetMapping("/api/students")
+        public String list() throws InterruptedException {
+            entered.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return "ok";
+        }
+
+        @GetMapping("/api/students/{id}")
+        public String get(@PathVariable Long id) {
+            return "ok";
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.studentmanagement.id;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 主键生成配置测试类
+ *
+ * @author System
+ * @version 1.0
+ */
+class IdGeneratorConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(IdGeneratorConfig.class);
+
+    @Test
+    void testSingleNodeDefaultsToNodeZero() {
+        // 执行和验证
+        contextRunner.run(context -> assertEquals(0,
+                SnowflakeIdGenerator.nodeIdOf(context.getBean(IdGenerator.class).nextId())));
+    }
+
+    @Test
+    void testRefusesToStartWithoutNodeIdWhenMultiNode() {
+        // 执行和验证：开启缓存失效总线或分片时未配置节点号，启动失败
+        for (String flag : new String[]{"app.cache-bus.enabled=true", "app.sharding.enabled=true"}) {
+            contextRunner.withPropertyValues(flag).run(context -> {
+                assertNotNull(context.getStartupFailure());
+                assertTrue(rootCause(context.getStartupFailure()).getMessage()
+                        .contains("app.id-generator.node-id"));
+            });
+        }
+    }
+
+    @Test
+    void testExplicitNodeIdWhenMultiNode() {
+        // 执行和验证
+        contextRunner.withPropertyValues("app.cache-bus.enabled=true", "app.id-generator.node-id=7")
+                .run(context -> assertEquals(7,
+                        SnowflakeIdGenerator.nodeIdOf(context.getBean(IdGenerator.class).nextId())));
+    }
+
+    private static Throwable rootCause(Throwable ex) {
+        Throwable cause = ex;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.studentmanagement.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 雪花算法ID生成器测试类
+ *
+ * @author System
+ * @version 1.0
+ */
+class SnowflakeIdGeneratorTest {
+
+    private static final long EPOCH = 1_700_000_000_000L;
+
+    @Test
+    void testIdsIncreaseWithinSafeIntegerRange() {
+        // 准备：时钟停在同一毫秒，第129次调用后前进1毫秒
+        AtomicLong calls = new AtomicLong();
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(5, EPOCH, 10,
+                () -> calls.incrementAndGet() <= 129 ? EPOCH + 1_000 : EPOCH + 1_001);
+
+        // 执行
+        Set<Long> ids = new HashSet<>();
+        long previous = -1;
+        for (int i = 0; i < 200; i++) {
+            long id = generator.nextId();
+            // 验证
+            assertTrue(id > previous);
+            assertTrue(id < (1L << 53));
+            assertEquals(5, SnowflakeIdGenerator.nodeIdOf(id));
+            ids.add(id);
+            previous = id;
+        }
+        assertEquals(200, ids.size());
+        assertEquals(EPOCH + 1_000, generator.timestampOf(ids.stream().min(Long::compare).orElseThrow()));
+        // 序号用尽后等待下一毫秒
+        assertTrue(generator.timestampOf(previous) > EPOCH + 1_000);
+    }
+
+    @Test
+    void testSmallClockBackwardWaitsForClockToCatchUp() {
+        // 准备
+        AtomicLong now = new AtomicLong(EPOCH + 1_000);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, EPOCH, 10, now::getAndIncrement);
+        long before = generator.nextId();
+
+        // 执行：时钟回拨5毫秒，之后每次读取前进1毫秒
+        now.addAndGet(-6);
+        long after = generator.nextId();
+
+        // 验证
+        assertTrue(after > before);
+        assertTrue(generator.timestampOf(after) >= generator.timestampOf(before));
+    }
+
+    @Test
+    void testLargeClockBackwardIsRejected() {
+        // 准备
+        AtomicLong now = new AtomicLong(EPOCH + 60_000);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, EPOCH, 10, now::get);
+        generator.nextId();
+
+        // 执行
+        now.addAndGet(-1_000);
+
+        // 验证
+        assertThrows(IllegalStateException.class, generator::nextId);
+    }
+
+    @Test
+    void testDifferentNodesNeverCollide() {
+        // 准备：两个节点共用同一时钟
+        AtomicLong now = new AtomicLong(EPOCH + 1_000);
+        SnowflakeIdGenerator first = new SnowflakeIdGenerator(1, EPOCH, 10, now::get);
+        SnowflakeIdGenerator second = new SnowflakeIdGenerator(2, EPOCH, 10, now::get);
+
+        // 执行
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            ids.add(first.nextId());
+            ids.add(second.nextId());
+        }
+
+        // 验证
+        assertEquals(200, ids.size());
+        assertThrows(IllegalArgumentException.class,
+                () -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1, EPOCH, 10));
+    }
+}
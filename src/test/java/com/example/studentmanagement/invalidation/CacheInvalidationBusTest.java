@@ -0,0 +1,267 @@
+package com.example.studentmanagement.invalidation;
+
+import com.example.studentmanagement.StudentManagementApplication;
+import com.example.studentmanagement.dto.CrossTabDimension;
+import com.example.studentmanagement.dto.StudentDTO;
+import com.example.studentmanagement.entity.Student;
+import com.example.studentmanagement.event.StudentCacheInvalidationEvent;
+import com.example.studentmanagement.service.StudentService;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 跨实例缓存失效测试类
+ *
+ * 同一 JVM 中启动两个应用上下文模拟两个实例：共用一个数据库，各自持有独立的二级缓存，
+ * 通过进程内传输互发失效消息。
+ *
+ * @author System
+ * @version 1.0
+ */
+class CacheInvalidationBusTest {
+
+    private static final List<List<CrossTabDimension>> BY_MAJOR =
+            Collections.singletonList(Collections.singletonList(CrossTabDimension.MAJOR));
+
+    private static final List<CacheManager> CACHE_MANAGERS = new ArrayList<>();
+
+    private static String channel;
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() throws Exception {
+        channel = "cache-bus-test-" + UUID.randomUUID();
+        nodeA = startNode(1, true, false);
+        nodeB = startNode(2, false, false);
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeB.close();
+        nodeA.close();
+        CACHE_MANAGERS.forEach(CacheManager::close);
+    }
+
+    @Test
+    void testWriteOnOneNodeInvalidatesOtherNodeCaches() throws Exception {
+        // 准备：实例B缓存学生1和按专业统计的结果
+        StudentService serviceA = nodeA.getBean(StudentService.class);
+        StudentService serviceB = nodeB.getBean(StudentService.class);
+        CacheInvalidationBus busB = nodeB.getBean(CacheInvalidationBus.class);
+        StudentDTO student = serviceB.getStudentById(1L).orElseThrow();
+        long total = serviceB.getCrossTab(BY_MAJOR, false).getTotal();
+        Statistics statistics = sessionFactory(nodeB).getStatistics();
+        statistics.clear();
+        serviceB.getStudentById(1L);
+        serviceB.getCrossTab(BY_MAJOR, false);
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        long appliedBefore = busB.getAppliedCount();
+        long gapsBefore = busB.getGapCount();
+
+        // 执行：在实例A修改学生1并新增一个学生
+        student.setName("跨实例修改");
+        serviceA.updateStudent(1L, student);
+        serviceA.createStudent(newStudent());
+
+        // 验证：实例B收到两条消息后读到最新数据
+        await(() -> busB.getAppliedCount() >= appliedBefore + 2);
+        assertEquals("跨实例修改", serviceB.getStudentById(1L).orElseThrow().getName());
+        assertEquals(total + 1, serviceB.getCrossTab(BY_MAJOR, false).getTotal());
+        assertEquals(gapsBefore, busB.getGapCount());
+    }
+
+    @Test
+    void testSequenceDropsStaleMessagesAndFlushesOnGap() {
+        // 准备
+        CacheInvalidationBus bus = nodeB.getBean(CacheInvalidationBus.class);
+        nodeB.getBean(StudentService.class).getStudentById(2L);
+        SessionFactory sessionFactory = sessionFactory(nodeB);
+        assertTrue(sessionFactory.getCache().containsEntity(Student.class, 2L));
+        String origin = "test-" + UUID.randomUUID();
+        long applied = bus.getAppliedCount();
+        long stale = bus.getStaleCount();
+        long gaps = bus.getGapCount();
+
+        // 执行和验证：序号1按内容失效（不涉及学生2）
+        bus.receive(message(origin, 1, 3L));
+        assertTrue(sessionFactory.getCache().containsEntity(Student.class, 2L));
+
+        // 序号3说明序号2丢失，整体清空
+        bus.receive(message(origin, 3, 3L));
+        assertFalse(sessionFactory.getCache().containsEntity(Student.class, 2L));
+
+        // 迟到的序号2和重复的序号3丢弃
+        bus.receive(message(origin, 2, 2L));
+        bus.receive(message(origin, 3, 2L));
+        assertEquals(applied + 2, bus.getAppliedCount());
+        assertEquals(gaps + 1, bus.getGapCount());
+        assertEquals(stale + 2, bus.getStaleCount());
+    }
+
+    @Test
+    void testHeartbeatFlushesOnLostTrailingMessage() {
+        // 准备：实例B缓存学生2，已收到某实例的序号1
+        CacheInvalidationBus bus = nodeB.getBean(CacheInvalidationBus.class);
+        nodeB.getBean(StudentService.class).getStudentById(2L);
+        SessionFactory sessionFactory = sessionFactory(nodeB);
+        String origin = "test-" + UUID.randomUUID();
+        bus.receive(message(origin, 1, 3L));
+        assertTrue(sessionFactory.getCache().containsEntity(Student.class, 2L));
+        long gaps = bus.getGapCount();
+        long stale = bus.getStaleCount();
+
+        // 执行和验证：心跳序号与已处理序号一致，不失效
+        bus.receive(InvalidationMessage.heartbeat(origin, 1));
+        assertTrue(sessionFactory.getCache().containsEntity(Student.class, 2L));
+
+        // 心跳序号为2，说明最后一条消息（序号2）丢失，整体清空
+        bus.receive(InvalidationMessage.heartbeat(origin, 2));
+        assertFalse(sessionFactory.getCache().containsEntity(Student.class, 2L));
+
+        // 之后迟到的序号2按重复丢弃
+        bus.receive(message(origin, 2, 2L));
+        assertEquals(gaps + 1, bus.getGapCount());
+        assertEquals(stale + 1, bus.getStaleCount());
+    }
+
+    @Test
+    void testHeartbeatCarriesLatestSequence() throws Exception {
+        // 准备：只记录发出消息的传输
+        BlockingQueue<InvalidationMessage> published = new LinkedBlockingQueue<>();
+        InvalidationTransport transport = new InvalidationTransport() {
+            @Override
+            public void start(Consumer<InvalidationMessage> listener) {
+            }
+
+            @Override
+            public void publish(InvalidationMessage message) {
+                published.add(message);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        try (CacheInvalidationBus bus = new CacheInvalidationBus(transport, sessionFactory(nodeB), event -> {
+        }, 1000, 0, 20)) {
+            // 执行：启动后广播一条消息
+            bus.start();
+            bus.onStudentCacheInvalidation(StudentCacheInvalidationEvent.of(1L, "20210001"));
+
+            // 验证：先发出消息，之后定期发出携带该序号的心跳
+            InvalidationMessage first = published.poll(5, TimeUnit.SECONDS);
+            InvalidationMessage heartbeat = published.poll(5, TimeUnit.SECONDS);
+            assertFalse(first.isHeartbeat());
+            assertEquals(1, first.getSequence());
+            assertTrue(heartbeat.isHeartbeat());
+            assertEquals(bus.getNodeId(), heartbeat.getOrigin());
+            assertEquals(1, heartbeat.getSequence());
+        }
+    }
+
+    @Test
+    void testLazyInitializedNodeReceivesBeforeFirstPublish() throws Exception {
+        // 准备：延迟初始化的实例C启动后只读取过学生3，从未发布过失效消息
+        ConfigurableApplicationContext nodeC = startNode(3, false, true);
+        try {
+            StudentService serviceC = nodeC.getBean(StudentService.class);
+            StudentDTO student = serviceC.getStudentById(3L).orElseThrow();
+            SessionFactory sessionFactory = sessionFactory(nodeC);
+            assertTrue(sessionFactory.getCache().containsEntity(Student.class, 3L));
+
+            // 执行：在实例A修改学生3
+            student.setName("延迟实例修改");
+            nodeA.getBean(StudentService.class).updateStudent(3L, student);
+
+            // 验证：实例C的总线在启动阶段已开始接收
+            await(() -> !sessionFactory.getCache().containsEntity(Student.class, 3L));
+            assertEquals("延迟实例修改", serviceC.getStudentById(3L).orElseThrow().getName());
+        } finally {
+            nodeC.close();
+        }
+    }
+
+    /**
+     * 第一个实例建表并导入初始数据，其余实例直接使用；每个实例使用独立的 CacheManager，lazy 为true时按 fast-start 配置延迟初始化
+     */
+    private static ConfigurableApplicationContext startNode(int nodeId, boolean initSchema, boolean lazy)
+            throws Exception {
+        CacheManager cacheManager = Caching.getCachingProvider(EhcacheCachingProvider.class.getName())
+                .getCacheManager(CacheInvalidationBusTest.class.getResource("/ehcache.xml").toURI(),
+                        new ClassLoader(CacheInvalidationBusTest.class.getClassLoader()) {
+                        });
+        CACHE_MANAGERS.add(cacheManager);
+        HibernatePropertiesCustomizer isolatedCache =
+                properties -> properties.put("hibernate.javax.cache.cache_manager", cacheManager);
+        return new SpringApplicationBuilder(StudentManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .initializers(context -> context.getBeanFactory().registerSingleton("isolatedCache", isolatedCache))
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:cache-bus;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=" + (initSchema ? "create-drop" : "none"),
+                        "--spring.sql.init.mode=" + (initSchema ? "always" : "never"),
+                        "--spring.jmx.enabled=false",
+                        "--spring.main.lazy-initialization=" + lazy,
+                        "--app.id-generator.node-id=" + nodeId,
+                        "--app.cache-bus.enabled=true",
+                        "--app.cache-bus.transport=in-process",
+                        "--app.cache-bus.channel=" + channel,
+                        "--app.cache-bus.redelete-delay-ms=0");
+    }
+
+    private static SessionFactory sessionFactory(ConfigurableApplicationContext context) {
+        return context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class);
+    }
+
+    private static InvalidationMessage message(String origin, long sequence, Long studentId) {
+        return new InvalidationMessage(origin, sequence, Collections.singletonList(studentId),
+                Collections.emptyList(), false);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "10秒内未收到缓存失效消息");
+            Thread.sleep(10);
+        }
+    }
+
+    private static StudentDTO newStudent() {
+        StudentDTO student = new StudentDTO();
+        student.setName("跨实例新增");
+        student.setStudentNumber("20985001");
+        student.setAge(20);
+        student.setGender("男");
+        student.setMajor("软件工程");
+        student.setEmail("node@example.com");
+        student.setEnrollmentDate(LocalDate.of(2024, 9, 1));
+        return student;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.studentmanagement.invalidation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UDP缓存失效传输测试类
+ *
+ * @author System
+ * @version 1.0
+ */
+class UdpInvalidationTransportTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testMessagesDeliveredOverLoopback() throws Exception {
+        // 准备
+        InetAddress loopback = InetAddress.getLoopbackAddress();
+        BlockingQueue<InvalidationMessage> received = new LinkedBlockingQueue<>();
+        try (UdpInvalidationTransport receiver = new UdpInvalidationTransport(
+                new InetSocketAddress(loopback, 0), Collections.emptyList(), objectMapper);
+             UdpInvalidationTransport sender = new UdpInvalidationTransport(
+                     new InetSocketAddress(loopback, 0),
+                     Collections.singletonList(new InetSocketAddress(loopback, receiver.getLocalPort())),
+                     objectMapper)) {
+            receiver.start(received::add);
+            List<Long> manyIds = LongStream.rangeClosed(1, 20_000).boxed().collect(Collectors.toList());
+
+            // 执行
+            sender.publish(new InvalidationMessage("node-a", 1, Arrays.asList(1L, 2L),
+                    Collections.singletonList("20210001"), false));
+            sender.publish(new InvalidationMessage("node-a", 2, manyIds, Collections.emptyList(), false));
+
+            // 验证：超过数据报容量的消息改为整体失效
+            InvalidationMessage first = received.poll(5, TimeUnit.SECONDS);
+            assertNotNull(first);
+            assertEquals("node-a", first.getOrigin());
+            assertEquals(1, first.getSequence());
+            assertEquals(Arrays.asList(1L, 2L), first.getStudentIds());
+            assertEquals(Collections.singletonList("20210001"), first.getStudentNumbers());
+            assertFalse(first.isFull());
+
+            InvalidationMessage second = received.poll(5, TimeUnit.SECONDS);
+            assertNotNull(second);
+            assertEquals(2, second.getSequence());
+            assertTrue(second.isFull());
+            assertTrue(second.getStudentIds().isEmpty());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.studentmanagement.json;
+
+import com.example.studentmanagement.dto.ApiResponse;
+import com.example.studentmanagement.dto.PageResponse;
+import com.example.studentmanagement.dto.StudentDTO;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 学生JSON序列化模块测试类
+ * 
+ * 以与 application.yml 相同配置的默认 ObjectMapper 为准，比对自定义序列化器的输出
+ * 
+ * @author System
+ * @version 1.0
+ */
+class StudentJsonModuleTest {
+
+    private final ObjectMapper defaultMapper = mapper().build();
+    private final ObjectMapper moduleMapper = mapper().modulesToInstall(new StudentJsonModule()).build();
+
+    @Test
+    void testStudentMatchesDefaultSerialization() throws Exception {
+        // 准备
+        StudentDTO full = student(1L, "张\"三\\\n", LocalDateTime.of(2023, 9, 1, 8, 0, 0));
+        full.setEmail("zhangsan@example.com");
+        full.setPhone("13800138000");
+        full.setEnrollmentDate(LocalDate.of(2021, 9, 1));
+        full.setUpdatedTime(LocalDateTime.of(2024, 12, 31, 23, 59, 59, 120_000_000));
+        StudentDTO sparse = new StudentDTO();
+        StudentDTO nanos = student(2L, "李四", LocalDateTime.of(1999, 1, 2, 3, 4, 5, 1));
+        StudentDTO farFuture = student(3L, "王五", LocalDateTime.of(10000, 1, 1, 0, 0));
+
+        // 执行 & 验证
+        for (StudentDTO studentDTO : Arrays.asList(full, sparse, nanos, farFuture)) {
+            assertEquals(defaultMapper.writeValueAsString(studentDTO), moduleMapper.writeValueAsString(studentDTO));
+        }
+    }
+
+    @Test
+    void testApiResponseMatchesDefaultSerialization() throws Exception {
+        // 准备
+        StudentDTO studentDTO = student(1L, "张三", LocalDateTime.of(2023, 9, 1, 8, 30, 15));
+        List<ApiResponse<?>> responses = Arrays.asList(
+                ApiResponse.success("获取学生信息成功", studentDTO),
+                ApiResponse.success("获取学生列表成功", Collections.singletonList(studentDTO)),
+                ApiResponse.success("检查学号完成", Boolean.TRUE),
+                ApiResponse.notFound("学生不存在，ID: 1"),
+                new ApiResponse<>(200, null, Collections.singletonMap("totalCount", 1L)));
+
+        // 执行 & 验证
+        for (ApiResponse<?> response : responses) {
+            assertEquals(defaultMapper.readTree(defaultMapper.writeValueAsString(response)),
+                    moduleMapper.readTree(moduleMapper.writeValueAsString(response)));
+        }
+    }
+
+    @Test
+    void testPageResponseEnvelope() throws Exception {
+        // 准备
+        StudentDTO studentDTO = student(1L, "张三", LocalDateTime.of(2023, 9, 1, 8, 30, 15));
+        PageRequest pageable = PageRequest.of(0, 1);
+        PageResponse<StudentDTO> page = PageResponse.of(
+                new PageImpl<>(Collections.singletonList(studentDTO), pageable, 3));
+        PageResponse<StudentDTO> lastSlice = PageResponse.of(
+                new SliceImpl<>(Collections.singletonList(studentDTO), pageable, false));
+
+        // 执行
+        JsonNode pageJson = moduleMapper.readTree(moduleMapper.writeValueAsString(ApiResponse.success(page)));
+        JsonNode sliceJson = moduleMapper.readTree(moduleMapper.writeValueAsString(ApiResponse.success(lastSlice)));
+
+        // 验证
+        JsonNode data = pageJson.get("data");
+        assertEquals("张三", data.get("items").get(0).get("name").asText());
+        assertEquals(1, data.get("nextPage").asInt());
+        assertEquals(3, data.get("total").asLong());
+        assertEquals(defaultMapper.readTree(defaultMapper.writeValueAsString(page)), data);
+        assertFalse(sliceJson.get("data").has("nextPage"));
+        assertFalse(sliceJson.get("data").has("total"));
+    }
+
+    private static Jackson2ObjectMapperBuilder mapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .simpleDateFormat("yyyy-MM-dd HH:mm:ss")
+                .timeZone("GMT+8")
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static StudentDTO student(Long id, String name, LocalDateTime createdTime) {
+        StudentDTO studentDTO = new StudentDTO(name, "20210001", 20, "男", "计算机科学与技术");
+        studentDTO.setId(id);
+        studentDTO.setCreatedTime(createdTime);
+        return studentDTO;
+    }
+}
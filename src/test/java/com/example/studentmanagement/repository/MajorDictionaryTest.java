@@ -0,0 +1,149 @@
+package com.example.studentmanagement.repository;
+
+import com.example.studentmanagement.config.QueryCountingConfig;
+import com.example.studentmanagement.util.QueryCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 专业字典测试类
+ *
+ * @author System
+ * @version 1.0
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:major-dictionary")
+@Import(QueryCountingConfig.class)
+class MajorDictionaryTest {
+
+    @Autowired
+    private MajorDictionary majorDictionary;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testUnknownMajor() {
+        // 执行和验证：不存在的专业不会被缓存，也不会新增
+        assertEquals(MajorDictionary.UNKNOWN_ID, majorDictionary.idOf("不存在的专业"));
+        assertNull(majorDictionary.nameOf(-42));
+        assertEquals(0, countMajors("不存在的专业"));
+    }
+
+    @Test
+    void testCacheMissQueriesDatabaseOnce() {
+        // 准备：其他节点新增的专业
+        jdbcTemplate.update("INSERT INTO majors (name) VALUES (?)", "其他节点专业");
+        int expectedId = jdbcTemplate.queryForObject("SELECT id FROM majors WHERE name = ?", Integer.class,
+                "其他节点专业");
+        queryCounter.reset();
+
+        // 执行
+        int first = majorDictionary.idOf("其他节点专业");
+        int second = majorDictionary.idOf("其他节点专业");
+        String name = majorDictionary.nameOf(expectedId);
+
+        // 验证：第一次未命中回表查询，之后按ID和名称都命中缓存
+        assertEquals(expectedId, first);
+        assertEquals(expectedId, second);
+        assertEquals("其他节点专业", name);
+        queryCounter.assertStatements(1, 0, 0, 0);
+    }
+
+    @Test
+    void testRegistrationRolledBackWithTransaction() {
+        // 准备
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+
+        // 执行：事务内新增的专业在本事务内可见，事务回滚后不存在
+        int idInTransaction = template.execute(status -> {
+            int id = majorDictionary.register("回滚专业");
+            assertEquals(id, majorDictionary.idOf("回滚专业"));
+            assertEquals("回滚专业", majorDictionary.nameOf(id));
+            status.setRollbackOnly();
+            return id;
+        });
+
+        // 验证
+        assertNotEquals(MajorDictionary.UNKNOWN_ID, idInTransaction);
+        assertEquals(0, countMajors("回滚专业"));
+        assertEquals(MajorDictionary.UNKNOWN_ID, majorDictionary.idOf("回滚专业"));
+        assertNull(majorDictionary.nameOf(idInTransaction));
+    }
+
+    @Test
+    void testRegistrationCachedAfterCommit() {
+        // 准备
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+
+        // 执行
+        int id = template.execute(status -> majorDictionary.register("提交专业"));
+        queryCounter.reset();
+
+        // 验证
+        assertEquals(id, majorDictionary.idOf("提交专业"));
+        assertEquals("提交专业", majorDictionary.nameOf(id));
+        queryCounter.assertStatements(0, 0, 0, 0);
+    }
+
+    @Test
+    void testConcurrentRegistrationUsesFirstCommittedRecord() throws Exception {
+        // 准备
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        CountDownLatch registered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 执行：事务A新增专业后暂不提交，事务B登记同一专业时插入因唯一约束等待A提交后失败
+        Future<Integer> first = executor.submit(() -> template.execute(status -> {
+            int id = majorDictionary.register("并发专业");
+            registered.countDown();
+            await(release);
+            return id;
+        }));
+        assertTrue(registered.await(10, TimeUnit.SECONDS));
+        Future<Integer> second = executor.submit(() -> template.execute(status -> majorDictionary.register("并发专业")));
+        Thread.sleep(200);
+        release.countDown();
+
+        // 验证
+        int firstId = first.get(10, TimeUnit.SECONDS);
+        assertEquals(firstId, second.get(10, TimeUnit.SECONDS));
+        assertEquals(1, countMajors("并发专业"));
+        assertEquals(firstId, majorDictionary.idOf("并发专业"));
+    }
+
+    private int countMajors(String name) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM majors WHERE name = ?", Integer.class, name);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.studentmanagement.resilience;
+
+import com.example.studentmanagement.dto.StudentDTO;
+import com.example.studentmanagement.exception.StudentServiceUnavailableException;
+import com.example.studentmanagement.service.StudentService;
+import com.example.studentmanagement.service.impl.StudentServiceImpl;
+import com.example.studentmanagement.util.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.interceptor.TransactionAttributeSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 数据访问保护测试类
+ *
+ * 连接池只有2个连接，测试中把它们全部占住来模拟数据库无响应
+ *
+ * @author System
+ * @version 1.0
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:data-access-guard",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.minimum-idle=0",
+        "spring.datasource.hikari.connection-timeout=250",
+        "spring.datasource.hikari.validation-timeout=250",
+        "app.resilience.window-size=4",
+        "app.resilience.minimum-calls=2",
+        "app.resilience.open-duration-ms=300"
+})
+@AutoConfigureMockMvc
+class DataAccessGuardTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private CircuitBreaker dataAccessCircuitBreaker;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TransactionAttributeSource transactionAttributeSource;
+
+    @Test
+    void testQueryTimeoutsResolvedPerOperation() throws Exception {
+        // 执行
+        int point = timeoutOf("getStudentById", Long.class);
+        int write = timeoutOf("deleteStudent", Long.class);
+        int scan = timeoutOf("getTotalStudentCount");
+
+        // 验证
+        assertEquals(2, point);
+        assertEquals(5, write);
+        assertEquals(10, scan);
+    }
+
+    @Test
+    void testStaleFallbackAndCircuitBreaker() throws Exception {
+        // 准备
+        StudentDTO cached = studentService.getStudentById(1L).orElseThrow();
+        long total = studentService.getTotalStudentCount();
+        List<Connection> held = holdAllConnections();
+
+        try {
+            // 执行：等待连接超时后返回最近一次成功的结果，没有保存结果的查询返回503
+            Optional<StudentDTO> stale = studentService.getStudentById(1L);
+            assertThrows(StudentServiceUnavailableException.class, () -> studentService.getStudentById(2L));
+
+            // 验证
+            assertSame(cached, stale.orElseThrow());
+            assertEquals(CircuitBreaker.State.OPEN, dataAccessCircuitBreaker.getState());
+
+            // 熔断器打开后不再等待连接池
+            long start = System.nanoTime();
+            assertThrows(StudentServiceUnavailableException.class, () -> studentService.getStudentById(2L));
+            assertEquals(total, studentService.getTotalStudentCount());
+            assertTrue((System.nanoTime() - start) / 1_000_000 < 200);
+
+            // 接口响应标明数据已过期
+            mockMvc.perform(get("/api/students/1"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.WARNING, "110 - \"Response is Stale\""))
+                    .andExpect(header().exists(HttpHeaders.AGE))
+                    .andExpect(jsonPath("$.data.studentNumber").value(cached.getStudentNumber()));
+            mockMvc.perform(get("/api/students/2"))
+                    .andExpect(status().isServiceUnavailable());
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+
+        // 数据库恢复后由探测调用关闭熔断器
+        Thread.sleep(350);
+        assertTrue(studentService.getStudentById(2L).isPresent());
+        assertEquals(CircuitBreaker.State.CLOSED, dataAccessCircuitBreaker.getState());
+    }
+
+    @Test
+    void testSharedFailureCountedOnce() throws Throwable {
+        // 准备：最少2次调用才计算失败率
+        CircuitBreaker breaker = new CircuitBreaker(4, 2, 0.5, 60_000);
+        DataAccessGuardAspect aspect = new DataAccessGuardAspect(breaker, new StaleValueCache(10, 60_000),
+                new SimpleMeterRegistry());
+        QueryTimeoutException shared = new QueryTimeoutException("领头者超时");
+
+        // 执行：被合并的两个调用收到领头者的同一个异常
+        assertThrows(StudentServiceUnavailableException.class, () -> aspect.guard(failingCall(shared)));
+        assertThrows(StudentServiceUnavailableException.class, () -> aspect.guard(failingCall(shared)));
+
+        // 验证：只计一次失败，熔断器仍关闭；另一次独立的故障才打开熔断器
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertThrows(StudentServiceUnavailableException.class,
+                () -> aspect.guard(failingCall(new QueryTimeoutException("再次超时"))));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    private static ProceedingJoinPoint failingCall(Throwable failure) throws Throwable {
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(StudentServiceImpl.class.getMethod("getStudentById", Long.class));
+        when(signature.toShortString()).thenReturn("StudentServiceImpl.getStudentById(..)");
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{99L});
+        when(joinPoint.proceed()).thenThrow(failure);
+        return joinPoint;
+    }
+
+    private int timeoutOf(String name, Class<?>... parameterTypes) throws Exception {
+        return transactionAttributeSource.getTransactionAttribute(
+                StudentServiceImpl.class.getMethod(name, parameterTypes), StudentServiceImpl.class).getTimeout();
+    }
+
+    private List<Connection> holdAllConnections() throws Exception {
+        List<Connection> held = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            held.add(dataSource.getConnection());
+        }
+        return held;
+    }
+}
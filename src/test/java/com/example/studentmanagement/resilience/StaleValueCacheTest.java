@@ -0,0 +1,67 @@
+package com.example.studentmanagement.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 最近成功结果缓存测试类
+ *
+ * @author System
+ * @version 1.0
+ */
+class StaleValueCacheTest {
+
+    @Test
+    void testConcurrentPutsStayWithinMaxSize() throws Exception {
+        // 准备
+        StaleValueCache cache = new StaleValueCache(100, 60_000);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // 执行：4个线程各写入1000个不同的键
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    cache.put(thread + "-" + i, i);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // 验证
+        assertTrue(cache.size() <= 100, "size=" + cache.size());
+        assertTrue(cache.size() > 0);
+    }
+
+    @Test
+    void testReplaceAndExpiry() throws Exception {
+        // 准备
+        StaleValueCache cache = new StaleValueCache(10, 60_000);
+        StaleValueCache expiring = new StaleValueCache(10, 0);
+
+        // 执行
+        cache.put("key", "old");
+        cache.put("key", "new");
+        cache.put("null", null);
+        expiring.put("key", "value");
+        Thread.sleep(5);
+
+        // 验证：同一个键只保存最近的结果，null 不保存，超过最大存放时间不再返回
+        assertEquals("new", cache.get("key").getValue());
+        assertEquals(1, cache.size());
+        assertNull(cache.get("null"));
+        assertNull(expiring.get("key"));
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.studentmanagement.service;
+
+import com.example.studentmanagement.dto.CsvImportResult;
+import com.example.studentmanagement.dto.StudentBulkUpdateRequest;
+import com.example.studentmanagement.dto.StudentDTO;
+import com.example.studentmanagement.dto.StudentSyncDTO;
+import com.example.studentmanagement.entity.Student;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 学生二级缓存与查询缓存测试类
+ * 
+ * 验证重复查询由缓存直接返回，且经 StudentServiceImpl、批量更新或CSV导入写入后相关缓存区域失效
+ * 
+ * @author System
+ * @version 1.0
+ */
+@SpringBootTest
+class StudentCacheInvalidationTest {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentCsvService studentCsvService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testRepeatedReadsServedFromCache() {
+        // 准备
+        List<StudentDTO> first = studentService.getStudentsByMajor("软件工程");
+        Long id = first.get(0).getId();
+        studentService.getStudentById(id);
+        long statements = statistics.getPrepareStatementCount();
+
+        // 执行
+        List<StudentDTO> second = studentService.getStudentsByMajor("软件工程");
+        StudentDTO cached = studentService.getStudentById(id).orElseThrow();
+
+        // 验证
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertEquals(numbers(first), numbers(second));
+        assertEquals(first.get(0).getStudentNumber(), cached.getStudentNumber());
+        assertEquals(1, statistics.getQueryRegionStatistics(Student.QUERY_CACHE_REGION).getHitCount());
+        assertTrue(statistics.getDomainDataRegionStatistics(Student.CACHE_REGION).getHitCount() > 0);
+    }
+
+    @Test
+    void testServiceWritesInvalidateAffectedRegions() {
+        // 准备
+        long aiCount = studentService.getStudentCountByMajor().get("人工智能");
+        StudentDTO created = studentService.createStudent(
+                new StudentDTO("缓存测试", "20300001", 20, "男", "软件工程"));
+        assertTrue(numbers(studentService.getStudentsByMajor("软件工程")).contains("20300001"));
+        assertTrue(numbers(studentService.getStudentsByMajor("人工智能")).stream().noneMatch("20300001"::equals));
+        assertEquals("软件工程", studentService.getStudentById(created.getId()).orElseThrow().getMajor());
+
+        // 执行
+        StudentDTO update = new StudentDTO("缓存测试", "20300001", 21, "男", "人工智能");
+        studentService.updateStudent(created.getId(), update);
+
+        // 验证
+        long statements = statistics.getPrepareStatementCount();
+        assertFalse(numbers(studentService.getStudentsByMajor("软件工程")).contains("20300001"));
+        assertTrue(numbers(studentService.getStudentsByMajor("人工智能")).contains("20300001"));
+        assertTrue(statistics.getPrepareStatementCount() > statements);
+        StudentDTO reloaded = studentService.getStudentById(created.getId()).orElseThrow();
+        assertEquals("人工智能", reloaded.getMajor());
+        assertEquals(21, reloaded.getAge());
+        assertEquals(aiCount + 1, studentService.getStudentCountByMajor().get("人工智能"));
+
+        // 执行
+        studentService.deleteStudent(created.getId());
+
+        // 验证
+        assertTrue(studentService.getStudentById(created.getId()).isEmpty());
+        assertFalse(numbers(studentService.getStudentsByMajor("人工智能")).contains("20300001"));
+        assertEquals(aiCount, studentService.getStudentCountByMajor().get("人工智能"));
+    }
+
+    @Test
+    void testCsvImportInvalidatesQueryRegion() throws Exception {
+        // 准备
+        assertFalse(numbers(studentService.getStudentsByMajor("信息安全")).contains("20300101"));
+        Path csv = tempDir.resolve("students.csv");
+        Files.write(csv, ("name,studentNumber,age,gender,major\n导入测试,20300101,20,女,信息安全\n")
+                .getBytes(StandardCharsets.UTF_8));
+
+        // 执行
+        CsvImportResult result = studentCsvService.importCsv(csv);
+
+        // 验证
+        assertEquals(1, result.getImportedRows());
+        assertTrue(numbers(studentService.getStudentsByMajor("信息安全")).contains("20300101"));
+    }
+
+    @Test
+    void testBulkUpdateInvalidatesCachesAndRecordsChanges() {
+        // 准备
+        StudentDTO first = studentService.createStudent(new StudentDTO("批量测试", "20300201", 20, "男", "网络工程"));
+        StudentDTO second = studentService.createStudent(new StudentDTO("批量测试", "20300202", 20, "女", "网络工程"));
+        long token = studentService.getChangesSince(0, 0, 5000).getNextToken();
+        assertEquals(2, studentService.getStudentCountByMajor().get("网络工程"));
+        assertEquals("网络工程", studentService.getStudentById(first.getId()).orElseThrow().getMajor());
+
+        StudentBulkUpdateRequest.Criteria where = new StudentBulkUpdateRequest.Criteria();
+        where.setMajor("网络工程");
+        StudentBulkUpdateRequest.Assignments set = new StudentBulkUpdateRequest.Assignments();
+        set.setMajor("网络空间安全");
+
+        // 执行
+        int updated = studentService.bulkUpdateStudents(new StudentBulkUpdateRequest(where, set));
+
+        // 验证
+        assertEquals(2, updated);
+        StudentDTO reloaded = studentService.getStudentById(first.getId()).orElseThrow();
+        assertEquals("网络空间安全", reloaded.getMajor());
+        assertTrue(reloaded.getUpdatedTime().isAfter(first.getUpdatedTime()));
+        assertNull(studentService.getStudentCountByMajor().get("网络工程"));
+        assertEquals(2, studentService.getStudentCountByMajor().get("网络空间安全"));
+        assertEquals(List.of("20300201", "20300202"), numbers(studentService.getStudentsByMajor("网络空间安全")));
+        StudentSyncDTO sync = studentService.getChangesSince(token, 0, 5000);
+        assertEquals(List.of(first.getId(), second.getId()),
+                sync.getChanged().stream().map(StudentDTO::getId).collect(Collectors.toList()));
+    }
+
+    private static List<String> numbers(List<StudentDTO> students) {
+        return students.stream().map(StudentDTO::getStudentNumber).collect(Collectors.toList());
+    }
+}
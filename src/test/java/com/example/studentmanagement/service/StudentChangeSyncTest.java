@@ -0,0 +1,154 @@
+package com.example.studentmanagement.service;
+
+import com.example.studentmanagement.dto.StudentDTO;
+import com.example.studentmanagement.dto.StudentSyncDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 增量同步游标测试类
+ *
+ * 两个写事务交错执行、提交顺序与开始顺序不同时，按上次返回的游标同步不会漏掉任何一个
+ *
+ * @author System
+ * @version 1.0
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:change-sync")
+class StudentChangeSyncTest {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @Test
+    void testTransactionStartedFirstCommittingLastIsNotSkipped() throws Exception {
+        // 准备
+        long token = latestToken();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 执行：事务A先开始，在事务B提交后才写入学生并提交
+        Future<?> first = executor.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            studentService.getStudentById(1L);
+            started.countDown();
+            await(release);
+            studentService.createStudent(newStudent("20997001"));
+        }));
+        started.await();
+        studentService.createStudent(newStudent("20997002"));
+        StudentSyncDTO afterSecond = studentService.getChangesSince(token, 0, 100);
+        release.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        StudentSyncDTO afterFirst = studentService.getChangesSince(afterSecond.getNextToken(), 0, 100);
+
+        // 验证
+        assertEquals(List.of("20997002"), studentNumbers(afterSecond));
+        assertEquals(List.of("20997001"), studentNumbers(afterFirst));
+        assertTrue(afterFirst.getNextToken() > afterSecond.getNextToken());
+    }
+
+    @Test
+    void testLaterVersionWaitsForEarlierCommit() throws Exception {
+        // 准备
+        long token = latestToken();
+        CountDownLatch recorded = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 执行：事务A已写入变更日志但未提交，事务B随后写入
+        Future<?> first = executor.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            studentService.createStudent(newStudent("20997003"));
+            recorded.countDown();
+            await(release);
+        }));
+        recorded.await();
+        Future<StudentDTO> second = executor.submit(() -> studentService.createStudent(newStudent("20997004")));
+        Thread.sleep(200);
+
+        // 验证：B在A提交前不能提交，此时同步不会越过A的版本
+        assertFalse(second.isDone());
+        StudentSyncDTO whilePending = studentService.getChangesSince(token, 0, 100);
+        assertTrue(whilePending.getChanged().isEmpty());
+        assertEquals(token, whilePending.getNextToken());
+
+        release.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+        StudentSyncDTO afterBoth = studentService.getChangesSince(token, 0, 100);
+        assertEquals(List.of("20997003", "20997004"), studentNumbers(afterBoth));
+    }
+
+    @Test
+    void testLargeTransactionIsPagedWithinVersion() {
+        // 准备：一个事务新增5个学生，共用一个版本号
+        long token = latestToken();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int i = 1; i <= 5; i++) {
+                studentService.createStudent(newStudent("2099710" + i));
+            }
+        });
+
+        // 执行：每页最多2条，按返回的版本令牌和版本内位置继续同步
+        List<String> synced = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        long since = token;
+        long sinceChangeId = 0;
+        StudentSyncDTO page;
+        do {
+            page = studentService.getChangesSince(since, sinceChangeId, 2);
+            synced.addAll(studentNumbers(page));
+            pageSizes.add(page.getChanged().size());
+            since = page.getNextToken();
+            sinceChangeId = page.getNextChangeId();
+        } while (page.isHasMore());
+
+        // 验证：每页不超过2条，版本内分页不重复也不遗漏，最后一页后版本内位置归零
+        assertEquals(List.of(2, 2, 1), pageSizes);
+        assertEquals(List.of("20997101", "20997102", "20997103", "20997104", "20997105"), synced);
+        assertEquals(0, sinceChangeId);
+        assertTrue(studentService.getChangesSince(since, sinceChangeId, 2).getChanged().isEmpty());
+    }
+
+    private long latestToken() {
+        return studentService.getChangesSince(0, 0, Integer.MAX_VALUE).getNextToken();
+    }
+
+    private static List<String> studentNumbers(StudentSyncDTO sync) {
+        return sync.getChanged().stream().map(StudentDTO::getStudentNumber).collect(Collectors.toList());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static StudentDTO newStudent(String studentNumber) {
+        StudentDTO student = new StudentDTO();
+        student.setName("同步测试");
+        student.setStudentNumber(studentNumber);
+        student.setAge(20);
+        student.setGender("男");
+        student.setMajor("软件工程");
+        student.setEmail("sync@example.com");
+        student.setEnrollmentDate(LocalDate.of(2024, 9, 1));
+        return student;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.studentmanagement.service;
+
+import com.example.studentmanagement.dto.CrossTabDimension;
+import com.example.studentmanagement.dto.StudentCrossTabDTO;
+import com.example.studentmanagement.entity.GenderConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 交叉统计测试类
+ *
+ * 基于初始化数据走真实的查询路径，与直接用SQL读出的明细逐格核对各分组集合的人数、小计和总数
+ *
+ * @author System
+ * @version 1.0
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:student-crosstab")
+class StudentCrossTabTest {
+
+    private static final List<CrossTabDimension> MAJOR_GENDER =
+            Arrays.asList(CrossTabDimension.MAJOR, CrossTabDimension.GENDER);
+    private static final List<CrossTabDimension> YEAR_MAJOR_AGE =
+            Arrays.asList(CrossTabDimension.ENROLLMENT_YEAR, CrossTabDimension.MAJOR, CrossTabDimension.AGE);
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Map<CrossTabDimension, Object>> students;
+
+    @BeforeEach
+    void loadStudents() {
+        students = jdbcTemplate.query("SELECT m.name, s.gender, s.age, YEAR(s.enrollment_date) "
+                + "FROM students s LEFT JOIN majors m ON m.id = s.major_id", (rs, rowNum) -> {
+            Map<CrossTabDimension, Object> student = new EnumMap<>(CrossTabDimension.class);
+            student.put(CrossTabDimension.MAJOR, rs.getString(1));
+            student.put(CrossTabDimension.GENDER, GenderConverter.fromCode(rs.getInt(2)));
+            student.put(CrossTabDimension.AGE, rs.getObject(3, Integer.class));
+            student.put(CrossTabDimension.ENROLLMENT_YEAR, rs.getObject(4, Integer.class));
+            return student;
+        });
+        assertFalse(students.isEmpty());
+    }
+
+    @Test
+    void testEveryGroupingSetMatchesSeededData() {
+        // 执行
+        StudentCrossTabDTO result = studentService.getCrossTab(Arrays.asList(MAJOR_GENDER, YEAR_MAJOR_AGE,
+                Collections.singletonList(CrossTabDimension.GENDER)), false);
+
+        // 验证：总数和每个分组集合的每一格都与明细一致
+        assertEquals(students.size(), result.getTotal());
+        assertEquals(3, result.getGroupingSets().size());
+        assertGroupingSet(MAJOR_GENDER, result.getGroupingSets().get(0));
+        assertGroupingSet(YEAR_MAJOR_AGE, result.getGroupingSets().get(1));
+        assertGroupingSet(Collections.singletonList(CrossTabDimension.GENDER), result.getGroupingSets().get(2));
+    }
+
+    @Test
+    void testRollupSubtotalsMatchSeededData() {
+        // 执行
+        StudentCrossTabDTO result = studentService.getCrossTab(Arrays.asList(YEAR_MAJOR_AGE, MAJOR_GENDER), true);
+
+        // 验证：按前缀展开为 (年份,专业,年龄) (年份,专业) (年份) (专业,性别) (专业)，每层小计等于下一层之和
+        List<List<CrossTabDimension>> expectedSets = Arrays.asList(
+                YEAR_MAJOR_AGE, YEAR_MAJOR_AGE.subList(0, 2), YEAR_MAJOR_AGE.subList(0, 1),
+                MAJOR_GENDER, MAJOR_GENDER.subList(0, 1));
+        assertEquals(students.size(), result.getTotal());
+        assertEquals(expectedSets.size(), result.getGroupingSets().size());
+        for (int i = 0; i < expectedSets.size(); i++) {
+            assertGroupingSet(expectedSets.get(i), result.getGroupingSets().get(i));
+        }
+        assertSubtotals(result.getGroupingSets().get(0), result.getGroupingSets().get(1));
+        assertSubtotals(result.getGroupingSets().get(1), result.getGroupingSets().get(2));
+        assertSubtotals(result.getGroupingSets().get(3), result.getGroupingSets().get(4));
+    }
+
+    /**
+     * 分组集合的维度名和每一格人数与明细按同样维度分组的结果一致，各格之和等于总数
+     */
+    private void assertGroupingSet(List<CrossTabDimension> dimensions, StudentCrossTabDTO.GroupingSet actual) {
+        assertEquals(dimensions.stream().map(CrossTabDimension::getParamName).collect(Collectors.toList()),
+                actual.getDimensions());
+        Map<List<Object>, Long> expected = students.stream()
+                .collect(Collectors.groupingBy(student -> valuesOf(student, dimensions), Collectors.counting()));
+        assertEquals(expected, cellsOf(actual), "分组: " + actual.getDimensions());
+        assertEquals(students.size(), actual.getCells().stream().mapToLong(StudentCrossTabDTO.Cell::getCount).sum());
+    }
+
+    /**
+     * 上一层每一格的人数等于下一层中前缀相同的各格之和
+     */
+    private static void assertSubtotals(StudentCrossTabDTO.GroupingSet detail, StudentCrossTabDTO.GroupingSet subtotal) {
+        int length = subtotal.getDimensions().size();
+        Map<List<Object>, Long> summed = new HashMap<>();
+        cellsOf(detail).forEach((values, count) -> summed.merge(values.subList(0, length), count, Long::sum));
+        assertEquals(summed, cellsOf(subtotal), "小计: " + subtotal.getDimensions());
+    }
+
+    private static Map<List<Object>, Long> cellsOf(StudentCrossTabDTO.GroupingSet groupingSet) {
+        Map<List<Object>, Long> cells = new HashMap<>();
+        for (StudentCrossTabDTO.Cell cell : groupingSet.getCells()) {
+            assertNull(cells.put(cell.getValues(), cell.getCount()), "重复的单元格: " + cell.getValues());
+        }
+        return cells;
+    }
+
+    private static List<Object> valuesOf(Map<CrossTabDimension, Object> student, List<CrossTabDimension> dimensions) {
+        List<Object> values = new ArrayList<>(dimensions.size());
+        dimensions.forEach(dimension -> values.add(student.get(dimension)));
+        return values;
+    }
+}
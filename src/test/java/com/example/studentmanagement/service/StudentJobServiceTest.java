@@ -0,0 +1,174 @@
+package com.example.studentmanagement.service;
+
+import com.example.studentmanagement.dto.StudentDTO;
+import com.example.studentmanagement.dto.StudentJobDTO;
+import com.example.studentmanagement.entity.StudentJob;
+import com.example.studentmanagement.entity.StudentJob.JobStatus;
+import com.example.studentmanagement.entity.StudentJob.JobType;
+import com.example.studentmanagement.repository.StudentJobRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 后台任务服务测试类
+ *
+ * 每块2条、块间停顿100毫秒，使任务跨越多个块，取消能在块边界生效
+ *
+ * @author System
+ * @version 1.0
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:student-jobs",
+        "app.jobs.chunk-size=2",
+        "app.jobs.chunk-pause-ms=100",
+        "app.jobs.work-dir=target/test-jobs"})
+class StudentJobServiceTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private StudentJobService studentJobService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentJobRepository jobRepository;
+
+    @Test
+    void testExportJobWritesEveryStudentAcrossChunks() throws Exception {
+        // 执行
+        StudentJobDTO job = awaitFinished(studentJobService.submitExport().getId());
+
+        // 验证
+        assertEquals(JobStatus.SUCCEEDED, job.getStatus());
+        assertEquals(100, job.getProgress());
+        long students = studentService.getTotalStudentCount();
+        assertEquals(students, job.getProcessed());
+        List<String> lines = Files.readAllLines(studentJobService.getExportFile(job.getId()), StandardCharsets.UTF_8);
+        assertEquals("name,studentNumber,age,gender,major,email,phone,enrollmentDate", lines.get(0));
+        assertEquals(students + 1, lines.size());
+        assertEquals(students, lines.stream().skip(1).map(line -> line.split(",")[1]).distinct().count());
+    }
+
+    @Test
+    void testImportJobAccumulatesResultAcrossChunks() throws Exception {
+        // 准备：5行中1行学号重复、1行年龄不合法
+        String duplicate = studentService.createStudent(newStudent()).getStudentNumber();
+        Path file = Files.createTempFile("student-job-import-", ".csv");
+        Files.write(file, Arrays.asList(
+                "name,studentNumber,age,gender,major",
+                "导入一," + nextStudentNumber() + ",20,男,软件工程",
+                "导入二," + nextStudentNumber() + ",21,女,软件工程",
+                "导入三," + duplicate + ",22,男,软件工程",
+                "导入四," + nextStudentNumber() + ",99,女,软件工程",
+                "导入五," + nextStudentNumber() + ",23,男,软件工程"), StandardCharsets.UTF_8);
+
+        // 执行
+        StudentJobDTO job = awaitFinished(studentJobService.submitImport(file).getId());
+
+        // 验证
+        assertEquals(JobStatus.SUCCEEDED, job.getStatus());
+        assertEquals(5, job.getProcessed());
+        JsonNode result = (JsonNode) job.getResult();
+        assertEquals(5, result.path("totalRows").asLong());
+        assertEquals(3, result.path("importedRows").asLong());
+        assertEquals(1, result.path("duplicateRows").asLong());
+        assertEquals(1, result.path("invalidRows").asLong());
+        assertTrue(result.path("errors").toString().contains("第5行"));
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void testInterruptedJobResumesFromLastCommittedChunk() throws Exception {
+        // 准备：模拟进程在提交了前2个ID之后退出
+        List<Long> ids = createStudents(5);
+        StudentJob interrupted = new StudentJob(JobType.BATCH_DELETE);
+        interrupted.setStatus(JobStatus.RUNNING);
+        interrupted.setStartedTime(LocalDateTime.now());
+        interrupted.setParameters(ids.toString());
+        interrupted.setTotal(5L);
+        interrupted.setCursor(2);
+        interrupted.setProcessed(2);
+        interrupted = jobRepository.save(interrupted);
+
+        // 执行
+        int resumed = studentJobService.resumeInterruptedJobs();
+        StudentJobDTO job = awaitFinished(interrupted.getId());
+
+        // 验证：断点之前的学生不再处理
+        assertEquals(1, resumed);
+        assertEquals(JobStatus.SUCCEEDED, job.getStatus());
+        assertEquals(5, job.getProcessed());
+        assertEquals(3, ((JsonNode) job.getResult()).path("deletedCount").asLong());
+        assertEquals(3, studentService.lookupStudentsByIds(ids).getMissing().size());
+        assertTrue(studentService.getStudentById(ids.get(0)).isPresent());
+        assertTrue(studentService.getStudentById(ids.get(1)).isPresent());
+        assertFalse(studentService.getStudentById(ids.get(4)).isPresent());
+    }
+
+    @Test
+    void testCancelStopsAtChunkBoundary() throws Exception {
+        // 准备
+        List<Long> ids = createStudents(10);
+
+        // 执行
+        StudentJobDTO submitted = studentJobService.submitBatchDelete(ids);
+        studentJobService.cancelJob(submitted.getId());
+        StudentJobDTO job = awaitFinished(submitted.getId());
+
+        // 验证：已提交的块保留，其余学生未被删除
+        assertEquals(JobStatus.CANCELLED, job.getStatus());
+        assertTrue(job.getProcessed() < ids.size());
+        assertEquals(job.getProcessed(), studentService.lookupStudentsByIds(ids).getMissing().size());
+    }
+
+    private StudentJobDTO awaitFinished(Long id) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        StudentJobDTO job = studentJobService.getJob(id);
+        while (!job.getStatus().isFinished()) {
+            assertTrue(System.currentTimeMillis() < deadline, "任务未在30秒内结束: " + job);
+            Thread.sleep(20);
+            job = studentJobService.getJob(id);
+        }
+        return job;
+    }
+
+    private List<Long> createStudents(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(studentService.createStudent(newStudent()).getId());
+        }
+        return ids;
+    }
+
+    private static StudentDTO newStudent() {
+        StudentDTO student = new StudentDTO();
+        student.setName("任务测试");
+        student.setStudentNumber(nextStudentNumber());
+        student.setAge(20);
+        student.setGender("男");
+        student.setMajor("软件工程");
+        student.setEmail("job@example.com");
+        student.setEnrollmentDate(LocalDate.of(2024, 9, 1));
+        return student;
+    }
+
+    private static String nextStudentNumber() {
+        return String.valueOf(20970000 + SEQUENCE.incrementAndGet());
+    }
+}
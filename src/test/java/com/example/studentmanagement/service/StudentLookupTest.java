@@ -0,0 +1,150 @@
+package com.example.studentmanagement.service;
+
+import com.example.studentmanagement.dto.StudentDTO;
+import com.example.studentmanagement.dto.StudentLookupResult;
+import com.example.studentmanagement.exception.StudentValidationException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 学生批量查询测试类
+ *
+ * 验证结果按请求顺序返回并列出未找到的键，缓存中已有的学生不再访问数据库，未命中的键按批次查询
+ *
+ * @author System
+ * @version 1.0
+ */
+@SpringBootTest
+class StudentLookupTest {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private List<StudentDTO> students;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        students = studentService.getAllStudents();
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testLookupByIdsKeepsRequestOrderAndReportsMisses() {
+        // 准备
+        Long first = students.get(0).getId();
+        Long second = students.get(1).getId();
+
+        // 执行
+        StudentLookupResult<Long> result = studentService.lookupStudentsByIds(
+                Arrays.asList(second, -1L, first, second, -2L, -1L));
+
+        // 验证
+        List<StudentDTO> found = result.getStudents();
+        assertEquals(6, found.size());
+        assertEquals(second, found.get(0).getId());
+        assertNull(found.get(1));
+        assertEquals(first, found.get(2).getId());
+        assertEquals(second, found.get(3).getId());
+        assertNull(found.get(4));
+        assertNull(found.get(5));
+        assertEquals(Arrays.asList(-1L, -2L), result.getMissing());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testLookupByIdsServesCachedStudentsWithoutQuery() {
+        // 准备
+        List<Long> ids = students.stream().limit(6).map(StudentDTO::getId).collect(Collectors.toList());
+        studentService.lookupStudentsByIds(ids.subList(0, 3));
+        statistics.clear();
+
+        // 执行
+        StudentLookupResult<Long> cachedOnly = studentService.lookupStudentsByIds(ids.subList(0, 3));
+        long cachedStatements = statistics.getPrepareStatementCount();
+        StudentLookupResult<Long> mixed = studentService.lookupStudentsByIds(ids);
+
+        // 验证
+        assertEquals(0, cachedStatements);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertTrue(cachedOnly.getMissing().isEmpty());
+        assertEquals(ids, mixed.getStudents().stream().map(StudentDTO::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testLookupByStudentNumbers() {
+        // 准备
+        String first = students.get(0).getStudentNumber();
+        String third = students.get(2).getStudentNumber();
+
+        // 执行
+        StudentLookupResult<String> result = studentService.lookupStudentsByStudentNumbers(
+                Arrays.asList(third, "00000000", first));
+
+        // 验证
+        assertEquals(third, result.getStudents().get(0).getStudentNumber());
+        assertNull(result.getStudents().get(1));
+        assertEquals(first, result.getStudents().get(2).getStudentNumber());
+        assertEquals(Collections.singletonList("00000000"), result.getMissing());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testLookupSplitsKeysIntoChunks() {
+        // 准备
+        Object target = AopTestUtils.getTargetObject(studentService);
+        int chunkSize = (int) ReflectionTestUtils.getField(target, "lookupChunkSize");
+        ReflectionTestUtils.setField(target, "lookupChunkSize", 2);
+        List<Long> ids = students.stream().limit(5).map(StudentDTO::getId).collect(Collectors.toList());
+        List<String> numbers = students.stream().limit(5).map(StudentDTO::getStudentNumber)
+                .collect(Collectors.toList());
+
+        try {
+            // 执行
+            StudentLookupResult<Long> byIds = studentService.lookupStudentsByIds(ids);
+            long idStatements = statistics.getPrepareStatementCount();
+            StudentLookupResult<String> byNumbers = studentService.lookupStudentsByStudentNumbers(numbers);
+
+            // 验证
+            assertEquals(3, idStatements);
+            assertEquals(6, statistics.getPrepareStatementCount());
+            assertTrue(byIds.getMissing().isEmpty());
+            assertTrue(byNumbers.getMissing().isEmpty());
+        } finally {
+            ReflectionTestUtils.setField(target, "lookupChunkSize", chunkSize);
+        }
+    }
+
+    @Test
+    void testLookupRejectsTooManyKeys() {
+        // 准备
+        List<Long> ids = LongStream.rangeClosed(1, 1001).boxed().collect(Collectors.toCollection(ArrayList::new));
+
+        // 执行和验证
+        assertThrows(StudentValidationException.class, () -> studentService.lookupStudentsByIds(ids));
+        assertThrows(StudentValidationException.class,
+                () -> studentService.lookupStudentsByStudentNumbers(Arrays.asList("20210001", null)));
+    }
+}
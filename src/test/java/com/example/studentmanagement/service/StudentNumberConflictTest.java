@@ -0,0 +1,97 @@
+package com.example.studentmanagement.service;
+
+import com.example.studentmanagement.dto.StudentDTO;
+import com.example.studentmanagement.exception.StudentConflictException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 学号唯一性测试类
+ *
+ * 创建和修改学号时不预先查询，依赖唯一约束：并发写入同一学号时只有一个成功，其余都返回冲突
+ *
+ * @author System
+ * @version 1.0
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:student-number-conflict")
+class StudentNumberConflictTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Test
+    void testConcurrentCreatesWithSameNumberYieldOneSuccess() throws Exception {
+        // 准备
+        long version = latestVersion();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<StudentDTO>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return studentService.createStudent(newStudent("20996001"));
+            }));
+        }
+
+        // 执行
+        start.countDown();
+        int created = 0;
+        int conflicts = 0;
+        for (Future<StudentDTO> future : futures) {
+            try {
+                future.get(30, TimeUnit.SECONDS);
+                created++;
+            } catch (ExecutionException e) {
+                assertInstanceOf(StudentConflictException.class, e.getCause());
+                conflicts++;
+            }
+        }
+        executor.shutdown();
+
+        // 验证：只插入一个学生，也只记录一条变更
+        assertEquals(1, created);
+        assertEquals(THREADS - 1, conflicts);
+        assertTrue(studentService.existsByStudentNumber("20996001"));
+        assertEquals(1, studentService.getChangesSince(version, 0, 100).getChanged().size());
+    }
+
+    @Test
+    void testUpdateToTakenNumberConflictsAndKeepsOriginal() {
+        // 准备
+        StudentDTO first = studentService.createStudent(newStudent("20996002"));
+        StudentDTO second = studentService.createStudent(newStudent("20996003"));
+        second.setStudentNumber(first.getStudentNumber());
+
+        // 执行和验证
+        StudentConflictException exception = assertThrows(StudentConflictException.class,
+                () -> studentService.updateStudent(second.getId(), second));
+        assertTrue(exception.getMessage().contains("20996002"));
+        assertEquals("20996003", studentService.getStudentById(second.getId()).orElseThrow().getStudentNumber());
+    }
+
+    private long latestVersion() {
+        return studentService.getChangesSince(0, 0, Integer.MAX_VALUE).getNextToken();
+    }
+
+    private static StudentDTO newStudent(String studentNumber) {
+        StudentDTO student = new StudentDTO();
+        student.setName("并发测试");
+        student.setStudentNumber(studentNumber);
+        student.setAge(20);
+        student.setGender("男");
+        student.setMajor("软件工程");
+        student.setEmail("conflict@example.com");
+        student.setEnrollmentDate(LocalDate.of(2024, 9, 1));
+        return student;
+    }
+}
@@ -0,0 +1,311 @@
+package com.example.studentmanagement.service;
+
+import com.example.studentmanagement.config.QueryCountingConfig;
+import com.example.studentmanagement.dto.CrossTabDimension;
+import com.example.studentmanagement.dto.StudentBulkUpdateRequest;
+import com.example.studentmanagement.dto.StudentDTO;
+import com.example.studentmanagement.dto.StudentField;
+import com.example.studentmanagement.util.QueryCounter;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 学生服务SQL语句预算测试类
+ *
+ * 每个 StudentService 方法在缓存为空时执行的语句数必须与预算完全一致，
+ * 多出的数据库往返（N+1、重复检查等）会使构建失败。语句数减少时同步下调预算。
+ *
+ * @author System
+ * @version 1.0
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-budget",
+        // 联想索引在写操作提交后同步，其语句不计入被测方法
+        "app.suggest.enabled=false"})
+@Import(QueryCountingConfig.class)
+class StudentQueryBudgetTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private List<StudentDTO> students;
+
+    @BeforeEach
+    void setUp() {
+        students = studentService.getAllStudents();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        queryCounter.reset();
+    }
+
+    @Test
+    void testCreateStudentBudget() {
+        // 执行
+        studentService.createStudent(newStudent());
+
+        // 验证：插入学生 + 分配变更版本号 + 变更日志（学号重复由唯一约束判断，不预先查询）
+        queryCounter.assertStatements(1, 2, 0, 0);
+    }
+
+    @Test
+    void testUpdateStudentBudget() {
+        // 准备
+        StudentDTO created = createAndReset();
+        created.setAge(25);
+
+        // 执行
+        studentService.updateStudent(created.getId(), created);
+
+        // 验证：加载学生 + 更新 + 分配变更版本号 + 变更日志
+        queryCounter.assertStatements(2, 1, 1, 0);
+    }
+
+    @Test
+    void testUpdateStudentNumberBudget() {
+        // 准备
+        StudentDTO created = createAndReset();
+        created.setStudentNumber(nextStudentNumber());
+
+        // 执行
+        studentService.updateStudent(created.getId(), created);
+
+        // 验证：加载学生 + 更新 + 分配变更版本号 + 变更日志（新学号是否被占用由唯一约束判断）
+        queryCounter.assertStatements(2, 1, 1, 0);
+    }
+
+    @Test
+    void testBulkUpdateBudget() {
+        // 准备
+        StudentBulkUpdateRequest.Criteria where = new StudentBulkUpdateRequest.Criteria();
+        where.setIds(Arrays.asList(createAndReset().getId(), createAndReset().getId(), createAndReset().getId()));
+        StudentBulkUpdateRequest.Assignments set = new StudentBulkUpdateRequest.Assignments();
+        set.setAge(22);
+
+        // 执行
+        int updated = studentService.bulkUpdateStudents(new StudentBulkUpdateRequest(where, set));
+
+        // 验证：查找目标 + 一条 UPDATE + 分配变更版本号 + 一条 INSERT ... SELECT 变更日志
+        assertEquals(3, updated);
+        queryCounter.assertStatements(2, 1, 1, 0);
+    }
+
+    @Test
+    void testDeleteStudentBudget() {
+        // 准备
+        StudentDTO created = createAndReset();
+
+        // 执行
+        studentService.deleteStudent(created.getId());
+
+        // 验证：加载学生 + 删除 + 分配变更版本号 + 变更日志
+        queryCounter.assertStatements(2, 1, 0, 1);
+    }
+
+    @Test
+    void testDeleteStudentsBatchBudget() {
+        // 准备
+        List<Long> ids = Arrays.asList(createAndReset().getId(), createAndReset().getId(), createAndReset().getId());
+
+        // 执行
+        int deleted = studentService.deleteStudentsBatch(ids);
+
+        // 验证：一次加载 + 一条批量删除 + 分配一次变更版本号 + 每个学生一条变更日志
+        assertEquals(3, deleted);
+        queryCounter.assertStatements(2, 3, 0, 1);
+    }
+
+    @Test
+    void testPointReadBudgets() {
+        // 准备
+        StudentDTO student = students.get(0);
+
+        // 执行和验证：缓存为空时各一条查询，再次查询由缓存返回
+        studentService.getStudentById(student.getId());
+        queryCounter.assertStatements(1, 0, 0, 0);
+        studentService.getStudentById(student.getId());
+        queryCounter.assertStatements(1, 0, 0, 0);
+
+        queryCounter.reset();
+        studentService.getStudentByStudentNumber(student.getStudentNumber());
+        queryCounter.assertStatements(1, 0, 0, 0);
+        studentService.getStudentByStudentNumber(student.getStudentNumber());
+        queryCounter.assertStatements(1, 0, 0, 0);
+
+        queryCounter.reset();
+        studentService.existsByStudentNumber(student.getStudentNumber());
+        queryCounter.assertStatements(1, 0, 0, 0);
+    }
+
+    @Test
+    void testLookupBudgets() {
+        // 准备
+        List<Long> ids = students.stream().map(StudentDTO::getId).collect(Collectors.toList());
+        List<String> numbers = students.stream().map(StudentDTO::getStudentNumber).collect(Collectors.toList());
+
+        // 执行和验证：无论多少个键都只有一条 IN 查询
+        studentService.lookupStudentsByIds(ids);
+        queryCounter.assertStatements(1, 0, 0, 0);
+
+        queryCounter.reset();
+        studentService.lookupStudentsByStudentNumbers(numbers);
+        queryCounter.assertStatements(1, 0, 0, 0);
+    }
+
+    @Test
+    void testListReadBudgets() {
+        // 执行和验证：列表查询各一条，不因学生数增加而增加
+        studentService.getAllStudents();
+        queryCounter.assertStatements(1, 0, 0, 0);
+
+        queryCounter.reset();
+        studentService.searchStudentsByName("张");
+        queryCounter.assertStatements(1, 0, 0, 0);
+
+        queryCounter.reset();
+        studentService.getStudentsByMajor("软件工程");
+        queryCounter.assertStatements(1, 0, 0, 0);
+
+        queryCounter.reset();
+        studentService.getStudentsByGender("男");
+        queryCounter.assertStatements(1, 0, 0, 0);
+
+        queryCounter.reset();
+        studentService.getStudentsByAgeRange(18, 30);
+        queryCounter.assertStatements(1, 0, 0, 0);
+    }
+
+    @Test
+    void testPagedReadBudgets() {
+        // 执行和验证：分页查询为数据 + COUNT，不统计总数时只有一条
+        studentService.getStudentsWithPagination(PageRequest.of(0, 3));
+        queryCounter.assertStatements(2, 0, 0, 0);
+
+        queryCounter.reset();
+        studentService.searchStudents(null, null, "男", PageRequest.of(0, 3));
+        queryCounter.assertStatements(2, 0, 0, 0);
+
+        queryCounter.reset();
+        studentService.getStudentsSlice(PageRequest.of(0, 3));
+        queryCounter.assertStatements(1, 0, 0, 0);
+
+        queryCounter.reset();
+        studentService.searchStudentsSlice(null, null, "男", PageRequest.of(0, 3));
+        queryCounter.assertStatements(1, 0, 0, 0);
+    }
+
+    @Test
+    void testProjectedReadBudgets() {
+        // 准备
+        List<StudentField> fields = Arrays.asList(
+                StudentField.ID, StudentField.NAME, StudentField.STUDENT_NUMBER, StudentField.MAJOR);
+
+        // 执行
+        Page<StudentDTO> page = studentService.searchStudentFields(fields, null, null, "男",
+                PageRequest.of(0, 3, Sort.by("major").descending()));
+
+        // 验证：数据 + COUNT，只查询请求的列
+        queryCounter.assertStatements(2, 0, 0, 0);
+        String select = queryCounter.getStatements().get(0).toLowerCase();
+        assertFalse(select.contains("email"), select);
+        assertFalse(select.contains("created_time"), select);
+        StudentDTO first = page.getContent().get(0);
+        assertNotNull(first.getId());
+        assertNotNull(first.getStudentNumber());
+        assertNotNull(first.getMajor());
+        assertNull(first.getAge());
+        assertNull(first.getEmail());
+
+        queryCounter.reset();
+        List<StudentDTO> all = studentService.getAllStudentFields(Collections.singletonList(StudentField.NAME));
+        queryCounter.assertStatements(1, 0, 0, 0);
+        assertEquals(students.size(), all.size());
+        assertNull(all.get(0).getId());
+
+        queryCounter.reset();
+        studentService.searchStudentFieldsSlice(fields, null, null, "男", PageRequest.of(0, 3));
+        queryCounter.assertStatements(1, 0, 0, 0);
+    }
+
+    @Test
+    void testStatisticsBudgets() {
+        // 执行和验证
+        studentService.getTotalStudentCount();
+        queryCounter.assertStatements(1, 0, 0, 0);
+
+        queryCounter.reset();
+        studentService.getStudentCountByMajor();
+        queryCounter.assertStatements(1, 0, 0, 0);
+
+        queryCounter.reset();
+        studentService.getStudentCountByGender();
+        queryCounter.assertStatements(1, 0, 0, 0);
+
+        queryCounter.reset();
+        studentService.getCrossTab(Arrays.asList(
+                Arrays.asList(CrossTabDimension.MAJOR, CrossTabDimension.GENDER),
+                Arrays.asList(CrossTabDimension.ENROLLMENT_YEAR, CrossTabDimension.MAJOR),
+                Collections.singletonList(CrossTabDimension.AGE)), true);
+        queryCounter.assertStatements(1, 0, 0, 0);
+    }
+
+    @Test
+    void testChangesSinceBudget() {
+        // 准备
+        createAndReset();
+        createAndReset();
+
+        // 执行
+        studentService.getChangesSince(0, 0, 500);
+
+        // 验证：读取变更日志 + 一次加载变更的学生
+        queryCounter.assertStatements(2, 0, 0, 0);
+    }
+
+    private StudentDTO createAndReset() {
+        StudentDTO created = studentService.createStudent(newStudent());
+        // 主键由应用生成时新增的学生会写入二级缓存，清空后按缓存为空的预算计数
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        queryCounter.reset();
+        return created;
+    }
+
+    private static StudentDTO newStudent() {
+        StudentDTO student = new StudentDTO();
+        student.setName("预算测试");
+        student.setStudentNumber(nextStudentNumber());
+        student.setAge(20);
+        student.setGender("男");
+        student.setMajor("软件工程");
+        student.setEmail("budget@example.com");
+        student.setEnrollmentDate(LocalDate.of(2024, 9, 1));
+        return student;
+    }
+
+    private static String nextStudentNumber() {
+        return String.valueOf(20990000 + SEQUENCE.incrementAndGet());
+    }
+}
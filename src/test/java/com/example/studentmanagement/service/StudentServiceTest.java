@@ -1,20 +1,31 @@
 package com.example.studentmanagement.service;
 
 import com.example.studentmanagement.dto.StudentDTO;
+import com.example.studentmanagement.dto.StudentSyncDTO;
 import com.example.studentmanagement.entity.Student;
+import com.example.studentmanagement.entity.StudentChange;
+import com.example.studentmanagement.entity.StudentChange.ChangeType;
+import com.example.studentmanagement.exception.StudentConflictException;
+import com.example.studentmanagement.exception.StudentNotFoundException;
+import com.example.studentmanagement.repository.MajorDictionary;
+import com.example.studentmanagement.repository.StudentChangeRepository;
 import com.example.studentmanagement.repository.StudentRepository;
 import com.example.studentmanagement.service.impl.StudentServiceImpl;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -24,6 +35,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -38,6 +50,15 @@ class StudentServiceTest {
     @Mock
     private StudentRepository studentRepository;
 
+    @Mock
+    private StudentChangeRepository studentChangeRepository;
+
+    @Mock
+    private MajorDictionary majorDictionary;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private StudentServiceImpl studentService;
 
@@ -73,8 +94,7 @@ class StudentServiceTest {
     @Test
     void testCreateStudent_Success() {
         // 准备
-        when(studentRepository.existsByStudentNumber(anyString())).thenReturn(false);
-        when(studentRepository.save(any(Student.class))).thenReturn(testStudent);
+        when(studentRepository.saveAndFlush(any(Student.class))).thenReturn(testStudent);
 
         // 执行
         StudentDTO result = studentService.createStudent(testStudentDTO);
@@ -83,23 +103,33 @@ class StudentServiceTest {
         assertNotNull(result);
         assertEquals(testStudentDTO.getName(), result.getName());
         assertEquals(testStudentDTO.getStudentNumber(), result.getStudentNumber());
-        verify(studentRepository).existsByStudentNumber(testStudentDTO.getStudentNumber());
-        verify(studentRepository).save(any(Student.class));
+        verify(studentRepository, never()).existsByStudentNumber(anyString());
+        verify(studentRepository).saveAndFlush(any(Student.class));
     }
 
     @Test
     void testCreateStudent_StudentNumberExists() {
         // 准备
-        when(studentRepository.existsByStudentNumber(anyString())).thenReturn(true);
+        when(studentRepository.saveAndFlush(any(Student.class))).thenThrow(studentNumberViolation());
 
         // 执行和验证
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+        StudentConflictException exception = assertThrows(StudentConflictException.class, () -> {
             studentService.createStudent(testStudentDTO);
         });
         
         assertTrue(exception.getMessage().contains("学号已存在"));
-        verify(studentRepository).existsByStudentNumber(testStudentDTO.getStudentNumber());
-        verify(studentRepository, never()).save(any(Student.class));
+        verify(studentChangeRepository, never()).save(any(StudentChange.class));
+    }
+
+    @Test
+    void testCreateStudent_OtherConstraintViolationNotTranslated() {
+        // 准备
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("not null",
+                new ConstraintViolationException("not null", new SQLException(), "NOT_NULL_NAME"));
+        when(studentRepository.saveAndFlush(any(Student.class))).thenThrow(violation);
+
+        // 执行和验证
+        assertThrows(DataIntegrityViolationException.class, () -> studentService.createStudent(testStudentDTO));
     }
 
     @Test
@@ -167,7 +197,7 @@ class StudentServiceTest {
     void testUpdateStudent_Success() {
         // 准备
         when(studentRepository.findById(1L)).thenReturn(Optional.of(testStudent));
-        when(studentRepository.save(any(Student.class))).thenReturn(testStudent);
+        when(studentRepository.saveAndFlush(any(Student.class))).thenReturn(testStudent);
 
         testStudentDTO.setName("李四");
         testStudentDTO.setAge(21);
@@ -178,7 +208,23 @@ class StudentServiceTest {
         // 验证
         assertNotNull(result);
         verify(studentRepository).findById(1L);
-        verify(studentRepository).save(any(Student.class));
+        verify(studentRepository).saveAndFlush(any(Student.class));
+    }
+
+    @Test
+    void testUpdateStudent_StudentNumberTaken() {
+        // 准备
+        when(studentRepository.findById(1L)).thenReturn(Optional.of(testStudent));
+        when(studentRepository.saveAndFlush(any(Student.class))).thenThrow(studentNumberViolation());
+        testStudentDTO.setStudentNumber("20210002");
+
+        // 执行和验证
+        StudentConflictException exception = assertThrows(StudentConflictException.class, () -> {
+            studentService.updateStudent(1L, testStudentDTO);
+        });
+
+        assertTrue(exception.getMessage().contains("20210002"));
+        verify(studentRepository, never()).existsByStudentNumber(anyString());
     }
 
     @Test
@@ -187,43 +233,43 @@ class StudentServiceTest {
         when(studentRepository.findById(1L)).thenReturn(Optional.empty());
 
         // 执行和验证
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+        StudentNotFoundException exception = assertThrows(StudentNotFoundException.class, () -> {
             studentService.updateStudent(1L, testStudentDTO);
         });
         
         assertTrue(exception.getMessage().contains("学生不存在"));
         verify(studentRepository).findById(1L);
-        verify(studentRepository, never()).save(any(Student.class));
+        verify(studentRepository, never()).saveAndFlush(any(Student.class));
     }
 
     @Test
     void testDeleteStudent_Success() {
         // 准备
-        when(studentRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(studentRepository).deleteById(1L);
+        when(studentRepository.findById(1L)).thenReturn(Optional.of(testStudent));
+        doNothing().when(studentRepository).delete(testStudent);
 
         // 执行
         boolean result = studentService.deleteStudent(1L);
 
         // 验证
         assertTrue(result);
-        verify(studentRepository).existsById(1L);
-        verify(studentRepository).deleteById(1L);
+        verify(studentRepository).findById(1L);
+        verify(studentRepository).delete(testStudent);
     }
 
     @Test
     void testDeleteStudent_NotFound() {
         // 准备
-        when(studentRepository.existsById(1L)).thenReturn(false);
+        when(studentRepository.findById(1L)).thenReturn(Optional.empty());
 
         // 执行和验证
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+        StudentNotFoundException exception = assertThrows(StudentNotFoundException.class, () -> {
             studentService.deleteStudent(1L);
         });
         
         assertTrue(exception.getMessage().contains("学生不存在"));
-        verify(studentRepository).existsById(1L);
-        verify(studentRepository, never()).deleteById(1L);
+        verify(studentRepository).findById(1L);
+        verify(studentRepository, never()).delete(any(Student.class));
     }
 
     @Test
@@ -283,4 +329,82 @@ class StudentServiceTest {
         assertEquals(10L, result);
         verify(studentRepository).count();
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetChangesSince() {
+        // 准备：学生1先修改后删除，学生2仅修改
+        StudentChange change1 = new StudentChange(1L, "20210001", ChangeType.UPSERT, 11L);
+        change1.setId(11L);
+        StudentChange change2 = new StudentChange(2L, "20210002", ChangeType.UPSERT, 12L);
+        change2.setId(12L);
+        StudentChange change3 = new StudentChange(1L, "20210001", ChangeType.DELETE, 13L);
+        change3.setId(13L);
+        Student student2 = new Student("李四", "20210002", 19, "女", "软件工程");
+        student2.setId(2L);
+        when(studentChangeRepository.findAfter(eq(10L), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(Arrays.asList(change1, change2, change3));
+        when(studentRepository.findAllById(List.of(2L))).thenReturn(List.of(student2));
+
+        // 执行
+        StudentSyncDTO result = studentService.getChangesSince(10L, 0, 100);
+
+        // 验证
+        assertEquals(1, result.getChanged().size());
+        assertEquals("20210002", result.getChanged().get(0).getStudentNumber());
+        assertEquals(List.of(1L), result.getDeletedIds());
+        assertEquals(13L, result.getNextToken());
+        assertEquals(0L, result.getNextChangeId());
+        assertFalse(result.isHasMore());
+    }
+
+    @Test
+    void testGetChangesSince_PagesWithinTransaction() {
+        // 准备：版本12是同一事务删除的两个学生，分页只取到其中一条
+        StudentChange change1 = new StudentChange(1L, "20210001", ChangeType.DELETE, 11L);
+        change1.setId(30L);
+        StudentChange change2 = new StudentChange(2L, "20210002", ChangeType.DELETE, 12L);
+        change2.setId(20L);
+        StudentChange change3 = new StudentChange(3L, "20210003", ChangeType.DELETE, 12L);
+        change3.setId(21L);
+        when(studentChangeRepository.findAfter(eq(10L), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(Arrays.asList(change1, change2));
+        when(studentChangeRepository.findAfter(eq(12L), eq(20L), any(Pageable.class)))
+                .thenReturn(List.of(change3));
+
+        // 执行
+        StudentSyncDTO first = studentService.getChangesSince(10L, 0, 2);
+        StudentSyncDTO second = studentService.getChangesSince(first.getNextToken(), first.getNextChangeId(), 2);
+
+        // 验证：第一页不超过 limit，游标停在版本12的记录20之后，第二页从版本12的剩余记录继续
+        assertEquals(List.of(1L, 2L), first.getDeletedIds());
+        assertEquals(12L, first.getNextToken());
+        assertEquals(20L, first.getNextChangeId());
+        assertTrue(first.isHasMore());
+        assertEquals(List.of(3L), second.getDeletedIds());
+        assertEquals(12L, second.getNextToken());
+        assertEquals(0L, second.getNextChangeId());
+        assertFalse(second.isHasMore());
+    }
+
+    @Test
+    void testGetChangesSince_NoChanges() {
+        // 准备
+        when(studentChangeRepository.findAfter(eq(13L), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        // 执行
+        StudentSyncDTO result = studentService.getChangesSince(13L, 0, 100);
+
+        // 验证
+        assertTrue(result.getChanged().isEmpty());
+        assertTrue(result.getDeletedIds().isEmpty());
+        assertEquals(13L, result.getNextToken());
+        verify(studentRepository, never()).findAllById(any());
+    }
+
+    private static DataIntegrityViolationException studentNumberViolation() {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("Unique index or primary key violation", new SQLException(),
+                        "PUBLIC.UK_STUDENTS_STUDENT_NUMBER_INDEX_8"));
+    }
+}
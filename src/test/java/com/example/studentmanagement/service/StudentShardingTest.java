@@ -0,0 +1,230 @@
+package com.example.studentmanagement.service;
+
+import com.example.studentmanagement.dto.StudentDTO;
+import com.example.studentmanagement.dto.StudentField;
+import com.example.studentmanagement.exception.StudentConflictException;
+import com.example.studentmanagement.exception.StudentOperationNotSupportedException;
+import com.example.studentmanagement.repository.StudentRepository;
+import org.h2.api.Trigger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 分片模式下的学生服务测试类
+ *
+ * 两个分片按入学年份分布（偶数年份在分片0，奇数年份在分片1），主库的 students 表不参与读写
+ *
+ * @author System
+ * @version 1.0
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sharding-primary",
+        "app.sharding.enabled=true",
+        "app.id-generator.node-id=1",
+        "app.sharding.init-schema=true",
+        "app.sharding.shards[0].url=jdbc:h2:mem:service_shard_0;DB_CLOSE_DELAY=-1",
+        "app.sharding.shards[0].username=sa",
+        "app.sharding.shards[1].url=jdbc:h2:mem:service_shard_1;DB_CLOSE_DELAY=-1",
+        "app.sharding.shards[1].username=sa"
+})
+class StudentShardingTest {
+
+    private final List<JdbcTemplate> shards = List.of(shard(0), shard(1));
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        shards.forEach(shard -> shard.update("DELETE FROM students"));
+    }
+
+    @Test
+    void testCreateAndReadGoThroughShards() {
+        // 准备
+        long primaryCount = studentRepository.count();
+
+        // 执行
+        StudentDTO created = studentService.createStudent(newStudent("20210001", "张三", "软件工程"));
+
+        // 验证：只写入奇数年份所在的分片
+        assertEquals(0, countIn(0, "20210001"));
+        assertEquals(1, countIn(1, "20210001"));
+        assertEquals(primaryCount, studentRepository.count());
+        assertEquals("张三", studentService.getStudentById(created.getId()).orElseThrow().getName());
+        assertEquals(created.getId(), studentService.getStudentByStudentNumber("20210001").orElseThrow().getId());
+        assertTrue(studentService.existsByStudentNumber("20210001"));
+        assertThrows(StudentConflictException.class,
+                () -> studentService.createStudent(newStudent("20210001", "李四", "软件工程")));
+    }
+
+    @Test
+    void testUpdateMovesStudentBetweenShards() {
+        // 准备
+        StudentDTO created = studentService.createStudent(newStudent("20200001", "张三", "软件工程"));
+        studentService.createStudent(newStudent("20210002", "李四", "软件工程"));
+        StudentDTO changes = newStudent("20210001", "张三", "信息安全");
+
+        // 执行
+        StudentDTO updated = studentService.updateStudent(created.getId(), changes);
+
+        // 验证：ID不变，记录从分片0移到分片1
+        assertEquals(created.getId(), updated.getId());
+        assertEquals(0, countIn(0, "20200001"));
+        assertEquals(1, countIn(1, "20210001"));
+        assertEquals("信息安全", studentService.getStudentById(created.getId()).orElseThrow().getMajor());
+        assertThrows(StudentConflictException.class,
+                () -> studentService.updateStudent(created.getId(), newStudent("20210002", "张三", "信息安全")));
+        assertEquals(1, countIn(1, "20210001"));
+    }
+
+    @Test
+    void testDeleteRemovesFromShard() {
+        // 准备
+        StudentDTO created = studentService.createStudent(newStudent("20220001", "张三", "软件工程"));
+
+        // 执行
+        studentService.deleteStudent(created.getId());
+
+        // 验证
+        assertEquals(0, countIn(0, "20220001"));
+        assertFalse(studentService.getStudentById(created.getId()).isPresent());
+    }
+
+    @Test
+    void testShardWritesAreUndoneWhenPrimaryTransactionRollsBack() {
+        // 准备：同分片内修改、跨分片移动和删除各准备一条记录
+        StudentDTO kept = studentService.createStudent(newStudent("20200001", "张三", "软件工程"));
+        StudentDTO moved = studentService.createStudent(newStudent("20200002", "李四", "软件工程"));
+        StudentDTO deleted = studentService.createStudent(newStudent("20210003", "王五", "软件工程"));
+        jdbcTemplate.execute("CREATE TRIGGER fail_student_changes BEFORE INSERT ON student_changes "
+                + "FOR EACH ROW CALL '" + FailingTrigger.class.getName() + "'");
+        try {
+            // 执行：分片写入成功后，写变更日志失败，主库事务回滚
+            assertThrows(RuntimeException.class,
+                    () -> studentService.createStudent(newStudent("20210001", "赵六", "软件工程")));
+            assertThrows(RuntimeException.class,
+                    () -> studentService.updateStudent(kept.getId(), newStudent("20200001", "张三", "信息安全")));
+            assertThrows(RuntimeException.class,
+                    () -> studentService.updateStudent(moved.getId(), newStudent("20210002", "李四", "信息安全")));
+            assertThrows(RuntimeException.class, () -> studentService.deleteStudent(deleted.getId()));
+        } finally {
+            jdbcTemplate.execute("DROP TRIGGER fail_student_changes");
+        }
+
+        // 验证：分片恢复到写入前的状态
+        assertEquals(0, countIn(1, "20210001"));
+        assertEquals("软件工程", studentService.getStudentById(kept.getId()).orElseThrow().getMajor());
+        assertEquals(1, countIn(0, "20200002"));
+        assertEquals(0, countIn(1, "20210002"));
+        assertEquals("李四", studentService.getStudentById(moved.getId()).orElseThrow().getName());
+        assertEquals(1, countIn(1, "20210003"));
+        assertEquals(deleted.getId(), studentService.getStudentByStudentNumber("20210003").orElseThrow().getId());
+    }
+
+    @Test
+    void testPagesAndStatisticsMergeAllShards() {
+        // 准备：两届学生分别落在两个分片
+        for (int i = 1; i <= 3; i++) {
+            studentService.createStudent(newStudent("2020000" + i, "学生A" + i, "软件工程"));
+            studentService.createStudent(newStudent("2021000" + i, "学生B" + i, "信息安全"));
+        }
+
+        // 执行
+        Page<StudentDTO> page = studentService.getStudentsWithPagination(
+                PageRequest.of(0, 4, Sort.by("studentNumber")));
+        Page<StudentDTO> search = studentService.searchStudents(null, "信息安全", null,
+                PageRequest.of(0, 10, Sort.by("studentNumber")));
+        Page<StudentDTO> fields = studentService.searchStudentFields(
+                List.of(StudentField.NAME), null, null, null, PageRequest.of(0, 2, Sort.by("name").descending()));
+
+        // 验证
+        assertEquals(6, page.getTotalElements());
+        assertEquals(List.of("20200001", "20200002", "20200003", "20210001"), numbers(page.getContent()));
+        assertEquals(List.of("20210001", "20210002", "20210003"), numbers(search.getContent()));
+        assertEquals(List.of("学生B3", "学生B2"),
+                fields.getContent().stream().map(StudentDTO::getName).collect(Collectors.toList()));
+        assertNull(fields.getContent().get(0).getStudentNumber());
+        assertEquals(6L, studentService.getTotalStudentCount());
+        assertEquals(Map.of("软件工程", 3L, "信息安全", 3L), studentService.getStudentCountByMajor());
+        assertEquals(6, studentService.getAllStudents().size());
+    }
+
+    @Test
+    void testChangeSyncReadsCurrentStudentsFromShards() {
+        // 准备
+        long token = studentService.getChangesSince(0, 0, Integer.MAX_VALUE).getNextToken();
+
+        // 执行
+        StudentDTO created = studentService.createStudent(newStudent("20230001", "张三", "软件工程"));
+
+        // 验证
+        assertEquals(List.of(created.getId()), studentService.getChangesSince(token, 0, 100).getChanged().stream()
+                .map(StudentDTO::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testSingleDatabaseOperationsAreRejected() {
+        assertThrows(StudentOperationNotSupportedException.class, () -> studentService.bulkUpdateStudents(null));
+        assertThrows(StudentOperationNotSupportedException.class, () -> studentService.deleteStudentsBatch(List.of(1L)));
+    }
+
+    /**
+     * 拒绝写入变更日志的触发器，模拟分片写入后主库事务失败
+     */
+    public static class FailingTrigger implements Trigger {
+
+        @Override
+        public void fire(Connection conn, Object[] oldRow, Object[] newRow) throws SQLException {
+            throw new SQLException("模拟主库写入失败");
+        }
+    }
+
+    private int countIn(int shard, String studentNumber) {
+        return shards.get(shard).queryForObject("SELECT COUNT(*) FROM students WHERE student_number = ?",
+                Integer.class, studentNumber);
+    }
+
+    private static JdbcTemplate shard(int index) {
+        return new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:service_shard_" + index + ";DB_CLOSE_DELAY=-1", "sa", ""));
+    }
+
+    private static List<String> numbers(List<StudentDTO> students) {
+        return students.stream().map(StudentDTO::getStudentNumber).collect(Collectors.toList());
+    }
+
+    private static StudentDTO newStudent(String studentNumber, String name, String major) {
+        StudentDTO student = new StudentDTO();
+        student.setName(name);
+        student.setStudentNumber(studentNumber);
+        student.setAge(20);
+        student.setGender("男");
+        student.setMajor(major);
+        student.setEmail("shard@example.com");
+        student.setEnrollmentDate(LocalDate.of(2024, 9, 1));
+        return student;
+    }
+}
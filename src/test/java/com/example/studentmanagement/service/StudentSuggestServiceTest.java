@@ -0,0 +1,95 @@
+package com.example.studentmanagement.service;
+
+import com.example.studentmanagement.dto.StudentBulkUpdateRequest;
+import com.example.studentmanagement.dto.StudentDTO;
+import com.example.studentmanagement.dto.StudentFuzzyMatchDTO;
+import com.example.studentmanagement.dto.StudentSuggestDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 学生搜索联想服务测试类
+ *
+ * 验证启动时加载的索引支持拼音检索和容错搜索，且写操作提交后索引同步更新
+ *
+ * @author System
+ * @version 1.0
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:suggest")
+class StudentSuggestServiceTest {
+
+    @Autowired
+    private StudentSuggestService studentSuggestService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Test
+    void testSuggestByPinyinInitialsAndStudentNumber() {
+        // 执行和验证
+        assertTrue(names(studentSuggestService.suggest("zs", 10)).contains("张三"));
+        assertTrue(names(studentSuggestService.suggest("ZhangS", 10)).contains("张三"));
+        assertTrue(names(studentSuggestService.suggest("20210001", 10)).contains("张三"));
+        assertTrue(studentSuggestService.suggest("rg", 10).getMajors().contains("人工智能"));
+        assertTrue(studentSuggestService.suggest(" ", 10).getStudents().isEmpty());
+    }
+
+    @Test
+    void testFuzzySearchToleratesWrongCharacter() {
+        // 执行
+        List<StudentFuzzyMatchDTO> matches = studentSuggestService.fuzzySearch("张山", 1, 10);
+
+        // 验证
+        assertEquals("张三", matches.get(0).getName());
+        assertEquals(1, matches.get(0).getDistance());
+        assertTrue(studentSuggestService.fuzzySearch("张山", 0, 10).isEmpty());
+    }
+
+    @Test
+    void testIndexFollowsCommittedWrites() {
+        // 准备
+        StudentDTO student = new StudentDTO();
+        student.setName("欧阳娜娜");
+        student.setStudentNumber("20995001");
+        student.setAge(20);
+        student.setGender("女");
+        student.setMajor("考古学");
+        student.setEmail("oyang@example.com");
+        student.setEnrollmentDate(LocalDate.of(2024, 9, 1));
+
+        // 执行和验证：创建
+        StudentDTO created = studentService.createStudent(student);
+        assertEquals(Collections.singletonList("欧阳娜娜"), names(studentSuggestService.suggest("oynn", 10)));
+        assertEquals(Collections.singletonList("考古学"), studentSuggestService.suggest("kg", 10).getMajors());
+        assertEquals(created.getId(), studentSuggestService.fuzzySearch("欧阳娜", 1, 10).get(0).getId());
+
+        // 执行和验证：批量更新专业后旧专业不再联想
+        StudentBulkUpdateRequest.Criteria where = new StudentBulkUpdateRequest.Criteria();
+        where.setIds(Collections.singletonList(created.getId()));
+        StudentBulkUpdateRequest.Assignments set = new StudentBulkUpdateRequest.Assignments();
+        set.setMajor("博物馆学");
+        studentService.bulkUpdateStudents(new StudentBulkUpdateRequest(where, set));
+        assertTrue(studentSuggestService.suggest("kg", 10).getMajors().isEmpty());
+        assertEquals("博物馆学", studentSuggestService.suggest("oynn", 10).getStudents().get(0).getMajor());
+
+        // 执行和验证：删除
+        studentService.deleteStudent(created.getId());
+        assertTrue(studentSuggestService.suggest("oynn", 10).getStudents().isEmpty());
+        assertTrue(studentSuggestService.fuzzySearch("欧阳娜娜", 1, 10).isEmpty());
+        assertTrue(studentSuggestService.suggest("bwg", 10).getMajors().isEmpty());
+    }
+
+    private static List<String> names(StudentSuggestDTO suggestions) {
+        return suggestions.getStudents().stream()
+                .map(StudentSuggestDTO.StudentSuggestion::getName)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.studentmanagement.sharding;
+
+import com.example.studentmanagement.entity.Student;
+import com.example.studentmanagement.id.SnowflakeIdGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.h2.api.Trigger;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 分片学生数据访问层测试类
+ * 
+ * @author System
+ * @version 1.0
+ */
+class ShardedStudentRepositoryTest {
+
+    private static final String[] MAJORS = {"计算机科学与技术", "软件工程", "信息安全"};
+
+    private final List<DataSource> dataSources = new ArrayList<>();
+    private ExecutorService executor;
+    private ShardedStudentRepository repository;
+    private List<Student> allStudents;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 2; i++) {
+            DataSource dataSource = new DriverManagerDataSource(
+                    "jdbc:h2:mem:shard_test_" + i + ";DB_CLOSE_DELAY=-1", "sa", "");
+            DatabasePopulatorUtils.execute(
+                    new ResourceDatabasePopulator(new ClassPathResource("db/shard-schema.sql")), dataSource);
+            dataSources.add(dataSource);
+        }
+        executor = Executors.newFixedThreadPool(2);
+        repository = new ShardedStudentRepository(dataSources, new EnrollmentYearShardFunction(),
+                new SnowflakeIdGenerator(0, 0, 10), executor, 10);
+
+        // 准备数据：2020-2023四届，每届5人
+        allStudents = new ArrayList<>();
+        for (int year = 2020; year <= 2023; year++) {
+            for (int i = 1; i <= 5; i++) {
+                Student student = new Student("学生" + year + i, year + "000" + i,
+                        16 + (year + i) % 10, i % 2 == 0 ? "女" : "男", MAJORS[(year + i) % MAJORS.length]);
+                allStudents.add(repository.insert(student));
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+        dataSources.forEach(dataSource -> new JdbcTemplate(dataSource).execute("DROP ALL OBJECTS"));
+    }
+
+    @Test
+    void testPointLookupRoutesToSingleShard() {
+        // 验证：同一届学生落在同一分片，且只有该分片有数据
+        assertEquals(0, repository.shardFor("20200001"));
+        assertEquals(1, repository.shardFor("20210001"));
+        assertEquals(10L, new JdbcTemplate(dataSources.get(0))
+                .queryForObject("SELECT COUNT(*) FROM students", Long.class));
+
+        Optional<Student> found = repository.findByStudentNumber("20210003");
+        assertTrue(found.isPresent());
+        assertEquals("学生20213", found.get().getName());
+        assertFalse(repository.findByStudentNumber("20240001").isPresent());
+    }
+
+    @Test
+    void testPagesMatchGlobalSortOrder() {
+        Sort sort = Sort.by("age").descending().and(Sort.by("name"));
+        List<String> expected = allStudents.stream()
+                .sorted(ShardedStudentRepository.buildComparator(sort))
+                .map(Student::getStudentNumber)
+                .collect(Collectors.toList());
+
+        // 执行：逐页读取并拼接
+        List<String> actual = new ArrayList<>();
+        for (int page = 0; page < 3; page++) {
+            Page<Student> result = repository.findAll(PageRequest.of(page, 7, sort));
+            assertEquals(20, result.getTotalElements());
+            result.forEach(student -> actual.add(student.getStudentNumber()));
+        }
+
+        // 验证
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void testFiltersAndAggregatesAreSummedAcrossShards() {
+        Page<Student> result = repository.findStudentsWithFilters(null, "软件工程", "女",
+                PageRequest.of(0, 100, Sort.by("studentNumber")));
+        long expected = allStudents.stream()
+                .filter(s -> s.getMajor().equals("软件工程") && s.getGender().equals("女"))
+                .count();
+        assertEquals(expected, result.getTotalElements());
+        assertEquals(expected, result.getContent().size());
+
+        assertEquals(20L, repository.count());
+        Map<String, Long> byMajor = repository.countStudentsByMajor();
+        assertEquals(allStudents.stream().collect(Collectors.groupingBy(Student::getMajor, Collectors.counting())),
+                byMajor);
+        assertEquals(Map.of("男", 12L, "女", 8L), repository.countStudentsByGender());
+    }
+
+    @Test
+    void testUpdateMovesStudentWhenShardChanges() {
+        Student student = repository.findByStudentNumber("20200001").orElseThrow();
+        student.setStudentNumber("20210009");
+
+        // 执行
+        repository.update("20200001", student);
+
+        // 验证
+        assertFalse(repository.existsByStudentNumber("20200001"));
+        assertTrue(repository.existsByStudentNumber("20210009"));
+        assertEquals(student.getId(), repository.findByStudentNumber("20210009").orElseThrow().getId());
+        assertEquals(20L, repository.count());
+    }
+
+    @Test
+    void testFailedMoveKeepsStudentOnOriginalShard() {
+        // 准备：原分片拒绝删除
+        new JdbcTemplate(dataSources.get(0)).execute("CREATE TRIGGER reject_delete BEFORE DELETE ON students "
+                + "FOR EACH ROW CALL '" + RejectDelete.class.getName() + "'");
+        Student original = repository.findByStudentNumber("20200001").orElseThrow();
+        Student student = repository.findByStudentNumber("20200001").orElseThrow();
+        student.setStudentNumber("20210009");
+
+        // 执行
+        assertThrows(DataAccessException.class, () -> repository.update("20200001", student));
+
+        // 验证：新分片上的插入已撤销，原记录不变
+        assertFalse(repository.existsByStudentNumber("20210009"));
+        Student kept = repository.findByStudentNumber("20200001").orElseThrow();
+        assertEquals(original.getId(), kept.getId());
+        assertEquals(original.getName(), kept.getName());
+        assertEquals(20L, repository.count());
+    }
+
+    @Test
+    void testMoveToTakenStudentNumberLeavesOriginalShardUntouched() {
+        // 准备
+        Student student = repository.findByStudentNumber("20200001").orElseThrow();
+        student.setStudentNumber("20210001");
+
+        // 执行
+        assertThrows(DuplicateKeyException.class, () -> repository.update("20200001", student));
+
+        // 验证
+        assertTrue(repository.existsByStudentNumber("20200001"));
+        assertEquals("学生20211", repository.findByStudentNumber("20210001").orElseThrow().getName());
+        assertEquals(20L, repository.count());
+    }
+
+    @Test
+    void testFindByIdSearchesAllShards() {
+        Student student = allStudents.get(allStudents.size() - 1);
+
+        assertEquals(student.getStudentNumber(), repository.findById(student.getId()).orElseThrow().getStudentNumber());
+        assertFalse(repository.findById(-1L).isPresent());
+        assertEquals(20, repository.findAll().size());
+    }
+
+    /**
+     * 拒绝删除的触发器，模拟原分片删除失败
+     */
+    public static class RejectDelete implements Trigger {
+
+        @Override
+        public void fire(Connection conn, Object[] oldRow, Object[] newRow) throws SQLException {
+            throw new SQLException("分片不可写");
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.studentmanagement.tracing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 请求追踪测试类
+ *
+ * @author System
+ * @version 1.0
+ */
+class RequestTraceTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null) {
+            trace.end(200);
+        }
+    }
+
+    @Test
+    void testUnsampledThreadRecordsNothing() {
+        // 执行
+        RequestTrace trace = RequestTrace.enter(TracePhase.SERVICE);
+        RequestTrace.exit(trace, TracePhase.SERVICE);
+
+        // 验证
+        assertNull(trace);
+        assertNull(RequestTrace.current());
+    }
+
+    @Test
+    void testNestedSamePhaseCountedOnce() {
+        // 准备
+        RequestTrace trace = RequestTrace.begin("GET", "/api/students/search?name=x");
+
+        // 执行：服务方法经代理调用另一个服务方法，期间执行两条语句
+        RequestTrace outer = RequestTrace.enter(TracePhase.SERVICE);
+        RequestTrace inner = RequestTrace.enter(TracePhase.SERVICE);
+        for (int i = 0; i < 2; i++) {
+            RequestTrace.exit(RequestTrace.enter(TracePhase.JDBC), TracePhase.JDBC);
+        }
+        RequestTrace.exit(inner, TracePhase.SERVICE);
+        RequestTrace.exit(outer, TracePhase.SERVICE);
+        trace.end(200);
+
+        // 验证
+        assertNull(RequestTrace.current());
+        assertEquals(1, trace.getPhases().get("service").getCount());
+        assertEquals(2, trace.getPhases().get("db").getCount());
+        assertFalse(trace.getPhases().containsKey("json"));
+        assertTrue(trace.getDurationMillis() >= trace.getPhases().get("service").getMillis());
+
+        List<String> metrics = Arrays.stream(trace.toServerTiming().split(", "))
+                .map(metric -> metric.substring(0, metric.indexOf(';')))
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList("total", "service", "db"), metrics);
+        assertTrue(trace.toServerTiming().endsWith(";desc=\"2\""));
+    }
+
+    @Test
+    void testBufferKeepsRecentAndReturnsSlowest() {
+        // 准备
+        RequestTraceBuffer buffer = new RequestTraceBuffer(2);
+
+        // 执行
+        for (int i = 0; i < 3; i++) {
+            RequestTrace trace = RequestTrace.begin("GET", "/api/students/" + i);
+            sleep(i == 1 ? 20 : 1);
+            trace.end(200);
+            buffer.record(trace);
+        }
+
+        // 验证：第一个已被覆盖，其余按耗时降序
+        assertEquals(3, buffer.getTotalRecorded());
+        assertEquals(Arrays.asList("/api/students/1", "/api/students/2"),
+                buffer.slowest(10).stream().map(RequestTrace::getUri).collect(Collectors.toList()));
+        assertEquals(1, buffer.slowest(1).size());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.studentmanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 自适应并发限制器测试类
+ *
+ * @author System
+ * @version 1.0
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    @Test
+    void testShareLimitsLowPriorityRequests() {
+        // 准备
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 0.2);
+
+        // 执行：份额0.5的请求最多5个，之后全额请求仍可用满剩余上限
+        int scans = 0;
+        while (limiter.tryAcquire(0.5)) {
+            scans++;
+        }
+        int points = 0;
+        while (limiter.tryAcquire(1.0)) {
+            points++;
+        }
+
+        // 验证
+        assertEquals(5, scans);
+        assertEquals(5, points);
+        assertEquals(10, limiter.getInFlight());
+    }
+
+    @Test
+    void testSteadyLatencyUnderLoadGrowsLimit() {
+        // 准备
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 1.0);
+        acquire(limiter, 10);
+
+        // 执行：第一次采样只建立基线，之后响应时间不变
+        for (int i = 0; i < 10; i++) {
+            limiter.onSuccess(MILLIS);
+            limiter.tryAcquire(1.0);
+        }
+
+        // 验证
+        assertTrue(limiter.getLimit() > 10, "limit=" + limiter.getLimit());
+    }
+
+    @Test
+    void testRisingLatencyShrinksLimit() {
+        // 准备
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 1.0);
+        acquire(limiter, 10);
+        limiter.onSuccess(MILLIS);
+
+        // 执行：响应时间变为基线的10倍，梯度取下限0.5：10 * 0.5 + sqrt(10)
+        limiter.onSuccess(10 * MILLIS);
+
+        // 验证
+        assertEquals(8, limiter.getLimit());
+    }
+
+    @Test
+    void testIdleCompletionsDoNotGrowLimit() {
+        // 准备
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 1.0);
+
+        // 执行：每次只有一个请求在处理，远低于上限的一半
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire(1.0);
+            limiter.onSuccess(MILLIS);
+        }
+
+        // 验证
+        assertEquals(10, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void testDroppedBacksOffToMinimum() {
+        // 准备
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 8, 100, 0.2);
+
+        // 执行
+        limiter.tryAcquire(1.0);
+        limiter.onDropped();
+        int afterOne = limiter.getLimit();
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire(1.0);
+            limiter.onDropped();
+        }
+
+        // 验证
+        assertEquals(9, afterOne);
+        assertEquals(8, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void testIgnoredReleasesWithoutAdjusting() {
+        // 准备
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 1.0);
+        limiter.tryAcquire(1.0);
+
+        // 执行
+        limiter.onIgnore();
+
+        // 验证
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    void testRejectsInvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(10, 0, 100, 0.2));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(10, 20, 100, 0.2));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(200, 1, 100, 0.2));
+    }
+
+    private static void acquire(AdaptiveConcurrencyLimiter limiter, int permits) {
+        for (int i = 0; i < permits; i++) {
+            assertTrue(limiter.tryAcquire(1.0));
+        }
+    }
+}
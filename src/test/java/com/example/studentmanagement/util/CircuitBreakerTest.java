@@ -0,0 +1,100 @@
+package com.example.studentmanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 熔断器测试类
+ *
+ * @author System
+ * @version 1.0
+ */
+class CircuitBreakerTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final CircuitBreaker breaker = new CircuitBreaker(4, 2, 0.5, 100, clock::get);
+
+    @Test
+    void testOpensWhenFailureRateReachesThreshold() {
+        // 准备：窗口内至少2次调用才计算失败率
+        breaker.tryAcquire();
+        assertFalse(breaker.onFailure());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        // 执行
+        breaker.tryAcquire();
+        breaker.onSuccess();
+        breaker.tryAcquire();
+        boolean opened = breaker.onFailure();
+
+        // 验证：3次中2次失败
+        assertTrue(opened);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    void testOldResultsLeaveTheWindow() {
+        // 准备
+        breaker.onFailure();
+        for (int i = 0; i < 3; i++) {
+            breaker.onSuccess();
+        }
+
+        // 执行：最早的失败被挤出窗口，窗口内只有本次1次失败
+        boolean opened = breaker.onFailure();
+
+        // 验证
+        assertFalse(opened);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void testHalfOpenAllowsSingleProbe() {
+        // 准备
+        open();
+        clock.addAndGet(100 * MILLIS);
+
+        // 执行
+        boolean probe = breaker.tryAcquire();
+        boolean concurrent = breaker.tryAcquire();
+
+        // 验证
+        assertTrue(probe);
+        assertFalse(concurrent);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+    }
+
+    @Test
+    void testFailedProbeReopensAndSuccessfulProbeCloses() {
+        // 准备
+        open();
+        clock.addAndGet(100 * MILLIS);
+        breaker.tryAcquire();
+
+        // 执行：探测失败，重新计时
+        assertTrue(breaker.onFailure());
+        clock.addAndGet(50 * MILLIS);
+        assertFalse(breaker.tryAcquire());
+        clock.addAndGet(50 * MILLIS);
+        assertTrue(breaker.tryAcquire());
+        boolean closed = breaker.onSuccess();
+
+        // 验证：关闭后窗口清空，单次失败不会立即打开
+        assertTrue(closed);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertFalse(breaker.onFailure());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    private void open() {
+        breaker.onFailure();
+        assertTrue(breaker.onFailure());
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.studentmanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 交叉统计聚合器测试类
+ *
+ * @author System
+ * @version 1.0
+ */
+class CrossTabAggregatorTest {
+
+    @Test
+    void testAggregatesEveryGroupingSetInOnePass() {
+        // 准备：维度依次为 专业、性别、入学年份，最后一列为人数
+        List<Object[]> rows = Arrays.asList(
+                new Object[]{"软件工程", "男", 2021, 3L},
+                new Object[]{"软件工程", "女", 2021, 2L},
+                new Object[]{"软件工程", "男", 2022, 1L},
+                new Object[]{"人工智能", "女", 2022, 4L},
+                new Object[]{"人工智能", "男", null, 5L});
+        CrossTabAggregator aggregator = new CrossTabAggregator(Arrays.asList(
+                new int[]{0, 1}, new int[]{2, 0}, new int[]{1}));
+
+        // 执行
+        rows.forEach(row -> aggregator.add(row, (Long) row[3]));
+
+        // 验证
+        assertEquals(15, aggregator.getTotal());
+
+        Map<List<Object>, Long> majorGender = aggregator.getCells(0);
+        assertEquals(Arrays.asList(
+                Arrays.asList("人工智能", "女"), Arrays.asList("人工智能", "男"),
+                Arrays.asList("软件工程", "女"), Arrays.asList("软件工程", "男")),
+                new ArrayList<>(majorGender.keySet()));
+        assertEquals(4L, majorGender.get(Arrays.asList("软件工程", "男")));
+
+        Map<List<Object>, Long> yearMajor = aggregator.getCells(1);
+        assertEquals(Arrays.asList(null, "人工智能"), new ArrayList<>(yearMajor.keySet()).get(3));
+        assertEquals(5L, yearMajor.get(Arrays.asList(2021, "软件工程")));
+        assertEquals(4L, yearMajor.get(Arrays.asList(2022, "人工智能")));
+
+        Map<List<Object>, Long> gender = aggregator.getCells(2);
+        assertEquals(6L, gender.get(Collections.singletonList("女")));
+        assertEquals(9L, gender.get(Collections.singletonList("男")));
+    }
+
+    @Test
+    void testRollupAddsPrefixSubtotalsOnce() {
+        // 执行
+        List<List<String>> expanded = CrossTabAggregator.rollup(Arrays.asList(
+                Arrays.asList("major", "gender", "age"),
+                Arrays.asList("major", "enrollmentYear"),
+                Collections.singletonList("gender")));
+
+        // 验证
+        assertEquals(Arrays.asList(
+                Arrays.asList("major", "gender", "age"),
+                Arrays.asList("major", "gender"),
+                Collections.singletonList("major"),
+                Arrays.asList("major", "enrollmentYear"),
+                Collections.singletonList("gender")), expanded);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.studentmanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 容错索引测试类
+ *
+ * @author System
+ * @version 1.0
+ */
+class FuzzyIndexTest {
+
+    @Test
+    void testDistanceStopsAtBound() {
+        // 执行和验证
+        assertEquals(0, FuzzyIndex.distance("张三", "张三", 2));
+        assertEquals(1, FuzzyIndex.distance("张山", "张三", 2));
+        assertEquals(1, FuzzyIndex.distance("张三", "张三丰", 2));
+        assertEquals(2, FuzzyIndex.distance("欧阳娜娜", "欧娜阳娜", 2));
+        assertEquals(2, FuzzyIndex.distance("abcdef", "uvwxyz", 1));
+    }
+
+    @Test
+    void testSearchRanksByDistanceThenTerm() {
+        // 准备
+        FuzzyIndex<Long> index = new FuzzyIndex<>(2);
+        index.put(1L, "张三");
+        index.put(2L, "张三丰");
+        index.put(3L, "张山");
+        index.put(4L, "李四");
+        index.put(5L, "张三");
+
+        // 执行
+        List<FuzzyIndex.Match<Long>> matches = index.search("张三", 1, 10);
+
+        // 验证
+        assertEquals(Arrays.asList(1L, 5L, 2L, 3L), values(matches));
+        assertEquals(Arrays.asList(0, 0, 1, 1),
+                matches.stream().map(FuzzyIndex.Match::getDistance).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(1L, 5L), values(index.search("张三", 0, 10)));
+        assertEquals(Arrays.asList(1L, 5L), values(index.search("张三", 2, 2)));
+    }
+
+    @Test
+    void testCompletelyDifferentShortTermsDoNotMatch() {
+        // 准备
+        FuzzyIndex<Long> index = new FuzzyIndex<>(2);
+        index.put(1L, "李四");
+
+        // 执行和验证：距离为2但没有相同的字
+        assertTrue(index.search("张三", 2, 10).isEmpty());
+    }
+
+    @Test
+    void testPutReplacesTermAndRemoveDropsValue() {
+        // 准备
+        FuzzyIndex<Long> index = new FuzzyIndex<>(1);
+        index.put(1L, "张三");
+        index.put(2L, "张三");
+
+        // 执行
+        index.put(1L, "王五");
+        index.remove(2L);
+
+        // 验证
+        assertTrue(index.search("张山", 1, 10).isEmpty());
+        assertEquals(Arrays.asList(1L), values(index.search("王武", 1, 10)));
+        assertEquals(1, index.size());
+    }
+
+    private static List<Long> values(List<FuzzyIndex.Match<Long>> matches) {
+        return matches.stream().map(FuzzyIndex.Match::getValue).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.studentmanagement.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 内存映射CSV读取器测试类
+ * 
+ * @author System
+ * @version 1.0
+ */
+class MappedCsvReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testParsesQuotedFieldsAndLineEndings() throws IOException {
+        Path file = write("name,age,remark\r\n"
+                + "张三,20,\"北京,海淀\"\n"
+                + "\n"
+                + "李四,-3,\"他说\"\"你好\"\"\"\n"
+                + "王五,21,");
+
+        try (MappedCsvReader reader = new MappedCsvReader(file)) {
+            assertTrue(reader.next());
+            assertEquals("remark", reader.record().getString(2));
+
+            assertTrue(reader.next());
+            assertEquals("张三", reader.record().getString(0));
+            assertEquals(20, reader.record().getInt(1));
+            assertEquals("北京,海淀", reader.record().getString(2));
+
+            assertTrue(reader.next());
+            assertEquals(-3, reader.record().getInt(1));
+            assertEquals("他说\"你好\"", reader.record().getString(2));
+
+            assertTrue(reader.next());
+            assertEquals("王五", reader.record().getString(0));
+            assertTrue(reader.record().isEmpty(2));
+            assertNull(reader.record().getString(2));
+
+            assertFalse(reader.next());
+            assertEquals(4, reader.getRecordNumber());
+        }
+    }
+
+    @Test
+    void testRecordsSpanningWindowBoundary() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            content.append("学生").append(i).append(',').append(i).append(",\"备注,").append(i).append("\"\n");
+        }
+        Path file = write(content.toString());
+
+        // 执行：窗口只有64字节，几乎每条记录都会跨窗口
+        List<String> names = new ArrayList<>();
+        try (MappedCsvReader reader = new MappedCsvReader(file, 0, 64)) {
+            while (reader.next()) {
+                assertEquals(names.size(), reader.record().getInt(1));
+                assertEquals("备注," + names.size(), reader.record().getString(2));
+                names.add(reader.record().getString(0));
+            }
+        }
+
+        // 验证
+        assertEquals(500, names.size());
+        assertEquals("学生499", names.get(499));
+    }
+
+    @Test
+    void testResumeFromPosition() throws IOException {
+        Path file = write("a,1\nb,2\nc,3\n");
+        long resumeAt;
+        try (MappedCsvReader reader = new MappedCsvReader(file)) {
+            reader.next();
+            resumeAt = reader.position();
+        }
+
+        try (MappedCsvReader reader = new MappedCsvReader(file, resumeAt, MappedCsvReader.DEFAULT_WINDOW_SIZE)) {
+            assertTrue(reader.next());
+            assertEquals("b", reader.record().getString(0));
+        }
+    }
+
+    @Test
+    void testInvalidIntegerIsRejected() throws IOException {
+        Path file = write("x1,99999999999\n");
+        try (MappedCsvReader reader = new MappedCsvReader(file)) {
+            reader.next();
+            assertThrows(NumberFormatException.class, () -> reader.record().getInt(0));
+            assertThrows(NumberFormatException.class, () -> reader.record().getInt(1));
+        }
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = tempDir.resolve("test.csv");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
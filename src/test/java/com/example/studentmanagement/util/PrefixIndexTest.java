@@ -0,0 +1,72 @@
+package com.example.studentmanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 前缀索引与拼音检索键测试类
+ *
+ * @author System
+ * @version 1.0
+ */
+class PrefixIndexTest {
+
+    @Test
+    void testPinyinKeysContainTextFullSpellingAndInitials() {
+        // 执行
+        Set<String> keys = PinyinKeys.keysOf("张 三");
+
+        // 验证
+        assertTrue(keys.containsAll(Arrays.asList("张三", "zhangsan", "zs")));
+        assertEquals("zhangs", PinyinKeys.normalize(" Zhang S "));
+        assertEquals(Collections.singleton("20210001"), PinyinKeys.keysOf("20210001"));
+    }
+
+    @Test
+    void testPolyphoneReadingsAreAllIndexed() {
+        // 执行：“曾”读作 zeng 或 ceng
+        Set<String> keys = PinyinKeys.keysOf("曾");
+
+        // 验证
+        assertTrue(keys.containsAll(Arrays.asList("zeng", "ceng", "z", "c")));
+    }
+
+    @Test
+    void testSearchReturnsDistinctValuesUpToLimit() {
+        // 准备
+        PrefixIndex<Long> index = new PrefixIndex<>();
+        index.put(1L, PinyinKeys.keysOf("张三"));
+        index.put(2L, PinyinKeys.keysOf("张三丰"));
+        index.put(3L, PinyinKeys.keysOf("赵六"));
+
+        // 执行和验证
+        assertEquals(Arrays.asList(1L, 2L), index.search("zs", 10));
+        assertEquals(Arrays.asList(1L, 2L), index.search("zhangs", 10));
+        assertEquals(Collections.singletonList(3L), index.search("赵", 10));
+        assertEquals(1, index.search("z", 1).size());
+        assertTrue(index.search("li", 10).isEmpty());
+    }
+
+    @Test
+    void testPutReplacesKeysAndRemoveDropsValue() {
+        // 准备
+        PrefixIndex<Long> index = new PrefixIndex<>();
+        index.put(1L, PinyinKeys.keysOf("张三"));
+
+        // 执行
+        index.put(1L, PinyinKeys.keysOf("李四"));
+
+        // 验证
+        assertTrue(index.search("zs", 10).isEmpty());
+        assertEquals(Collections.singletonList(1L), index.search("ls", 10));
+
+        index.remove(1L);
+        assertTrue(index.search("ls", 10).isEmpty());
+        assertEquals(0, index.size());
+    }
+}
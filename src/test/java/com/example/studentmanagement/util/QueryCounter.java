@@ -0,0 +1,183 @@
+package com.example.studentmanagement.util;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * SQL语句计数器
+ *
+ * 通过 JDBC 代理包装数据源，记录每次执行（一次 executeBatch 记为一次）的语句，
+ * 用于断言业务操作的数据库往返次数。
+ *
+ * @author System
+ * @version 1.0
+ */
+public class QueryCounter {
+
+    /**
+     * 语句类型
+     */
+    public enum Kind {
+        SELECT, INSERT, UPDATE, DELETE, OTHER
+    }
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final List<String> statements = new ArrayList<>();
+
+    /**
+     * 包装数据源，经由返回的数据源执行的语句都会被记录
+     *
+     * @param dataSource 原数据源
+     * @return 计数数据源
+     */
+    public DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (target, method, args) -> {
+            Object result = method.invoke(target, args);
+            return result instanceof Connection ? wrapConnection((Connection) result) : result;
+        });
+    }
+
+    /**
+     * 清空已记录的语句
+     */
+    public synchronized void reset() {
+        statements.clear();
+    }
+
+    /**
+     * 获取已记录的语句
+     *
+     * @return 语句列表
+     */
+    public synchronized List<String> getStatements() {
+        return new ArrayList<>(statements);
+    }
+
+    /**
+     * 断言自上次 reset 以来执行的各类语句数与预算完全一致，不一致时列出全部语句
+     *
+     * @param selects 查询语句数
+     * @param inserts 插入语句数
+     * @param updates 更新语句数
+     * @param deletes 删除语句数
+     */
+    public synchronized void assertStatements(int selects, int inserts, int updates, int deletes) {
+        int[] expected = {selects, inserts, updates, deletes, 0};
+        int[] actual = new int[expected.length];
+        statements.forEach(sql -> actual[kindOf(sql).ordinal()]++);
+        for (int i = 0; i < expected.length; i++) {
+            if (expected[i] != actual[i]) {
+                fail(String.format("SQL语句数不符合预算：期望 select=%d insert=%d update=%d delete=%d other=0，"
+                                + "实际 select=%d insert=%d update=%d delete=%d other=%d，执行的语句：%n%s",
+                        selects, inserts, updates, deletes, actual[0], actual[1], actual[2], actual[3], actual[4],
+                        String.join(System.lineSeparator(), statements)));
+            }
+        }
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = method.invoke(target, args);
+            if (result instanceof Statement) {
+                // prepareStatement/prepareCall 的第一个参数是SQL，createStatement 在执行时才带SQL
+                String sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+                return wrapStatement((Statement) result, sql);
+            }
+            return result;
+        });
+    }
+
+    private Statement wrapStatement(Statement statement, String preparedSql) {
+        Class<?>[] interfaces = statementInterfaces(statement);
+        String[] batchSql = {preparedSql};
+        return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(), interfaces, (proxy, method, args) -> {
+            String name = method.getName();
+            if ("addBatch".equals(name) && args != null && args.length == 1 && batchSql[0] == null) {
+                batchSql[0] = (String) args[0];
+            }
+            if (EXECUTE_METHODS.contains(name)) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String
+                        ? (String) args[0] : batchSql[0];
+                record(sql);
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    private static Class<?>[] statementInterfaces(Statement statement) {
+        if (statement instanceof java.sql.CallableStatement) {
+            return new Class<?>[]{java.sql.CallableStatement.class};
+        }
+        if (statement instanceof java.sql.PreparedStatement) {
+            return new Class<?>[]{java.sql.PreparedStatement.class};
+        }
+        return new Class<?>[]{Statement.class};
+    }
+
+    private synchronized void record(String sql) {
+        statements.add(sql == null ? "<unknown>" : sql.trim());
+    }
+
+    /**
+     * 根据语句的第一个关键字判断类型（跳过 Hibernate 添加的注释）
+     */
+    private static Kind kindOf(String sql) {
+        String text = sql.trim();
+        while (text.startsWith("/*")) {
+            int end = text.indexOf("*/");
+            text = end < 0 ? "" : text.substring(end + 2).trim();
+        }
+        String keyword = text.split("\\s+", 2)[0].toUpperCase(Locale.ROOT);
+        switch (keyword) {
+            case "SELECT":
+                return Kind.SELECT;
+            case "INSERT":
+            case "MERGE":
+                return Kind.INSERT;
+            case "UPDATE":
+                return Kind.UPDATE;
+            case "DELETE":
+                return Kind.DELETE;
+            default:
+                return Kind.OTHER;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Interceptor<T> {
+        Object invoke(T target, Method method, Object[] args) throws Throwable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(Class<T> type, T target, Interceptor<T> interceptor) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            try {
+                return interceptor.invoke(target, method, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        };
+        return (T) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.studentmanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 请求合并工具测试类
+ * 
+ * @author System
+ * @version 1.0
+ */
+class SingleFlightGroupTest {
+
+    @Test
+    void testConcurrentCallsShareOneExecution() throws Exception {
+        SingleFlightGroup group = new SingleFlightGroup();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        // 执行
+        List<Future<SingleFlightGroup.Result<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            futures.add(executor.submit(() -> {
+                try {
+                    return group.execute("statistics", () -> {
+                        executions.incrementAndGet();
+                        release.await();
+                        return "result";
+                    });
+                } catch (Throwable ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }));
+        }
+        while (group.inFlightCount() == 0) {
+            Thread.sleep(1);
+        }
+        Thread.sleep(50);
+        release.countDown();
+
+        // 验证
+        int shared = 0;
+        for (Future<SingleFlightGroup.Result<String>> future : futures) {
+            SingleFlightGroup.Result<String> result = future.get(5, TimeUnit.SECONDS);
+            assertEquals("result", result.getValue());
+            if (result.isShared()) {
+                shared++;
+            }
+        }
+        executor.shutdown();
+        assertEquals(callers - shared, executions.get());
+        assertTrue(shared > 0);
+        assertEquals(0, group.inFlightCount());
+    }
+
+    @Test
+    void testExceptionIsPropagatedAndKeyReleased() throws Throwable {
+        SingleFlightGroup group = new SingleFlightGroup();
+
+        // 执行和验证
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
+                group.execute("key", () -> {
+                    throw new IllegalStateException("数据库不可用");
+                }));
+        assertEquals("数据库不可用", exception.getMessage());
+        assertEquals(0, group.inFlightCount());
+        assertEquals("ok", group.execute("key", () -> "ok").getValue());
+    }
+
+    @Test
+    void testWaiterTimesOutWhileLeaderIsStuck() throws Exception {
+        SingleFlightGroup group = new SingleFlightGroup();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // 准备：领头者一直不返回
+        Future<SingleFlightGroup.Result<String>> leader = executor.submit(() -> {
+            try {
+                return group.execute("key", () -> {
+                    release.await();
+                    return "result";
+                }, 100);
+            } catch (Throwable ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        while (group.inFlightCount() == 0) {
+            Thread.sleep(1);
+        }
+
+        // 执行和验证：等待者超时返回，领头者不受影响
+        long start = System.nanoTime();
+        assertThrows(TimeoutException.class, () -> group.execute("key", () -> "other", 100));
+        assertTrue((System.nanoTime() - start) / 1_000_000 < 1000);
+        release.countDown();
+        assertEquals("result", leader.get(5, TimeUnit.SECONDS).getValue());
+        executor.shutdown();
+        assertEquals(0, group.inFlightCount());
+    }
+}
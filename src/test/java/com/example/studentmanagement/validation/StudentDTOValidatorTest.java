@@ -0,0 +1,180 @@
+package com.example.studentmanagement.validation;
+
+import com.example.studentmanagement.dto.StudentDTO;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StudentDTO快速校验器测试类
+ * 
+ * 以 Hibernate Validator 的结果为准，逐个比对边界输入下的校验失败集合
+ * 
+ * @author System
+ * @version 1.0
+ */
+class StudentDTOValidatorTest {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator beanValidator;
+
+    private final StudentDTOValidator validator = new StudentDTOValidator();
+
+    @BeforeAll
+    static void setUpFactory() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        beanValidator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void closeFactory() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void testValidStudent() {
+        // 执行
+        List<StudentDTOValidator.Violation> violations = validator.validate(validStudent());
+
+        // 验证
+        assertTrue(violations.isEmpty());
+    }
+
+    @Test
+    void testAllViolationsInDeclarationOrder() {
+        // 准备
+        StudentDTO studentDTO = new StudentDTO();
+        studentDTO.setName(" ");
+        studentDTO.setStudentNumber("abc");
+        studentDTO.setAge(31);
+        studentDTO.setGender("M");
+        studentDTO.setEmail("bad");
+        studentDTO.setPhone("123");
+
+        // 执行
+        List<StudentDTOValidator.Violation> violations = validator.validate(studentDTO);
+
+        // 验证
+        assertEquals("name", violations.get(0).getField());
+        assertEquals("学生姓名不能为空", violations.get(0).getMessage());
+        assertEquals("phone", violations.get(violations.size() - 1).getField());
+        assertEquals(beanValidation(studentDTO), new HashSet<>(violations));
+    }
+
+    @Test
+    void testMatchesBeanValidationOnScalarFields() {
+        String[] names = {null, "", " ", "  ", "\t\n", "张", "张三", " 张", "a\u0000", repeat("名", 20), repeat("名", 21)};
+        for (String name : names) {
+            assertSame(s -> s.setName(name));
+        }
+        String[] numbers = {null, "", " ", "1234567", "12345678", "123456789012", "1234567890123",
+                "2021000a", "２０２１０００１", "20210001\n", " 20210001"};
+        for (String number : numbers) {
+            assertSame(s -> s.setStudentNumber(number));
+        }
+        Integer[] ages = {null, Integer.MIN_VALUE, 15, 16, 30, 31, Integer.MAX_VALUE};
+        for (Integer age : ages) {
+            assertSame(s -> s.setAge(age));
+        }
+        String[] genders = {null, "", "男", "女", "男女", "男 ", "M", "男\u0000"};
+        for (String gender : genders) {
+            assertSame(s -> s.setGender(gender));
+        }
+        String[] majors = {null, "", "  ", "计", "计算", repeat("x", 50), repeat("x", 51)};
+        for (String major : majors) {
+            assertSame(s -> s.setMajor(major));
+        }
+        String[] phones = {null, "", "13800138000", "12800138000", "19999999999", "1380013800",
+                "138001380000", "1380013800a", "23800138000", "１3800138000"};
+        for (String phone : phones) {
+            assertSame(s -> s.setPhone(phone));
+        }
+    }
+
+    @Test
+    void testMatchesBeanValidationOnEmail() {
+        String label63 = repeat("a", 63);
+        String[] emails = {
+                null, "", "a", "@", "a@", "@b", "a@b", "a@b.c", "a.b@c.d", "a..b@c.d", ".a@c.d", "a.@c.d",
+                "a@b..c", "a@.b", "a@b.", "a@-b.c", "a@b-.c", "a@b-c.d", "a@b--c.d", "a@b_c.d",
+                "A!#$%&'*+/=?^_`{|}~-@example.com", "a b@c.d", "a(b)@c.d", "a@b@c.d", "\"a@b\"@c.d",
+                "\"\"@c.d", "\"a b\"@c.d", "\"a\\\"b\"@c.d", "\"a\\\\b\"@c.d", "\"a\\b\"@c.d", "\"a\"b\"@c.d",
+                "\"a\".b@c.d", "a.\"b\"@c.d", "\"a\"\"b\"@c.d", "\"a@c.d", "张三@例子.中国", "a@例子.中国",
+                "a@😀.com", "😀@c.d", "a\uD800@c.d", "a@b\uDC00.c",
+                "a@[127.0.0.1]", "a@[1.2.3]", "a@[1234.1.1.1]", "a@[1.2.3.4.5]", "a@[1.2.3.4", "a@[a.b.c.d]",
+                "a@[IPv6:2001:db8::1]", "a@[ipv6:::1]", "a@[IPv6:zz::1]", "a@[]",
+                repeat("a", 64) + "@c.d", repeat("a", 65) + "@c.d",
+                "a@" + label63 + ".com", "a@" + label63 + "a.com",
+                "a@" + repeat(label63 + ".", 3) + repeat("b", 63), "a@" + repeat(label63 + ".", 4) + "b",
+                "a@b.c\u0000", "a@b c.d", "a@xn--fsqu00a.xn--fiqs8s", "a@" + repeat("例", 60) + ".cn"
+        };
+        for (String email : emails) {
+            assertSame(s -> s.setEmail(email));
+        }
+    }
+
+    @Test
+    void testMatchesBeanValidationOnRandomEmails() {
+        // 准备
+        char[] alphabet = "ab9.@-_\"\\ [](),:;!+例\uD83D\uDE00".toCharArray();
+        Random random = new Random(20210001L);
+
+        for (int i = 0; i < 5000; i++) {
+            char[] email = new char[1 + random.nextInt(12)];
+            for (int j = 0; j < email.length; j++) {
+                email[j] = alphabet[random.nextInt(alphabet.length)];
+            }
+            String value = new String(email);
+
+            // 执行 & 验证
+            assertSame(s -> s.setEmail(value));
+        }
+    }
+
+    private void assertSame(Consumer<StudentDTO> mutation) {
+        StudentDTO studentDTO = validStudent();
+        mutation.accept(studentDTO);
+        assertEquals(beanValidation(studentDTO), new HashSet<>(validator.validate(studentDTO)),
+                () -> "校验结果不一致: " + studentDTO);
+    }
+
+    private static Set<StudentDTOValidator.Violation> beanValidation(StudentDTO studentDTO) {
+        Set<StudentDTOValidator.Violation> expected = new HashSet<>();
+        for (ConstraintViolation<StudentDTO> violation : beanValidator.validate(studentDTO)) {
+            expected.add(new StudentDTOValidator.Violation(violation.getPropertyPath().toString(), violation.getMessage()));
+        }
+        return expected;
+    }
+
+    private static StudentDTO validStudent() {
+        StudentDTO studentDTO = new StudentDTO();
+        studentDTO.setName("张三");
+        studentDTO.setStudentNumber("20210001");
+        studentDTO.setAge(20);
+        studentDTO.setGender("男");
+        studentDTO.setMajor("计算机科学与技术");
+        studentDTO.setEmail("zhangsan@example.com");
+        studentDTO.setPhone("13800138000");
+        return studentDTO;
+    }
+
+    private static String repeat(String value, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+}